@@ -2,10 +2,13 @@ package seedu.foodbook;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.foodbook.commons.core.Config;
 import seedu.foodbook.commons.core.LogsCenter;
@@ -23,7 +26,6 @@ import seedu.foodbook.model.ReadOnlyUserPrefs;
 import seedu.foodbook.model.UserPrefs;
 import seedu.foodbook.model.util.SampleDataUtil;
 import seedu.foodbook.storage.FoodBookStorage;
-import seedu.foodbook.storage.JsonFoodBookStorage;
 import seedu.foodbook.storage.JsonUserPrefsStorage;
 import seedu.foodbook.storage.Storage;
 import seedu.foodbook.storage.StorageManager;
@@ -57,10 +59,13 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        FoodBookStorage foodBookStorage = new JsonFoodBookStorage(userPrefs.getFoodBookFilePath());
+        FoodBookStorage foodBookStorage = StorageManager.createFoodBookStorage(userPrefs.getFoodBookFormat(),
+                userPrefs.getFoodBookFilePath());
         storage = new StorageManager(foodBookStorage, userPrefsStorage);
 
-        model = initModelManager(storage, userPrefs);
+        // The data file is only read once the window is shown, so that how soon it appears does not depend on the
+        // size of the data
+        model = new ModelManager(new FoodBook(), userPrefs);
 
         logic = new LogicManager(model, storage);
 
@@ -68,11 +73,14 @@ public class MainApp extends Application {
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s food book and {@code userPrefs}. <br>
+     * Reads {@code storage}'s food book on the calling background thread, moves its old deliveries into the
+     * delivery archive, and then publishes it into the model. <br>
      * The data from the sample food book will be used instead if {@code storage}'s food book is not found,
      * or an empty food book will be used instead if errors occur when reading {@code storage}'s food book.
+     * Loading always ends, even if reading or publishing the food book fails unexpectedly, so that queued commands
+     * are never left waiting.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private void loadFoodBook(Storage storage, ReadOnlyUserPrefs userPrefs) {
         logger.info("Using data file : " + storage.getFoodBookFilePath());
 
         Optional<ReadOnlyFoodBook> foodBookOptional;
@@ -87,10 +95,56 @@ public class MainApp extends Application {
         } catch (DataLoadingException e) {
             logger.warning("Data file at " + storage.getFoodBookFilePath() + " could not be loaded."
                     + " Will be starting with an empty FoodBook.");
+            foodBookOptional = Optional.empty();
             initialData = new FoodBook();
+        } catch (RuntimeException e) {
+            logger.severe("Failed to read data file " + StringUtil.getDetails(e));
+            logic.abandonLoading(e, Platform::runLater);
+            return;
         }
 
-        return new ModelManager(initialData, userPrefs);
+        boolean isRead = foodBookOptional.isPresent();
+        FoodBook loaded = initialData instanceof FoodBook foodBook ? foodBook : new FoodBook(initialData);
+        boolean isArchived = isRead && archiveOldDeliveries(loaded, userPrefs);
+        // Publishing abandons loading itself if it fails
+        try {
+            logic.publishLoadedFoodBook(loaded, Platform::runLater, () -> {
+                if (isArchived) {
+                    storage.saveFoodBookInBackground(model.getFoodBook());
+                } else if (isRead) {
+                    // The data file already holds what was just read, so it is only rewritten once the data changes
+                    storage.markFoodBookSaved(model.getFoodBook());
+                }
+            });
+        } catch (RuntimeException e) {
+            logger.severe("Failed to load data file " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Moves the delivered deliveries older than the user's archiving horizon out of {@code foodBook}'s delivery list
+     * into the delivery archive beside the data file, so that later startups do not load them.
+     * Returns true if any were moved, in which case the data file must be saved without them. If archiving fails,
+     * none are moved, so the deliveries are kept in the data file and loading carries on.
+     */
+    private boolean archiveOldDeliveries(FoodBook foodBook, ReadOnlyUserPrefs userPrefs) {
+        int archiveAfterDays = userPrefs.getArchiveAfterDays();
+        if (archiveAfterDays == 0) {
+            return false;
+        }
+
+        long horizonEpochMinute = LocalDateTime.now().minusDays(archiveAfterDays).toEpochSecond(ZoneOffset.UTC) / 60;
+        try {
+            int archivedCount = foodBook.archiveDeliveriesBefore(horizonEpochMinute);
+            if (archivedCount > 0) {
+                logger.info("Archived " + archivedCount + " deliveries older than " + archiveAfterDays + " days");
+            }
+            return archivedCount > 0;
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Could not archive old deliveries, keeping them in the data file: "
+                    + StringUtil.getDetails(e));
+            return false;
+        }
     }
 
     private void initLogging(Config config) {
@@ -138,6 +192,7 @@ public class MainApp extends Application {
 
     /**
      * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * those of a new installation if there is no such file,
      * or a new {@code UserPrefs} with default configuration if errors occur when
      * reading from the file.
      */
@@ -151,7 +206,7 @@ public class MainApp extends Application {
             if (!prefsOptional.isPresent()) {
                 logger.info("Creating new preference file " + prefsFilePath);
             }
-            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+            initializedPrefs = prefsOptional.orElseGet(UserPrefs::forNewInstall);
         } catch (DataLoadingException e) {
             logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
                     + " Using default preferences.");
@@ -172,6 +227,11 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting FoodBook " + MainApp.VERSION);
         ui.start(primaryStage);
+        logic.startLoading();
+
+        Thread loader = new Thread(() -> loadFoodBook(storage, model.getUserPrefs()), "FoodBook loader");
+        loader.setDaemon(true);
+        loader.start();
     }
 
     @Override
@@ -182,5 +242,17 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        // Exports still running are finished rather than left as partly written files
+        logic.finishBackgroundTasks();
+        try {
+            storage.flushFoodBook();
+        } catch (IOException e) {
+            logger.severe("Failed to save data file " + StringUtil.getDetails(e));
+        }
+        try {
+            storage.compactFoodBook();
+        } catch (IOException e) {
+            logger.severe("Failed to compact data file " + StringUtil.getDetails(e));
+        }
     }
 }
@@ -0,0 +1,62 @@
+package seedu.foodbook.commons.core;
+
+import java.nio.file.Path;
+
+/**
+ * The formats the data file can be saved in.
+ */
+public enum DataFileFormat {
+    /** Human-readable json, which can be edited by hand. */
+    JSON("json"),
+    /** A compact binary snapshot, several times smaller and faster to load and save than json. */
+    BINARY("bin");
+
+    /** The extension of the journal kept beside a json data file, after the data file's own. */
+    public static final String JOURNAL_EXTENSION = "journal";
+
+    /** The extension of the delivery archive directory kept beside the data file, in place of the data file's own. */
+    public static final String ARCHIVE_EXTENSION = "archive";
+
+    private final String extension;
+
+    DataFileFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Returns {@code filePath} with its extension, if any, replaced by the one of this format.
+     */
+    public Path withExtension(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        String baseName = dot > 0 ? fileName.substring(0, dot) : fileName;
+        return filePath.resolveSibling(baseName + "." + extension);
+    }
+
+    /**
+     * Returns the path of the journal kept beside the data file at {@code filePath}.
+     */
+    public static Path journalPathFor(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + "." + JOURNAL_EXTENSION);
+    }
+
+    /**
+     * Returns the path of the delivery archive directory kept beside the data file at {@code filePath}. It does not
+     * depend on the data file's extension, so a data file converted to another format keeps its archive.
+     */
+    public static Path archivePathFor(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        String baseName = dot > 0 ? fileName.substring(0, dot) : fileName;
+        return filePath.resolveSibling(baseName + "." + ARCHIVE_EXTENSION);
+    }
+
+    @Override
+    public String toString() {
+        return name().toLowerCase();
+    }
+}
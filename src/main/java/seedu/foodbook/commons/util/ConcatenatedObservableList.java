@@ -0,0 +1,67 @@
+package seedu.foodbook.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * A read-only view of the elements of {@code first} followed by those of {@code second}, which stays up to date as
+ * either changes. Changes to either list are passed on to listeners as the same changes at the matching positions of
+ * the view, so a view of a long list and a short one costs no more to display than the lists themselves.
+ */
+public class ConcatenatedObservableList<E> extends ObservableListBase<E> {
+
+    private final ObservableList<? extends E> first;
+    private final ObservableList<? extends E> second;
+
+    /**
+     * Creates a view of {@code first} followed by {@code second}.
+     */
+    public ConcatenatedObservableList(ObservableList<? extends E> first, ObservableList<? extends E> second) {
+        this.first = requireNonNull(first);
+        this.second = requireNonNull(second);
+        first.addListener((ListChangeListener<E>) change -> passOn(change, 0));
+        second.addListener((ListChangeListener<E>) change -> passOn(change, this.first.size()));
+    }
+
+    @Override
+    public E get(int index) {
+        int firstSize = first.size();
+        return index < firstSize ? first.get(index) : second.get(index - firstSize);
+    }
+
+    @Override
+    public int size() {
+        return first.size() + second.size();
+    }
+
+    /**
+     * Passes on {@code change}, made to a list whose first element is at position {@code offset} of this view.
+     */
+    private void passOn(ListChangeListener.Change<? extends E> change, int offset) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                int[] permutation = new int[change.getTo() - change.getFrom()];
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permutation[i - change.getFrom()] = change.getPermutation(i) + offset;
+                }
+                nextPermutation(change.getFrom() + offset, change.getTo() + offset, permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    nextUpdate(i + offset);
+                }
+            } else {
+                if (change.wasRemoved()) {
+                    nextRemove(change.getFrom() + offset, change.getRemoved());
+                }
+                if (change.wasAdded()) {
+                    nextAdd(change.getFrom() + offset, change.getTo() + offset);
+                }
+            }
+        }
+        endChange();
+    }
+}
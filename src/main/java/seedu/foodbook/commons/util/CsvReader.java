@@ -0,0 +1,132 @@
+package seedu.foodbook.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads comma-separated values one record at a time, so that a file of any size is read in constant memory.
+ * Fields may be enclosed in double quotes, inside which commas, line breaks and doubled double quotes stand for
+ * themselves, as described in RFC 4180. Records may end with LF, CRLF or CR, and a leading byte order mark, as
+ * spreadsheets write, is skipped.
+ */
+public class CsvReader implements Closeable {
+
+    public static final String MESSAGE_UNCLOSED_QUOTE = "Line %1$d: quoted field is not closed";
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private boolean isAtStart = true;
+
+    /** The line the next character is on. */
+    private int lineNumber = 1;
+
+    /** The line the last record read started on. */
+    private int recordLineNumber;
+
+    /**
+     * Creates a {@code CsvReader} that reads from {@code reader}, which it closes when closed.
+     */
+    public CsvReader(Reader reader) {
+        requireNonNull(reader);
+        this.reader = reader;
+    }
+
+    /**
+     * Returns the fields of the next record, or null if there are no more. An empty line is a record of one empty
+     * field.
+     *
+     * @throws IOException if the reader could not be read, or a quoted field is not closed before the end of it.
+     */
+    public List<String> readRecord() throws IOException {
+        if (isAtStart) {
+            isAtStart = false;
+            if (peek() == BYTE_ORDER_MARK) {
+                read();
+            }
+        }
+        if (peek() == -1) {
+            return null;
+        }
+
+        recordLineNumber = lineNumber;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        while (true) {
+            int c = read();
+            if (isQuoted) {
+                if (c == -1) {
+                    throw new IOException(String.format(MESSAGE_UNCLOSED_QUOTE, recordLineNumber));
+                } else if (c == '"' && peek() == '"') {
+                    read();
+                    field.append('"');
+                } else if (c == '"') {
+                    isQuoted = false;
+                } else {
+                    if (c == '\n' || c == '\r' && peek() != '\n') {
+                        lineNumber++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"') {
+                isQuoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == -1 || c == '\n' || c == '\r') {
+                if (c == '\r' && peek() == '\n') {
+                    read();
+                }
+                if (c != -1) {
+                    lineNumber++;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+        }
+    }
+
+    /**
+     * Returns the line of the input that the last record read started on, counting from 1.
+     */
+    public int getRecordLineNumber() {
+        return recordLineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private int read() throws IOException {
+        int c = peek();
+        if (c != -1) {
+            position++;
+        }
+        return c;
+    }
+
+    private int peek() throws IOException {
+        if (position == limit) {
+            limit = reader.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position];
+    }
+}
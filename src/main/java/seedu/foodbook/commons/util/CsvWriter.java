@@ -0,0 +1,95 @@
+package seedu.foodbook.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes comma-separated values one field at a time, straight to a {@code Writer}, so that any number of records
+ * is written in constant memory.
+ * Fields holding a comma, double quote or line break are enclosed in double quotes, with their double quotes
+ * doubled, and records end with CRLF, as described in RFC 4180, so that {@link CsvReader} and spreadsheets read them
+ * back as they were.
+ */
+public class CsvWriter implements Closeable, Flushable {
+
+    private static final String RECORD_SEPARATOR = "\r\n";
+
+    private final Writer writer;
+    private boolean isAtRecordStart = true;
+
+    /**
+     * Creates a {@code CsvWriter} that writes to {@code writer}, which it closes when closed.
+     * {@code writer} should be buffered, as fields are written to it a few characters at a time.
+     */
+    public CsvWriter(Writer writer) {
+        requireNonNull(writer);
+        this.writer = writer;
+    }
+
+    /**
+     * Writes {@code fields} as a whole record.
+     */
+    public void writeRecord(String... fields) throws IOException {
+        for (String field : fields) {
+            writeField(field);
+        }
+        endRecord();
+    }
+
+    /**
+     * Writes {@code field} as the next field of the current record.
+     */
+    public void writeField(String field) throws IOException {
+        requireNonNull(field);
+        if (!isAtRecordStart) {
+            writer.write(',');
+        }
+        isAtRecordStart = false;
+
+        if (!needsQuotes(field)) {
+            writer.write(field);
+            return;
+        }
+        writer.write('"');
+        int start = 0;
+        for (int quote = field.indexOf('"'); quote >= 0; quote = field.indexOf('"', start)) {
+            writer.write(field, start, quote + 1 - start);
+            writer.write('"');
+            start = quote + 1;
+        }
+        writer.write(field, start, field.length() - start);
+        writer.write('"');
+    }
+
+    /**
+     * Ends the current record, so that the next field written starts a new one.
+     */
+    public void endRecord() throws IOException {
+        writer.write(RECORD_SEPARATOR);
+        isAtRecordStart = true;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    private static boolean needsQuotes(String field) {
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,241 @@
+package seedu.foodbook.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable list from which a changed copy can be made in logarithmic time, sharing all but a few of its nodes
+ * with the original, so that holding on to every version of a list costs little more than the list itself.
+ * The elements are kept in a balanced tree ordered by position. Like {@code List.of}, it rejects nulls and all
+ * modifications through the {@code List} interface.
+ */
+public final class PersistentList<T> extends AbstractList<T> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<T> root;
+
+    private PersistentList(Node<T> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> empty() {
+        return (PersistentList<T>) EMPTY;
+    }
+
+    /**
+     * Returns a list of {@code items}, in order. Takes time linear in the number of items.
+     */
+    public static <T> PersistentList<T> copyOf(List<? extends T> items) {
+        CollectionUtil.requireAllNonNull(items);
+        Object[] array = items.toArray();
+        return array.length == 0 ? empty() : new PersistentList<>(build(array, 0, array.length));
+    }
+
+    @Override
+    public int size() {
+        return size(root);
+    }
+
+    @Override
+    public T get(int index) {
+        checkIndex(index, size());
+        Node<T> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    /**
+     * Returns a copy of this list with {@code item} inserted at {@code index}.
+     */
+    public PersistentList<T> plus(int index, T item) {
+        requireNonNull(item);
+        checkIndex(index, size() + 1);
+        return new PersistentList<>(insert(root, index, item));
+    }
+
+    /**
+     * Returns a copy of this list with the element at {@code index} replaced by {@code item}.
+     */
+    public PersistentList<T> with(int index, T item) {
+        requireNonNull(item);
+        checkIndex(index, size());
+        return new PersistentList<>(replace(root, index, item));
+    }
+
+    /**
+     * Returns a copy of this list without the element at {@code index}.
+     */
+    public PersistentList<T> minus(int index) {
+        checkIndex(index, size());
+        return new PersistentList<>(remove(root, index));
+    }
+
+    /**
+     * Returns a copy of this list with {@code items} appended to it, in order.
+     */
+    public PersistentList<T> plusAll(List<? extends T> items) {
+        PersistentList<T> changed = this;
+        for (T item : items) {
+            changed = changed.plus(changed.size(), item);
+        }
+        return changed;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private final Deque<Node<T>> path = new ArrayDeque<>();
+
+            {
+                pushLeftmost(root);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !path.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node<T> node = path.pop();
+                pushLeftmost(node.right);
+                return node.value;
+            }
+
+            private void pushLeftmost(Node<T> node) {
+                for (; node != null; node = node.left) {
+                    path.push(node);
+                }
+            }
+        };
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + bound);
+        }
+    }
+
+    /**
+     * A node of the tree, holding the element at its position and the elements before and after it beneath it.
+     * Nodes are never changed once made, so any number of lists can share them.
+     */
+    private static final class Node<T> {
+        private final T value;
+        private final Node<T> left;
+        private final Node<T> right;
+        private final int size;
+        private final int height;
+
+        Node(T value, Node<T> left, Node<T> right) {
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.size = size(left) + size(right) + 1;
+            this.height = Math.max(height(left), height(right)) + 1;
+        }
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Node<T> build(Object[] items, int from, int to) {
+        if (from == to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        return new Node<>((T) items[middle], build(items, from, middle), build(items, middle + 1, to));
+    }
+
+    private static <T> Node<T> insert(Node<T> node, int index, T item) {
+        if (node == null) {
+            return new Node<>(item, null, null);
+        }
+        int leftSize = size(node.left);
+        if (index <= leftSize) {
+            return balance(node.value, insert(node.left, index, item), node.right);
+        }
+        return balance(node.value, node.left, insert(node.right, index - leftSize - 1, item));
+    }
+
+    private static <T> Node<T> replace(Node<T> node, int index, T item) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return new Node<>(node.value, replace(node.left, index, item), node.right);
+        } else if (index > leftSize) {
+            return new Node<>(node.value, node.left, replace(node.right, index - leftSize - 1, item));
+        }
+        return new Node<>(item, node.left, node.right);
+    }
+
+    private static <T> Node<T> remove(Node<T> node, int index) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return balance(node.value, remove(node.left, index), node.right);
+        } else if (index > leftSize) {
+            return balance(node.value, node.left, remove(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+        Node<T> first = node.right;
+        while (first.left != null) {
+            first = first.left;
+        }
+        return balance(first.value, node.left, remove(node.right, 0));
+    }
+
+    /**
+     * Returns a node holding {@code value} between {@code left} and {@code right}, rotated so that the heights of
+     * its two sides differ by at most one, given that those of {@code left} and {@code right} differ by at most two.
+     */
+    private static <T> Node<T> balance(T value, Node<T> left, Node<T> right) {
+        if (height(left) > height(right) + 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node<>(left.value, left.left, new Node<>(value, left.right, right));
+            }
+            Node<T> middle = left.right;
+            return new Node<>(middle.value, new Node<>(left.value, left.left, middle.left),
+                    new Node<>(value, middle.right, right));
+        }
+        if (height(right) > height(left) + 1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node<>(right.value, new Node<>(value, left, right.left), right.right);
+            }
+            Node<T> middle = right.left;
+            return new Node<>(middle.value, new Node<>(value, left, middle.left),
+                    new Node<>(right.value, middle.right, right.right));
+        }
+        return new Node<>(value, left, right);
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.foodbook.logic;
 
 import java.nio.file.Path;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.foodbook.commons.core.GuiSettings;
@@ -17,6 +19,10 @@ import seedu.foodbook.model.person.Person;
 public interface Logic {
     /**
      * Executes the command and returns the result.
+     * Any changes it makes are saved in the background; failures to save are passed to the handler set with
+     * {@link #setSaveFailureHandler(Consumer)}.
+     * While the data file is loading, a command that needs its data is queued instead, and passed to the handler
+     * set with {@link #setQueuedCommandHandler(Consumer)} once it has loaded.
      * @param commandText The command as entered by the user.
      * @return the result of the command execution.
      * @throws CommandException If an error occurs during command execution.
@@ -34,8 +40,8 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
-    /** Returns an unmodifiable view of the filtered list of deliveries */
-    ObservableList<Delivery> getFilteredDeliveryList();
+    /** Returns an unmodifiable view of the filtered list of deliveries, followed by any archived ones shown */
+    ObservableList<Delivery> getDisplayedDeliveryList();
 
     /**
      * Returns the user prefs' food book file path.
@@ -51,4 +57,61 @@ public interface Logic {
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * Sets the handler given the message of each failure to save the data file.
+     * It is called on the thread saving the data file, not the one executing commands.
+     */
+    void setSaveFailureHandler(Consumer<String> handler);
+
+    /**
+     * Sets the handler given the message of each background task, such as an export, once it is done.
+     * It is called on the thread running the task, not the one executing commands.
+     */
+    void setBackgroundTaskHandler(Consumer<String> handler);
+
+    /**
+     * Waits for the background tasks of the commands executed so far to finish, and stops running new ones.
+     */
+    void finishBackgroundTasks();
+
+    /**
+     * Marks the data file as being loaded, so that commands that need its data are queued rather than executed
+     * against a partly loaded model until {@link #publishLoadedFoodBook} has finished.
+     */
+    void startLoading();
+
+    /**
+     * Returns true while the data file is being loaded.
+     */
+    boolean isLoading();
+
+    /**
+     * Publishes {@code loaded}, read from storage on the calling background thread, into the empty model a chunk at
+     * a time. Each chunk is appended by its own task on {@code modelExecutor}, the thread the model is used on, and
+     * the next is only submitted once it has run, so that the window stays responsive and fills in as the data
+     * arrives. Once every chunk is in, {@code onLoaded} is run on {@code modelExecutor}, followed by the queued
+     * commands.
+     * If publishing fails before every chunk is in, loading is abandoned as by {@link #abandonLoading}, and the
+     * failure is rethrown.
+     */
+    void publishLoadedFoodBook(ReadOnlyFoodBook loaded, Executor modelExecutor, Runnable onLoaded);
+
+    /**
+     * Ends loading the data file without its data, because of {@code cause}: on {@code modelExecutor}, empties the
+     * model, drops the queued commands and reports the failure to the load progress handler.
+     */
+    void abandonLoading(Throwable cause, Executor modelExecutor);
+
+    /**
+     * Sets the handler given a message on the progress of loading the data file, each time it changes.
+     * It is called on the thread the model is used on.
+     */
+    void setLoadProgressHandler(Consumer<String> handler);
+
+    /**
+     * Sets the handler given the text of each command queued while the data file was loading, in the order they
+     * were entered, to execute once it has loaded. It is called on the thread the model is used on.
+     */
+    void setQueuedCommandHandler(Consumer<String> handler);
 }
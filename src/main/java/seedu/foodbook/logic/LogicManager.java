@@ -3,18 +3,34 @@ package seedu.foodbook.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
+import seedu.foodbook.commons.core.DataFileFormat;
 import seedu.foodbook.commons.core.GuiSettings;
 import seedu.foodbook.commons.core.LogsCenter;
+import seedu.foodbook.commons.util.StringUtil;
 import seedu.foodbook.logic.commands.Command;
 import seedu.foodbook.logic.commands.CommandResult;
 import seedu.foodbook.logic.commands.exceptions.CommandException;
 import seedu.foodbook.logic.parser.FoodBookParser;
 import seedu.foodbook.logic.parser.exceptions.ParseException;
+import seedu.foodbook.model.FoodBook;
 import seedu.foodbook.model.Model;
 import seedu.foodbook.model.ReadOnlyFoodBook;
+import seedu.foodbook.model.ReadOnlyUserPrefs;
+import seedu.foodbook.model.UserPrefs;
 import seedu.foodbook.model.delivery.Delivery;
 import seedu.foodbook.model.person.Person;
 import seedu.foodbook.storage.Storage;
@@ -28,11 +44,38 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String MESSAGE_LOADING = "Loading data file %s...";
+
+    public static final String MESSAGE_LOADING_PROGRESS = "Loading data file: %,d of %,d clients and deliveries";
+
+    public static final String MESSAGE_LOADED = "Loaded %,d clients and %,d deliveries";
+
+    public static final String MESSAGE_LOAD_FAILED =
+            "Could not load the data file (%s); starting with an empty FoodBook. %,d queued commands were not run.";
+
+    public static final String MESSAGE_COMMAND_QUEUED = "Still loading the data file; '%s' will run once it is loaded.";
+
+    public static final String MESSAGE_BACKGROUND_TASK_FAILED = "Could not finish '%s': %s";
+
+    /** The number of clients and deliveries appended to the model at a time while loading. */
+    static final int LOAD_CHUNK_SIZE = 5_000;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final FoodBookParser foodBookParser;
+    private volatile Consumer<String> saveFailureHandler = message -> {};
+    private volatile Consumer<String> backgroundTaskHandler = message -> {};
+
+    /** Runs the background tasks of commands one at a time, in the order they were executed; created when needed. */
+    private ExecutorService backgroundExecutor;
+
+    // Only used on the thread the model is used on
+    private final Queue<String> queuedCommands = new ArrayDeque<>();
+    private boolean isLoading;
+    private Consumer<String> loadProgressHandler = message -> {};
+    private Consumer<String> queuedCommandHandler = commandText -> {};
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -41,6 +84,7 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         foodBookParser = new FoodBookParser();
+        storage.setFoodBookSaveFailureHandler(this::handleSaveFailure);
     }
 
     @Override
@@ -49,19 +93,76 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = foodBookParser.parseCommand(commandText);
+        if (isLoading && command.needsData()) {
+            queuedCommands.add(commandText);
+            return new CommandResult(String.format(MESSAGE_COMMAND_QUEUED, commandText));
+        }
+
+        Path filePathBefore = model.getUserPrefs().getFoodBookFilePath();
+        DataFileFormat formatBefore = model.getUserPrefs().getFoodBookFormat();
         commandResult = command.execute(model);
 
-        try {
-            storage.saveFoodBook(model.getFoodBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+        ReadOnlyUserPrefs userPrefs = model.getUserPrefs();
+        if (!userPrefs.getFoodBookFilePath().equals(filePathBefore) || userPrefs.getFoodBookFormat() != formatBefore) {
+            switchFoodBookFile(userPrefs, filePathBefore, formatBefore);
         }
 
+        // Until it has loaded, the model holds only part of the data file, which must not be saved over it
+        if (!isLoading) {
+            // Only a snapshot is taken here, so the command does not wait on a data file that grows with the data
+            storage.saveFoodBookInBackground(model.getFoodBook());
+        }
+
+        commandResult.getBackgroundTask().ifPresent(task -> runInBackground(commandText, task));
         return commandResult;
     }
 
+    /**
+     * Saves {@code userPrefs} and then saves to the data file they name from now on, so that the next launch reads the
+     * file that later saves go to. If they cannot be saved, the previous data file, at {@code filePathBefore} in
+     * {@code formatBefore}, is kept.
+     */
+    private void switchFoodBookFile(ReadOnlyUserPrefs userPrefs, Path filePathBefore, DataFileFormat formatBefore)
+            throws CommandException {
+        try {
+            storage.saveUserPrefs(userPrefs);
+        } catch (IOException e) {
+            UserPrefs restored = new UserPrefs(userPrefs);
+            restored.setFoodBookFilePath(filePathBefore);
+            restored.setFoodBookFormat(formatBefore);
+            model.setUserPrefs(restored);
+            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, e.getMessage()), e);
+        }
+        storage.setFoodBookFile(userPrefs.getFoodBookFilePath(), userPrefs.getFoodBookFormat());
+    }
+
+    private synchronized void runInBackground(String commandText, Supplier<String> task) {
+        if (backgroundExecutor == null) {
+            backgroundExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "FoodBook background task");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        backgroundExecutor.execute(() -> {
+            String message;
+            try {
+                message = task.get();
+            } catch (RuntimeException e) {
+                logger.warning("Background task of '" + commandText + "' failed " + StringUtil.getDetails(e));
+                message = String.format(MESSAGE_BACKGROUND_TASK_FAILED, commandText, e.getMessage());
+            }
+            backgroundTaskHandler.accept(message);
+        });
+    }
+
+    private void handleSaveFailure(IOException e) {
+        String message = e instanceof AccessDeniedException
+                ? String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage())
+                : String.format(FILE_OPS_ERROR_FORMAT, e.getMessage());
+        saveFailureHandler.accept(message);
+    }
+
     @Override
     public ReadOnlyFoodBook getFoodBook() {
         return model.getFoodBook();
@@ -73,8 +174,8 @@ public class LogicManager implements Logic {
     }
 
     @Override
-    public ObservableList<Delivery> getFilteredDeliveryList() {
-        return model.getFilteredDeliveryList();
+    public ObservableList<Delivery> getDisplayedDeliveryList() {
+        return model.getDisplayedDeliveryList();
     }
 
     @Override
@@ -91,4 +192,117 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> handler) {
+        saveFailureHandler = handler;
+    }
+
+    @Override
+    public void setBackgroundTaskHandler(Consumer<String> handler) {
+        backgroundTaskHandler = handler;
+    }
+
+    @Override
+    public void finishBackgroundTasks() {
+        ExecutorService executor;
+        synchronized (this) {
+            executor = backgroundExecutor;
+        }
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        try {
+            while (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+                logger.info("Waiting for background tasks to finish");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void startLoading() {
+        isLoading = true;
+        loadProgressHandler.accept(String.format(MESSAGE_LOADING, model.getFoodBookFilePath()));
+    }
+
+    @Override
+    public boolean isLoading() {
+        return isLoading;
+    }
+
+    @Override
+    public void publishLoadedFoodBook(ReadOnlyFoodBook loaded, Executor modelExecutor, Runnable onLoaded) {
+        List<Person> persons = loaded.getPersonList();
+        List<Delivery> deliveries = loaded.getDeliveryList();
+        int total = persons.size() + deliveries.size();
+        logger.info("Publishing " + persons.size() + " clients and " + deliveries.size() + " deliveries");
+
+        // Set on the model's thread, and read here only after joining the task that set it
+        boolean[] isPublished = new boolean[1];
+        try {
+            // Clients go first, so that the client of every delivery is in the model before the delivery
+            for (int start = 0; start < total; start += LOAD_CHUNK_SIZE) {
+                int end = Math.min(start + LOAD_CHUNK_SIZE, total);
+                List<Person> personChunk = persons.subList(Math.min(start, persons.size()),
+                        Math.min(end, persons.size()));
+                List<Delivery> deliveryChunk = deliveries.subList(Math.max(start - persons.size(), 0),
+                        Math.max(end - persons.size(), 0));
+                CompletableFuture.runAsync(() -> {
+                    model.appendLoadedData(personChunk, deliveryChunk);
+                    loadProgressHandler.accept(String.format(MESSAGE_LOADING_PROGRESS, end, total));
+                }, modelExecutor).join();
+            }
+
+            CompletableFuture.runAsync(() -> {
+                model.completeLoadedData(loaded);
+                isPublished[0] = true;
+                isLoading = false;
+                try {
+                    onLoaded.run();
+                    loadProgressHandler.accept(String.format(MESSAGE_LOADED, persons.size(), deliveries.size()));
+                } finally {
+                    while (!queuedCommands.isEmpty()) {
+                        queuedCommandHandler.accept(queuedCommands.remove());
+                    }
+                }
+            }, modelExecutor).join();
+        } catch (RuntimeException e) {
+            if (!isPublished[0]) {
+                abandonLoading(e, modelExecutor);
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void abandonLoading(Throwable cause, Executor modelExecutor) {
+        Throwable reason = cause instanceof CompletionException && cause.getCause() != null
+                ? cause.getCause()
+                : cause;
+        logger.warning("Abandoning loading the data file " + StringUtil.getDetails(reason));
+        CompletableFuture.runAsync(() -> {
+            try {
+                // Part of the data file must not be saved over the whole of it, so the model is emptied instead
+                model.setFoodBook(new FoodBook());
+            } finally {
+                isLoading = false;
+                int rejectedCount = queuedCommands.size();
+                queuedCommands.clear();
+                loadProgressHandler.accept(String.format(MESSAGE_LOAD_FAILED, reason.getMessage(), rejectedCount));
+            }
+        }, modelExecutor).join();
+    }
+
+    @Override
+    public void setLoadProgressHandler(Consumer<String> handler) {
+        loadProgressHandler = handler;
+    }
+
+    @Override
+    public void setQueuedCommandHandler(Consumer<String> handler) {
+        queuedCommandHandler = handler;
+    }
 }
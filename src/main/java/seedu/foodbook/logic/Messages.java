@@ -69,7 +69,7 @@ public class Messages {
                 .append("; Date/Time: ")
                 .append(delivery.getDeliveryDate())
                 .append("; Cost: $")
-                .append(String.format("%.2f", delivery.getCost()));
+                .append(delivery.getCost());
         return builder.toString();
     }
 
@@ -16,6 +16,7 @@ import seedu.foodbook.logic.commands.exceptions.CommandException;
 import seedu.foodbook.model.Model;
 import seedu.foodbook.model.delivery.DateTime;
 import seedu.foodbook.model.delivery.Delivery;
+import seedu.foodbook.model.delivery.Money;
 import seedu.foodbook.model.person.Name;
 import seedu.foodbook.model.person.Person;
 import seedu.foodbook.model.tag.DeliveryTag;
@@ -62,7 +63,7 @@ public class AddDeliveryCommand extends Command {
     private final String remarks;
 
     /** The cost/price of this delivery. */
-    private final Double cost;
+    private final Money cost;
 
     /** Tag for this delivery */
     private final Optional<DeliveryTag> tag;
@@ -80,7 +81,7 @@ public class AddDeliveryCommand extends Command {
      * @param cost The cost/price of this delivery.
      * @throws NullPointerException If any parameter is null.
      */
-    public AddDeliveryCommand(Name clientName, DateTime dateTime, String remarks, Double cost) {
+    public AddDeliveryCommand(Name clientName, DateTime dateTime, String remarks, Money cost) {
         requireNonNull(clientName);
         requireNonNull(dateTime);
         requireNonNull(remarks);
@@ -104,7 +105,7 @@ public class AddDeliveryCommand extends Command {
      * @throws IllegalArgumentException if {@code cost} is negative (defensive check).
      */
     public AddDeliveryCommand(Name clientName, DateTime dateTime,
-                              String remarks, Double cost, Optional<DeliveryTag> tag) {
+                              String remarks, Money cost, Optional<DeliveryTag> tag) {
         requireNonNull(clientName);
         requireNonNull(dateTime);
         requireNonNull(remarks);
@@ -114,7 +115,7 @@ public class AddDeliveryCommand extends Command {
         this.dateTime = dateTime;
         this.remarks = remarks;
 
-        if (cost < 0) {
+        if (cost.isNegative()) {
             throw new IllegalArgumentException("Cost must be non-negative.");
         }
         this.cost = cost;
@@ -166,8 +167,8 @@ public class AddDeliveryCommand extends Command {
 
             Person client = maybePerson.get();
 
-            //Generate unique ID
-            Integer nextId = generateNextId(model);
+            //Take the next id from the food book's sequence, so ids are never reused
+            Integer nextId = model.getNextDeliveryId();
 
             //Create delivery with the found client
             delivery = new Delivery(nextId, client, dateTime, remarks, cost, tag);
@@ -183,21 +184,6 @@ public class AddDeliveryCommand extends Command {
                 CommandResult.UiPanel.DELIVERIES);
     }
 
-    /**
-     * Generates the next unique ID for a new delivery.
-     * The ID is calculated as the maximum existing delivery ID plus 1.
-     * If no deliveries exist, returns 1.
-     *
-     * @param model The model containing existing deliveries.
-     * @return The next unique delivery ID.
-     */
-    private Integer generateNextId(Model model) {
-        return model.getFilteredDeliveryList().stream()
-                .mapToInt(Delivery::getId)
-                .max()
-                .orElse(0) + 1;
-    }
-
     /**
      * Returns true if both commands have the same client name, date/time, remarks, and cost.
      * This defines a stronger notion of equality between two AddDeliveryCommands.
@@ -17,4 +17,12 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if this command reads or changes the food book's data, so that it must wait until the data file
+     * has been loaded.
+     */
+    public boolean needsData() {
+        return true;
+    }
+
 }
@@ -3,6 +3,8 @@ package seedu.foodbook.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 import seedu.foodbook.commons.util.ToStringBuilder;
 
@@ -26,15 +28,32 @@ public class CommandResult {
     /** The flag to show which page of information. */
     private final UiPanel panelToShow;
 
+    /** Work to do after the command, off the thread the model is used on, or null if there is none. */
+    private final Supplier<String> backgroundTask;
 
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
     public CommandResult(String feedbackToUser, boolean showHelp, boolean exit , UiPanel panelToShow) {
+        this(feedbackToUser, showHelp, exit, panelToShow, null);
+    }
+
+    private CommandResult(String feedbackToUser, boolean showHelp, boolean exit, UiPanel panelToShow,
+            Supplier<String> backgroundTask) {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.showHelp = showHelp;
         this.exit = exit;
         this.panelToShow = panelToShow;
+        this.backgroundTask = backgroundTask;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser}, {@code panelToShow} and
+     * {@code backgroundTask}, which is run after the command on another thread and returns the feedback to show the
+     * user once it is done. {@code backgroundTask} must not use the model.
+     */
+    public CommandResult(String feedbackToUser, UiPanel panelToShow, Supplier<String> backgroundTask) {
+        this(feedbackToUser, false, false, panelToShow, requireNonNull(backgroundTask));
     }
 
     /**
@@ -79,6 +98,10 @@ public class CommandResult {
         return exit;
     }
 
+    public Optional<Supplier<String>> getBackgroundTask() {
+        return Optional.ofNullable(backgroundTask);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,78 @@
+package seedu.foodbook.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+
+import seedu.foodbook.commons.core.DataFileFormat;
+import seedu.foodbook.commons.util.ToStringBuilder;
+import seedu.foodbook.logic.commands.exceptions.CommandException;
+import seedu.foodbook.model.Model;
+import seedu.foodbook.model.UserPrefs;
+
+/**
+ * Converts the data file to another format, which it is saved in from then on.
+ * The data file in the old format is left as it is.
+ */
+public class ConvertCommand extends Command {
+
+    public static final String COMMAND_WORD = "convert";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Converts the data file to the given format, and saves in that format from now on.\n"
+            + "Parameters: FORMAT (json or binary)\n"
+            + "Example: " + COMMAND_WORD + " binary";
+
+    public static final String MESSAGE_SUCCESS = "Data file converted to %1$s format: %2$s";
+    public static final String MESSAGE_ALREADY_IN_FORMAT = "Data file is already in %1$s format.";
+
+    private final DataFileFormat format;
+
+    /**
+     * Creates a ConvertCommand to convert the data file to {@code format}.
+     */
+    public ConvertCommand(DataFileFormat format) {
+        requireNonNull(format);
+        this.format = format;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (model.getUserPrefs().getFoodBookFormat() == format) {
+            throw new CommandException(String.format(MESSAGE_ALREADY_IN_FORMAT, format));
+        }
+
+        // The new data file is written by the save that follows every command
+        UserPrefs userPrefs = new UserPrefs(model.getUserPrefs());
+        Path filePath = format.withExtension(userPrefs.getFoodBookFilePath());
+        userPrefs.setFoodBookFormat(format);
+        userPrefs.setFoodBookFilePath(filePath);
+        model.setUserPrefs(userPrefs);
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, format, filePath));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ConvertCommand)) {
+            return false;
+        }
+
+        ConvertCommand otherConvertCommand = (ConvertCommand) other;
+        return format == otherConvertCommand.format;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("format", format)
+                .toString();
+    }
+}
@@ -3,14 +3,12 @@ package seedu.foodbook.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.foodbook.logic.commands.AddDeliveryCommand.MESSAGE_CLIENT_NOT_FOUND;
 
-import java.util.List;
 import java.util.Optional;
 
 import seedu.foodbook.commons.util.ToStringBuilder;
 import seedu.foodbook.logic.Messages;
 import seedu.foodbook.logic.commands.exceptions.CommandException;
 import seedu.foodbook.model.Model;
-import seedu.foodbook.model.delivery.Delivery;
 import seedu.foodbook.model.person.Name;
 import seedu.foodbook.model.person.Person;
 
@@ -46,12 +44,10 @@ public class DeleteClientCommand extends Command {
         }
 
         Person clientToDelete = maybePerson.get();
-        List<Delivery> deliveriesToDelete = model.getDeliveriesByClientName(toBeDeleted);
 
         model.checkpoint(COMMAND_WORD, CommandResult.UiPanel.PERSONS);
 
-        deliveriesToDelete.forEach(model::deleteDelivery);
-        model.deletePerson(clientToDelete);
+        model.deletePersonWithDeliveries(clientToDelete);
 
         return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(clientToDelete)),
                 CommandResult.UiPanel.PERSONS);
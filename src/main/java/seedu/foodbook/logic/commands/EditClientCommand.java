@@ -10,7 +10,6 @@ import static seedu.foodbook.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -20,7 +19,6 @@ import seedu.foodbook.commons.util.ToStringBuilder;
 import seedu.foodbook.logic.Messages;
 import seedu.foodbook.logic.commands.exceptions.CommandException;
 import seedu.foodbook.model.Model;
-import seedu.foodbook.model.delivery.Delivery;
 import seedu.foodbook.model.person.Address;
 import seedu.foodbook.model.person.Email;
 import seedu.foodbook.model.person.Name;
@@ -87,15 +85,9 @@ public class EditClientCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_PERSON);
         }
 
-        List<Delivery> deliveryList = model.getDeliveriesByClientName(currentClientName);
-
         model.checkpoint(COMMAND_WORD, CommandResult.UiPanel.PERSONS);
 
-        model.setPerson(oldClient, newClient);
-        deliveryList.forEach(oldDelivery -> {
-            Delivery updatedDelivery = oldDelivery.copyWithNewClient(newClient);
-            model.setDelivery(oldDelivery, updatedDelivery);
-        });
+        model.setPersonWithDeliveries(oldClient, newClient);
 
         return new CommandResult(String.format(MESSAGE_EDIT_PERSON_SUCCESS, Messages.format(newClient)),
                 CommandResult.UiPanel.PERSONS);
@@ -19,6 +19,7 @@ import seedu.foodbook.logic.commands.exceptions.CommandException;
 import seedu.foodbook.model.Model;
 import seedu.foodbook.model.delivery.DateTime;
 import seedu.foodbook.model.delivery.Delivery;
+import seedu.foodbook.model.delivery.Money;
 import seedu.foodbook.model.person.Name;
 import seedu.foodbook.model.person.Person;
 import seedu.foodbook.model.tag.DeliveryTag;
@@ -123,11 +124,11 @@ public class EditDeliveryCommand extends Command {
 
         DateTime updatedDateTime = editDeliveryDescriptor.getDateTime().orElse(deliveryToEdit.getDeliveryDate());
         String updatedRemarks = editDeliveryDescriptor.getRemarks().orElse(deliveryToEdit.getRemarks());
-        Double updatedCost = editDeliveryDescriptor.getCost().orElse(deliveryToEdit.getCost());
+        Money updatedCost = editDeliveryDescriptor.getCost().orElse(deliveryToEdit.getCost());
         Optional<DeliveryTag> updatedTag = editDeliveryDescriptor.getTag()
                 .or(() -> deliveryToEdit.getTag());
 
-        if (updatedCost < 0) {
+        if (updatedCost.isNegative()) {
             throw new CommandException(MESSAGE_INVALID_COST);
         }
 
@@ -171,7 +172,7 @@ public class EditDeliveryCommand extends Command {
         private String clientName;
         private DateTime dateTime;
         private String remarks;
-        private Double cost;
+        private Money cost;
         private DeliveryTag tag;
 
         public EditDeliveryDescriptor() {}
@@ -218,11 +219,11 @@ public class EditDeliveryCommand extends Command {
             return Optional.ofNullable(remarks);
         }
 
-        public void setCost(Double cost) {
+        public void setCost(Money cost) {
             this.cost = cost;
         }
 
-        public Optional<Double> getCost() {
+        public Optional<Money> getCost() {
             return Optional.ofNullable(cost);
         }
 
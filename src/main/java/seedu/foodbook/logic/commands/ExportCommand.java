@@ -0,0 +1,258 @@
+package seedu.foodbook.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+
+import seedu.foodbook.commons.core.DataFileFormat;
+import seedu.foodbook.commons.core.LogsCenter;
+import seedu.foodbook.commons.util.CsvWriter;
+import seedu.foodbook.commons.util.FileUtil;
+import seedu.foodbook.commons.util.ToStringBuilder;
+import seedu.foodbook.logic.commands.exceptions.CommandException;
+import seedu.foodbook.model.MatchingDeliveries;
+import seedu.foodbook.model.Model;
+import seedu.foodbook.model.delivery.DateTime;
+import seedu.foodbook.model.delivery.Delivery;
+import seedu.foodbook.model.delivery.DeliveryPredicate;
+import seedu.foodbook.model.delivery.Money;
+import seedu.foodbook.model.tag.DeliveryTag;
+
+/**
+ * Writes the deliveries that satisfy a {@code DeliveryPredicate}, archived ones included, to a CSV file, and
+ * optionally their revenue by day to another.
+ * The deliveries are only snapshotted when the command is executed; they are written afterwards on a background
+ * thread, one at a time through a buffered writer, so any number of them is exported in constant memory without
+ * holding up the window.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Writes the deliveries that match the filters to a CSV file, "
+            + "and optionally their revenue by day to another.\n"
+            + "Parameters: FILE_PATH "
+            + "[sd/START_DATE] "
+            + "[ed/END_DATE] "
+            + "[n/CLIENT_NAME] "
+            + "[t/TAG] "
+            + "[s/STATUS] "
+            + "[rf/REVENUE_FILE_PATH]\n"
+            + "Filters are the same as for list_revenue.\n"
+            + "Example: " + COMMAND_WORD + " data/deliveries.csv sd/1/1/2025 ed/31/12/2025 s/delivered "
+            + "rf/data/revenue.csv";
+
+    public static final String MESSAGE_EXPORTING = "Exporting deliveries to %1$s...";
+    public static final String MESSAGE_SUCCESS = "Exported %1$,d deliveries, totalling $%2$s, to %3$s";
+    public static final String MESSAGE_REVENUE_SUCCESS = "\nWrote revenue for %1$,d days to %2$s";
+    public static final String MESSAGE_WRITE_ERROR = "Could not write %1$s: %2$s";
+    public static final String MESSAGE_SAME_FILE = "The revenue file must not be the file deliveries are exported to.";
+    public static final String MESSAGE_DATA_FILE = "Cannot export to %1$s, which holds the food book's own data.";
+
+    static final String[] DELIVERY_HEADER = {"id", "client", "date", "time", "remarks", "cost", "tag", "status"};
+    static final String[] REVENUE_HEADER = {"date", "deliveries", "revenue"};
+
+    private static final String STATUS_DELIVERED = "delivered";
+    private static final String STATUS_NOT_DELIVERED = "not_delivered";
+    /** The first characters that make a spreadsheet read a field as a formula. */
+    private static final String FORMULA_PREFIXES = "=+-@";
+    private static final long MINUTES_PER_DAY = 24 * 60;
+
+    private static final Logger logger = LogsCenter.getLogger(ExportCommand.class);
+
+    private final Path filePath;
+    private final DeliveryPredicate predicate;
+    private final Optional<Path> revenueFilePath;
+
+    /**
+     * Creates an ExportCommand to export the deliveries that satisfy {@code predicate} to {@code filePath}, and
+     * their revenue by day to {@code revenueFilePath} if it is present.
+     */
+    public ExportCommand(Path filePath, DeliveryPredicate predicate, Optional<Path> revenueFilePath) {
+        requireNonNull(filePath);
+        requireNonNull(predicate);
+        requireNonNull(revenueFilePath);
+        this.filePath = filePath;
+        this.predicate = predicate;
+        this.revenueFilePath = revenueFilePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        requireNotDataFile(filePath, model.getFoodBookFilePath());
+        if (revenueFilePath.isPresent()) {
+            requireNotDataFile(revenueFilePath.get(), model.getFoodBookFilePath());
+        }
+
+        MatchingDeliveries deliveries = model.snapshotDeliveriesMatching(predicate);
+        return new CommandResult(String.format(MESSAGE_EXPORTING, filePath), CommandResult.UiPanel.DELIVERIES,
+                () -> export(deliveries));
+    }
+
+    /**
+     * Throws a {@code CommandException} if writing to {@code path} would overwrite the data file at
+     * {@code dataFilePath}, its journal, or anything in its delivery archive.
+     */
+    private static void requireNotDataFile(Path path, Path dataFilePath) throws CommandException {
+        Path target = path.toAbsolutePath().normalize();
+        Path dataFile = dataFilePath.toAbsolutePath().normalize();
+        if (target.equals(dataFile)
+                || target.equals(DataFileFormat.journalPathFor(dataFile))
+                || target.startsWith(DataFileFormat.archivePathFor(dataFile))) {
+            throw new CommandException(String.format(MESSAGE_DATA_FILE, path));
+        }
+    }
+
+    /**
+     * Writes {@code deliveries} to the export file, and their revenue by day to the revenue file if there is one,
+     * and returns the message to show the user.
+     */
+    String export(MatchingDeliveries deliveries) {
+        Totals totals = new Totals(revenueFilePath.isPresent());
+        try {
+            FileUtil.createParentDirsOfFile(filePath);
+            try (CsvWriter writer = new CsvWriter(Files.newBufferedWriter(filePath, StandardCharsets.UTF_8))) {
+                writer.writeRecord(DELIVERY_HEADER);
+                deliveries.forEach(delivery -> {
+                    try {
+                        writeDelivery(writer, delivery);
+                    } catch (IOException e) {
+                        throw new WriteFailure(e);
+                    }
+                    totals.add(delivery);
+                });
+            }
+        } catch (WriteFailure e) {
+            return writeError(filePath, e.getCause());
+        } catch (IOException e) {
+            return writeError(filePath, e);
+        }
+        logger.info("Exported " + totals.deliveryCount + " deliveries to " + filePath);
+
+        String message = String.format(MESSAGE_SUCCESS, totals.deliveryCount,
+                Money.ofCents(totals.totalCents), filePath);
+        if (revenueFilePath.isEmpty()) {
+            return message;
+        }
+
+        Path revenuePath = revenueFilePath.get();
+        try {
+            FileUtil.createParentDirsOfFile(revenuePath);
+            try (CsvWriter writer = new CsvWriter(Files.newBufferedWriter(revenuePath, StandardCharsets.UTF_8))) {
+                writer.writeRecord(REVENUE_HEADER);
+                for (Map.Entry<Long, long[]> day : totals.byDay.entrySet()) {
+                    writer.writeRecord(DateTime.ofEpochMinute(day.getKey() * MINUTES_PER_DAY).getDateString(),
+                            Long.toString(day.getValue()[0]),
+                            Money.ofCents(day.getValue()[1]).toString());
+                }
+            }
+        } catch (IOException e) {
+            return message + "\n" + writeError(revenuePath, e);
+        }
+        return message + String.format(MESSAGE_REVENUE_SUCCESS, totals.byDay.size(), revenuePath);
+    }
+
+    private static void writeDelivery(CsvWriter writer, Delivery delivery) throws IOException {
+        writer.writeField(delivery.getId().toString());
+        writer.writeField(neutraliseFormula(delivery.getClient().getName().fullName));
+        writer.writeField(delivery.getDeliveryDate().getDateString());
+        writer.writeField(delivery.getDeliveryDate().getTimeString());
+        writer.writeField(neutraliseFormula(delivery.getRemarks()));
+        writer.writeField(delivery.getCost().toString());
+        writer.writeField(neutraliseFormula(delivery.getTag().map(DeliveryTag::getName).orElse("")));
+        writer.writeField(delivery.getStatus() ? STATUS_DELIVERED : STATUS_NOT_DELIVERED);
+        writer.endRecord();
+    }
+
+    /**
+     * Returns {@code text} with a {@code '} in front if a spreadsheet opening the file would otherwise run it as a
+     * formula.
+     */
+    static String neutraliseFormula(String text) {
+        return !text.isEmpty() && FORMULA_PREFIXES.indexOf(text.charAt(0)) >= 0 ? "'" + text : text;
+    }
+
+    private String writeError(Path path, IOException e) {
+        logger.warning("Could not export to " + path + ": " + e);
+        return String.format(MESSAGE_WRITE_ERROR, path, e.getMessage());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+
+        ExportCommand otherExportCommand = (ExportCommand) other;
+        return filePath.equals(otherExportCommand.filePath)
+                && predicate.equals(otherExportCommand.predicate)
+                && revenueFilePath.equals(otherExportCommand.revenueFilePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .add("predicate", predicate)
+                .add("revenueFilePath", revenueFilePath.orElse(null))
+                .toString();
+    }
+
+    /**
+     * A failure to write a delivery, carried out of the visitor it happened in; unlike an {@code UncheckedIOException}
+     * it cannot be confused with a failure to read the delivery archive.
+     */
+    private static class WriteFailure extends RuntimeException {
+        WriteFailure(IOException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized IOException getCause() {
+            return (IOException) super.getCause();
+        }
+    }
+
+    /**
+     * The number and total cost of the deliveries exported so far, overall and, if wanted, by day.
+     * Days are kept rather than deliveries, so the totals stay small however many deliveries are exported.
+     */
+    private static class Totals {
+        private long deliveryCount;
+        private long totalCents;
+
+        /** The number and total cost of the deliveries of each day, by epoch day, or null if not wanted. */
+        private final TreeMap<Long, long[]> byDay;
+
+        Totals(boolean isByDay) {
+            byDay = isByDay ? new TreeMap<>() : null;
+        }
+
+        void add(Delivery delivery) {
+            long cents = delivery.getCost().getCents();
+            deliveryCount++;
+            totalCents = Math.addExact(totalCents, cents);
+            if (byDay != null) {
+                long day = Math.floorDiv(delivery.getDeliveryDate().toEpochMinute(), MINUTES_PER_DAY);
+                long[] countAndCents = byDay.computeIfAbsent(day, unused -> new long[2]);
+                countAndCents[0]++;
+                countAndCents[1] = Math.addExact(countAndCents[1], cents);
+            }
+        }
+    }
+}
@@ -28,6 +28,7 @@ public class FindDeliveryCommand extends Command {
             + "- " + COMMAND_WORD + " n/John Doe d/25/12/2024 t/urgent (shows deliveries with all 3 filters)";
 
     public static final String MESSAGE_NO_DELIVERY_FOUND = "Error: No delivery found.";
+    public static final String MESSAGE_ARCHIVED_LISTED = "%1$d of them are archived, and listed after the others.";
 
     /** Predicate indicating the filter condition for find_delivery. */
     private final DeliveryPredicate predicate;
@@ -39,16 +40,23 @@ public class FindDeliveryCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
+        // Every listed delivery is tested, even for a date range: the filtered list must follow later changes to the
+        // deliveries, which a list taken from the date index would not, so the date index serves revenue queries only
         model.updateFilteredDeliveryList(predicate);
-
-        int numDeliveriesFound = model.getFilteredDeliveryList().size();
+        model.showArchivedDeliveriesMatching(predicate);
+        int numListedFound = model.getFilteredDeliveryList().size();
+        int numArchivedFound = model.getDisplayedDeliveryList().size() - numListedFound;
+        int numDeliveriesFound = numListedFound + numArchivedFound;
 
         if (numDeliveriesFound == 0) {
             return new CommandResult(MESSAGE_NO_DELIVERY_FOUND, CommandResult.UiPanel.DELIVERIES);
         }
-        return new CommandResult(
-                String.format(Messages.MESSAGE_DELIVERIES_LISTED_OVERVIEW, model.getFilteredDeliveryList().size()),
-                CommandResult.UiPanel.DELIVERIES);
+        String message = String.format(Messages.MESSAGE_DELIVERIES_LISTED_OVERVIEW, numDeliveriesFound);
+
+        if (numArchivedFound > 0) {
+            message += "\n" + String.format(MESSAGE_ARCHIVED_LISTED, numArchivedFound);
+        }
+        return new CommandResult(message, CommandResult.UiPanel.DELIVERIES);
     }
 
     @Override
@@ -19,4 +19,9 @@ public class HelpCommand extends Command {
         return new CommandResult(SHOWING_HELP_MESSAGE, true, false,
                 CommandResult.UiPanel.PERSONS);
     }
+
+    @Override
+    public boolean needsData() {
+        return false;
+    }
 }
@@ -0,0 +1,223 @@
+package seedu.foodbook.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.foodbook.commons.util.CsvReader;
+import seedu.foodbook.commons.util.ToStringBuilder;
+import seedu.foodbook.logic.commands.exceptions.CommandException;
+import seedu.foodbook.logic.parser.ParserUtil;
+import seedu.foodbook.logic.parser.exceptions.ParseException;
+import seedu.foodbook.model.Model;
+import seedu.foodbook.model.delivery.DateTime;
+import seedu.foodbook.model.delivery.Delivery;
+import seedu.foodbook.model.delivery.Money;
+import seedu.foodbook.model.person.Name;
+import seedu.foodbook.model.person.Person;
+import seedu.foodbook.model.tag.DeliveryTag;
+
+/**
+ * Adds the clients and deliveries in a CSV file to the food book, all at once.
+ * The file is read a row at a time, and every row is checked with the same rules as {@code add_client} and
+ * {@code add_delivery} before any is added, so that either all rows are added or, if any is invalid, none.
+ * They are added as a single change, so one undo removes them all and the data file is saved once.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Adds the clients and deliveries in a CSV file to the food book.\n"
+            + "Each row is either\n"
+            + "  client,NAME,PHONE,EMAIL,ADDRESS[,TAGS]\n"
+            + "  delivery,CLIENT_NAME,DATE,TIME,REMARKS,COST[,TAG]\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/new_clients.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$,d clients and %2$,d deliveries from %3$s";
+    public static final String MESSAGE_FILE_NOT_FOUND = "File not found: %1$s";
+    public static final String MESSAGE_READ_ERROR = "Could not read %1$s: %2$s";
+    public static final String MESSAGE_NOTHING_TO_IMPORT = "%1$s has no clients or deliveries to import.";
+    public static final String MESSAGE_INVALID_ROWS = "Nothing was imported, as %1$,d rows are invalid:\n%2$s";
+    public static final String MESSAGE_MORE_INVALID_ROWS = "... and %1$,d more";
+    public static final String MESSAGE_ROW_ERROR = "Line %1$d: %2$s";
+    public static final String MESSAGE_UNKNOWN_ROW_TYPE = "Row must start with client or delivery.";
+    public static final String MESSAGE_CLIENT_ROW_FORMAT = "Client rows are client,NAME,PHONE,EMAIL,ADDRESS[,TAGS]";
+    public static final String MESSAGE_DELIVERY_ROW_FORMAT =
+            "Delivery rows are delivery,CLIENT_NAME,DATE,TIME,REMARKS,COST[,TAG]";
+
+    /** The number of invalid rows reported in full; the rest are only counted. */
+    static final int MAX_REPORTED_ROWS = 10;
+
+    private static final String CLIENT_ROW = "client";
+    private static final String DELIVERY_ROW = "delivery";
+    private static final String HEADER_ROW = "type";
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportCommand to import the CSV file at {@code filePath}.
+     */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        Batch batch = new Batch(model);
+        try (CsvReader reader = new CsvReader(Files.newBufferedReader(filePath, StandardCharsets.UTF_8))) {
+            List<String> row;
+            while ((row = reader.readRecord()) != null) {
+                batch.addRow(row, reader.getRecordLineNumber());
+            }
+        } catch (NoSuchFileException e) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, filePath));
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, filePath, e.getMessage()));
+        }
+
+        if (batch.invalidRowCount > 0) {
+            List<String> errors = new ArrayList<>(batch.errors);
+            if (batch.invalidRowCount > errors.size()) {
+                errors.add(String.format(MESSAGE_MORE_INVALID_ROWS, batch.invalidRowCount - errors.size()));
+            }
+            throw new CommandException(String.format(MESSAGE_INVALID_ROWS, batch.invalidRowCount,
+                    String.join("\n", errors)));
+        }
+        if (batch.persons.isEmpty() && batch.deliveries.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_NOTHING_TO_IMPORT, filePath));
+        }
+
+        CommandResult.UiPanel uiPanel = batch.deliveries.isEmpty()
+                ? CommandResult.UiPanel.PERSONS
+                : CommandResult.UiPanel.DELIVERIES;
+        model.checkpoint(COMMAND_WORD, uiPanel);
+        model.addPersonsAndDeliveries(batch.persons, batch.deliveries);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, batch.persons.size(), batch.deliveries.size(),
+                filePath), uiPanel);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return filePath.equals(otherImportCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+
+    /**
+     * The clients and deliveries read from the file so far, and the errors in the rows that are invalid.
+     */
+    private static class Batch {
+        private final Model model;
+        private final List<Person> persons = new ArrayList<>();
+        private final List<Delivery> deliveries = new ArrayList<>();
+
+        /** The clients read from the file, by name, so that deliveries later in it can refer to them. */
+        private final Map<Name, Person> personsByName = new HashMap<>();
+
+        private final List<String> errors = new ArrayList<>();
+        private int invalidRowCount;
+        private int nextDeliveryId;
+
+        Batch(Model model) {
+            this.model = model;
+            this.nextDeliveryId = model.getNextDeliveryId();
+        }
+
+        void addRow(List<String> row, int lineNumber) {
+            String type = row.get(0).trim().toLowerCase(Locale.ROOT);
+            try {
+                switch (type) {
+                case CLIENT_ROW:
+                    addPerson(row);
+                    break;
+                case DELIVERY_ROW:
+                    addDelivery(row);
+                    break;
+                case HEADER_ROW:
+                    if (lineNumber > 1) {
+                        throw new ParseException(MESSAGE_UNKNOWN_ROW_TYPE);
+                    }
+                    break;
+                default:
+                    // Empty lines are skipped
+                    if (row.size() > 1 || !type.isEmpty()) {
+                        throw new ParseException(MESSAGE_UNKNOWN_ROW_TYPE);
+                    }
+                }
+            } catch (ParseException pe) {
+                invalidRowCount++;
+                if (errors.size() < MAX_REPORTED_ROWS) {
+                    errors.add(String.format(MESSAGE_ROW_ERROR, lineNumber, pe.getMessage()));
+                }
+            }
+        }
+
+        private void addPerson(List<String> row) throws ParseException {
+            if (row.size() < 5 || row.size() > 6) {
+                throw new ParseException(MESSAGE_CLIENT_ROW_FORMAT);
+            }
+            List<String> tags = row.size() == 6 && !row.get(5).isBlank()
+                    ? Arrays.asList(row.get(5).trim().split("\\s+"))
+                    : List.of();
+            Person person = new Person(ParserUtil.parseName(row.get(1)), ParserUtil.parsePhone(row.get(2)),
+                    ParserUtil.parseEmail(row.get(3)), ParserUtil.parseAddress(row.get(4)),
+                    ParserUtil.parseTags(tags));
+            if (personsByName.containsKey(person.getName()) || model.hasPerson(person)) {
+                throw new ParseException(AddClientCommand.MESSAGE_DUPLICATE_PERSON);
+            }
+            persons.add(person);
+            personsByName.put(person.getName(), person);
+        }
+
+        private void addDelivery(List<String> row) throws ParseException {
+            if (row.size() < 6 || row.size() > 7) {
+                throw new ParseException(MESSAGE_DELIVERY_ROW_FORMAT);
+            }
+            Name clientName = ParserUtil.parseName(row.get(1));
+            DateTime dateTime = ParserUtil.parseDateTime(row.get(2), row.get(3));
+            String remarks = ParserUtil.parseRemarks(row.get(4));
+            Money cost = ParserUtil.parseCost(row.get(5));
+            Optional<DeliveryTag> tag = row.size() == 7 && !row.get(6).isBlank()
+                    ? ParserUtil.parseOptionalDeliveryTag(List.of(row.get(6)))
+                    : Optional.empty();
+
+            Person client = personsByName.get(clientName);
+            if (client == null) {
+                client = model.getPersonByName(clientName).orElseThrow(() ->
+                        new ParseException(String.format(AddDeliveryCommand.MESSAGE_CLIENT_NOT_FOUND, clientName)));
+            }
+            deliveries.add(new Delivery(nextDeliveryId++, client, dateTime, remarks, cost, tag));
+        }
+    }
+}
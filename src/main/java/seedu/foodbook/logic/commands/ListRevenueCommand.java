@@ -2,11 +2,10 @@ package seedu.foodbook.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import javafx.collections.ObservableList;
 import seedu.foodbook.commons.util.ToStringBuilder;
 import seedu.foodbook.model.Model;
-import seedu.foodbook.model.delivery.Delivery;
 import seedu.foodbook.model.delivery.DeliveryPredicate;
+import seedu.foodbook.model.delivery.RevenueSummary;
 
 /**
  * Calculates and displays revenue from deliveries with optional filtering.
@@ -36,7 +35,7 @@ public class ListRevenueCommand extends Command {
             + "  " + COMMAND_WORD + " sd/1/1/2024 ed/31/12/2024 s/delivered "
             + "(shows revenue from completed deliveries in date range)";
 
-    public static final String MESSAGE_SUCCESS = "Total Revenue: $%.2f\n"
+    public static final String MESSAGE_SUCCESS = "Total Revenue: $%s\n"
             + "Number of deliveries: %d\n"
             + "%s\n\n"
             + "Usage: " + COMMAND_WORD + " [sd/START_DATE] [ed/END_DATE] [n/CLIENT_NAME] [t/TAG] [s/STATUS]\n"
@@ -57,21 +56,15 @@ public class ListRevenueCommand extends Command {
     public CommandResult execute(Model model) {
         requireNonNull(model);
 
-        // Apply the filter to get matching deliveries
+        // Totals come from the model's running aggregates; the filter only drives the display
+        RevenueSummary revenue = model.getRevenue(predicate);
         model.updateFilteredDeliveryList(predicate);
-        ObservableList<Delivery> filteredDeliveries = model.getFilteredDeliveryList();
-
-        // Calculate total revenue
-        double totalRevenue = 0.0;
-        for (Delivery delivery : filteredDeliveries) {
-            totalRevenue += delivery.getCost();
-        }
 
         // Build filter description
         String filterDescription = buildFilterDescription();
 
-        String message = String.format(MESSAGE_SUCCESS, totalRevenue,
-                filteredDeliveries.size(), filterDescription);
+        String message = String.format(MESSAGE_SUCCESS, revenue.getTotal(),
+                revenue.deliveryCount(), filterDescription);
 
         return new CommandResult(message, CommandResult.UiPanel.DELIVERIES);
     }
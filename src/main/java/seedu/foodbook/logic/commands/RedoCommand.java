@@ -0,0 +1,58 @@
+package seedu.foodbook.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.foodbook.commons.util.ToStringBuilder;
+import seedu.foodbook.logic.commands.exceptions.CommandException;
+import seedu.foodbook.model.Model;
+import seedu.foodbook.model.undo.ModelRecord;
+import seedu.foodbook.model.undo.exceptions.NoMoreRedoException;
+
+/**
+ * Redoes the most recently undone command.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Redoes the most recently undone command. ";
+
+    public static final String MESSAGE_SUCCESS = "Command redone: \"%1$s\"";
+    public static final String MESSAGE_NO_MORE_REDO = "You cannot redo any further";
+
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        ModelRecord redoneState;
+        try {
+            redoneState = model.redo();
+        } catch (NoMoreRedoException e) {
+            throw new CommandException(MESSAGE_NO_MORE_REDO);
+        }
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, redoneState.commandString()),
+                redoneState.uiPanel());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RedoCommand)) {
+            return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .toString();
+    }
+}
@@ -14,6 +14,7 @@ import java.util.stream.Stream;
 import seedu.foodbook.logic.commands.AddDeliveryCommand;
 import seedu.foodbook.logic.parser.exceptions.ParseException;
 import seedu.foodbook.model.delivery.DateTime;
+import seedu.foodbook.model.delivery.Money;
 import seedu.foodbook.model.person.Name;
 import seedu.foodbook.model.tag.DeliveryTag;
 
@@ -56,7 +57,7 @@ public class AddDeliveryCommandParser implements Parser<AddDeliveryCommand> {
         String time = argMultimap.getValue(PREFIX_TIME).get();
         DateTime dateTime = ParserUtil.parseDateTime(date, time);
         String remarks = ParserUtil.parseRemarks(argMultimap.getValue(PREFIX_REMARKS).get());
-        Double cost = ParserUtil.parseCost(argMultimap.getValue(PREFIX_COST).get());
+        Money cost = ParserUtil.parseCost(argMultimap.getValue(PREFIX_COST).get());
         Optional<DeliveryTag> tag = ParserUtil.parseOptionalDeliveryTag(argMultimap.getAllValues(PREFIX_DELIVERY_TAG));
 
         return new AddDeliveryCommand(clientName, dateTime, remarks, cost, tag);
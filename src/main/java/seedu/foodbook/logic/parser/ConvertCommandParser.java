@@ -0,0 +1,27 @@
+package seedu.foodbook.logic.parser;
+
+import static seedu.foodbook.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.foodbook.logic.commands.ConvertCommand;
+import seedu.foodbook.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ConvertCommand object
+ */
+public class ConvertCommandParser implements Parser<ConvertCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ConvertCommand
+     * and returns a ConvertCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ConvertCommand parse(String args) throws ParseException {
+        try {
+            return new ConvertCommand(ParserUtil.parseDataFileFormat(args));
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ConvertCommand.MESSAGE_USAGE), pe);
+        }
+    }
+
+}
@@ -0,0 +1,53 @@
+package seedu.foodbook.logic.parser;
+
+import static seedu.foodbook.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.foodbook.logic.parser.CliSyntax.PREFIX_END_DATE;
+import static seedu.foodbook.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.foodbook.logic.parser.CliSyntax.PREFIX_REVENUE_FILE;
+import static seedu.foodbook.logic.parser.CliSyntax.PREFIX_START_DATE;
+import static seedu.foodbook.logic.parser.CliSyntax.PREFIX_STATUS;
+import static seedu.foodbook.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.foodbook.logic.commands.ExportCommand;
+import seedu.foodbook.logic.parser.exceptions.ParseException;
+import seedu.foodbook.model.delivery.DeliveryPredicate;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExportCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_START_DATE, PREFIX_END_DATE,
+                PREFIX_NAME, PREFIX_STATUS, PREFIX_TAG, PREFIX_REVENUE_FILE);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_REVENUE_FILE);
+
+        Path filePath;
+        Optional<Path> revenueFilePath;
+        try {
+            filePath = ParserUtil.parseFilePath(argMultimap.getPreamble());
+            revenueFilePath = argMultimap.getValue(PREFIX_REVENUE_FILE).isPresent()
+                    ? Optional.of(ParserUtil.parseFilePath(argMultimap.getValue(PREFIX_REVENUE_FILE).get()))
+                    : Optional.empty();
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE), pe);
+        }
+        if (revenueFilePath.isPresent()
+                && revenueFilePath.get().toAbsolutePath().normalize().equals(filePath.toAbsolutePath().normalize())) {
+            throw new ParseException(ExportCommand.MESSAGE_SAME_FILE);
+        }
+
+        DeliveryPredicate predicate = ListRevenueCommandParser.parseDeliveryPredicate(argMultimap);
+        return new ExportCommand(filePath, predicate, revenueFilePath);
+    }
+
+}
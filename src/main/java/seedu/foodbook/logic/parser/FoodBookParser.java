@@ -12,18 +12,22 @@ import seedu.foodbook.logic.commands.AddClientCommand;
 import seedu.foodbook.logic.commands.AddDeliveryCommand;
 import seedu.foodbook.logic.commands.ClearCommand;
 import seedu.foodbook.logic.commands.Command;
+import seedu.foodbook.logic.commands.ConvertCommand;
 import seedu.foodbook.logic.commands.DeleteClientCommand;
 import seedu.foodbook.logic.commands.DeleteDeliveryCommand;
 import seedu.foodbook.logic.commands.EditClientCommand;
 import seedu.foodbook.logic.commands.EditDeliveryCommand;
 import seedu.foodbook.logic.commands.ExitCommand;
+import seedu.foodbook.logic.commands.ExportCommand;
 import seedu.foodbook.logic.commands.FindClientCommand;
 import seedu.foodbook.logic.commands.FindDeliveryCommand;
 import seedu.foodbook.logic.commands.HelpCommand;
+import seedu.foodbook.logic.commands.ImportCommand;
 import seedu.foodbook.logic.commands.ListClientCommand;
 import seedu.foodbook.logic.commands.ListDeliveryCommand;
 import seedu.foodbook.logic.commands.ListRevenueCommand;
 import seedu.foodbook.logic.commands.MarkCommand;
+import seedu.foodbook.logic.commands.RedoCommand;
 import seedu.foodbook.logic.commands.UndoCommand;
 import seedu.foodbook.logic.commands.UnmarkCommand;
 import seedu.foodbook.logic.parser.exceptions.ParseException;
@@ -107,12 +111,24 @@ public class FoodBookParser {
         case UnmarkCommand.COMMAND_WORD:
             return new UnmarkCommandParser().parse(arguments);
 
+        case ConvertCommand.COMMAND_WORD:
+            return new ConvertCommandParser().parse(arguments);
+
+        case ImportCommand.COMMAND_WORD:
+            return new ImportCommandParser().parse(arguments);
+
+        case ExportCommand.COMMAND_WORD:
+            return new ExportCommandParser().parse(arguments);
+
         case ListRevenueCommand.COMMAND_WORD:
             return new ListRevenueCommandParser().parse(arguments);
 
         case UndoCommand.COMMAND_WORD:
             return new UndoCommand();
 
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
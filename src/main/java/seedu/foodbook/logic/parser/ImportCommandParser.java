@@ -0,0 +1,27 @@
+package seedu.foodbook.logic.parser;
+
+import static seedu.foodbook.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.foodbook.logic.commands.ImportCommand;
+import seedu.foodbook.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ImportCommand object
+ */
+public class ImportCommandParser implements Parser<ImportCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportCommand
+     * and returns an ImportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ImportCommand parse(String args) throws ParseException {
+        try {
+            return new ImportCommand(ParserUtil.parseFilePath(args));
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE), pe);
+        }
+    }
+
+}
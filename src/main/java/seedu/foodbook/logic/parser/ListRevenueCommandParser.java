@@ -38,6 +38,16 @@ public class ListRevenueCommandParser implements Parser<ListRevenueCommand> {
                     ListRevenueCommand.MESSAGE_USAGE));
         }
 
+        return new ListRevenueCommand(parseDeliveryPredicate(argMultimap));
+    }
+
+    /**
+     * Parses the sd/, ed/, n/, t/ and s/ filters in {@code argMultimap} into a {@code DeliveryPredicate}, as
+     * {@code list_revenue} and {@code export} take them.
+     *
+     * @throws ParseException If a filter is repeated or invalid.
+     */
+    static DeliveryPredicate parseDeliveryPredicate(ArgumentMultimap argMultimap) throws ParseException {
         // Ensure no duplicate prefixes
         argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_START_DATE, PREFIX_END_DATE,
                 PREFIX_NAME, PREFIX_STATUS, PREFIX_TAG);
@@ -94,9 +104,7 @@ public class ListRevenueCommandParser implements Parser<ListRevenueCommand> {
         }
 
 
-        DeliveryPredicate predicate = new DeliveryPredicate(finalStartDate, finalEndDate,
-                clientName, tag, isDelivered);
-        return new ListRevenueCommand(predicate);
+        return new DeliveryPredicate(finalStartDate, finalEndDate, clientName, tag, isDelivered);
     }
 
 
@@ -107,7 +115,7 @@ public class ListRevenueCommandParser implements Parser<ListRevenueCommand> {
      * @return true for "delivered", false for "not_delivered"
      * @throws ParseException If the status string is invalid
      */
-    private boolean parseStatus(String statusString) throws ParseException {
+    private static boolean parseStatus(String statusString) throws ParseException {
         switch (statusString) {
         case "delivered":
             return true;
@@ -2,18 +2,24 @@ package seedu.foodbook.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.foodbook.model.tag.Tag.MAX_TAGS;
+import static seedu.foodbook.model.util.ValidationUtil.createValid;
 
 import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
 import java.util.regex.Pattern;
 
+import seedu.foodbook.commons.core.DataFileFormat;
 import seedu.foodbook.commons.core.index.Index;
+import seedu.foodbook.commons.util.FileUtil;
 import seedu.foodbook.commons.util.StringUtil;
 import seedu.foodbook.logic.parser.exceptions.ParseException;
 import seedu.foodbook.model.delivery.DateTime;
+import seedu.foodbook.model.delivery.Money;
 import seedu.foodbook.model.person.Address;
 import seedu.foodbook.model.person.Email;
 import seedu.foodbook.model.person.Name;
@@ -27,6 +33,8 @@ import seedu.foodbook.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_FORMAT = "Data file format must be json or binary.";
+    public static final String MESSAGE_INVALID_FILE_PATH = "File path must not be empty and must be a valid path.";
     public static final String MESSAGE_INVALID_COST =
             "Cost must be a non-negative number, with up to 2 decimal places (e.g., 0, 3, 12.50).";
 
@@ -55,10 +63,7 @@ public class ParserUtil {
     public static Name parseName(String name) throws ParseException {
         requireNonNull(name);
         String trimmedName = name.trim();
-        if (!Name.isValidName(trimmedName)) {
-            throw new ParseException(Name.MESSAGE_CONSTRAINTS);
-        }
-        return new Name(trimmedName);
+        return createValid(trimmedName, Name::new, ParseException::new);
     }
 
     /**
@@ -70,10 +75,7 @@ public class ParserUtil {
     public static Phone parsePhone(String phone) throws ParseException {
         requireNonNull(phone);
         String trimmedPhone = phone.trim();
-        if (!Phone.isValidPhone(trimmedPhone)) {
-            throw new ParseException(Phone.MESSAGE_CONSTRAINTS);
-        }
-        return new Phone(trimmedPhone);
+        return createValid(trimmedPhone, Phone::new, ParseException::new);
     }
 
     /**
@@ -85,10 +87,7 @@ public class ParserUtil {
     public static Address parseAddress(String address) throws ParseException {
         requireNonNull(address);
         String trimmedAddress = address.trim();
-        if (!Address.isValidAddress(trimmedAddress)) {
-            throw new ParseException(Address.MESSAGE_CONSTRAINTS);
-        }
-        return new Address(trimmedAddress);
+        return createValid(trimmedAddress, Address::new, ParseException::new);
     }
 
     /**
@@ -100,10 +99,7 @@ public class ParserUtil {
     public static Email parseEmail(String email) throws ParseException {
         requireNonNull(email);
         String trimmedEmail = email.trim();
-        if (!Email.isValidEmail(trimmedEmail)) {
-            throw new ParseException(Email.MESSAGE_CONSTRAINTS);
-        }
-        return new Email(trimmedEmail);
+        return createValid(trimmedEmail, Email::new, ParseException::new);
     }
 
     /**
@@ -115,10 +111,7 @@ public class ParserUtil {
     public static Tag parseTag(String tag) throws ParseException {
         requireNonNull(tag);
         String trimmedTag = tag.trim();
-        if (!Tag.isValidTagName(trimmedTag)) {
-            throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
-        }
-        return new Tag(trimmedTag);
+        return createValid(trimmedTag, Tag::new, ParseException::new);
     }
 
     /**
@@ -187,16 +180,16 @@ public class ParserUtil {
     }
 
     /**
-     * Parses a {@code String cost} into a {@code Double}.
+     * Parses a {@code String cost} into an exact {@code Money} amount.
      * Leading and trailing whitespaces will be trimmed.
      * The cost must be a non-negative number.
      *
      * @param raw The cost string to parse (e.g., "50.00", "150").
-     * @return A Double representing the parsed cost.
+     * @return The parsed cost.
      * @throws ParseException If the given cost is not a valid non-negative number.
      * @throws NullPointerException If {@code cost} is null.
      */
-    public static Double parseCost(String raw) throws ParseException {
+    public static Money parseCost(String raw) throws ParseException {
         if (raw == null) {
             throw new ParseException(MESSAGE_INVALID_COST);
         }
@@ -210,14 +203,14 @@ public class ParserUtil {
             throw new ParseException(MESSAGE_INVALID_COST);
         }
 
-        // Safe numeric parse (avoids floating quirks while parsing)
+        // Exact decimal parse, so the cost is held in whole cents without floating-point error
         try {
             BigDecimal bd = new BigDecimal(s);
             if (bd.compareTo(BigDecimal.ZERO) < 0) {
                 throw new ParseException(MESSAGE_INVALID_COST);
             }
-            return bd.doubleValue();
-        } catch (NumberFormatException ex) {
+            return Money.of(bd);
+        } catch (NumberFormatException | ArithmeticException ex) {
             throw new ParseException(MESSAGE_INVALID_COST);
         }
     }
@@ -284,10 +277,39 @@ public class ParserUtil {
             throw new ParseException("Only one tag is allowed. Remove extra t/ prefixes.");
         }
         String raw = values.iterator().next();
-        if (!DeliveryTag.isValidTagName(raw)) {
-            throw new ParseException(DeliveryTag.MESSAGE_CONSTRAINT);
+        return Optional.of(createValid(raw, DeliveryTag::new, ParseException::new));
+    }
+
+    /**
+     * Parses {@code format} into a {@code DataFileFormat}, ignoring case.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code format} is not the name of a format.
+     */
+    public static DataFileFormat parseDataFileFormat(String format) throws ParseException {
+        requireNonNull(format);
+        String trimmedFormat = format.trim();
+        for (DataFileFormat candidate : DataFileFormat.values()) {
+            if (candidate.toString().equalsIgnoreCase(trimmedFormat)) {
+                return candidate;
+            }
+        }
+        throw new ParseException(MESSAGE_INVALID_FORMAT);
+    }
+
+    /**
+     * Parses {@code filePath} into a {@code Path}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code filePath} is empty or not a valid path.
+     */
+    public static Path parseFilePath(String filePath) throws ParseException {
+        requireNonNull(filePath);
+        String trimmedFilePath = filePath.trim();
+        if (trimmedFilePath.isEmpty() || !FileUtil.isValidPath(trimmedFilePath)) {
+            throw new ParseException(MESSAGE_INVALID_FILE_PATH);
         }
-        return Optional.of(new DeliveryTag(raw));
+        return Paths.get(trimmedFilePath);
     }
 
 }
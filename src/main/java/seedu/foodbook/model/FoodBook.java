@@ -1,17 +1,47 @@
 package seedu.foodbook.model;
 
 import static java.util.Objects.requireNonNull;
-
+import static seedu.foodbook.commons.util.AppUtil.checkArgument;
+import static seedu.foodbook.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
 
 import javafx.collections.ObservableList;
 import seedu.foodbook.commons.util.ToStringBuilder;
 import seedu.foodbook.model.delivery.Delivery;
+import seedu.foodbook.model.delivery.DeliveryArchive;
+import seedu.foodbook.model.delivery.DeliveryPredicate;
+import seedu.foodbook.model.delivery.RevenueAggregates;
+import seedu.foodbook.model.delivery.RevenueSummary;
 import seedu.foodbook.model.delivery.UniqueDeliveryList;
+import seedu.foodbook.model.person.Name;
 import seedu.foodbook.model.person.Person;
 import seedu.foodbook.model.person.UniquePersonList;
+import seedu.foodbook.model.undo.FoodBookChange;
+import seedu.foodbook.model.undo.FoodBookChange.BatchAdded;
+import seedu.foodbook.model.undo.FoodBookChange.BatchRemoved;
+import seedu.foodbook.model.undo.FoodBookChange.DeliveryAdded;
+import seedu.foodbook.model.undo.FoodBookChange.DeliveryRemoved;
+import seedu.foodbook.model.undo.FoodBookChange.DeliveryReplaced;
+import seedu.foodbook.model.undo.FoodBookChange.ListsReplaced;
+import seedu.foodbook.model.undo.FoodBookChange.PersonAdded;
+import seedu.foodbook.model.undo.FoodBookChange.PersonRemoved;
+import seedu.foodbook.model.undo.FoodBookChange.PersonReplaced;
+import seedu.foodbook.model.undo.FoodBookChange.PersonWithDeliveriesAdded;
+import seedu.foodbook.model.undo.FoodBookChange.PersonWithDeliveriesRemoved;
 import seedu.foodbook.model.undo.FoodBookRecord;
 import seedu.foodbook.model.undo.UndoStack;
+import seedu.foodbook.model.undo.exceptions.NoMoreRedoException;
 import seedu.foodbook.model.undo.exceptions.NoMoreUndoException;
 
 /**
@@ -20,11 +50,31 @@ import seedu.foodbook.model.undo.exceptions.NoMoreUndoException;
  */
 public class FoodBook implements ReadOnlyFoodBook {
 
+    public static final int FIRST_DELIVERY_ID = 1;
+
     private final UniquePersonList persons;
     private final UniqueDeliveryList deliveries;
 
+    /** Deliveries moved out of {@code deliveries}; never holds a delivery that is also in {@code deliveries}. */
+    private DeliveryArchive deliveryArchive;
+
+    /** Deliveries grouped by client name, then keyed by id; kept in sync with {@code deliveries}. */
+    private final Map<Name, Map<Integer, Delivery>> deliveriesByClient;
+
+    /** Revenue totals of {@code deliveries}; kept in sync with {@code deliveries}. */
+    private final RevenueAggregates revenueAggregates;
+
     private final UndoStack<FoodBookRecord> undoStack;
 
+    /** The record changes are added to: that of the most recent checkpoint, or null if there is none to add to. */
+    private FoodBookRecord currentRecord;
+
+    /** The id of the next delivery to be added; never lowered by removals, so ids are not reused. */
+    private int nextDeliveryId;
+
+    /** Incremented by every change to the contents of this food book, including undo and redo. */
+    private long generation;
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -35,7 +85,11 @@ public class FoodBook implements ReadOnlyFoodBook {
     {
         persons = new UniquePersonList();
         deliveries = new UniqueDeliveryList();
+        deliveriesByClient = new HashMap<>();
+        revenueAggregates = new RevenueAggregates();
         undoStack = new UndoStack<>();
+        deliveryArchive = DeliveryArchive.EMPTY;
+        nextDeliveryId = FIRST_DELIVERY_ID;
     }
 
     public FoodBook() {}
@@ -48,6 +102,18 @@ public class FoodBook implements ReadOnlyFoodBook {
         resetData(toBeCopied);
     }
 
+    /**
+     * Creates a FoodBook holding the contents of {@code persons} and {@code deliveries}, each taken over in a
+     * single step without revalidating it. The client of every delivery must be in {@code persons}.
+     */
+    public FoodBook(UniquePersonList persons, UniqueDeliveryList deliveries) {
+        this();
+        requireAllNonNull(persons, deliveries);
+        this.persons.setPersons(persons);
+        this.deliveries.setDeliveries(deliveries);
+        rebuildDeliveryIndexes();
+    }
+
     //// list overwrite operations
 
     /**
@@ -56,8 +122,66 @@ public class FoodBook implements ReadOnlyFoodBook {
     public void resetData(ReadOnlyFoodBook newData) {
         requireNonNull(newData);
 
-        setPersons(newData.getPersonList());
-        setDeliveries(newData.getDeliveryList());
+        recordListsReplaced();
+        persons.setPersons(newData.getPersonList());
+        nextDeliveryId = FIRST_DELIVERY_ID;
+        deliveries.setDeliveries(newData.getDeliveryList());
+        rebuildDeliveryIndexes();
+        deliveryArchive = newData.getDeliveryArchive();
+        setNextDeliveryId(newData.getNextDeliveryId());
+    }
+
+    /**
+     * Replaces the delivery archive with {@code deliveryArchive}, e.g. the one kept beside the data file this food
+     * book was read from. Deliveries that are also in the delivery list are left out of the archive, as the list
+     * holds the newer copy.
+     */
+    public void setDeliveryArchive(DeliveryArchive deliveryArchive) {
+        requireNonNull(deliveryArchive);
+
+        recordListsReplaced();
+        List<Integer> listedIds = new ArrayList<>(deliveries.asUnmodifiableObservableList().size());
+        deliveries.forEach(delivery -> listedIds.add(delivery.getId()));
+        this.deliveryArchive = deliveryArchive.without(listedIds);
+        deliveryArchive.getMaxId().ifPresent(maxId -> setNextDeliveryId(maxId + 1));
+    }
+
+    /**
+     * Appends {@code persons} and then {@code deliveries}, the next chunk of a food book being loaded into this one,
+     * each in a single step. The client of every delivery must be in the food book by then.
+     * The chunk is data already saved rather than an edit, so this is not recorded for undo; it must not be called
+     * while there are edits to undo.
+     */
+    public void appendLoaded(List<Person> persons, List<Delivery> deliveries) {
+        requireAllNonNull(persons, deliveries);
+
+        this.persons.addAll(persons);
+        this.deliveries.addAll(deliveries);
+        deliveries.forEach(this::indexDelivery);
+        generation++;
+    }
+
+    /**
+     * Moves the delivered deliveries dated before {@code horizonEpochMinute} out of the delivery list into the
+     * delivery archive, and returns how many were moved.
+     * The contents of the food book stay the same, so this is not recorded for undo; it must not be called while
+     * there are edits to undo.
+     *
+     * @throws IOException if the archive could not take the deliveries, in which case none are moved.
+     */
+    public int archiveDeliveriesBefore(long horizonEpochMinute) throws IOException {
+        List<Delivery> toArchive = deliveries.getDeliveriesBetween(Long.MIN_VALUE, horizonEpochMinute - 1).stream()
+                .filter(Delivery::getStatus)
+                .toList();
+        if (toArchive.isEmpty()) {
+            return 0;
+        }
+
+        deliveryArchive = deliveryArchive.append(toArchive);
+        deliveries.removeAll(toArchive);
+        toArchive.forEach(this::unindexDelivery);
+        generation++;
+        return toArchive.size();
     }
 
     //// person-level operations
@@ -66,6 +190,7 @@ public class FoodBook implements ReadOnlyFoodBook {
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
+        recordListsReplaced();
         this.persons.setPersons(persons);
     }
 
@@ -77,12 +202,41 @@ public class FoodBook implements ReadOnlyFoodBook {
         return persons.contains(person);
     }
 
+    @Override
+    public Optional<Person> getPersonByName(Name name) {
+        return persons.getPersonByName(name);
+    }
+
     /**
      * Adds a person to the food book.
      * The person must not already exist in the food book.
      */
     public void addPerson(Person p) {
         persons.add(p);
+        record(new PersonAdded(p));
+    }
+
+    /**
+     * Inserts a person into the food book at position {@code index} of the person list.
+     * The person must not already exist in the food book.
+     */
+    public void addPerson(int index, Person p) {
+        persons.add(index, p);
+        record(new PersonAdded(p));
+    }
+
+    /**
+     * Appends {@code persons} and then {@code deliveries} to the food book, each in a single step, and records them
+     * for undo as one change, so that undoing them takes one pass over each list however many there are.
+     * None of them may already exist in the food book, and the client of every delivery must be in it by then.
+     */
+    public void addPersonsAndDeliveries(List<Person> persons, List<Delivery> deliveries) {
+        requireAllNonNull(persons, deliveries);
+
+        this.persons.addAll(persons);
+        this.deliveries.addAll(deliveries);
+        deliveries.forEach(this::indexDelivery);
+        record(new BatchAdded(List.copyOf(persons), List.copyOf(deliveries)));
     }
 
     /**
@@ -94,6 +248,7 @@ public class FoodBook implements ReadOnlyFoodBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        record(new PersonReplaced(target, editedPerson));
     }
 
     /**
@@ -101,7 +256,74 @@ public class FoodBook implements ReadOnlyFoodBook {
      * {@code key} must exist in the food book.
      */
     public void removePerson(Person key) {
+        int index = persons.indexOf(key);
+        persons.remove(key);
+        record(new PersonRemoved(index, key));
+    }
+
+    /**
+     * Replaces the given person {@code target} with {@code editedPerson}, and points all of {@code target}'s
+     * deliveries at {@code editedPerson}. Only {@code target}'s deliveries are visited; archived ones are first
+     * moved back into the delivery list.
+     * {@code target} must exist in the food book.
+     * The person identity of {@code editedPerson} must not be the same as another existing person in the food book.
+     */
+    public void setPersonWithDeliveries(Person target, Person editedPerson) {
+        requireNonNull(editedPerson);
+
+        unarchive(deliveryArchive.getDeliveriesByClientName(target.getName(), persons::getPersonByName));
+        persons.setPerson(target, editedPerson);
+        record(new PersonReplaced(target, editedPerson));
+        Map<Integer, Delivery> clientDeliveries = deliveriesByClient.remove(target.getName());
+        if (clientDeliveries == null) {
+            return;
+        }
+
+        Map<Integer, Delivery> updatedDeliveries = new LinkedHashMap<>();
+        for (Delivery delivery : clientDeliveries.values()) {
+            Delivery updatedDelivery = delivery.copyWithNewClient(editedPerson);
+            deliveries.setDelivery(delivery, updatedDelivery);
+            revenueAggregates.remove(delivery);
+            revenueAggregates.add(updatedDelivery);
+            record(new DeliveryReplaced(delivery, updatedDelivery));
+            updatedDeliveries.put(updatedDelivery.getId(), updatedDelivery);
+        }
+        deliveriesByClient.computeIfAbsent(editedPerson.getName(), name -> new LinkedHashMap<>())
+                .putAll(updatedDeliveries);
+    }
+
+    /**
+     * Removes {@code key} and all of its deliveries, archived or not, from this {@code FoodBook}.
+     * {@code key} must exist in the food book.
+     */
+    public void removePersonWithDeliveries(Person key) {
+        unarchive(deliveryArchive.getDeliveriesByClientName(key.getName(), persons::getPersonByName));
+        int index = persons.indexOf(key);
         persons.remove(key);
+        Map<Integer, Delivery> clientDeliveries = deliveriesByClient.remove(key.getName());
+        if (clientDeliveries == null) {
+            record(new PersonRemoved(index, key));
+            return;
+        }
+        record(removeDeliveriesOf(index, key, clientDeliveries.values()));
+        clientDeliveries.values().forEach(revenueAggregates::remove);
+    }
+
+    /**
+     * Removes {@code clientDeliveries} from the delivery list in one pass, and returns the change that removed them
+     * along with their client {@code person}, which was at position {@code index} of the person list.
+     */
+    private PersonWithDeliveriesRemoved removeDeliveriesOf(int index, Person person,
+            Collection<Delivery> clientDeliveries) {
+        // In ascending positions, so that undo puts them all back in one pass
+        List<Delivery> removed = new ArrayList<>(clientDeliveries);
+        removed.sort(Comparator.comparingInt(deliveries::indexOf));
+        List<Integer> removedIndexes = new ArrayList<>(removed.size());
+        for (Delivery delivery : removed) {
+            removedIndexes.add(deliveries.indexOf(delivery));
+        }
+        deliveries.removeAll(removed);
+        return new PersonWithDeliveriesRemoved(index, person, removedIndexes, removed);
     }
 
     //// delivery-level operations
@@ -111,7 +333,40 @@ public class FoodBook implements ReadOnlyFoodBook {
      * {@code deliveries} must not contain duplicate deliveries.
      */
     public void setDeliveries(List<Delivery> deliveries) {
+        recordListsReplaced();
         this.deliveries.setDeliveries(deliveries);
+        rebuildDeliveryIndexes();
+    }
+
+    @Override
+    public int getNextDeliveryId() {
+        return nextDeliveryId;
+    }
+
+    @Override
+    public OptionalLong getGeneration() {
+        return OptionalLong.of(generation);
+    }
+
+    /**
+     * Raises the id given to the next delivery to {@code nextDeliveryId}.
+     * The id is never lowered, so it always stays above every delivery id in use or previously issued.
+     */
+    public void setNextDeliveryId(int nextDeliveryId) {
+        if (nextDeliveryId > this.nextDeliveryId) {
+            this.nextDeliveryId = nextDeliveryId;
+            generation++;
+        }
+    }
+
+    /**
+     * Sets the id given to the next delivery to exactly {@code nextDeliveryId}, which may lower it, as resetting the
+     * food book does. For replaying saved changes: the id must be above every delivery id in use.
+     */
+    public void resetNextDeliveryId(int nextDeliveryId) {
+        checkArgument(nextDeliveryId >= FIRST_DELIVERY_ID);
+        this.nextDeliveryId = nextDeliveryId;
+        generation++;
     }
 
     /**
@@ -119,7 +374,131 @@ public class FoodBook implements ReadOnlyFoodBook {
      */
     public boolean hasDelivery(Delivery delivery) {
         requireNonNull(delivery);
-        return deliveries.contains(delivery);
+        return deliveries.contains(delivery) || deliveryArchive.contains(delivery.getId());
+    }
+
+    /**
+     * {@inheritDoc}
+     * An archived delivery is looked up in the archive, and built, only if no listed delivery has the id.
+     */
+    @Override
+    public Optional<Delivery> getDeliveryById(Integer id) {
+        Optional<Delivery> delivery = deliveries.getDeliveryById(id);
+        if (delivery.isPresent() || id == null) {
+            return delivery;
+        }
+        return deliveryArchive.getDeliveryById(id, persons::getPersonByName);
+    }
+
+    /**
+     * Returns the deliveries of the client named {@code clientName}: the archived ones in date-time order, then
+     * the listed ones in the order they were added.
+     */
+    public List<Delivery> getDeliveriesByClientName(Name clientName) {
+        Map<Integer, Delivery> clientDeliveries = deliveriesByClient.get(clientName);
+        List<Delivery> listed = clientDeliveries == null ? List.of() : List.copyOf(clientDeliveries.values());
+        if (deliveryArchive.isEmpty()) {
+            return listed;
+        }
+        return concat(deliveryArchive.getDeliveriesByClientName(clientName, persons::getPersonByName), listed);
+    }
+
+    /**
+     * Returns the deliveries that satisfy {@code predicate}, including archived ones, which are built as they are
+     * found. If the predicate has a date range, only the deliveries in that range are tested and they are returned
+     * in date-time order; otherwise every delivery is tested and the archived ones, in date-time order, come before
+     * the listed ones, in list order.
+     */
+    public List<Delivery> getDeliveriesMatching(DeliveryPredicate predicate) {
+        requireNonNull(predicate);
+        List<Delivery> listed = getListedDeliveriesMatching(predicate);
+        if (!reachesArchive(predicate)) {
+            return listed;
+        }
+
+        List<Delivery> matching = concat(getArchivedDeliveriesMatching(predicate), listed);
+        if (predicate.hasDateRange()) {
+            // Both parts are already in date-time order, which a stable sort of their concatenation merges cheaply
+            List<Delivery> sorted = new ArrayList<>(matching);
+            sorted.sort(Comparator.comparingLong(delivery -> delivery.getDeliveryDate().toEpochMinute()));
+            return Collections.unmodifiableList(sorted);
+        }
+        return matching;
+    }
+
+    /**
+     * Returns the number and total cost of the deliveries that satisfy {@code predicate}.
+     * Listed deliveries are answered from running totals where possible, otherwise by testing them; archived ones
+     * are counted from the archive without being built.
+     */
+    public RevenueSummary getRevenue(DeliveryPredicate predicate) {
+        requireNonNull(predicate);
+        RevenueSummary listed = revenueAggregates.query(predicate)
+                .orElseGet(() -> RevenueSummary.of(getListedDeliveriesMatching(predicate)));
+        return reachesArchive(predicate) ? listed.plus(deliveryArchive.getRevenue(predicate)) : listed;
+    }
+
+    /**
+     * Returns the archived deliveries that satisfy {@code predicate}, in date-time order, which are built as they are
+     * found. Only the months in the predicate's date range are read, if it has one.
+     */
+    public List<Delivery> getArchivedDeliveriesMatching(DeliveryPredicate predicate) {
+        requireNonNull(predicate);
+        return reachesArchive(predicate)
+                ? deliveryArchive.getDeliveriesMatching(predicate, persons::getPersonByName)
+                : List.of();
+    }
+
+    /**
+     * Returns the number of archived deliveries that satisfy {@code predicate}, counted without building them.
+     */
+    public long countArchivedDeliveriesMatching(DeliveryPredicate predicate) {
+        requireNonNull(predicate);
+        return reachesArchive(predicate) ? deliveryArchive.getRevenue(predicate).deliveryCount() : 0;
+    }
+
+    /**
+     * Returns the deliveries that satisfy {@code predicate}, including archived ones, as they are now, to be visited
+     * one at a time on any thread. Only references are copied: to the listed deliveries in the predicate's date
+     * range, and to the clients if archived deliveries may satisfy it. Without a date range, the persistent snapshot
+     * of the delivery list is taken instead, in constant time.
+     */
+    public MatchingDeliveries snapshotDeliveriesMatching(DeliveryPredicate predicate) {
+        requireNonNull(predicate);
+        List<Delivery> listedCandidates = predicate.hasDateRange()
+                ? deliveries.getDeliveriesBetween(predicate.getStartEpochMinute(), predicate.getEndEpochMinute())
+                : deliveries.snapshot();
+        if (!reachesArchive(predicate)) {
+            return new MatchingDeliveries(predicate, listedCandidates, DeliveryArchive.EMPTY, Map.of());
+        }
+
+        Map<Name, Person> clients = new HashMap<>();
+        getPersonList().forEach(person -> clients.put(person.getName(), person));
+        return new MatchingDeliveries(predicate, listedCandidates, deliveryArchive, clients);
+    }
+
+    private List<Delivery> getListedDeliveriesMatching(DeliveryPredicate predicate) {
+        List<Delivery> candidates = predicate.hasDateRange()
+                ? deliveries.getDeliveriesBetween(predicate.getStartEpochMinute(), predicate.getEndEpochMinute())
+                : getDeliveryList();
+        return candidates.stream().filter(predicate).toList();
+    }
+
+    /**
+     * Returns true if archived deliveries, which are all delivered, may satisfy {@code predicate}.
+     */
+    private boolean reachesArchive(DeliveryPredicate predicate) {
+        return !deliveryArchive.isEmpty() && predicate.acceptsStatus(true);
+    }
+
+    private static List<Delivery> concat(List<Delivery> first, List<Delivery> second) {
+        if (first.isEmpty()) {
+            return second;
+        }
+        List<Delivery> all = new ArrayList<>(first.size() + second.size());
+        all.addAll(first);
+        all.addAll(second);
+        return Collections.unmodifiableList(all);
     }
 
     /**
@@ -127,24 +506,95 @@ public class FoodBook implements ReadOnlyFoodBook {
      */
     public void addDelivery(Delivery d) {
         deliveries.add(d);
+        indexDelivery(d);
+        record(new DeliveryAdded(d));
+    }
+
+    /**
+     * Inserts a delivery into the food book at position {@code index} of the delivery list.
+     */
+    public void addDelivery(int index, Delivery d) {
+        deliveries.add(index, d);
+        indexDelivery(d);
+        record(new DeliveryAdded(d));
     }
 
     /**
      * Replaces the given delivery {@code target} in the list with {@code editedDelivery}.
-     * {@code target} must exist in the food book.
+     * {@code target} must exist in the food book; if it is archived, it is first moved back into the list.
      */
     public void setDelivery(Delivery target, Delivery editedDelivery) {
         requireNonNull(editedDelivery);
 
+        unarchiveIfArchived(target);
         deliveries.setDelivery(target, editedDelivery);
+        unindexDelivery(target);
+        indexDelivery(editedDelivery);
+        record(new DeliveryReplaced(target, editedDelivery));
     }
 
     /**
      * Removes {@code key} from this {@code FoodBok}.
-     * {@code key} must exist in the food book.
+     * {@code key} must exist in the food book; if it is archived, it is first moved back into the list.
      */
     public void removeDelivery(Delivery key) {
+        unarchiveIfArchived(key);
+        int index = deliveries.indexOf(key);
         deliveries.remove(key);
+        unindexDelivery(key);
+        record(new DeliveryRemoved(index, key));
+    }
+
+    private void unarchiveIfArchived(Delivery delivery) {
+        if (!deliveries.contains(delivery)) {
+            deliveryArchive.getDeliveryById(delivery.getId(), persons::getPersonByName)
+                    .ifPresent(archived -> unarchive(List.of(archived)));
+        }
+    }
+
+    /**
+     * Moves {@code archived}, which must all be in the delivery archive, back into the delivery list as they are, so
+     * that they can be changed like any other delivery. The contents of the food book stay the same, so this is not
+     * recorded for undo.
+     */
+    private void unarchive(List<Delivery> archived) {
+        if (archived.isEmpty()) {
+            return;
+        }
+        deliveryArchive = deliveryArchive.without(archived.stream().map(Delivery::getId).toList());
+        for (Delivery delivery : archived) {
+            deliveries.add(delivery);
+            indexDelivery(delivery);
+        }
+        generation++;
+    }
+
+    private void indexDelivery(Delivery delivery) {
+        if (delivery.getId() >= nextDeliveryId) {
+            nextDeliveryId = delivery.getId() + 1;
+        }
+        revenueAggregates.add(delivery);
+        deliveriesByClient.computeIfAbsent(delivery.getClient().getName(), name -> new LinkedHashMap<>())
+                .put(delivery.getId(), delivery);
+    }
+
+    private void unindexDelivery(Delivery delivery) {
+        revenueAggregates.remove(delivery);
+        Name clientName = delivery.getClient().getName();
+        Map<Integer, Delivery> clientDeliveries = deliveriesByClient.get(clientName);
+        if (clientDeliveries == null) {
+            return;
+        }
+        clientDeliveries.remove(delivery.getId());
+        if (clientDeliveries.isEmpty()) {
+            deliveriesByClient.remove(clientName);
+        }
+    }
+
+    private void rebuildDeliveryIndexes() {
+        deliveriesByClient.clear();
+        revenueAggregates.clear();
+        deliveries.forEach(this::indexDelivery);
     }
 
     //// util methods
@@ -167,6 +617,26 @@ public class FoodBook implements ReadOnlyFoodBook {
         return deliveries.asUnmodifiableObservableList();
     }
 
+    @Override
+    public DeliveryArchive getDeliveryArchive() {
+        return deliveryArchive;
+    }
+
+    /**
+     * Returns the persons as they are now, in constant time, as an immutable list that later changes do not affect.
+     */
+    public List<Person> getPersonListSnapshot() {
+        return persons.snapshot();
+    }
+
+    /**
+     * Returns the deliveries as they are now, in constant time, as an immutable list that later changes do not
+     * affect.
+     */
+    public List<Delivery> getDeliveryListSnapshot() {
+        return deliveries.snapshot();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -191,26 +661,137 @@ public class FoodBook implements ReadOnlyFoodBook {
 
     /**
      * Takes a checkpoint of the current foodBook state for undo
-     * The state of the foodBook consists of the current person and delivery list.
+     * Rather than copying the lists, the changes made after the checkpoint are recorded as they happen, so a
+     * checkpoint takes constant time and its record grows only with what changed.
      */
     public void checkpoint() {
-        FoodBookRecord record = new FoodBookRecord(
-                List.copyOf(getPersonList()),
-                List.copyOf(getDeliveryList())
-        );
+        this.currentRecord = new FoodBookRecord(new ArrayList<>());
+        this.undoStack.checkpoint(currentRecord);
+    }
 
-        this.undoStack.checkpoint(record);
+    /**
+     * Sets how many checkpoints are kept for undo, and for redo, discarding the oldest ones beyond it
+     * @param capacity The number of checkpoints kept, which must be positive
+     */
+    public void setUndoCapacity(int capacity) {
+        this.undoStack.setCapacity(capacity);
     }
 
     /**
-     * Reverts the state of foodBook to before the most previous edit
+     * Reverts the state of foodBook to before the most previous edit, by reverting the changes recorded since
+     * the most recent checkpoint, latest first
      * @throws NoMoreUndoException If no more stored states remain
      */
     public void undo() throws NoMoreUndoException {
         FoodBookRecord record = this.undoStack.undo();
+        this.currentRecord = null;
+        this.undoStack.keepForRedo(revert(record));
+    }
+
+    /**
+     * Reapplies the most recently undone edit, by reverting the changes made by that undo
+     * @throws NoMoreRedoException If no undone edits remain
+     */
+    public void redo() throws NoMoreRedoException {
+        FoodBookRecord record = this.undoStack.redo();
+        this.currentRecord = null;
+        this.undoStack.keepForUndo(revert(record));
+    }
 
-        this.setPersons(record.personList());
-        this.setDeliveries(record.deliveryList());
+    /**
+     * Adds {@code change} to the record of the most recent checkpoint, unless there is none or the food book has
+     * been undone or redone since, so that a change is never undone along with an earlier, unrelated command.
+     */
+    private void record(FoodBookChange change) {
+        generation++;
+        if (currentRecord != null) {
+            currentRecord.changes().add(change);
+        }
+    }
 
+    /**
+     * Records that both lists are about to be replaced wholesale, keeping their persistent snapshots, which takes
+     * constant time.
+     */
+    private void recordListsReplaced() {
+        generation++;
+        if (currentRecord != null) {
+            record(new ListsReplaced(persons.snapshot(), deliveries.snapshot(), deliveryArchive));
+        }
+    }
+
+    /**
+     * Reverts the changes in {@code record}, latest first, and returns the record that reverts them back.
+     */
+    private FoodBookRecord revert(FoodBookRecord record) {
+        List<FoodBookChange> changes = record.changes();
+        List<FoodBookChange> inverses = new ArrayList<>(changes.size());
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            inverses.add(revert(changes.get(i)));
+        }
+        // The next delivery id is left as it is, so ids given out before the undo or redo are not given out again
+        generation++;
+        return new FoodBookRecord(inverses);
+    }
+
+    /**
+     * Reverts {@code change} and returns the change that reverts it back.
+     */
+    private FoodBookChange revert(FoodBookChange change) {
+        if (change instanceof PersonAdded added) {
+            int index = persons.indexOf(added.person());
+            persons.remove(added.person());
+            return new PersonRemoved(index, added.person());
+        } else if (change instanceof PersonRemoved removed) {
+            persons.add(removed.index(), removed.person());
+            return new PersonAdded(removed.person());
+        } else if (change instanceof PersonReplaced replaced) {
+            persons.setPerson(replaced.after(), replaced.before());
+            return new PersonReplaced(replaced.after(), replaced.before());
+        } else if (change instanceof PersonWithDeliveriesAdded added) {
+            int index = persons.indexOf(added.person());
+            PersonWithDeliveriesRemoved inverse = removeDeliveriesOf(index, added.person(), added.deliveries());
+            added.deliveries().forEach(this::unindexDelivery);
+            persons.remove(added.person());
+            return inverse;
+        } else if (change instanceof PersonWithDeliveriesRemoved removed) {
+            persons.add(removed.index(), removed.person());
+            deliveries.addAll(removed.deliveryIndexes(), removed.deliveries());
+            removed.deliveries().forEach(this::indexDelivery);
+            return new PersonWithDeliveriesAdded(removed.person(), removed.deliveries());
+        } else if (change instanceof DeliveryAdded added) {
+            int index = deliveries.indexOf(added.delivery());
+            deliveries.remove(added.delivery());
+            unindexDelivery(added.delivery());
+            return new DeliveryRemoved(index, added.delivery());
+        } else if (change instanceof DeliveryRemoved removed) {
+            deliveries.add(removed.index(), removed.delivery());
+            indexDelivery(removed.delivery());
+            return new DeliveryAdded(removed.delivery());
+        } else if (change instanceof DeliveryReplaced replaced) {
+            deliveries.setDelivery(replaced.after(), replaced.before());
+            unindexDelivery(replaced.after());
+            indexDelivery(replaced.before());
+            return new DeliveryReplaced(replaced.after(), replaced.before());
+        } else if (change instanceof BatchAdded added) {
+            deliveries.removeAll(added.deliveries());
+            added.deliveries().forEach(this::unindexDelivery);
+            persons.removeAll(added.persons());
+            return new BatchRemoved(added.persons(), added.deliveries());
+        } else if (change instanceof BatchRemoved removed) {
+            persons.addAll(removed.persons());
+            deliveries.addAll(removed.deliveries());
+            removed.deliveries().forEach(this::indexDelivery);
+            return new BatchAdded(removed.persons(), removed.deliveries());
+        } else if (change instanceof ListsReplaced replaced) {
+            ListsReplaced inverse = new ListsReplaced(persons.snapshot(), deliveries.snapshot(), deliveryArchive);
+            persons.setPersons(replaced.personList());
+            deliveries.setDeliveries(replaced.deliveryList());
+            rebuildDeliveryIndexes();
+            deliveryArchive = replaced.deliveryArchive();
+            return inverse;
+        } else {
+            throw new IllegalStateException("Unknown change: " + change);
+        }
     }
 }
@@ -0,0 +1,61 @@
+package seedu.foodbook.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import seedu.foodbook.model.delivery.Delivery;
+import seedu.foodbook.model.delivery.DeliveryArchive;
+import seedu.foodbook.model.delivery.DeliveryPredicate;
+import seedu.foodbook.model.person.Name;
+import seedu.foodbook.model.person.Person;
+
+/**
+ * The deliveries of a food book that satisfy a predicate, as they were when taken, which can be visited one at a
+ * time on another thread while the food book carries on changing.
+ * Deliveries and delivery archives are immutable, so taking one only copies the references to the listed
+ * deliveries that may match, and to the clients of archived ones; archived deliveries are built only as they are
+ * visited, so visiting them all takes memory for one at a time rather than for the whole result.
+ */
+public final class MatchingDeliveries {
+
+    private final DeliveryPredicate predicate;
+    private final List<Delivery> listedCandidates;
+    private final DeliveryArchive deliveryArchive;
+    private final Map<Name, Person> clients;
+
+    /**
+     * Creates the deliveries in {@code listedCandidates} and {@code deliveryArchive} that satisfy {@code predicate}.
+     *
+     * @param listedCandidates Listed deliveries that may satisfy the predicate, which must not change afterwards.
+     * @param clients The clients of the archived deliveries, which must not change afterwards.
+     */
+    MatchingDeliveries(DeliveryPredicate predicate, List<Delivery> listedCandidates, DeliveryArchive deliveryArchive,
+            Map<Name, Person> clients) {
+        requireNonNull(predicate);
+        requireNonNull(listedCandidates);
+        requireNonNull(deliveryArchive);
+        requireNonNull(clients);
+        this.predicate = predicate;
+        this.listedCandidates = listedCandidates;
+        this.deliveryArchive = deliveryArchive;
+        this.clients = clients;
+    }
+
+    /**
+     * Passes each delivery that satisfies the predicate to {@code action}: the archived ones first, in date-time
+     * order, then the listed ones, in date-time order if the predicate has a date range and in list order otherwise.
+     */
+    public void forEach(Consumer<Delivery> action) {
+        requireNonNull(action);
+        deliveryArchive.forEachMatching(predicate, name -> Optional.ofNullable(clients.get(name)), action);
+        for (Delivery delivery : listedCandidates) {
+            if (predicate.test(delivery)) {
+                action.accept(delivery);
+            }
+        }
+    }
+}
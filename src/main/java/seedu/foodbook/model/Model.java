@@ -1,5 +1,6 @@
 package seedu.foodbook.model;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
@@ -9,9 +10,12 @@ import javafx.collections.ObservableList;
 import seedu.foodbook.commons.core.GuiSettings;
 import seedu.foodbook.logic.commands.CommandResult;
 import seedu.foodbook.model.delivery.Delivery;
+import seedu.foodbook.model.delivery.DeliveryPredicate;
+import seedu.foodbook.model.delivery.RevenueSummary;
 import seedu.foodbook.model.person.Name;
 import seedu.foodbook.model.person.Person;
 import seedu.foodbook.model.undo.ModelRecord;
+import seedu.foodbook.model.undo.exceptions.NoMoreRedoException;
 import seedu.foodbook.model.undo.exceptions.NoMoreUndoException;
 
 /**
@@ -65,6 +69,9 @@ public interface Model {
      */
     boolean hasPerson(Person person);
 
+    /**
+     * Returns the person whose name matches {@code name} case-insensitively, if one exists in the food book.
+     */
     Optional<Person> getPersonByName(Name name);
 
     /**
@@ -86,6 +93,20 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Deletes the given person together with all of their deliveries.
+     * The person must exist in the food book.
+     */
+    void deletePersonWithDeliveries(Person target);
+
+    /**
+     * Replaces the given person {@code target} with {@code editedPerson} and updates all of {@code target}'s
+     * deliveries to refer to {@code editedPerson}.
+     * {@code target} must exist in the food book.
+     * The person identity of {@code editedPerson} must not be the same as another existing person in the food book.
+     */
+    void setPersonWithDeliveries(Person target, Person editedPerson);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -100,10 +121,69 @@ public interface Model {
      */
     boolean hasDelivery(Delivery delivery);
 
+    /**
+     * Returns the delivery with the given {@code id}, if one exists in the food book.
+     * The lookup takes constant time regardless of the number of deliveries.
+     */
     Optional<Delivery> getDeliveryById(Integer id);
 
+    /**
+     * Returns the id to give to the next delivery added.
+     * Ids are never reused, even after the delivery holding one is deleted.
+     */
+    int getNextDeliveryId();
+
+    /**
+     * Returns the deliveries of the client named {@code clientName}.
+     * The cost is proportional to the number of deliveries returned.
+     */
     List<Delivery> getDeliveriesByClientName(Name clientName);
 
+    /**
+     * Returns the deliveries that satisfy {@code predicate}, including archived ones, without changing the
+     * filtered delivery list. Date-bounded predicates only visit the deliveries within their date range.
+     */
+    List<Delivery> getDeliveriesMatching(DeliveryPredicate predicate);
+
+    /**
+     * Returns the number and total cost of the deliveries that satisfy {@code predicate}.
+     * Common filter combinations are answered from running totals without visiting the deliveries.
+     */
+    RevenueSummary getRevenue(DeliveryPredicate predicate);
+
+    /**
+     * Shows the archived deliveries that satisfy {@code predicate} after the filtered delivery list in the displayed
+     * delivery list, until the filter or the deliveries next change.
+     */
+    void showArchivedDeliveriesMatching(DeliveryPredicate predicate);
+
+    /**
+     * Returns the deliveries that satisfy {@code predicate}, including archived ones, as they are now, to be visited
+     * one at a time on another thread, such as to write them to a file, without building a list of them.
+     */
+    MatchingDeliveries snapshotDeliveriesMatching(DeliveryPredicate predicate);
+
+    /**
+     * Moves the delivered deliveries dated before {@code horizonEpochMinute} out of the delivery list into the
+     * food book's delivery archive, and returns how many were moved. Must not be called while there are edits
+     * to undo.
+     *
+     * @throws IOException if the archive could not take the deliveries, in which case none are moved.
+     */
+    int archiveDeliveriesBefore(long horizonEpochMinute) throws IOException;
+
+    /**
+     * Appends {@code persons} and then {@code deliveries}, the next chunk of a food book being loaded into this
+     * model, without recording them for undo. The client of every delivery must be in the food book by then.
+     */
+    void appendLoadedData(List<Person> persons, List<Delivery> deliveries);
+
+    /**
+     * Takes the delivery archive and next delivery id of {@code loaded}, once all of its clients and deliveries
+     * have been appended with {@link #appendLoadedData(List, List)}.
+     */
+    void completeLoadedData(ReadOnlyFoodBook loaded);
+
     /**
      * Deletes the given delivery.
      * The delivery must exist in the food book.
@@ -116,6 +196,13 @@ public interface Model {
      */
     void addDelivery(Delivery delivery);
 
+    /**
+     * Adds {@code persons} and then {@code deliveries} as one change, so that listeners of each list see one change
+     * for all of them and a single undo removes them all.
+     * None of them may already exist in the food book, and the client of every delivery must be in it by then.
+     */
+    void addPersonsAndDeliveries(List<Person> persons, List<Delivery> deliveries);
+
     /**
      * Replaces the given delivery {@code target} with {@code editedDelivery}.
      * {@code target} must exist in the food book.
@@ -127,6 +214,12 @@ public interface Model {
     /** Returns an unmodifiable view of the filtered delivery list */
     ObservableList<Delivery> getFilteredDeliveryList();
 
+    /**
+     * Returns an unmodifiable view of the deliveries to display: the filtered delivery list followed by the archived
+     * deliveries last shown, which commands cannot refer to by index.
+     */
+    ObservableList<Delivery> getDisplayedDeliveryList();
+
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
@@ -143,4 +236,10 @@ public interface Model {
      * @throws NoMoreUndoException If no more stored states remain
      */
     ModelRecord undo() throws NoMoreUndoException;
+
+    /**
+     * Reapplies the most recently undone edit to the model
+     * @throws NoMoreRedoException If no undone edits remain
+     */
+    ModelRecord redo() throws NoMoreRedoException;
 }
@@ -3,22 +3,29 @@ package seedu.foodbook.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.foodbook.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.foodbook.commons.core.GuiSettings;
 import seedu.foodbook.commons.core.LogsCenter;
+import seedu.foodbook.commons.util.ConcatenatedObservableList;
 import seedu.foodbook.logic.commands.CommandResult;
 import seedu.foodbook.model.delivery.Delivery;
+import seedu.foodbook.model.delivery.DeliveryPredicate;
+import seedu.foodbook.model.delivery.RevenueSummary;
 import seedu.foodbook.model.person.Name;
 import seedu.foodbook.model.person.Person;
 import seedu.foodbook.model.undo.ModelRecord;
 import seedu.foodbook.model.undo.UndoStack;
+import seedu.foodbook.model.undo.exceptions.NoMoreRedoException;
 import seedu.foodbook.model.undo.exceptions.NoMoreUndoException;
 
 /**
@@ -31,6 +38,8 @@ public class ModelManager implements Model {
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
     private final FilteredList<Delivery> filteredDeliveries;
+    private final ObservableList<Delivery> shownArchivedDeliveries = FXCollections.observableArrayList();
+    private final ObservableList<Delivery> displayedDeliveries;
 
     private final UndoStack<ModelRecord> undoStack;
 
@@ -46,8 +55,12 @@ public class ModelManager implements Model {
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.foodBook.getPersonList());
         filteredDeliveries = new FilteredList<>(this.foodBook.getDeliveryList());
+        displayedDeliveries = new ConcatenatedObservableList<>(filteredDeliveries, shownArchivedDeliveries);
+        // Archived deliveries shown may have been restored or removed since, which always changes the delivery list
+        this.foodBook.getDeliveryList().addListener((ListChangeListener<Delivery>) change -> hideArchivedDeliveries());
 
-        this.undoStack = new UndoStack<>();
+        this.undoStack = new UndoStack<>(this.userPrefs.getUndoHistorySize());
+        this.foodBook.setUndoCapacity(this.userPrefs.getUndoHistorySize());
     }
 
     public ModelManager() {
@@ -60,6 +73,8 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        this.undoStack.setCapacity(this.userPrefs.getUndoHistorySize());
+        this.foodBook.setUndoCapacity(this.userPrefs.getUndoHistorySize());
     }
 
     @Override
@@ -111,9 +126,7 @@ public class ModelManager implements Model {
 
     @Override
     public Optional<Person> getPersonByName(Name clientName) {
-        return this.foodBook.getPersonList().stream()
-                .filter(person -> person.getName().equals(clientName))
-                .findFirst();
+        return foodBook.getPersonByName(clientName);
     }
 
     @Override
@@ -134,6 +147,18 @@ public class ModelManager implements Model {
         foodBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public void deletePersonWithDeliveries(Person target) {
+        foodBook.removePersonWithDeliveries(target);
+    }
+
+    @Override
+    public void setPersonWithDeliveries(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+
+        foodBook.setPersonWithDeliveries(target, editedPerson);
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -161,16 +186,54 @@ public class ModelManager implements Model {
 
     @Override
     public Optional<Delivery> getDeliveryById(Integer deliveryId) {
-        return this.foodBook.getDeliveryList().stream()
-                .filter(delivery -> delivery.getId().equals(deliveryId))
-                .findFirst();
+        return foodBook.getDeliveryById(deliveryId);
+    }
+
+    @Override
+    public int getNextDeliveryId() {
+        return foodBook.getNextDeliveryId();
     }
 
     @Override
     public List<Delivery> getDeliveriesByClientName(Name clientName) {
-        return this.foodBook.getDeliveryList().stream()
-                .filter(delivery -> delivery.getClient().getName().equals(clientName))
-                .toList();
+        return foodBook.getDeliveriesByClientName(clientName);
+    }
+
+    @Override
+    public List<Delivery> getDeliveriesMatching(DeliveryPredicate predicate) {
+        return foodBook.getDeliveriesMatching(predicate);
+    }
+
+    @Override
+    public RevenueSummary getRevenue(DeliveryPredicate predicate) {
+        return foodBook.getRevenue(predicate);
+    }
+
+    @Override
+    public void showArchivedDeliveriesMatching(DeliveryPredicate predicate) {
+        shownArchivedDeliveries.setAll(foodBook.getArchivedDeliveriesMatching(predicate));
+    }
+
+    @Override
+    public MatchingDeliveries snapshotDeliveriesMatching(DeliveryPredicate predicate) {
+        return foodBook.snapshotDeliveriesMatching(predicate);
+    }
+
+    @Override
+    public int archiveDeliveriesBefore(long horizonEpochMinute) throws IOException {
+        return foodBook.archiveDeliveriesBefore(horizonEpochMinute);
+    }
+
+    @Override
+    public void appendLoadedData(List<Person> persons, List<Delivery> deliveries) {
+        foodBook.appendLoaded(persons, deliveries);
+    }
+
+    @Override
+    public void completeLoadedData(ReadOnlyFoodBook loaded) {
+        requireNonNull(loaded);
+        foodBook.setDeliveryArchive(loaded.getDeliveryArchive());
+        foodBook.setNextDeliveryId(loaded.getNextDeliveryId());
     }
 
     @Override
@@ -184,6 +247,13 @@ public class ModelManager implements Model {
         updateFilteredDeliveryList(PREDICATE_SHOW_ALL_DELIVERIES);
     }
 
+    @Override
+    public void addPersonsAndDeliveries(List<Person> persons, List<Delivery> deliveries) {
+        foodBook.addPersonsAndDeliveries(persons, deliveries);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        updateFilteredDeliveryList(PREDICATE_SHOW_ALL_DELIVERIES);
+    }
+
     @Override
     public void setDelivery(Delivery target, Delivery editedDelivery) {
         requireAllNonNull(target, editedDelivery);
@@ -202,12 +272,28 @@ public class ModelManager implements Model {
         return filteredDeliveries;
     }
 
+    @Override
+    public ObservableList<Delivery> getDisplayedDeliveryList() {
+        return displayedDeliveries;
+    }
+
     @Override
     public void updateFilteredDeliveryList(Predicate<Delivery> predicate) {
         requireNonNull(predicate);
+        hideArchivedDeliveries();
+        // The filtered list stays up to date as deliveries change, so re-applying an equal filter is a no-op
+        if (predicate.equals(filteredDeliveries.getPredicate())) {
+            return;
+        }
         filteredDeliveries.setPredicate(predicate);
     }
 
+    private void hideArchivedDeliveries() {
+        if (!shownArchivedDeliveries.isEmpty()) {
+            shownArchivedDeliveries.clear();
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -258,11 +344,41 @@ public class ModelManager implements Model {
         ModelRecord record = this.undoStack.undo();
 
         this.foodBook.undo();
+        this.undoStack.keepForRedo(restoreFilters(record));
+
+        return record;
+    }
+
+    /**
+     * Reapplies the most recently undone edit to foodBook
+     * @throws NoMoreRedoException If no undone edits remain
+     */
+    @Override
+    public ModelRecord redo() throws NoMoreRedoException {
+        ModelRecord record = this.undoStack.redo();
+
+        this.foodBook.redo();
+        this.undoStack.keepForUndo(restoreFilters(record));
+
+        return record;
+    }
+
+    /**
+     * Applies the filters in {@code record}, and returns a record of the same command holding the filters replaced
+     */
+    private ModelRecord restoreFilters(ModelRecord record) {
+        ModelRecord replaced = new ModelRecord(
+                record.commandString(),
+                record.uiPanel(),
+                this.filteredPersons.getPredicate(),
+                this.filteredDeliveries.getPredicate()
+        );
 
         filteredPersons.setPredicate(record.personListPredicate());
+        hideArchivedDeliveries();
         filteredDeliveries.setPredicate(record.deliveryListPredicate());
 
-        return record;
+        return replaced;
     }
 
 }
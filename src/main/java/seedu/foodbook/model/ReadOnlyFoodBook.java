@@ -1,7 +1,12 @@
 package seedu.foodbook.model;
 
+import java.util.Optional;
+import java.util.OptionalLong;
+
 import javafx.collections.ObservableList;
 import seedu.foodbook.model.delivery.Delivery;
+import seedu.foodbook.model.delivery.DeliveryArchive;
+import seedu.foodbook.model.person.Name;
 import seedu.foodbook.model.person.Person;
 
 /**
@@ -21,4 +26,52 @@ public interface ReadOnlyFoodBook {
      */
     ObservableList<Delivery> getDeliveryList();
 
+    /**
+     * Returns the deliveries archived out of the deliveries list, which are not in it.
+     */
+    default DeliveryArchive getDeliveryArchive() {
+        return DeliveryArchive.EMPTY;
+    }
+
+    /**
+     * Returns the person whose name matches {@code name} case-insensitively, if there is one.
+     * Implementations that index their persons by name should override this linear scan.
+     */
+    default Optional<Person> getPersonByName(Name name) {
+        return getPersonList().stream()
+                .filter(person -> person.getName().equals(name))
+                .findFirst();
+    }
+
+    /**
+     * Returns the delivery with id {@code id}, if there is one.
+     * Implementations that index their deliveries by id should override this linear scan.
+     */
+    default Optional<Delivery> getDeliveryById(Integer id) {
+        return getDeliveryList().stream()
+                .filter(delivery -> delivery.getId().equals(id))
+                .findFirst();
+    }
+
+    /**
+     * Returns the id to give to the next delivery added, which is greater than every delivery id issued so far.
+     * Implementations that keep a delivery id sequence should override this, as the default only accounts for
+     * the deliveries still in the list.
+     */
+    default int getNextDeliveryId() {
+        return getDeliveryList().stream()
+                .mapToInt(Delivery::getId)
+                .max()
+                .orElse(FoodBook.FIRST_DELIVERY_ID - 1) + 1;
+    }
+
+    /**
+     * Returns a number that changes whenever the contents of the food book change, so a copy saved at one
+     * generation does not need saving again until the generation moves on.
+     * Implementations that do not track their changes return empty, and are saved every time.
+     */
+    default OptionalLong getGeneration() {
+        return OptionalLong.empty();
+    }
+
 }
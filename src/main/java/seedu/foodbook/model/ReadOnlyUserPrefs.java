@@ -2,6 +2,7 @@ package seedu.foodbook.model;
 
 import java.nio.file.Path;
 
+import seedu.foodbook.commons.core.DataFileFormat;
 import seedu.foodbook.commons.core.GuiSettings;
 
 /**
@@ -13,4 +14,16 @@ public interface ReadOnlyUserPrefs {
 
     Path getFoodBookFilePath();
 
+    DataFileFormat getFoodBookFormat();
+
+    /**
+     * Returns how many days after its date a delivered delivery is archived, or 0 if deliveries are never archived.
+     */
+    int getArchiveAfterDays();
+
+    /**
+     * Returns how many of the most recent commands can be undone, and redone.
+     */
+    int getUndoHistorySize();
+
 }
@@ -1,26 +1,51 @@
 package seedu.foodbook.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.foodbook.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
+import seedu.foodbook.commons.core.DataFileFormat;
 import seedu.foodbook.commons.core.GuiSettings;
+import seedu.foodbook.model.undo.UndoStack;
 
 /**
  * Represents User's preferences.
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    /**
+     * Archiving is off in preferences that do not mention it, those saved before archiving existed, so that upgrading
+     * does not move anyone's deliveries.
+     */
+    public static final int DEFAULT_ARCHIVE_AFTER_DAYS = 0;
+    /** Deliveries are archived after a year on a new installation, which has no deliveries to move yet. */
+    public static final int NEW_INSTALL_ARCHIVE_AFTER_DAYS = 365;
+    public static final String MESSAGE_ARCHIVE_AFTER_DAYS_CONSTRAINTS = "Days before archiving cannot be negative";
+    public static final int DEFAULT_UNDO_HISTORY_SIZE = UndoStack.DEFAULT_CAPACITY;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path foodBookFilePath = Paths.get("data" , "foodbook.json");
+    private DataFileFormat foodBookFormat = DataFileFormat.JSON;
+    private int archiveAfterDays = DEFAULT_ARCHIVE_AFTER_DAYS;
+    private int undoHistorySize = DEFAULT_UNDO_HISTORY_SIZE;
 
     /**
      * Creates a {@code UserPrefs} with default values.
      */
     public UserPrefs() {}
 
+    /**
+     * Returns the {@code UserPrefs} of a new installation, which has no preference file yet.
+     */
+    public static UserPrefs forNewInstall() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setArchiveAfterDays(NEW_INSTALL_ARCHIVE_AFTER_DAYS);
+        return userPrefs;
+    }
+
     /**
      * Creates a {@code UserPrefs} with the prefs in {@code userPrefs}.
      */
@@ -36,6 +61,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setFoodBookFilePath(newUserPrefs.getFoodBookFilePath());
+        setFoodBookFormat(newUserPrefs.getFoodBookFormat());
+        setArchiveAfterDays(newUserPrefs.getArchiveAfterDays());
+        setUndoHistorySize(newUserPrefs.getUndoHistorySize());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +84,33 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.foodBookFilePath = foodBookFilePath;
     }
 
+    public DataFileFormat getFoodBookFormat() {
+        return foodBookFormat;
+    }
+
+    public void setFoodBookFormat(DataFileFormat foodBookFormat) {
+        requireNonNull(foodBookFormat);
+        this.foodBookFormat = foodBookFormat;
+    }
+
+    public int getArchiveAfterDays() {
+        return archiveAfterDays;
+    }
+
+    public void setArchiveAfterDays(int archiveAfterDays) {
+        checkArgument(archiveAfterDays >= 0, MESSAGE_ARCHIVE_AFTER_DAYS_CONSTRAINTS);
+        this.archiveAfterDays = archiveAfterDays;
+    }
+
+    public int getUndoHistorySize() {
+        return undoHistorySize;
+    }
+
+    public void setUndoHistorySize(int undoHistorySize) {
+        checkArgument(undoHistorySize > 0, UndoStack.MESSAGE_CAPACITY_CONSTRAINTS);
+        this.undoHistorySize = undoHistorySize;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +124,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && foodBookFilePath.equals(otherUserPrefs.foodBookFilePath);
+                && foodBookFilePath.equals(otherUserPrefs.foodBookFilePath)
+                && foodBookFormat == otherUserPrefs.foodBookFormat
+                && archiveAfterDays == otherUserPrefs.archiveAfterDays
+                && undoHistorySize == otherUserPrefs.undoHistorySize;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, foodBookFilePath);
+        return Objects.hash(guiSettings, foodBookFilePath, foodBookFormat, archiveAfterDays, undoHistorySize);
     }
 
     @Override
@@ -82,6 +140,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + foodBookFilePath);
+        sb.append("\nLocal data file format : " + foodBookFormat);
+        sb.append("\nDays before archiving deliveries : " + archiveAfterDays);
+        sb.append("\nCommands kept for undo : " + undoHistorySize);
         return sb.toString();
     }
 
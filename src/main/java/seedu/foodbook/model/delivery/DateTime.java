@@ -1,10 +1,10 @@
 package seedu.foodbook.model.delivery;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.foodbook.commons.util.AppUtil.checkArgument;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.format.ResolverStyle;
@@ -30,7 +30,8 @@ public class DateTime {
     private static final DateTimeFormatter FULL_FMT =
             DateTimeFormatter.ofPattern(FULL_DATETIME_PATTERN)
                     .withResolverStyle(ResolverStyle.STRICT);
-
+    private static final DateTimeFormatter DATE_FMT = DateTimeFormatter.ofPattern(DATE_PATTERN);
+    private static final DateTimeFormatter TIME_FMT = DateTimeFormatter.ofPattern(TIME_PATTERN);
 
     private static final Pattern DATE_SHAPE = Pattern.compile("\\d{1,2}/\\d{1,2}/\\d{4}");
     private static final Pattern TIME_SHAPE = Pattern.compile("\\d{4}");
@@ -40,6 +41,9 @@ public class DateTime {
      */
     private final LocalDateTime dateTime;
 
+    /** Minutes since 1/1/1970 0000, cached for cheap comparisons. */
+    private final long epochMinute;
+
     /**
      * Constructor for DateTime object
      *
@@ -52,13 +56,30 @@ public class DateTime {
         requireNonNull(dateString);
         requireNonNull(timeString);
 
-        checkArgument(isValidDateTime(dateString, timeString), MESSAGE_CONSTRAINTS);
-
-        this.dateTime = LocalDateTime.parse(dateString + " " + timeString, FULL_FMT);
+        // Parsed once, as validating first would parse every date and time loaded twice
+        try {
+            this.dateTime = LocalDateTime.parse(dateString + " " + timeString, FULL_FMT);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(MESSAGE_CONSTRAINTS, e);
+        }
+        this.epochMinute = Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 60);
 
         assert this.dateTime != null;
     }
 
+    private DateTime(LocalDateTime dateTime, long epochMinute) {
+        this.dateTime = dateTime;
+        this.epochMinute = epochMinute;
+    }
+
+    /**
+     * Returns the DateTime {@code epochMinute} minutes from 1/1/1970 0000, as given by {@link #toEpochMinute()}.
+     */
+    public static DateTime ofEpochMinute(long epochMinute) {
+        return new DateTime(LocalDateTime.ofEpochSecond(Math.multiplyExact(epochMinute, 60L), 0, ZoneOffset.UTC),
+                epochMinute);
+    }
+
     /**
      * Returns true if the given date and time string are valid.
      * @param dateString The string representing the date
@@ -105,7 +126,7 @@ public class DateTime {
      * @return String representation of the date
      */
     public String getDateString() {
-        return dateTime.toLocalDate().format(DateTimeFormatter.ofPattern("d/M/uuuu"));
+        return dateTime.toLocalDate().format(DATE_FMT);
     }
 
     /**
@@ -115,7 +136,7 @@ public class DateTime {
      * @return String representation of the time
      */
     public String getTimeString() {
-        return dateTime.toLocalTime().format(DateTimeFormatter.ofPattern("HHmm"));
+        return dateTime.toLocalTime().format(TIME_FMT);
     }
 
     /**
@@ -127,6 +148,14 @@ public class DateTime {
         return this.dateTime.format(formatter);
     }
 
+    /**
+     * Returns the number of minutes from 1/1/1970 0000 to this date-time.
+     * Ordering by epoch minute is the same as ordering with {@link #isBefore(DateTime)}.
+     */
+    public long toEpochMinute() {
+        return epochMinute;
+    }
+
     /**
      * Returns True if the current DateTime is before the other one
      */
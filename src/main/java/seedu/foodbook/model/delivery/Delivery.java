@@ -21,7 +21,7 @@ public class Delivery {
     private final Person client;
     private final DateTime datetime;
     private final String remarks;
-    private final Double cost;
+    private final Money cost;
 
     //Optional delivery tag
     private final Optional<DeliveryTag> tag;
@@ -30,7 +30,7 @@ public class Delivery {
      * Every field must be present and not null.
      */
     public Delivery(Integer id, Person client, DateTime datetime,
-                  String remarks, Double cost, Optional<DeliveryTag> tag, Boolean isDelivered) {
+                  String remarks, Money cost, Optional<DeliveryTag> tag, Boolean isDelivered) {
         requireAllNonNull(id, client, datetime, remarks, cost, isDelivered);
         this.id = id;
         this.client = client;
@@ -46,7 +46,7 @@ public class Delivery {
     }
 
     public Delivery(Integer id, Person client, DateTime datetime,
-                    String remarks, Double cost, Optional<DeliveryTag> tag) {
+                    String remarks, Money cost, Optional<DeliveryTag> tag) {
         this(id, client, datetime, remarks, cost, tag, false);
     }
 
@@ -101,7 +101,7 @@ public class Delivery {
         return this.remarks;
     }
 
-    public Double getCost() {
+    public Money getCost() {
         return this.cost;
     }
 
@@ -0,0 +1,88 @@
+package seedu.foodbook.model.delivery;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import seedu.foodbook.model.person.Name;
+import seedu.foodbook.model.person.Person;
+
+/**
+ * Deliveries kept out of the delivery list, such as deliveries delivered long ago, that are only looked at by the
+ * occasional query.
+ * Archived deliveries are not held as {@code Delivery} objects; each is built only when a query reaches it, with
+ * its client looked up through the {@code clients} function the query is given.
+ * An archive never changes: removing deliveries from it or adding deliveries to it returns a new archive.
+ */
+public interface DeliveryArchive {
+
+    /** An archive that holds no deliveries and, having nowhere to keep any, fails to append them. */
+    DeliveryArchive EMPTY = new EmptyDeliveryArchive();
+
+    /**
+     * Returns the number of deliveries in the archive.
+     */
+    int size();
+
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the largest delivery id ever archived here, even if that delivery has since been removed.
+     */
+    OptionalInt getMaxId();
+
+    /**
+     * Returns true if the archive holds the delivery with id {@code id}.
+     */
+    boolean contains(int id);
+
+    /**
+     * Returns the archived delivery with id {@code id}, if there is one.
+     */
+    Optional<Delivery> getDeliveryById(int id, Function<Name, Optional<Person>> clients);
+
+    /**
+     * Returns the archived deliveries of the client named {@code clientName}, in date-time order.
+     */
+    List<Delivery> getDeliveriesByClientName(Name clientName, Function<Name, Optional<Person>> clients);
+
+    /**
+     * Returns the archived deliveries that satisfy {@code predicate}, in date-time order.
+     * Only the deliveries that satisfy it are built.
+     */
+    List<Delivery> getDeliveriesMatching(DeliveryPredicate predicate, Function<Name, Optional<Person>> clients);
+
+    /**
+     * Passes the archived deliveries that satisfy {@code predicate} to {@code action}, in date-time order.
+     * Each is built only as it is passed on, and not kept, so any number of deliveries can be visited in constant
+     * memory.
+     */
+    void forEachMatching(DeliveryPredicate predicate, Function<Name, Optional<Person>> clients,
+            Consumer<Delivery> action);
+
+    /**
+     * Returns the number and total cost of the archived deliveries that satisfy {@code predicate}, without
+     * building any of them.
+     */
+    RevenueSummary getRevenue(DeliveryPredicate predicate);
+
+    /**
+     * Returns an archive without the deliveries whose ids are in {@code ids}. Ids not in the archive are ignored.
+     */
+    DeliveryArchive without(Collection<Integer> ids);
+
+    /**
+     * Returns an archive holding this archive's deliveries and {@code deliveries}, which must all be delivered and
+     * have ids not already in use.
+     *
+     * @throws IOException if the deliveries could not be written to where the archive is kept, or the archive has
+     *     nowhere to keep them.
+     */
+    DeliveryArchive append(List<Delivery> deliveries) throws IOException;
+}
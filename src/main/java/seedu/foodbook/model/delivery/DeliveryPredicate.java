@@ -1,15 +1,20 @@
 package seedu.foodbook.model.delivery;
 
+import java.util.Locale;
 import java.util.Optional;
 import java.util.function.Predicate;
 
 import seedu.foodbook.commons.util.ToStringBuilder;
+import seedu.foodbook.model.person.Name;
+import seedu.foodbook.model.tag.DeliveryTag;
 
 /**
  * Tests that a {@code Delivery}'s attributes match any of the specified criteria.
  * Supports filtering by client name, date range, tags, and delivery status.
  * If no filters are specified, matches all deliveries.
  * All criteria are optional and use AND logic (all provided criteria must match).
+ * The criteria are compiled once on construction (dates to epoch minutes, queries case-folded), so
+ * {@link #test(Delivery)} does no parsing and allocates nothing.
  */
 public class DeliveryPredicate implements Predicate<Delivery> {
 
@@ -19,6 +24,14 @@ public class DeliveryPredicate implements Predicate<Delivery> {
     private final Optional<String> tag;
     private final Optional<Boolean> isDelivered;
 
+    // Compiled criteria; a null query means the criterion is absent
+    private final long startEpochMinute;
+    private final long endEpochMinute;
+    private final String clientNameQuery;
+    private final String tagQuery;
+    private final boolean hasStatusCriterion;
+    private final boolean expectedStatus;
+
     /**
      * Constructs a DeliveryPredicate with the specified filters.
      *
@@ -40,38 +53,92 @@ public class DeliveryPredicate implements Predicate<Delivery> {
         this.clientName = clientName.map(String::trim).filter(s -> !s.isEmpty());
         this.tag = tag.map(String::trim).filter(s -> !s.isEmpty());
         this.isDelivered = isDelivered;
+
+        this.startEpochMinute = startDate.map(start -> new DateTime(start, "0000").toEpochMinute())
+                .orElse(Long.MIN_VALUE);
+        this.endEpochMinute = endDate.map(end -> new DateTime(end, "2359").toEpochMinute())
+                .orElse(Long.MAX_VALUE);
+        this.clientNameQuery = this.clientName.map(name -> name.toLowerCase(Locale.ROOT)).orElse(null);
+        this.tagQuery = this.tag.map(q -> q.toLowerCase(Locale.ROOT)).orElse(null);
+        this.hasStatusCriterion = isDelivered.isPresent();
+        this.expectedStatus = isDelivered.orElse(false);
     }
 
     @Override
     public boolean test(Delivery delivery) {
-        boolean matchesStartDate = startDate.map(start -> {
-            DateTime startDateTime = new DateTime(start, "0000");
-            return !delivery.getDeliveryDate().isBefore(startDateTime);
-        }).orElse(true);
+        return acceptsTime(delivery.getDeliveryDate().toEpochMinute())
+                && acceptsStatus(delivery.getStatus())
+                && acceptsClientName(delivery.getClient().getName())
+                && acceptsTag(delivery.getTag());
+    }
+
+    /**
+     * Returns true if a delivery at {@code epochMinute} is within this predicate's date range.
+     * Together with the other {@code accepts} methods, this lets deliveries be tested one attribute at a time,
+     * without building them.
+     */
+    public boolean acceptsTime(long epochMinute) {
+        return epochMinute >= startEpochMinute && epochMinute <= endEpochMinute;
+    }
+
+    /**
+     * Returns true if a delivery with status {@code isDelivered} matches this predicate's status filter.
+     */
+    public boolean acceptsStatus(boolean isDelivered) {
+        return !hasStatusCriterion || isDelivered == expectedStatus;
+    }
+
+    /**
+     * Returns true if a delivery to the client named {@code name} matches this predicate's client name filter.
+     */
+    public boolean acceptsClientName(Name name) {
+        return clientNameQuery == null || name.getNormalizedName().contains(clientNameQuery);
+    }
 
-        boolean matchesEndDate = endDate.map(end -> {
-            DateTime endDateTime = new DateTime(end, "2359");
-            return !delivery.getDeliveryDate().isAfter(endDateTime);
-        }).orElse(true);
+    /**
+     * Returns true if a delivery with {@code deliveryTag} matches this predicate's tag filter.
+     */
+    public boolean acceptsTag(Optional<DeliveryTag> deliveryTag) {
+        return tagQuery == null
+                || deliveryTag.isPresent() && deliveryTag.get().getNormalizedName().contains(tagQuery);
+    }
 
-        boolean matchesClientName = clientName.map(name ->
-                delivery.getClient().getName().fullName.toLowerCase().contains(name.toLowerCase())
-        ).orElse(true);
+    /**
+     * Returns true if this predicate only accepts deliveries within a date range.
+     */
+    public boolean hasDateRange() {
+        return startDate.isPresent() || endDate.isPresent();
+    }
 
-        boolean matchesTag = tag.map(q ->
-                delivery.getTag().map(dt -> dt.getName().toLowerCase()
-                                .contains(q.toLowerCase()))
-                        .orElse(false)
-        ).orElse(true);
+    /**
+     * Returns the earliest accepted delivery date-time in epoch minutes, or {@code Long.MIN_VALUE} if there is
+     * no start date.
+     */
+    public long getStartEpochMinute() {
+        return startEpochMinute;
+    }
 
-        boolean matchesStatus = isDelivered.map(status ->
-                delivery.getStatus() == status
-        ).orElse(true);
+    /**
+     * Returns the latest accepted delivery date-time in epoch minutes, or {@code Long.MAX_VALUE} if there is
+     * no end date.
+     */
+    public long getEndEpochMinute() {
+        return endEpochMinute;
+    }
 
-        // Return true if ALL provided criteria match (AND logic)
-        return matchesStartDate && matchesEndDate && matchesClientName && matchesTag && matchesStatus;
+    /**
+     * Returns the case-folded client name query, or null if there is no client name filter.
+     */
+    String getClientNameQuery() {
+        return clientNameQuery;
     }
 
+    /**
+     * Returns the case-folded tag query, or null if there is no tag filter.
+     */
+    String getTagQuery() {
+        return tagQuery;
+    }
 
     public Optional<String> getStartDate() {
         return startDate;
@@ -0,0 +1,77 @@
+package seedu.foodbook.model.delivery;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import seedu.foodbook.model.person.Name;
+import seedu.foodbook.model.person.Person;
+
+/**
+ * The archive of a food book that keeps every delivery in its delivery list.
+ * @see DeliveryArchive#EMPTY
+ */
+final class EmptyDeliveryArchive implements DeliveryArchive {
+
+    static final String MESSAGE_NO_ARCHIVE_FILE = "This food book has no delivery archive file";
+
+    @Override
+    public int size() {
+        return 0;
+    }
+
+    @Override
+    public OptionalInt getMaxId() {
+        return OptionalInt.empty();
+    }
+
+    @Override
+    public boolean contains(int id) {
+        return false;
+    }
+
+    @Override
+    public Optional<Delivery> getDeliveryById(int id, Function<Name, Optional<Person>> clients) {
+        return Optional.empty();
+    }
+
+    @Override
+    public List<Delivery> getDeliveriesByClientName(Name clientName, Function<Name, Optional<Person>> clients) {
+        return List.of();
+    }
+
+    @Override
+    public List<Delivery> getDeliveriesMatching(DeliveryPredicate predicate,
+            Function<Name, Optional<Person>> clients) {
+        return List.of();
+    }
+
+    @Override
+    public void forEachMatching(DeliveryPredicate predicate, Function<Name, Optional<Person>> clients,
+            Consumer<Delivery> action) {
+    }
+
+    @Override
+    public RevenueSummary getRevenue(DeliveryPredicate predicate) {
+        return new RevenueSummary(0, 0);
+    }
+
+    @Override
+    public DeliveryArchive without(Collection<Integer> ids) {
+        return this;
+    }
+
+    @Override
+    public DeliveryArchive append(List<Delivery> deliveries) throws IOException {
+        throw new IOException(MESSAGE_NO_ARCHIVE_FILE);
+    }
+
+    @Override
+    public String toString() {
+        return "empty delivery archive";
+    }
+}
@@ -0,0 +1,119 @@
+package seedu.foodbook.model.delivery;
+
+import static java.util.Objects.requireNonNull;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Represents an amount of money in FoodBook, stored exactly as a whole number of cents.
+ * Guarantees: immutable.
+ */
+public final class Money implements Comparable<Money> {
+
+    public static final Money ZERO = new Money(0);
+
+    private static final int CENT_DIGITS = 2;
+
+    private final long cents;
+
+    private Money(long cents) {
+        this.cents = cents;
+    }
+
+    /**
+     * Returns the amount of {@code cents} cents.
+     */
+    public static Money ofCents(long cents) {
+        return cents == 0 ? ZERO : new Money(cents);
+    }
+
+    /**
+     * Returns the amount {@code dollars}, which must not have more than 2 decimal places.
+     *
+     * @throws ArithmeticException if {@code dollars} has more than 2 decimal places or does not fit in a long
+     *     number of cents.
+     */
+    public static Money of(BigDecimal dollars) {
+        requireNonNull(dollars);
+        return ofCents(dollars.movePointRight(CENT_DIGITS).longValueExact());
+    }
+
+    /**
+     * Returns the amount {@code dollars} rounded half-up to the nearest cent.
+     *
+     * @throws ArithmeticException if {@code dollars} does not fit in a long number of cents.
+     */
+    public static Money ofRounded(BigDecimal dollars) {
+        requireNonNull(dollars);
+        return of(dollars.setScale(CENT_DIGITS, RoundingMode.HALF_UP));
+    }
+
+    /**
+     * Returns the amount written as a plain decimal number of dollars, e.g. {@code "12.50"}.
+     *
+     * @throws NumberFormatException if {@code dollars} is not a decimal number.
+     * @throws ArithmeticException if {@code dollars} has more than 2 decimal places.
+     */
+    public static Money parse(String dollars) {
+        requireNonNull(dollars);
+        return of(new BigDecimal(dollars));
+    }
+
+    public long getCents() {
+        return cents;
+    }
+
+    public boolean isNegative() {
+        return cents < 0;
+    }
+
+    /**
+     * Returns the sum of this amount and {@code other}.
+     *
+     * @throws ArithmeticException if the sum overflows.
+     */
+    public Money plus(Money other) {
+        return ofCents(Math.addExact(cents, other.cents));
+    }
+
+    /**
+     * Returns this amount in dollars, with exactly 2 decimal places.
+     */
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(cents, CENT_DIGITS);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    /**
+     * Returns the amount in dollars with 2 decimal places, e.g. {@code "12.50"}.
+     */
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Money)) {
+            return false;
+        }
+
+        Money otherMoney = (Money) other;
+        return cents == otherMoney.cents;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(cents);
+    }
+}
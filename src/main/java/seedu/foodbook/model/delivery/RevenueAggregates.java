@@ -0,0 +1,149 @@
+package seedu.foodbook.model.delivery;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Running revenue totals (delivery count and cost in cents) over a set of deliveries, bucketed by day, tag and
+ * client, and split by delivery status.
+ * The owner must call {@link #add(Delivery)} and {@link #remove(Delivery)} as its deliveries change.
+ * Revenue queries with at most one of the date range, tag or client filters (plus an optional status filter) are
+ * answered from the buckets without visiting any delivery.
+ */
+public class RevenueAggregates {
+
+    private static final int UNDELIVERED = 0;
+    private static final int DELIVERED = 1;
+    private static final long MINUTES_PER_DAY = 24 * 60;
+
+    private final Totals[] overall = newTotals();
+    private final NavigableMap<Long, Totals[]> byDay = new TreeMap<>();
+    private final Map<String, Totals[]> byTag = new HashMap<>();
+    private final Map<String, Totals[]> byClient = new HashMap<>();
+
+    /**
+     * Adds {@code delivery} to the totals.
+     */
+    public void add(Delivery delivery) {
+        update(delivery, 1);
+    }
+
+    /**
+     * Removes {@code delivery}, which must have been added before, from the totals.
+     */
+    public void remove(Delivery delivery) {
+        update(delivery, -1);
+    }
+
+    /**
+     * Resets all totals to zero.
+     */
+    public void clear() {
+        overall[UNDELIVERED] = new Totals();
+        overall[DELIVERED] = new Totals();
+        byDay.clear();
+        byTag.clear();
+        byClient.clear();
+    }
+
+    /**
+     * Returns the revenue of the deliveries matching {@code predicate}, or an empty {@code Optional} if the
+     * predicate combines more than one of the date range, tag and client filters and so cannot be answered from
+     * the aggregates.
+     */
+    public Optional<RevenueSummary> query(DeliveryPredicate predicate) {
+        boolean hasTag = predicate.getTag().isPresent();
+        boolean hasClient = predicate.getClientName().isPresent();
+        int filterCount = (predicate.hasDateRange() ? 1 : 0) + (hasTag ? 1 : 0) + (hasClient ? 1 : 0);
+        if (filterCount > 1) {
+            return Optional.empty();
+        }
+
+        boolean[] statuses = includedStatuses(predicate);
+        Totals sum = new Totals();
+        if (predicate.hasDateRange()) {
+            long startDay = Math.floorDiv(predicate.getStartEpochMinute(), MINUTES_PER_DAY);
+            long endDay = Math.floorDiv(predicate.getEndEpochMinute(), MINUTES_PER_DAY);
+            if (startDay <= endDay) {
+                byDay.subMap(startDay, true, endDay, true).values().forEach(totals -> sum.add(totals, statuses));
+            }
+        } else if (hasTag) {
+            addMatchingBuckets(byTag, predicate.getTagQuery(), statuses, sum);
+        } else if (hasClient) {
+            addMatchingBuckets(byClient, predicate.getClientNameQuery(), statuses, sum);
+        } else {
+            sum.add(overall, statuses);
+        }
+        return Optional.of(new RevenueSummary(sum.count, sum.cents));
+    }
+
+    private void update(Delivery delivery, int sign) {
+        int status = delivery.getStatus() ? DELIVERED : UNDELIVERED;
+        long cents = sign * delivery.getCost().getCents();
+        overall[status].add(sign, cents);
+        updateBucket(byDay, Math.floorDiv(delivery.getDeliveryDate().toEpochMinute(), MINUTES_PER_DAY),
+                status, sign, cents);
+        updateBucket(byClient, delivery.getClient().getName().getNormalizedName(), status, sign, cents);
+        if (delivery.getTag().isPresent()) {
+            updateBucket(byTag, delivery.getTag().get().getNormalizedName(), status, sign, cents);
+        }
+    }
+
+    private static <K> void updateBucket(Map<K, Totals[]> buckets, K key, int status, int count, long cents) {
+        Totals[] totals = buckets.computeIfAbsent(key, unused -> newTotals());
+        totals[status].add(count, cents);
+        if (totals[UNDELIVERED].count == 0 && totals[DELIVERED].count == 0) {
+            buckets.remove(key);
+        }
+    }
+
+    /**
+     * Adds the buckets whose key contains {@code query} to {@code sum}. Visits each distinct key once, which is
+     * far fewer than the number of deliveries.
+     */
+    private static void addMatchingBuckets(Map<String, Totals[]> buckets, String query, boolean[] statuses,
+                                           Totals sum) {
+        for (Map.Entry<String, Totals[]> bucket : buckets.entrySet()) {
+            if (bucket.getKey().contains(query)) {
+                sum.add(bucket.getValue(), statuses);
+            }
+        }
+    }
+
+    private static boolean[] includedStatuses(DeliveryPredicate predicate) {
+        Optional<Boolean> isDelivered = predicate.getIsDelivered();
+        boolean[] statuses = new boolean[2];
+        statuses[UNDELIVERED] = isDelivered.map(delivered -> !delivered).orElse(true);
+        statuses[DELIVERED] = isDelivered.orElse(true);
+        return statuses;
+    }
+
+    private static Totals[] newTotals() {
+        return new Totals[] {new Totals(), new Totals()};
+    }
+
+    /**
+     * A mutable delivery count and total cost in cents.
+     */
+    private static class Totals {
+        private long count;
+        private long cents;
+
+        void add(long count, long cents) {
+            this.count += count;
+            // Totals fail loudly rather than wrap, as Money.plus does
+            this.cents = Math.addExact(this.cents, cents);
+        }
+
+        void add(Totals[] byStatus, boolean[] statuses) {
+            for (int status = 0; status < byStatus.length; status++) {
+                if (statuses[status]) {
+                    add(byStatus[status].count, byStatus[status].cents);
+                }
+            }
+        }
+    }
+}
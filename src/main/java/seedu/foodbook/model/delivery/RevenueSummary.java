@@ -0,0 +1,39 @@
+package seedu.foodbook.model.delivery;
+
+import java.util.List;
+
+/**
+ * The number of deliveries and their total cost, in cents, for a revenue query.
+ */
+public record RevenueSummary(long deliveryCount, long totalCents) {
+
+    /**
+     * Returns the summary of the given {@code deliveries}.
+     *
+     * @throws ArithmeticException if their total cost overflows.
+     */
+    public static RevenueSummary of(List<Delivery> deliveries) {
+        long totalCents = 0;
+        for (Delivery delivery : deliveries) {
+            totalCents = Math.addExact(totalCents, delivery.getCost().getCents());
+        }
+        return new RevenueSummary(deliveries.size(), totalCents);
+    }
+
+    /**
+     * Returns the summary of the deliveries counted in this summary and in {@code other}.
+     *
+     * @throws ArithmeticException if the total cost overflows.
+     */
+    public RevenueSummary plus(RevenueSummary other) {
+        return new RevenueSummary(deliveryCount + other.deliveryCount,
+                Math.addExact(totalCents, other.totalCents));
+    }
+
+    /**
+     * Returns the total cost.
+     */
+    public Money getTotal() {
+        return Money.ofCents(totalCents);
+    }
+}
@@ -1,13 +1,26 @@
 package seedu.foodbook.model.delivery;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.foodbook.commons.util.AppUtil.checkArgument;
 import static seedu.foodbook.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.foodbook.commons.util.PersistentList;
 import seedu.foodbook.model.delivery.exceptions.DeliveryNotFoundException;
 import seedu.foodbook.model.delivery.exceptions.DuplicateDeliveryException;
 
@@ -16,6 +29,9 @@ import seedu.foodbook.model.delivery.exceptions.DuplicateDeliveryException;
  * A delivery is considered unique by comparing using its identifier field (see {@code Delivery#equals(Object)}).
  *
  * Supports a minimal set of list operations.
+ * An index from delivery id to delivery (and to its position in the list) is kept in sync with the list,
+ * so that lookups, duplicate checks and replacements by id take constant time. Deliveries are also indexed by
+ * their date-time so that date-range queries only visit the deliveries in range.
  *
  * @see Delivery#equals(Object)
  */
@@ -25,12 +41,56 @@ public class UniqueDeliveryList implements Iterable<Delivery> {
     private final ObservableList<Delivery> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /** The same deliveries as {@code internalList}, kept in step with it, from which snapshots are taken. */
+    private PersistentList<Delivery> persistentList = PersistentList.empty();
+
+    private final Map<Integer, Delivery> deliveriesById = new HashMap<>();
+    private final Map<Integer, Integer> positionsById = new HashMap<>();
+    private final NavigableMap<Long, Map<Integer, Delivery>> deliveriesByTime = new TreeMap<>();
+
     /**
      * Returns true if the list contains an equivalent Delivery as the given argument.
      */
     public boolean contains(Delivery toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameDelivery);
+        return deliveriesById.containsKey(toCheck.getId());
+    }
+
+    /**
+     * Returns the delivery with the given {@code id}, if it is in the list.
+     */
+    public Optional<Delivery> getDeliveryById(Integer id) {
+        return Optional.ofNullable(deliveriesById.get(id));
+    }
+
+    /**
+     * Returns the position of a delivery equal to {@code delivery} in the list, or -1 if there is none.
+     * Takes constant time.
+     */
+    public int indexOf(Delivery delivery) {
+        Integer index = positionsById.get(delivery.getId());
+        if (index == null || !internalList.get(index).equals(delivery)) {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * Returns the deliveries scheduled from {@code startEpochMinute} to {@code endEpochMinute} (both inclusive),
+     * ordered by date-time.
+     *
+     * @see DateTime#toEpochMinute()
+     */
+    public List<Delivery> getDeliveriesBetween(long startEpochMinute, long endEpochMinute) {
+        List<Delivery> deliveriesInRange = new ArrayList<>();
+        if (startEpochMinute > endEpochMinute) {
+            return deliveriesInRange;
+        }
+        for (Map<Integer, Delivery> deliveriesAtTime
+                : deliveriesByTime.subMap(startEpochMinute, true, endEpochMinute, true).values()) {
+            deliveriesInRange.addAll(deliveriesAtTime.values());
+        }
+        return deliveriesInRange;
     }
 
     /**
@@ -42,7 +102,85 @@ public class UniqueDeliveryList implements Iterable<Delivery> {
         if (contains(toAdd)) {
             throw new DuplicateDeliveryException();
         }
+        deliveriesById.put(toAdd.getId(), toAdd);
+        positionsById.put(toAdd.getId(), internalList.size());
+        indexByTime(toAdd);
         internalList.add(toAdd);
+        persistentList = persistentList.plus(persistentList.size(), toAdd);
+    }
+
+    /**
+     * Appends {@code toAdd} to the list in a single step, so that listeners see one change for all of them.
+     * {@code toAdd} must not contain duplicate Deliveries, nor any Delivery already in the list.
+     */
+    public void addAll(List<Delivery> toAdd) {
+        requireAllNonNull(toAdd);
+        if (!deliveriesAreUnique(toAdd) || toAdd.stream().anyMatch(this::contains)) {
+            throw new DuplicateDeliveryException();
+        }
+
+        int position = internalList.size();
+        for (Delivery delivery : toAdd) {
+            deliveriesById.put(delivery.getId(), delivery);
+            positionsById.put(delivery.getId(), position++);
+            indexByTime(delivery);
+        }
+        internalList.addAll(toAdd);
+        persistentList = persistentList.plusAll(toAdd);
+    }
+
+    /**
+     * Inserts a Delivery into the list at position {@code index}.
+     * The Delivery must not already exist in the list.
+     */
+    public void add(int index, Delivery toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateDeliveryException();
+        }
+        internalList.add(index, toAdd);
+        persistentList = persistentList.plus(index, toAdd);
+        deliveriesById.put(toAdd.getId(), toAdd);
+        indexByTime(toAdd);
+        for (int i = index; i < internalList.size(); i++) {
+            positionsById.put(internalList.get(i).getId(), i);
+        }
+    }
+
+    /**
+     * Inserts each of {@code toAdd} at the matching position in {@code indexes}, which are their positions in the
+     * list afterwards and must be in ascending order. Each run of adjacent positions is inserted with one change, and
+     * the positions after the first are renumbered once, so that putting back deliveries removed together takes one
+     * pass rather than one per delivery.
+     * None of {@code toAdd} may already exist in the list.
+     */
+    public void addAll(List<Integer> indexes, List<Delivery> toAdd) {
+        requireAllNonNull(indexes, toAdd);
+        checkArgument(indexes.size() == toAdd.size());
+        if (!deliveriesAreUnique(toAdd) || toAdd.stream().anyMatch(this::contains)) {
+            throw new DuplicateDeliveryException();
+        }
+        if (toAdd.isEmpty()) {
+            return;
+        }
+
+        for (int start = 0; start < toAdd.size();) {
+            int end = start + 1;
+            while (end < toAdd.size() && indexes.get(end) == indexes.get(end - 1) + 1) {
+                end++;
+            }
+            for (int i = start; i < end; i++) {
+                Delivery added = toAdd.get(i);
+                persistentList = persistentList.plus(indexes.get(i), added);
+                deliveriesById.put(added.getId(), added);
+                indexByTime(added);
+            }
+            internalList.addAll(indexes.get(start), toAdd.subList(start, end));
+            start = end;
+        }
+        for (int i = indexes.get(0); i < internalList.size(); i++) {
+            positionsById.put(internalList.get(i).getId(), i);
+        }
     }
 
     /**
@@ -53,7 +191,7 @@ public class UniqueDeliveryList implements Iterable<Delivery> {
     public void setDelivery(Delivery target, Delivery editedDelivery) {
         requireAllNonNull(target, editedDelivery);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new DeliveryNotFoundException();
         }
@@ -62,7 +200,14 @@ public class UniqueDeliveryList implements Iterable<Delivery> {
             throw new DuplicateDeliveryException();
         }
 
+        deliveriesById.remove(target.getId());
+        positionsById.remove(target.getId());
+        deliveriesById.put(editedDelivery.getId(), editedDelivery);
+        positionsById.put(editedDelivery.getId(), index);
+        unindexByTime(target);
+        indexByTime(editedDelivery);
         internalList.set(index, editedDelivery);
+        persistentList = persistentList.with(index, editedDelivery);
     }
 
     /**
@@ -71,14 +216,74 @@ public class UniqueDeliveryList implements Iterable<Delivery> {
      */
     public void remove(Delivery toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new DeliveryNotFoundException();
         }
+
+        deliveriesById.remove(toRemove.getId());
+        positionsById.remove(toRemove.getId());
+        unindexByTime(toRemove);
+        internalList.remove(index);
+        persistentList = persistentList.minus(index);
+        for (int i = index; i < internalList.size(); i++) {
+            positionsById.put(internalList.get(i).getId(), i);
+        }
+    }
+
+    /**
+     * Removes all of {@code toRemove} from the list, a run of adjacent deliveries at a time from the end, so that
+     * listeners see only the removals rather than the whole list replaced.
+     * Every delivery in {@code toRemove} must exist in the list.
+     */
+    public void removeAll(Collection<Delivery> toRemove) {
+        requireAllNonNull(toRemove);
+        int[] indexes = new int[toRemove.size()];
+        int count = 0;
+        for (Delivery delivery : toRemove) {
+            int index = indexOf(delivery);
+            if (index == -1) {
+                throw new DeliveryNotFoundException();
+            }
+            indexes[count++] = index;
+        }
+        if (count == 0) {
+            return;
+        }
+
+        // Sorted, without repeats, so that each run can be removed with one change
+        Arrays.sort(indexes, 0, count);
+        int distinctCount = 0;
+        for (int i = 0; i < count; i++) {
+            if (distinctCount == 0 || indexes[i] != indexes[distinctCount - 1]) {
+                indexes[distinctCount++] = indexes[i];
+            }
+        }
+        for (int end = distinctCount; end > 0;) {
+            int start = end - 1;
+            while (start > 0 && indexes[start - 1] == indexes[start] - 1) {
+                start--;
+            }
+            for (int i = end - 1; i >= start; i--) {
+                Delivery removed = internalList.get(indexes[i]);
+                deliveriesById.remove(removed.getId());
+                positionsById.remove(removed.getId());
+                unindexByTime(removed);
+                persistentList = persistentList.minus(indexes[i]);
+            }
+            internalList.remove(indexes[start], indexes[end - 1] + 1);
+            end = start;
+        }
+        for (int i = indexes[0]; i < internalList.size(); i++) {
+            positionsById.put(internalList.get(i).getId(), i);
+        }
     }
 
     public void setDeliveries(UniqueDeliveryList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        persistentList = replacement.persistentList;
+        rebuildIndex();
     }
 
     /**
@@ -92,6 +297,19 @@ public class UniqueDeliveryList implements Iterable<Delivery> {
         }
 
         internalList.setAll(deliveries);
+        // A snapshot of a list, as when reverting, is kept as it is rather than copied
+        persistentList = deliveries instanceof PersistentList<Delivery> snapshot
+                ? snapshot
+                : PersistentList.copyOf(internalList);
+        rebuildIndex();
+    }
+
+    /**
+     * Returns the deliveries in the list as they are now, as an immutable list that later changes to this list do not
+     * affect. Takes constant time, as the snapshot shares its structure with the list rather than copying it.
+     */
+    public List<Delivery> snapshot() {
+        return persistentList;
     }
 
     /**
@@ -131,15 +349,48 @@ public class UniqueDeliveryList implements Iterable<Delivery> {
         return internalList.toString();
     }
 
+    /**
+     * Rebuilds the id index from the contents of the backing list.
+     */
+    private void rebuildIndex() {
+        deliveriesById.clear();
+        positionsById.clear();
+        deliveriesByTime.clear();
+        for (int i = 0; i < internalList.size(); i++) {
+            Delivery delivery = internalList.get(i);
+            deliveriesById.put(delivery.getId(), delivery);
+            positionsById.put(delivery.getId(), i);
+            indexByTime(delivery);
+        }
+    }
+
+    private void indexByTime(Delivery delivery) {
+        deliveriesByTime.computeIfAbsent(delivery.getDeliveryDate().toEpochMinute(), time -> new LinkedHashMap<>())
+                .put(delivery.getId(), delivery);
+    }
+
+    private void unindexByTime(Delivery delivery) {
+        long time = delivery.getDeliveryDate().toEpochMinute();
+        Map<Integer, Delivery> deliveriesAtTime = deliveriesByTime.get(time);
+        if (deliveriesAtTime == null) {
+            return;
+        }
+        deliveriesAtTime.remove(delivery.getId());
+        if (deliveriesAtTime.isEmpty()) {
+            deliveriesByTime.remove(time);
+        }
+    }
+
     /**
      * Returns true if {@code Deliveries} contains only unique Deliveries.
+     * Deliveries are the same if their ids are equal (see {@link Delivery#isSameDelivery}), so the ids are hashed
+     * rather than comparing every pair.
      */
     private boolean deliveriesAreUnique(List<Delivery> deliveries) {
-        for (int i = 0; i < deliveries.size() - 1; i++) {
-            for (int j = i + 1; j < deliveries.size(); j++) {
-                if (deliveries.get(i).isSameDelivery(deliveries.get(j))) {
-                    return false;
-                }
+        Set<Integer> ids = new HashSet<>();
+        for (Delivery delivery : deliveries) {
+            if (!ids.add(delivery.getId())) {
+                return false;
             }
         }
         return true;
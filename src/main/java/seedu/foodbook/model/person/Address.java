@@ -3,6 +3,8 @@ package seedu.foodbook.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.foodbook.commons.util.AppUtil.checkArgument;
 
+import seedu.foodbook.model.util.ValidationUtil;
+
 /**
  * Represents a Person's address in the food book.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
@@ -34,7 +36,7 @@ public class Address {
      * Returns true if a given string is a valid email.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isNonBlankLine(test);
     }
 
     @Override
@@ -3,6 +3,8 @@ package seedu.foodbook.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.foodbook.commons.util.AppUtil.checkArgument;
 
+import seedu.foodbook.model.util.ValidationUtil;
+
 /**
  * Represents a Person's email in the food book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
@@ -49,7 +51,7 @@ public class Email {
      * Returns if a given string is a valid email.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isValidEmail(test);
     }
 
     @Override
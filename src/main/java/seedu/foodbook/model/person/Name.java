@@ -3,6 +3,10 @@ package seedu.foodbook.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.foodbook.commons.util.AppUtil.checkArgument;
 
+import java.util.Locale;
+
+import seedu.foodbook.model.util.ValidationUtil;
+
 /**
  * Represents a Person's name in the food book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -23,6 +27,9 @@ public class Name {
 
     public final String fullName;
 
+    /** Case-folded form of {@code fullName}; two names are equal iff their normalized forms are equal. */
+    private final String normalizedName;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -32,15 +39,27 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        normalizedName = normalize(name);
     }
 
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isValidName(test);
+    }
+
+    /**
+     * Returns the case-folded form of {@code name} used to compare names.
+     * Names only contain ASCII characters, so folding is locale-independent.
+     */
+    public static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT);
     }
 
+    public String getNormalizedName() {
+        return normalizedName;
+    }
 
     @Override
     public String toString() {
@@ -59,12 +78,12 @@ public class Name {
         }
 
         Name otherName = (Name) other;
-        return fullName.equalsIgnoreCase(otherName.fullName);
+        return normalizedName.equals(otherName.normalizedName);
     }
 
     @Override
     public int hashCode() {
-        return fullName.hashCode();
+        return normalizedName.hashCode();
     }
 
 }
@@ -3,6 +3,8 @@ package seedu.foodbook.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.foodbook.commons.util.AppUtil.checkArgument;
 
+import seedu.foodbook.model.util.ValidationUtil;
+
 /**
  * Represents a Person's phone number in the food book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
@@ -30,7 +32,7 @@ public class Phone {
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isDigits(test, 3);
     }
 
     @Override
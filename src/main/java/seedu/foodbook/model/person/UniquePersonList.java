@@ -3,11 +3,19 @@ package seedu.foodbook.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.foodbook.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.foodbook.commons.util.PersistentList;
 import seedu.foodbook.model.person.exceptions.DuplicatePersonException;
 import seedu.foodbook.model.person.exceptions.PersonNotFoundException;
 
@@ -19,6 +27,8 @@ import seedu.foodbook.model.person.exceptions.PersonNotFoundException;
  * as to ensure that the person with exactly the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * An index from name to person (and to its position in the list) is kept in sync with the list. Since
+ * {@code Name} equality is case-insensitive, lookups and duplicate checks by name take constant time.
  *
  * @see Person#isSamePerson(Person)
  */
@@ -28,12 +38,37 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /** The same persons as {@code internalList}, kept in step with it, from which snapshots are taken. */
+    private PersistentList<Person> persistentList = PersistentList.empty();
+
+    private final Map<Name, Person> personsByName = new HashMap<>();
+    private final Map<Name, Integer> positionsByName = new HashMap<>();
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByName.containsKey(toCheck.getName());
+    }
+
+    /**
+     * Returns the person whose name matches {@code name} case-insensitively, if it is in the list.
+     */
+    public Optional<Person> getPersonByName(Name name) {
+        return Optional.ofNullable(personsByName.get(name));
+    }
+
+    /**
+     * Returns the position of a person equal to {@code person} in the list, or -1 if there is none.
+     * Takes constant time.
+     */
+    public int indexOf(Person person) {
+        Integer index = positionsByName.get(person.getName());
+        if (index == null || !internalList.get(index).equals(person)) {
+            return -1;
+        }
+        return index;
     }
 
     /**
@@ -45,7 +80,46 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        personsByName.put(toAdd.getName(), toAdd);
+        positionsByName.put(toAdd.getName(), internalList.size());
         internalList.add(toAdd);
+        persistentList = persistentList.plus(persistentList.size(), toAdd);
+    }
+
+    /**
+     * Appends {@code toAdd} to the list in a single step, so that listeners see one change for all of them.
+     * {@code toAdd} must not contain duplicate persons, nor any person already in the list.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        if (!personsAreUnique(toAdd) || toAdd.stream().anyMatch(this::contains)) {
+            throw new DuplicatePersonException();
+        }
+
+        int position = internalList.size();
+        for (Person person : toAdd) {
+            personsByName.put(person.getName(), person);
+            positionsByName.put(person.getName(), position++);
+        }
+        internalList.addAll(toAdd);
+        persistentList = persistentList.plusAll(toAdd);
+    }
+
+    /**
+     * Inserts a person into the list at position {@code index}.
+     * The person must not already exist in the list.
+     */
+    public void add(int index, Person toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        internalList.add(index, toAdd);
+        persistentList = persistentList.plus(index, toAdd);
+        personsByName.put(toAdd.getName(), toAdd);
+        for (int i = index; i < internalList.size(); i++) {
+            positionsByName.put(internalList.get(i).getName(), i);
+        }
     }
 
     /**
@@ -56,7 +130,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -65,7 +139,12 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        personsByName.remove(target.getName());
+        positionsByName.remove(target.getName());
+        personsByName.put(editedPerson.getName(), editedPerson);
+        positionsByName.put(editedPerson.getName(), index);
         internalList.set(index, editedPerson);
+        persistentList = persistentList.with(index, editedPerson);
     }
 
     /**
@@ -74,14 +153,72 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        personsByName.remove(toRemove.getName());
+        positionsByName.remove(toRemove.getName());
+        internalList.remove(index);
+        persistentList = persistentList.minus(index);
+        for (int i = index; i < internalList.size(); i++) {
+            positionsByName.put(internalList.get(i).getName(), i);
+        }
+    }
+
+    /**
+     * Removes all of {@code toRemove} from the list, a run of adjacent persons at a time from the end, so that
+     * listeners see only the removals rather than the whole list replaced.
+     * Every person in {@code toRemove} must exist in the list.
+     */
+    public void removeAll(Collection<Person> toRemove) {
+        requireAllNonNull(toRemove);
+        int[] indexes = new int[toRemove.size()];
+        int count = 0;
+        for (Person person : toRemove) {
+            int index = indexOf(person);
+            if (index == -1) {
+                throw new PersonNotFoundException();
+            }
+            indexes[count++] = index;
+        }
+        if (count == 0) {
+            return;
+        }
+
+        // Sorted, without repeats, so that each run can be removed with one change
+        Arrays.sort(indexes, 0, count);
+        int distinctCount = 0;
+        for (int i = 0; i < count; i++) {
+            if (distinctCount == 0 || indexes[i] != indexes[distinctCount - 1]) {
+                indexes[distinctCount++] = indexes[i];
+            }
+        }
+        for (int end = distinctCount; end > 0;) {
+            int start = end - 1;
+            while (start > 0 && indexes[start - 1] == indexes[start] - 1) {
+                start--;
+            }
+            for (int i = end - 1; i >= start; i--) {
+                Name name = internalList.get(indexes[i]).getName();
+                personsByName.remove(name);
+                positionsByName.remove(name);
+                persistentList = persistentList.minus(indexes[i]);
+            }
+            internalList.remove(indexes[start], indexes[end - 1] + 1);
+            end = start;
+        }
+        for (int i = indexes[0]; i < internalList.size(); i++) {
+            positionsByName.put(internalList.get(i).getName(), i);
+        }
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        persistentList = replacement.persistentList;
+        rebuildIndex();
     }
 
     /**
@@ -95,6 +232,19 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.setAll(persons);
+        // A snapshot of a list, as when reverting, is kept as it is rather than copied
+        persistentList = persons instanceof PersistentList<Person> snapshot
+                ? snapshot
+                : PersistentList.copyOf(internalList);
+        rebuildIndex();
+    }
+
+    /**
+     * Returns the persons in the list as they are now, as an immutable list that later changes to this list do not
+     * affect. Takes constant time, as the snapshot shares its structure with the list rather than copying it.
+     */
+    public List<Person> snapshot() {
+        return persistentList;
     }
 
     /**
@@ -134,15 +284,29 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    /**
+     * Rebuilds the name index from the contents of the backing list.
+     */
+    private void rebuildIndex() {
+        personsByName.clear();
+        positionsByName.clear();
+        for (int i = 0; i < internalList.size(); i++) {
+            Person person = internalList.get(i);
+            personsByName.put(person.getName(), person);
+            positionsByName.put(person.getName(), i);
+        }
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
+     * Persons are the same if their names are equal (see {@link Person#isSamePerson}), so the names are hashed
+     * rather than comparing every pair.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<Name> names = new HashSet<>();
+        for (Person person : persons) {
+            if (!names.add(person.getName())) {
+                return false;
             }
         }
         return true;
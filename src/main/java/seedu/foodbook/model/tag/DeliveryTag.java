@@ -3,7 +3,10 @@ package seedu.foodbook.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.foodbook.commons.util.AppUtil.checkArgument;
 
+import java.util.Locale;
+
 import seedu.foodbook.model.delivery.TagKind;
+import seedu.foodbook.model.util.ValidationUtil;
 
 /**
  * Immutable value object representing a single delivery tag.
@@ -26,6 +29,9 @@ public final class DeliveryTag {
     /** Canonical (lowercased) tag name. Never {@code null}. */
     public final String name;
 
+    /** Case-folded tag name, computed once for case-insensitive matching. */
+    private final String normalizedName;
+
     /**
      * Creates a {@code DeliveryTag} with the given name.
      * The name is validated against {@link #VALIDATION_REGEX} and stored in lowercase.
@@ -38,6 +44,7 @@ public final class DeliveryTag {
         requireNonNull(name);
         checkArgument(isValidTagName(name), MESSAGE_CONSTRAINT);
         this.name = name;
+        this.normalizedName = name.toLowerCase(Locale.ROOT);
     }
 
     /**
@@ -49,6 +56,15 @@ public final class DeliveryTag {
         return name;
     }
 
+    /**
+     * Returns the case-folded tag name, for case-insensitive matching.
+     *
+     * @return lowercased tag name, never {@code null}
+     */
+    public String getNormalizedName() {
+        return normalizedName;
+    }
+
     /**
      * Returns {@code true} if the given string is a valid tag name.
      * A valid name is non-null, when trimmed matches {@link #VALIDATION_REGEX}.
@@ -57,7 +73,7 @@ public final class DeliveryTag {
      * @return {@code true} if valid; {@code false} otherwise
      */
     public static boolean isValidTagName(String test) {
-        return test != null && test.trim().matches(VALIDATION_REGEX);
+        return test != null && ValidationUtil.isAlphanumeric(test.trim());
     }
 
     /**
@@ -3,6 +3,8 @@ package seedu.foodbook.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.foodbook.commons.util.AppUtil.checkArgument;
 
+import seedu.foodbook.model.util.ValidationUtil;
+
 /**
  * Represents a Tag in the food book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -35,7 +37,7 @@ public class Tag {
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAlphanumeric(test);
     }
 
     @Override
@@ -0,0 +1,73 @@
+package seedu.foodbook.model.undo;
+
+import java.util.List;
+
+import seedu.foodbook.model.delivery.Delivery;
+import seedu.foodbook.model.delivery.DeliveryArchive;
+import seedu.foodbook.model.person.Person;
+
+/**
+ * A single change made to foodBook, holding just enough to revert it
+ * Reverting a change yields the change that reverts it back, for use with undo and redo
+ */
+public interface FoodBookChange {
+
+    /**
+     * {@code person} was added to the person list
+     */
+    record PersonAdded(Person person) implements FoodBookChange {}
+
+    /**
+     * {@code person} was removed from position {@code index} of the person list
+     */
+    record PersonRemoved(int index, Person person) implements FoodBookChange {}
+
+    /**
+     * {@code before} was replaced by {@code after} in the person list
+     */
+    record PersonReplaced(Person before, Person after) implements FoodBookChange {}
+
+    /**
+     * {@code delivery} was added to the delivery list
+     */
+    record DeliveryAdded(Delivery delivery) implements FoodBookChange {}
+
+    /**
+     * {@code delivery} was removed from position {@code index} of the delivery list
+     */
+    record DeliveryRemoved(int index, Delivery delivery) implements FoodBookChange {}
+
+    /**
+     * {@code before} was replaced by {@code after} in the delivery list
+     */
+    record DeliveryReplaced(Delivery before, Delivery after) implements FoodBookChange {}
+
+    /**
+     * {@code person} was added to the person list along with {@code deliveries}, its deliveries
+     */
+    record PersonWithDeliveriesAdded(Person person, List<Delivery> deliveries) implements FoodBookChange {}
+
+    /**
+     * {@code person} was removed from position {@code index} of the person list along with {@code deliveries}, its
+     * deliveries, from the matching ascending positions {@code deliveryIndexes} of the delivery list
+     */
+    record PersonWithDeliveriesRemoved(int index, Person person, List<Integer> deliveryIndexes,
+            List<Delivery> deliveries) implements FoodBookChange {}
+
+    /**
+     * {@code persons} and {@code deliveries} were appended to the ends of the person and delivery lists
+     */
+    record BatchAdded(List<Person> persons, List<Delivery> deliveries) implements FoodBookChange {}
+
+    /**
+     * {@code persons} and {@code deliveries} were removed from the ends of the person and delivery lists
+     */
+    record BatchRemoved(List<Person> persons, List<Delivery> deliveries) implements FoodBookChange {}
+
+    /**
+     * Both lists were replaced wholesale; {@code personList}, {@code deliveryList} and {@code deliveryArchive} are
+     * their previous contents
+     */
+    record ListsReplaced(List<Person> personList, List<Delivery> deliveryList, DeliveryArchive deliveryArchive)
+            implements FoodBookChange {}
+}
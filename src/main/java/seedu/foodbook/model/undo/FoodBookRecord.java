@@ -2,16 +2,12 @@ package seedu.foodbook.model.undo;
 
 import java.util.List;
 
-import seedu.foodbook.model.delivery.Delivery;
-import seedu.foodbook.model.person.Person;
-
 /**
- * Record representing the state of foodBook
- * For use with undo
- * @param personList A copy of foodBook's personList
- * @param deliveryList A copy of foodBook's deliveryList
+ * Record of the changes made to foodBook since a checkpoint, or by an undo or redo
+ * For use with undo and redo; its size is proportional to what changed, not to the size of foodBook
+ * The next delivery id is deliberately not recorded, so that undo never hands out an id a second time
+ * @param changes The changes made, in the order they were made
  */
 public record FoodBookRecord(
-        List<Person> personList,
-        List<Delivery> deliveryList
+        List<FoodBookChange> changes
 ) {}
@@ -8,11 +8,11 @@ import seedu.foodbook.model.person.Person;
 
 /**
  * Record representing the state of the model
- * For use with undo
+ * For use with undo and redo
  * @param commandString The most recent command word used
- * @param uiPanel The uiPanel to show after undo
- * @param personListPredicate The filters to apply to personList after undo
- * @param deliveryListPredicate The filters to apply to deliveryList after undo
+ * @param uiPanel The uiPanel to show after undo or redo
+ * @param personListPredicate The filters to apply to personList after undo or redo
+ * @param deliveryListPredicate The filters to apply to deliveryList after undo or redo
  */
 public record ModelRecord(
         String commandString,
@@ -1,40 +1,87 @@
 package seedu.foodbook.model.undo;
 
+import static seedu.foodbook.commons.util.AppUtil.checkArgument;
+
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.Optional;
 
+import seedu.foodbook.model.undo.exceptions.NoMoreRedoException;
 import seedu.foodbook.model.undo.exceptions.NoMoreUndoException;
 
 /**
- * Data Structure that controls record management for undo
+ * Data Structure that controls record management for undo and redo
  * @param <T> The type of record to be stored
  */
 public class UndoStack<T> {
 
+    /**
+     * The number of records kept when no capacity is given
+     */
+    public static final int DEFAULT_CAPACITY = 100;
+
+    /**
+     * The message given when a capacity that is not positive is set
+     */
+    public static final String MESSAGE_CAPACITY_CONSTRAINTS = "Undo capacity must be positive.";
+
     /**
      * The Maximum capacity of the stack
      */
-    private static final Integer MAX_CAPACITY = 5;
+    private int capacity;
 
     /**
      * The deq object used to store state
      */
     private final Deque<T> stack;
 
+    /**
+     * The deq object used to store undone state, cleared by each new checkpoint
+     */
+    private final Deque<T> redoStack;
+
     public UndoStack() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a stack that keeps at most {@code capacity} records
+     * @param capacity The maximum number of records kept, which must be positive
+     */
+    public UndoStack(int capacity) {
         this.stack = new ArrayDeque<>();
+        this.redoStack = new ArrayDeque<>();
+        setCapacity(capacity);
+    }
+
+    /**
+     * Sets the maximum number of records kept, each for undo and for redo, removing the oldest records beyond it
+     * @param capacity The maximum number of records kept, which must be positive
+     */
+    public void setCapacity(int capacity) {
+        checkArgument(capacity > 0, MESSAGE_CAPACITY_CONSTRAINTS);
+        this.capacity = capacity;
+        trim(stack);
+        trim(redoStack);
     }
 
     /**
      * Adds a new record to the stack
      * If the stack is at max capcity, removes the oldest record
+     * Records kept for redo are discarded, as they no longer follow on from the new record
      * @param snapshot The new record to add
      */
     public void checkpoint(T snapshot) {
-        if (stack.size() == MAX_CAPACITY) {
-            stack.removeFirst();
-        }
-        stack.addLast(snapshot);
+        redoStack.clear();
+        push(stack, snapshot);
+    }
+
+    /**
+     * Returns the most recent record added, without removing it
+     * @return The most recent record, or empty if there are none
+     */
+    public Optional<T> latest() {
+        return Optional.ofNullable(stack.peekLast());
     }
 
     /**
@@ -48,4 +95,43 @@ public class UndoStack<T> {
         }
         return stack.pollLast();
     }
+
+    /**
+     * Keeps a record that can be taken back with {@link #redo()}
+     * @param snapshot The record that undoes the most recent undo
+     */
+    public void keepForRedo(T snapshot) {
+        push(redoStack, snapshot);
+    }
+
+    /**
+     * Returns the most recent record kept for redo
+     * @return The most recent record kept for redo
+     * @throws NoMoreRedoException If no more redo states are left
+     */
+    public T redo() throws NoMoreRedoException {
+        if (redoStack.isEmpty()) {
+            throw new NoMoreRedoException();
+        }
+        return redoStack.pollLast();
+    }
+
+    /**
+     * Keeps a record that can be taken back with {@link #undo()}, without discarding the records kept for redo
+     * @param snapshot The record that undoes the most recent redo
+     */
+    public void keepForUndo(T snapshot) {
+        push(stack, snapshot);
+    }
+
+    private void push(Deque<T> records, T snapshot) {
+        records.addLast(snapshot);
+        trim(records);
+    }
+
+    private void trim(Deque<T> records) {
+        while (records.size() > capacity) {
+            records.removeFirst();
+        }
+    }
 }
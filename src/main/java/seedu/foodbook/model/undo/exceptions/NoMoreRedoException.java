@@ -0,0 +1,6 @@
+package seedu.foodbook.model.undo.exceptions;
+
+/**
+ * Signals that there is no undone change left to redo.
+ */
+public class NoMoreRedoException extends RuntimeException {}
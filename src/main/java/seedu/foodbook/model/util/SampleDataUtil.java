@@ -8,6 +8,7 @@ import seedu.foodbook.model.FoodBook;
 import seedu.foodbook.model.ReadOnlyFoodBook;
 import seedu.foodbook.model.delivery.DateTime;
 import seedu.foodbook.model.delivery.Delivery;
+import seedu.foodbook.model.delivery.Money;
 import seedu.foodbook.model.person.Address;
 import seedu.foodbook.model.person.Email;
 import seedu.foodbook.model.person.Name;
@@ -53,35 +54,35 @@ public class SampleDataUtil {
 
         return new Delivery[] {
             new Delivery(1, findByName(persons, "Alice Tan"), new DateTime("5/6/2024", "0930"),
-                    "Cupcakes x12", 36.0, null, false),
+                    "Cupcakes x12", Money.parse("36.00"), null, false),
             new Delivery(2, findByName(persons, "Ben Lim"), new DateTime("6/6/2024", "1400"),
-                    "Brownies box", 24.0, null, false),
+                    "Brownies box", Money.parse("24.00"), null, false),
             new Delivery(3, findByName(persons, "Chloe Ng"), new DateTime("7/6/2024", "1100"),
-                    "Corporate snack set", 120.0, null, false),
+                    "Corporate snack set", Money.parse("120.00"), null, false),
             new Delivery(4, findByName(persons, "Darren Koh"), new DateTime("8/6/2024", "1600"),
-                    "Birthday cake 8", 58.0, null, false),
+                    "Birthday cake 8", Money.parse("58.00"), null, false),
             new Delivery(5, findByName(persons, "Ethan Lee"), new DateTime("9/6/2024", "1015"),
-                    "Cookies x24", 30.0, null, false),
+                    "Cookies x24", Money.parse("30.00"), null, false),
             new Delivery(6, findByName(persons, "Faith Goh"), new DateTime("10/6/2024", "1500"),
-                    "Macarons assorted", 42.0, null, false),
+                    "Macarons assorted", Money.parse("42.00"), null, false),
             new Delivery(7, findByName(persons, "Gavin Ong"), new DateTime("11/6/2024", "1200"),
-                    "Meeting refreshments", 85.0, null, false),
+                    "Meeting refreshments", Money.parse("85.00"), null, false),
             new Delivery(8, findByName(persons, "Hazel Chua"), new DateTime("12/6/2024", "1830"),
-                    "Vegan tart", 28.0, null, false),
+                    "Vegan tart", Money.parse("28.00"), null, false),
             new Delivery(9, findByName(persons, "Ivan Teo"), new DateTime("13/6/2024", "0900"),
-                    "Coffee & pastry set", 22.0, null, false),
+                    "Coffee & pastry set", Money.parse("22.00"), null, false),
             new Delivery(10, findByName(persons, "Jasmine Low"), new DateTime("14/6/2024", "1345"),
-                    "Cheesecake slice x4", 32.0, null, false),
+                    "Cheesecake slice x4", Money.parse("32.00"), null, false),
             new Delivery(11, findByName(persons, "Ken Yap"), new DateTime("15/6/2024", "1700"),
-                    "Fruit platter (small)", 26.0, null, false),
+                    "Fruit platter (small)", Money.parse("26.00"), null, false),
             new Delivery(12, findByName(persons, "Leah Wong"), new DateTime("16/6/2024", "1000"),
-                    "Corporate tea break", 150.0, null, true),
+                    "Corporate tea break", Money.parse("150.00"), null, true),
             new Delivery(13, findByName(persons, "Alice Tan"), new DateTime("17/6/2024", "1130"),
-                    "Gluten-free muffins", 34.0, null, false),
+                    "Gluten-free muffins", Money.parse("34.00"), null, false),
             new Delivery(14, findByName(persons, "Ben Lim"), new DateTime("18/6/2024", "1530"),
-                    "Snack cones x20", 40.0, null, false),
+                    "Snack cones x20", Money.parse("40.00"), null, false),
             new Delivery(15, findByName(persons, "Chloe Ng"), new DateTime("19/6/2024", "1215"),
-                    "Office pantry restock", 95.0, null, false)
+                    "Office pantry restock", Money.parse("95.00"), null, false)
         };
     }
 
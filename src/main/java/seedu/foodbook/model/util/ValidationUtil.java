@@ -0,0 +1,102 @@
+package seedu.foodbook.model.util;
+
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import seedu.foodbook.model.person.Email;
+import seedu.foodbook.model.person.Name;
+
+/**
+ * Validates the fields of the model's value objects, for their constructors and {@code isValid} methods.
+ * Regular expressions are compiled once rather than on every check as {@link String#matches} does, and the
+ * simplest grammars are checked by hand without a regular expression at all.
+ */
+public class ValidationUtil {
+
+    private static final Pattern NAME_PATTERN = Pattern.compile(Name.VALIDATION_REGEX);
+    private static final Pattern EMAIL_PATTERN = Pattern.compile(Email.VALIDATION_REGEX);
+
+    /**
+     * Returns true if {@code test} matches {@link Name#VALIDATION_REGEX}.
+     */
+    public static boolean isValidName(String test) {
+        return NAME_PATTERN.matcher(test).matches();
+    }
+
+    /**
+     * Returns true if {@code test} matches {@link Email#VALIDATION_REGEX}.
+     */
+    public static boolean isValidEmail(String test) {
+        return EMAIL_PATTERN.matcher(test).matches();
+    }
+
+    /**
+     * Returns true if {@code test} is at least {@code minLength} ASCII digits, as {@code \d{minLength,}} matches.
+     */
+    public static boolean isDigits(String test, int minLength) {
+        if (test.length() < minLength) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is one or more ASCII letters and digits, as {@code \p{Alnum}+} matches.
+     */
+    public static boolean isAlphanumeric(String test) {
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (!(c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} starts with a character other than ASCII whitespace and has no line terminator
+     * after it, as {@code [^\s].*} matches.
+     */
+    public static boolean isNonBlankLine(String test) {
+        if (test.isEmpty() || isAsciiWhitespace(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            if (isLineTerminator(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the value object {@code constructor} makes of {@code value}, validating it only once, in the
+     * constructor. If it is invalid, the exception {@code toException} makes of the constructor's constraint
+     * message is thrown instead, so that parsers and storage need not check the value beforehand.
+     */
+    public static <T, E extends Exception> T createValid(String value, Function<String, T> constructor,
+            Function<String, E> toException) throws E {
+        try {
+            return constructor.apply(value);
+        } catch (IllegalArgumentException e) {
+            throw toException.apply(e.getMessage());
+        }
+    }
+
+    private static boolean isAsciiWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+}
@@ -0,0 +1,370 @@
+package seedu.foodbook.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.foodbook.commons.core.DataFileFormat;
+import seedu.foodbook.commons.core.LogsCenter;
+import seedu.foodbook.commons.exceptions.DataLoadingException;
+import seedu.foodbook.commons.exceptions.IllegalValueException;
+import seedu.foodbook.commons.util.FileUtil;
+import seedu.foodbook.model.FoodBook;
+import seedu.foodbook.model.ReadOnlyFoodBook;
+import seedu.foodbook.model.delivery.DateTime;
+import seedu.foodbook.model.delivery.Delivery;
+import seedu.foodbook.model.delivery.Money;
+import seedu.foodbook.model.delivery.UniqueDeliveryList;
+import seedu.foodbook.model.delivery.exceptions.DuplicateDeliveryException;
+import seedu.foodbook.model.person.Address;
+import seedu.foodbook.model.person.Email;
+import seedu.foodbook.model.person.Name;
+import seedu.foodbook.model.person.Person;
+import seedu.foodbook.model.person.Phone;
+import seedu.foodbook.model.person.UniquePersonList;
+import seedu.foodbook.model.person.exceptions.DuplicatePersonException;
+import seedu.foodbook.model.tag.DeliveryTag;
+import seedu.foodbook.model.tag.Tag;
+
+/**
+ * A class to access FoodBook data stored as a compact binary snapshot on the hard disk.
+ * <p>
+ * Every string is stored once, in a table that records refer to by index, so the name of a client is not
+ * repeated in each of their deliveries. Dates are stored as epoch minutes, costs as cents and delivery statuses as
+ * a bitset, so loading parses no dates, numbers or repeated strings. The layout, all big-endian, is:
+ * <pre>
+ * int magic, short version
+ * int string count, then for each string: int byte length, UTF-8 bytes
+ * int person count, then for each person: int name, phone, email and address strings,
+ *     int tag count, int tag strings
+ * int delivery count
+ * int status word count, long status words, with bit i set if delivery i is delivered
+ * for each delivery: int id, int client name string, long epoch minute, int remarks string,
+ *     long cost in cents, int tag string or -1 if untagged
+ * int next delivery id
+ * long CRC32 of everything before it
+ * </pre>
+ */
+public class BinaryFoodBookStorage implements FoodBookStorage {
+
+    public static final String MESSAGE_NOT_A_BINARY_FOOD_BOOK = "Data file is not a binary food book.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Data file format version %1$d is not supported.";
+    public static final String MESSAGE_CORRUPTED = "Data file is corrupted.";
+
+    /** "FBOK" in ASCII. */
+    static final int MAGIC = 0x46424F4B;
+    static final short VERSION = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryFoodBookStorage.class);
+    private static final int NO_TAG = -1;
+    private static final int TRAILER_BYTES = Long.BYTES;
+    private static final int PERSON_BYTES = 5 * Integer.BYTES;
+    private static final int DELIVERY_BYTES = 4 * Integer.BYTES + 2 * Long.BYTES;
+
+    private Path filePath;
+
+    public BinaryFoodBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getFoodBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public DataFileFormat getFoodBookFormat() {
+        return DataFileFormat.BINARY;
+    }
+
+    @Override
+    public Optional<ReadOnlyFoodBook> readFoodBook() throws DataLoadingException {
+        return readFoodBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readFoodBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyFoodBook> readFoodBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Binary file " + filePath + " found.");
+
+        try {
+            // Read whole, as the file is small and decoding from an array beats decoding from a stream
+            return Optional.of(decode(ByteBuffer.wrap(Files.readAllBytes(filePath))));
+        } catch (IOException e) {
+            logger.warning("Error reading from data file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveFoodBook(ReadOnlyFoodBook foodBook) throws IOException {
+        saveFoodBook(foodBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveFoodBook(ReadOnlyFoodBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveFoodBook(ReadOnlyFoodBook foodBook, Path filePath) throws IOException {
+        requireNonNull(foodBook);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        // Encoded whole, as the file is small and a single array write beats writing through a stream per field
+        ByteBuffer out = encode(foodBook);
+        CRC32 checksum = new CRC32();
+        checksum.update(out.array(), 0, out.position());
+        out.putLong(checksum.getValue());
+
+        // Written beside the file and moved over it, so that a crash while saving leaves the old file whole
+        Path tempFile = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            out.flip();
+            while (out.hasRemaining()) {
+                channel.write(out);
+            }
+            channel.force(true);
+        }
+        try {
+            Files.move(tempFile, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static ByteBuffer encode(ReadOnlyFoodBook foodBook) {
+        List<Person> persons = foodBook.getPersonList();
+        List<Delivery> deliveries = foodBook.getDeliveryList();
+        StringTable strings = new StringTable();
+        int personTagCount = 0;
+        for (Person person : persons) {
+            strings.add(person.getName().fullName);
+            strings.add(person.getPhone().value);
+            strings.add(person.getEmail().value);
+            strings.add(person.getAddress().value);
+            person.getTags().forEach(tag -> strings.add(tag.tagName));
+            personTagCount += person.getTags().size();
+        }
+        for (Delivery delivery : deliveries) {
+            strings.add(delivery.getClient().getName().fullName);
+            strings.add(delivery.getRemarks());
+            delivery.getTag().ifPresent(tag -> strings.add(tag.getName()));
+        }
+        int statusWordCount = (deliveries.size() + Long.SIZE - 1) / Long.SIZE;
+
+        int size = Integer.BYTES + Short.BYTES
+                + Integer.BYTES + strings.size() * Integer.BYTES + strings.byteCount
+                + Integer.BYTES + persons.size() * PERSON_BYTES + personTagCount * Integer.BYTES
+                + Integer.BYTES + Integer.BYTES + statusWordCount * Long.BYTES + deliveries.size() * DELIVERY_BYTES
+                + Integer.BYTES + TRAILER_BYTES;
+        ByteBuffer out = ByteBuffer.allocate(size);
+
+        out.putInt(MAGIC);
+        out.putShort(VERSION);
+        out.putInt(strings.size());
+        for (byte[] bytes : strings.encoded) {
+            out.putInt(bytes.length);
+            out.put(bytes);
+        }
+
+        out.putInt(persons.size());
+        for (Person person : persons) {
+            out.putInt(strings.indexOf(person.getName().fullName));
+            out.putInt(strings.indexOf(person.getPhone().value));
+            out.putInt(strings.indexOf(person.getEmail().value));
+            out.putInt(strings.indexOf(person.getAddress().value));
+            out.putInt(person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                out.putInt(strings.indexOf(tag.tagName));
+            }
+        }
+
+        out.putInt(deliveries.size());
+        long[] statuses = new long[statusWordCount];
+        for (int i = 0; i < deliveries.size(); i++) {
+            if (deliveries.get(i).getStatus()) {
+                statuses[i / Long.SIZE] |= 1L << (i % Long.SIZE);
+            }
+        }
+        out.putInt(statuses.length);
+        for (long word : statuses) {
+            out.putLong(word);
+        }
+        for (Delivery delivery : deliveries) {
+            out.putInt(delivery.getId());
+            out.putInt(strings.indexOf(delivery.getClient().getName().fullName));
+            out.putLong(delivery.getDeliveryDate().toEpochMinute());
+            out.putInt(strings.indexOf(delivery.getRemarks()));
+            out.putLong(delivery.getCost().getCents());
+            out.putInt(delivery.getTag().map(tag -> strings.indexOf(tag.getName())).orElse(NO_TAG));
+        }
+        out.putInt(foodBook.getNextDeliveryId());
+        return out;
+    }
+
+    private static FoodBook decode(ByteBuffer in) throws IllegalValueException {
+        if (in.remaining() < Integer.BYTES + Short.BYTES + TRAILER_BYTES || in.getInt(0) != MAGIC) {
+            throw new IllegalValueException(MESSAGE_NOT_A_BINARY_FOOD_BOOK);
+        }
+        short version = in.getShort(Integer.BYTES);
+        if (version != VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        int bodyLength = in.limit() - TRAILER_BYTES;
+        CRC32 checksum = new CRC32();
+        checksum.update(in.array(), 0, bodyLength);
+        if (checksum.getValue() != in.getLong(bodyLength)) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+
+        in.limit(bodyLength).position(Integer.BYTES + Short.BYTES);
+        try {
+            FoodBook foodBook = decodeBody(in);
+            if (in.hasRemaining()) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            return foodBook;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException e) {
+            // A checksum match rules out damage, so this is a file written wrongly rather than a damaged one
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        } catch (IllegalArgumentException | DateTimeException | ArithmeticException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+
+    private static FoodBook decodeBody(ByteBuffer in) throws IllegalValueException {
+        String[] strings = new String[in.getInt()];
+        for (int i = 0; i < strings.length; i++) {
+            int length = in.getInt();
+            strings[i] = new String(in.array(), in.position(), length, StandardCharsets.UTF_8);
+            in.position(in.position() + length);
+        }
+
+        // Built once per distinct string, so each tag and client is only validated once however often it is used
+        Tag[] tags = new Tag[strings.length];
+        DeliveryTag[] deliveryTags = new DeliveryTag[strings.length];
+        Person[] clientsByName = new Person[strings.length];
+
+        UniquePersonList persons = new UniquePersonList();
+        int personCount = in.getInt();
+        for (int i = 0; i < personCount; i++) {
+            int nameIndex = in.getInt();
+            Name name = new Name(strings[nameIndex]);
+            Phone phone = new Phone(strings[in.getInt()]);
+            Email email = new Email(strings[in.getInt()]);
+            Address address = new Address(strings[in.getInt()]);
+            Set<Tag> personTags = new HashSet<>();
+            int tagCount = in.getInt();
+            for (int t = 0; t < tagCount; t++) {
+                int tagIndex = in.getInt();
+                if (tags[tagIndex] == null) {
+                    tags[tagIndex] = new Tag(strings[tagIndex]);
+                }
+                personTags.add(tags[tagIndex]);
+            }
+            Person person = new Person(name, phone, email, address, personTags);
+            try {
+                persons.add(person);
+            } catch (DuplicatePersonException e) {
+                throw new IllegalValueException(JsonSerializableFoodBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            clientsByName[nameIndex] = person;
+        }
+
+        int deliveryCount = in.getInt();
+        long[] statuses = new long[in.getInt()];
+        in.asLongBuffer().get(statuses);
+        in.position(in.position() + statuses.length * Long.BYTES);
+
+        UniqueDeliveryList deliveries = new UniqueDeliveryList();
+        for (int i = 0; i < deliveryCount; i++) {
+            int id = in.getInt();
+            int clientIndex = in.getInt();
+            Person client = clientsByName[clientIndex];
+            if (client == null) {
+                throw new IllegalValueException("Client not found: " + strings[clientIndex]);
+            }
+            DateTime dateTime = DateTime.ofEpochMinute(in.getLong());
+            String remarks = strings[in.getInt()];
+            Money cost = Money.ofCents(in.getLong());
+            if (cost.isNegative()) {
+                throw new IllegalValueException(JsonAdaptedDelivery.MESSAGE_INVALID_COST);
+            }
+            int tagIndex = in.getInt();
+            if (tagIndex != NO_TAG && deliveryTags[tagIndex] == null) {
+                deliveryTags[tagIndex] = new DeliveryTag(strings[tagIndex]);
+            }
+            Optional<DeliveryTag> tag = tagIndex == NO_TAG ? Optional.empty() : Optional.of(deliveryTags[tagIndex]);
+            boolean isDelivered = (statuses[i / Long.SIZE] & (1L << (i % Long.SIZE))) != 0;
+            try {
+                deliveries.add(new Delivery(id, client, dateTime, remarks, cost, tag, isDelivered));
+            } catch (DuplicateDeliveryException e) {
+                throw new IllegalValueException(JsonSerializableFoodBook.MESSAGE_DUPLICATE_DELIVERY);
+            }
+        }
+
+        FoodBook foodBook = new FoodBook(persons, deliveries);
+        foodBook.setNextDeliveryId(in.getInt());
+        return foodBook;
+    }
+
+    /**
+     * The distinct strings of a food book, each numbered in the order first added.
+     */
+    private static class StringTable {
+        private final Map<String, Integer> indexes = new HashMap<>();
+        private final List<byte[]> encoded = new ArrayList<>();
+        private int byteCount;
+
+        void add(String string) {
+            if (indexes.putIfAbsent(string, indexes.size()) == null) {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                encoded.add(bytes);
+                byteCount += bytes.length;
+            }
+        }
+
+        int indexOf(String string) {
+            return indexes.get(string);
+        }
+
+        int size() {
+            return indexes.size();
+        }
+    }
+}
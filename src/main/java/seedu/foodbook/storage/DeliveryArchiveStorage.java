@@ -0,0 +1,735 @@
+package seedu.foodbook.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.foodbook.commons.core.DataFileFormat;
+import seedu.foodbook.commons.core.LogsCenter;
+import seedu.foodbook.commons.exceptions.DataLoadingException;
+import seedu.foodbook.commons.exceptions.IllegalValueException;
+import seedu.foodbook.commons.util.JsonUtil;
+import seedu.foodbook.model.ReadOnlyFoodBook;
+import seedu.foodbook.model.delivery.DateTime;
+import seedu.foodbook.model.delivery.Delivery;
+import seedu.foodbook.model.delivery.DeliveryArchive;
+import seedu.foodbook.model.delivery.Money;
+import seedu.foodbook.model.person.Name;
+import seedu.foodbook.model.person.Person;
+import seedu.foodbook.model.tag.DeliveryTag;
+
+/**
+ * The directory of delivered deliveries archived out of a food book's data file, partitioned by the month they were
+ * delivered in. A small manifest lists the partitions with the number and total cost of the deliveries in each, so
+ * opening the archive reads none of them: a partition's file is mapped into memory only when a query reaches its
+ * month, and each delivery in it is decoded only when a query returns it.
+ * <p>
+ * Within a partition, deliveries are fixed-width records sorted by date-time, so a date range is found by binary
+ * search, and every string is stored once, in a table that records refer to by index, with the client names first.
+ * The layout of a partition file, all big-endian, is:
+ * <pre>
+ * int magic, short version
+ * int byte length of the rest of the file
+ * int record count, int smallest and largest delivery id, long earliest and latest epoch minute,
+ * int client name count, int string count, int string table byte length,
+ * then for each string: int byte length, UTF-8 bytes
+ * for each record: int id, int client name string, long epoch minute, int remarks string,
+ *     long cost in cents, int tag string or -1 if untagged
+ * </pre>
+ * A partition file is never changed once written. A month that gains or loses deliveries is written whole to a new
+ * file, named with the next generation number, which the manifest, replaced in one step, then lists in place of the
+ * old one; the other months' files are left as they are. Files the manifest no longer lists are deleted when the
+ * archive is next opened, as archives read from them before, e.g. one kept to undo a {@code clear}, may still need
+ * them until then.
+ */
+public class DeliveryArchiveStorage {
+
+    public static final String DIRECTORY_EXTENSION = DataFileFormat.ARCHIVE_EXTENSION;
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+    public static final String PARTITION_FILE_EXTENSION = "deliveries";
+    public static final String MESSAGE_NOT_AN_ARCHIVE = "Not part of a delivery archive: %1$s";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Delivery archive format version %1$s is not supported.";
+    public static final String MESSAGE_CORRUPTED = "Delivery archive is corrupted.";
+    public static final String MESSAGE_MISSING_PARTITION = "Delivery archive partition %1$s is missing or incomplete.";
+    public static final String MESSAGE_MISSING_CLIENT = "Archived deliveries refer to a client not in the data file: "
+            + "%1$s";
+
+    /** "FBAR" in ASCII. */
+    static final int MAGIC = 0x46424152;
+    static final short VERSION = 1;
+    static final int FILE_HEADER_BYTES = Integer.BYTES + Short.BYTES;
+    static final int RECORD_BYTES = 4 * Integer.BYTES + 2 * Long.BYTES;
+
+    private static final Logger logger = LogsCenter.getLogger(DeliveryArchiveStorage.class);
+    private static final int SEGMENT_HEADER_BYTES = 7 * Integer.BYTES + 2 * Long.BYTES;
+    private static final int NO_TAG = -1;
+    private static final Pattern PARTITION_FILE_NAME = Pattern.compile(
+            "\\d{4}-\\d{2}\\.(\\d{1,9})\\." + PARTITION_FILE_EXTENSION);
+
+    private final Path directoryPath;
+    private final Path manifestPath;
+
+    /** Read from disk on first use; guarded by this object, like the rest of the state below. */
+    private boolean isLoaded;
+
+    /** The partitions and client counts as last written to, or read from, the manifest. */
+    private List<Partition> savedPartitions = List.of();
+    private Map<Name, Integer> savedClientCounts = Map.of();
+
+    /** The highest generation number of any partition file written to the directory. */
+    private int generation;
+
+    /** The latest rewrite of each partition that lost deliveries, so that a partition is rewritten once per loss. */
+    private final Map<Partition, Rewrite> rewrites = new HashMap<>();
+
+    public DeliveryArchiveStorage(Path directoryPath) {
+        this.directoryPath = requireNonNull(directoryPath);
+        this.manifestPath = directoryPath.resolve(MANIFEST_FILE_NAME);
+    }
+
+    /**
+     * Returns the path of the delivery archive kept beside the data file at {@code dataFilePath}.
+     *
+     * @see DataFileFormat#archivePathFor(Path)
+     */
+    public static Path pathFor(Path dataFilePath) {
+        return DataFileFormat.archivePathFor(dataFilePath);
+    }
+
+    /**
+     * Returns true if {@code fileName} is the name of a partition file.
+     */
+    static boolean isPartitionFileName(String fileName) {
+        return PARTITION_FILE_NAME.matcher(fileName).matches();
+    }
+
+    public Path getDirectoryPath() {
+        return directoryPath;
+    }
+
+    /**
+     * Returns the archive in this directory, as of its last save, for the food book {@code foodBook} read from the
+     * data file beside it. Only the manifest is read. A missing directory is an empty archive.
+     *
+     * @throws DataLoadingException if the manifest could not be read, a partition file it lists is missing, or an
+     *     archived delivery's client is not in {@code foodBook}.
+     */
+    public synchronized DeliveryArchive open(ReadOnlyFoodBook foodBook) throws DataLoadingException {
+        requireNonNull(foodBook);
+        try {
+            load();
+            MappedDeliveryArchive archive = new MappedDeliveryArchive(this, savedPartitions, Set.of(),
+                    savedClientCounts);
+            archive.checkClients(foodBook);
+            return archive;
+        } catch (IOException e) {
+            logger.warning("Error reading from delivery archive " + directoryPath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + directoryPath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Saves which archived deliveries {@code foodBook}, just saved to the data file beside this archive, still has:
+     * none, unless its archive was opened from this one. Only the partitions that lost deliveries are rewritten.
+     * Called after the data file is saved, so that a delivery moved back into the data file is never missing from
+     * both; at worst it is in both, and the data file's copy wins when they are next read.
+     */
+    public synchronized void save(ReadOnlyFoodBook foodBook) throws IOException {
+        loadForUpdate();
+
+        List<Partition> partitions = new ArrayList<>();
+        Map<Name, Integer> clientCounts = new HashMap<>();
+        if (foodBook.getDeliveryArchive() instanceof MappedDeliveryArchive archive && archive.isStoredIn(this)) {
+            clientCounts.putAll(archive.getClientCounts());
+            for (Partition partition : archive.getPartitions()) {
+                Set<Integer> removedIds = archive.getRemovedIdsIn(partition);
+                if (removedIds.isEmpty()) {
+                    partitions.add(partition);
+                    continue;
+                }
+                Rewrite rewrite = rewrites.get(partition);
+                if (rewrite == null || !rewrite.removedIds().equals(removedIds)) {
+                    rewrite = rewrite(partition, removedIds);
+                    rewrites.put(partition, rewrite);
+                }
+                rewrite.partition().ifPresent(partitions::add);
+                rewrite.removedClientCounts().forEach((name, removedCount) ->
+                        clientCounts.computeIfPresent(name, (unused, count) ->
+                                count > removedCount ? count - removedCount : null));
+            }
+        }
+
+        if (partitions.equals(savedPartitions) && clientCounts.equals(savedClientCounts)) {
+            return;
+        }
+        writeManifest(partitions, clientCounts);
+    }
+
+    /**
+     * Archives {@code deliveries} on top of {@code archive}, rewriting the partitions of their months, and returns
+     * the resulting archive. Deliveries removed from {@code archive} are kept in the rewritten partitions, as the
+     * data file may not have been saved with them yet.
+     */
+    synchronized MappedDeliveryArchive append(MappedDeliveryArchive archive, List<Delivery> deliveries)
+            throws IOException {
+        if (deliveries.isEmpty()) {
+            return archive;
+        }
+        loadForUpdate();
+
+        Map<YearMonth, List<ArchivedRecord>> recordsByMonth = new TreeMap<>();
+        for (Delivery delivery : deliveries) {
+            recordsByMonth.computeIfAbsent(monthOf(delivery.getDeliveryDate().toEpochMinute()),
+                    unused -> new ArrayList<>()).add(ArchivedRecord.of(delivery));
+        }
+        Map<YearMonth, Partition> partitions = new TreeMap<>();
+        archive.getPartitions().forEach(partition -> partitions.put(partition.month, partition));
+        for (Map.Entry<YearMonth, List<ArchivedRecord>> month : recordsByMonth.entrySet()) {
+            List<ArchivedRecord> records = month.getValue();
+            Partition existing = partitions.get(month.getKey());
+            if (existing != null) {
+                records.addAll(existing.segment().records());
+            }
+            partitions.put(month.getKey(), writePartition(month.getKey(), records));
+        }
+
+        Map<Name, Integer> clientCounts = new HashMap<>(archive.getClientCounts());
+        deliveries.forEach(delivery -> clientCounts.merge(delivery.getClient().getName(), 1, Integer::sum));
+        List<Partition> newPartitions = List.copyOf(partitions.values());
+        writeManifest(newPartitions, clientCounts);
+        logger.info("Archived " + deliveries.size() + " deliveries to " + recordsByMonth.size() + " partitions of "
+                + directoryPath);
+        return new MappedDeliveryArchive(this, newPartitions, archive.getRemovedIds(), clientCounts);
+    }
+
+    /**
+     * Returns the month, in UTC like {@link DateTime#toEpochMinute()}, of a delivery at {@code epochMinute}.
+     */
+    static YearMonth monthOf(long epochMinute) {
+        return YearMonth.from(LocalDateTime.ofEpochSecond(Math.multiplyExact(epochMinute, 60L), 0, ZoneOffset.UTC));
+    }
+
+    private void loadForUpdate() throws IOException {
+        try {
+            load();
+        } catch (IllegalValueException ive) {
+            throw new IOException(ive.getMessage(), ive);
+        }
+    }
+
+    /**
+     * Reads the manifest, unless it has been read already, and checks that the partition files it lists are there.
+     * Partition files it does not list, left over from earlier saves, are deleted.
+     */
+    private void load() throws IOException, IllegalValueException {
+        if (isLoaded) {
+            return;
+        }
+        if (Files.exists(directoryPath) && !Files.isDirectory(directoryPath)) {
+            throw new IllegalValueException(String.format(MESSAGE_NOT_AN_ARCHIVE, directoryPath));
+        }
+
+        if (Files.exists(manifestPath)) {
+            JsonDeliveryArchiveManifest manifest;
+            try {
+                manifest = JsonUtil.fromJsonString(Files.readString(manifestPath), JsonDeliveryArchiveManifest.class);
+            } catch (JsonProcessingException e) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            List<Partition> partitions = manifest.toPartitions(directoryPath);
+            for (Partition partition : partitions) {
+                if (!Files.isRegularFile(partition.filePath) || Files.size(partition.filePath) != partition.fileSize) {
+                    throw new IllegalValueException(String.format(MESSAGE_MISSING_PARTITION, partition.fileName));
+                }
+            }
+            savedPartitions = List.copyOf(partitions);
+            savedClientCounts = Map.copyOf(manifest.toClientCounts());
+        }
+        if (Files.isDirectory(directoryPath)) {
+            deleteUnlistedFiles();
+        }
+        isLoaded = true;
+    }
+
+    private void deleteUnlistedFiles() throws IOException {
+        Set<String> listed = new HashSet<>();
+        savedPartitions.forEach(partition -> listed.add(partition.fileName));
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directoryPath)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                Matcher partitionFileName = PARTITION_FILE_NAME.matcher(fileName);
+                if (partitionFileName.matches()) {
+                    generation = Math.max(generation, Integer.parseInt(partitionFileName.group(1)));
+                } else if (!fileName.endsWith(".tmp")) {
+                    continue;
+                }
+                if (!listed.contains(fileName)) {
+                    try {
+                        Files.delete(file);
+                    } catch (IOException e) {
+                        logger.warning("Could not delete unused delivery archive file " + file + ": " + e);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the rewrite of {@code partition} without the deliveries with {@code removedIds}.
+     */
+    private Rewrite rewrite(Partition partition, Set<Integer> removedIds) throws IOException {
+        Segment segment = partition.segment();
+        List<ArchivedRecord> remaining = new ArrayList<>();
+        Map<Name, Integer> removedClientCounts = new HashMap<>();
+        for (int record = 0; record < segment.recordCount; record++) {
+            if (removedIds.contains(segment.id(record))) {
+                removedClientCounts.merge(segment.clientName(record), 1, Integer::sum);
+            } else {
+                remaining.add(segment.record(record));
+            }
+        }
+        Optional<Partition> rewritten = remaining.isEmpty()
+                ? Optional.empty()
+                : Optional.of(writePartition(partition.month, remaining));
+        return new Rewrite(Set.copyOf(removedIds), rewritten, removedClientCounts);
+    }
+
+    /**
+     * Writes {@code records}, all in {@code month}, to a new partition file.
+     */
+    private Partition writePartition(YearMonth month, List<ArchivedRecord> records) throws IOException {
+        List<ArchivedRecord> sorted = new ArrayList<>(records);
+        sorted.sort(Comparator.comparingLong(ArchivedRecord::epochMinute));
+        ByteBuffer contents = encodePartition(sorted);
+        int fileSize = contents.remaining();
+
+        Files.createDirectories(directoryPath);
+        String fileName = month + "." + (++generation) + "." + PARTITION_FILE_EXTENSION;
+        Path filePath = directoryPath.resolve(fileName);
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.WRITE)) {
+            writeFully(channel, contents, 0);
+            channel.force(true);
+        }
+        return new Partition(month, fileName, filePath, sorted.size(),
+                sorted.stream().mapToLong(ArchivedRecord::cents).reduce(0, Math::addExact),
+                sorted.stream().mapToInt(ArchivedRecord::id).min().getAsInt(),
+                sorted.stream().mapToInt(ArchivedRecord::id).max().getAsInt(), fileSize);
+    }
+
+    private void writeManifest(List<Partition> partitions, Map<Name, Integer> clientCounts) throws IOException {
+        byte[] json = JsonUtil.toJsonString(new JsonDeliveryArchiveManifest(partitions, clientCounts))
+                .getBytes(StandardCharsets.UTF_8);
+        Files.createDirectories(directoryPath);
+        Path tempFile = manifestPath.resolveSibling(MANIFEST_FILE_NAME + ".tmp");
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            writeFully(channel, ByteBuffer.wrap(json), 0);
+            channel.force(true);
+        }
+        try {
+            Files.move(tempFile, manifestPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, manifestPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+        savedPartitions = List.copyOf(partitions);
+        savedClientCounts = Map.copyOf(clientCounts);
+    }
+
+    private static ByteBuffer encodePartition(List<ArchivedRecord> sorted) {
+        Map<String, Integer> stringIndexes = new LinkedHashMap<>();
+        sorted.forEach(record -> stringIndexes.putIfAbsent(record.clientName(), stringIndexes.size()));
+        int clientCount = stringIndexes.size();
+        for (ArchivedRecord record : sorted) {
+            stringIndexes.putIfAbsent(record.remarks(), stringIndexes.size());
+            if (record.tag() != null) {
+                stringIndexes.putIfAbsent(record.tag(), stringIndexes.size());
+            }
+        }
+        List<byte[]> strings = new ArrayList<>(stringIndexes.size());
+        int stringBytes = 0;
+        for (String string : stringIndexes.keySet()) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            strings.add(bytes);
+            stringBytes += Integer.BYTES + bytes.length;
+        }
+
+        ByteBuffer out = ByteBuffer.allocate(FILE_HEADER_BYTES + SEGMENT_HEADER_BYTES + stringBytes
+                + sorted.size() * RECORD_BYTES);
+        out.putInt(MAGIC).putShort(VERSION)
+                .putInt(out.capacity() - FILE_HEADER_BYTES - Integer.BYTES)
+                .putInt(sorted.size())
+                .putInt(sorted.stream().mapToInt(ArchivedRecord::id).min().getAsInt())
+                .putInt(sorted.stream().mapToInt(ArchivedRecord::id).max().getAsInt())
+                .putLong(sorted.get(0).epochMinute())
+                .putLong(sorted.get(sorted.size() - 1).epochMinute())
+                .putInt(clientCount)
+                .putInt(strings.size())
+                .putInt(stringBytes);
+        for (byte[] bytes : strings) {
+            out.putInt(bytes.length).put(bytes);
+        }
+        for (ArchivedRecord record : sorted) {
+            out.putInt(record.id())
+                    .putInt(stringIndexes.get(record.clientName()))
+                    .putLong(record.epochMinute())
+                    .putInt(stringIndexes.get(record.remarks()))
+                    .putLong(record.cents())
+                    .putInt(record.tag() == null ? NO_TAG : stringIndexes.get(record.tag()));
+        }
+        return out.flip();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, position + buffer.position());
+        }
+    }
+
+    /**
+     * An archived delivery as stored in a partition, with its client by name; {@code tag} is null if untagged.
+     */
+    private record ArchivedRecord(int id, String clientName, long epochMinute, String remarks, long cents,
+            String tag) {
+
+        static ArchivedRecord of(Delivery delivery) {
+            return new ArchivedRecord(delivery.getId(), delivery.getClient().getName().fullName,
+                    delivery.getDeliveryDate().toEpochMinute(), delivery.getRemarks(), delivery.getCost().getCents(),
+                    delivery.getTag().map(DeliveryTag::getName).orElse(null));
+        }
+    }
+
+    /**
+     * A partition rewritten without the deliveries with {@code removedIds}, or empty if it had no others, and the
+     * number of those deliveries of each client.
+     */
+    private record Rewrite(Set<Integer> removedIds, Optional<Partition> partition,
+            Map<Name, Integer> removedClientCounts) {
+    }
+
+    /**
+     * A month of the archive, as listed in the manifest. Its file is mapped into memory when first needed.
+     */
+    static final class Partition {
+
+        final YearMonth month;
+        final String fileName;
+        final int deliveryCount;
+        final long revenueCents;
+        final int minId;
+        final int maxId;
+        final long fileSize;
+
+        /** The first and last minutes of the month, in epoch minutes. */
+        final long startEpochMinute;
+        final long endEpochMinute;
+
+        private final Path filePath;
+        private Segment segment;
+
+        Partition(YearMonth month, String fileName, Path filePath, int deliveryCount, long revenueCents, int minId,
+                int maxId, long fileSize) {
+            this.month = month;
+            this.fileName = fileName;
+            this.filePath = filePath;
+            this.deliveryCount = deliveryCount;
+            this.revenueCents = revenueCents;
+            this.minId = minId;
+            this.maxId = maxId;
+            this.fileSize = fileSize;
+            this.startEpochMinute = month.atDay(1).atStartOfDay().toEpochSecond(ZoneOffset.UTC) / 60;
+            this.endEpochMinute = month.plusMonths(1).atDay(1).atStartOfDay().toEpochSecond(ZoneOffset.UTC) / 60 - 1;
+        }
+
+        /**
+         * Returns true if the partition's file has been mapped.
+         */
+        synchronized boolean isLoaded() {
+            return segment != null;
+        }
+
+        /**
+         * Returns the partition's records, mapping its file if it has not been already.
+         * The file was checked to be there, at its full size, when the manifest was read, so failing to map it
+         * means it was changed since, and is reported as an unchecked exception.
+         */
+        synchronized Segment segment() {
+            if (segment == null) {
+                try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+                    segment = Segment.read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), this);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } catch (IllegalValueException ive) {
+                    throw new IllegalStateException(ive.getMessage() + " " + filePath, ive);
+                }
+            }
+            return segment;
+        }
+
+        @Override
+        public String toString() {
+            return fileName;
+        }
+    }
+
+    /**
+     * The records of a partition, read through its file's memory map. They are only read when asked for, and the
+     * strings are decoded when first needed.
+     */
+    static final class Segment {
+
+        private static final int ID = 0;
+        private static final int CLIENT = ID + Integer.BYTES;
+        private static final int EPOCH_MINUTE = CLIENT + Integer.BYTES;
+        private static final int REMARKS = EPOCH_MINUTE + Long.BYTES;
+        private static final int CENTS = REMARKS + Integer.BYTES;
+        private static final int TAG = CENTS + Long.BYTES;
+
+        final int recordCount;
+        final int clientCount;
+
+        private final ByteBuffer map;
+        private final int stringsOffset;
+        private final int stringCount;
+        private final int recordsOffset;
+
+        private String[] strings;
+        private Name[] clientNames;
+        private DeliveryTag[] tags;
+
+        /** The records in id order, as records are kept in date-time order, so that ids can be binary searched. */
+        private int[] recordsById;
+
+        private Segment(ByteBuffer map, Partition partition) throws IllegalValueException {
+            this.map = map;
+            if (map.limit() < FILE_HEADER_BYTES + SEGMENT_HEADER_BYTES || map.getInt(0) != MAGIC) {
+                throw new IllegalValueException(String.format(MESSAGE_NOT_AN_ARCHIVE, partition.fileName));
+            }
+            short version = map.getShort(Integer.BYTES);
+            if (version != VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+            int offset = FILE_HEADER_BYTES + Integer.BYTES;
+            recordCount = map.getInt(offset);
+            int minId = map.getInt(offset + Integer.BYTES);
+            int maxId = map.getInt(offset + 2 * Integer.BYTES);
+            clientCount = map.getInt(offset + 3 * Integer.BYTES + 2 * Long.BYTES);
+            stringCount = map.getInt(offset + 4 * Integer.BYTES + 2 * Long.BYTES);
+            int stringBytes = map.getInt(offset + 5 * Integer.BYTES + 2 * Long.BYTES);
+            stringsOffset = FILE_HEADER_BYTES + SEGMENT_HEADER_BYTES;
+            recordsOffset = stringsOffset + stringBytes;
+            if (map.getInt(FILE_HEADER_BYTES) != map.limit() - FILE_HEADER_BYTES - Integer.BYTES
+                    || recordCount != partition.deliveryCount || minId != partition.minId
+                    || maxId != partition.maxId || clientCount < 0 || clientCount > stringCount || stringBytes < 0
+                    || (long) recordsOffset + (long) recordCount * RECORD_BYTES != map.limit()) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+        }
+
+        /**
+         * Reads the header of the partition file mapped to {@code map}, and checks it against {@code partition}.
+         */
+        static Segment read(ByteBuffer map, Partition partition) throws IllegalValueException {
+            return new Segment(map, partition);
+        }
+
+        int id(int record) {
+            return map.getInt(recordsOffset + record * RECORD_BYTES + ID);
+        }
+
+        int client(int record) {
+            return map.getInt(recordsOffset + record * RECORD_BYTES + CLIENT);
+        }
+
+        long epochMinute(int record) {
+            return map.getLong(recordsOffset + record * RECORD_BYTES + EPOCH_MINUTE);
+        }
+
+        long cents(int record) {
+            return map.getLong(recordsOffset + record * RECORD_BYTES + CENTS);
+        }
+
+        int tag(int record) {
+            return map.getInt(recordsOffset + record * RECORD_BYTES + TAG);
+        }
+
+        /**
+         * Returns the first record dated at or after {@code epochMinute}, or the record count if there is none.
+         */
+        int firstAtOrAfter(long epochMinute) {
+            int low = 0;
+            int high = recordCount;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (epochMinute(middle) < epochMinute) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Returns the record with id {@code id}, or -1 if there is none.
+         */
+        int recordWithId(int id) {
+            int[] records = recordsById();
+            int low = 0;
+            int high = records.length - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                int middleId = id(records[middle]);
+                if (middleId < id) {
+                    low = middle + 1;
+                } else if (middleId > id) {
+                    high = middle - 1;
+                } else {
+                    return records[middle];
+                }
+            }
+            return -1;
+        }
+
+        private synchronized int[] recordsById() {
+            if (recordsById == null) {
+                // Each id is paired with its record in one long, so that sorting the longs sorts the records by id
+                long[] idsAndRecords = new long[recordCount];
+                for (int record = 0; record < recordCount; record++) {
+                    idsAndRecords[record] = (long) id(record) << Integer.SIZE | record;
+                }
+                Arrays.sort(idsAndRecords);
+                int[] records = new int[recordCount];
+                for (int i = 0; i < recordCount; i++) {
+                    records[i] = (int) idsAndRecords[i];
+                }
+                recordsById = records;
+            }
+            return recordsById;
+        }
+
+        /**
+         * Returns the names of the partition's clients, indexed like the client name strings.
+         */
+        synchronized Name[] clientNames() throws IllegalValueException {
+            if (clientNames == null) {
+                Name[] names = new Name[clientCount];
+                int offset = stringsOffset;
+                for (int i = 0; i < clientCount; i++) {
+                    String name = decodeString(offset);
+                    if (!Name.isValidName(name)) {
+                        throw new IllegalValueException(MESSAGE_CORRUPTED);
+                    }
+                    names[i] = new Name(name);
+                    offset += Integer.BYTES + map.getInt(offset);
+                }
+                clientNames = names;
+            }
+            return clientNames;
+        }
+
+        /**
+         * Returns the name of the client of record {@code record}.
+         */
+        Name clientName(int record) throws IOException {
+            try {
+                return clientNames()[client(record)];
+            } catch (IllegalValueException ive) {
+                throw new IOException(ive.getMessage(), ive);
+            }
+        }
+
+        /**
+         * Returns the tag stored as string {@code index}, or empty if {@code index} is {@value #NO_TAG}.
+         */
+        synchronized Optional<DeliveryTag> tagAt(int index) {
+            if (index == NO_TAG) {
+                return Optional.empty();
+            }
+            if (tags == null) {
+                tags = new DeliveryTag[stringCount];
+            }
+            if (tags[index] == null) {
+                tags[index] = new DeliveryTag(strings()[index]);
+            }
+            return Optional.of(tags[index]);
+        }
+
+        /**
+         * Returns record {@code record} as a delivery to {@code client}.
+         */
+        Delivery decode(int record, Person client) {
+            int base = recordsOffset + record * RECORD_BYTES;
+            return new Delivery(map.getInt(base + ID), client, DateTime.ofEpochMinute(map.getLong(base + EPOCH_MINUTE)),
+                    strings()[map.getInt(base + REMARKS)], Money.ofCents(map.getLong(base + CENTS)),
+                    tagAt(map.getInt(base + TAG)), true);
+        }
+
+        private ArchivedRecord record(int record) {
+            int base = recordsOffset + record * RECORD_BYTES;
+            int tag = map.getInt(base + TAG);
+            return new ArchivedRecord(map.getInt(base + ID), strings()[map.getInt(base + CLIENT)],
+                    map.getLong(base + EPOCH_MINUTE), strings()[map.getInt(base + REMARKS)],
+                    map.getLong(base + CENTS), tag == NO_TAG ? null : strings()[tag]);
+        }
+
+        private List<ArchivedRecord> records() {
+            List<ArchivedRecord> records = new ArrayList<>(recordCount);
+            for (int record = 0; record < recordCount; record++) {
+                records.add(record(record));
+            }
+            return records;
+        }
+
+        private synchronized String[] strings() {
+            if (strings == null) {
+                String[] decoded = new String[stringCount];
+                int offset = stringsOffset;
+                for (int i = 0; i < stringCount; i++) {
+                    decoded[i] = decodeString(offset);
+                    offset += Integer.BYTES + map.getInt(offset);
+                }
+                strings = decoded;
+            }
+            return strings;
+        }
+
+        private String decodeString(int offset) {
+            byte[] bytes = new byte[map.getInt(offset)];
+            map.get(offset + Integer.BYTES, bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
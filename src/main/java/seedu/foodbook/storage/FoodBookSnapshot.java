@@ -0,0 +1,123 @@
+package seedu.foodbook.storage;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.foodbook.model.FoodBook;
+import seedu.foodbook.model.ReadOnlyFoodBook;
+import seedu.foodbook.model.delivery.Delivery;
+import seedu.foodbook.model.delivery.DeliveryArchive;
+import seedu.foodbook.model.person.Name;
+import seedu.foodbook.model.person.Person;
+
+/**
+ * An immutable copy of a food book as it was at one moment, which can be saved on another thread while the
+ * original carries on changing.
+ * Persons, deliveries and delivery archives are immutable, so taking a snapshot only copies the references to them.
+ * The lists of a {@code FoodBook} are not even copied: they are taken from the persistent lists it keeps, in
+ * constant time, so that saving after a command costs the thread running commands nothing however large the food
+ * book is.
+ */
+final class FoodBookSnapshot implements ReadOnlyFoodBook {
+
+    private final List<Person> personList;
+    private final List<Delivery> deliveryList;
+    private final ObservableList<Person> persons;
+    private final ObservableList<Delivery> deliveries;
+    private final DeliveryArchive deliveryArchive;
+    private final int nextDeliveryId;
+    private final OptionalLong generation;
+
+    /** Built on first lookup, which happens on the thread saving the snapshot rather than the one taking it. */
+    private Map<Name, Person> personsByName;
+    private Map<Integer, Delivery> deliveriesById;
+
+    /**
+     * Takes a snapshot of the current contents of {@code foodBook}.
+     */
+    FoodBookSnapshot(ReadOnlyFoodBook foodBook) {
+        if (foodBook instanceof FoodBook modelFoodBook) {
+            personList = modelFoodBook.getPersonListSnapshot();
+            deliveryList = modelFoodBook.getDeliveryListSnapshot();
+        } else {
+            personList = List.copyOf(foodBook.getPersonList());
+            deliveryList = List.copyOf(foodBook.getDeliveryList());
+        }
+        persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(personList));
+        deliveries = FXCollections.unmodifiableObservableList(FXCollections.observableList(deliveryList));
+        deliveryArchive = foodBook.getDeliveryArchive();
+        nextDeliveryId = foodBook.getNextDeliveryId();
+        generation = foodBook.getGeneration();
+    }
+
+    /**
+     * Returns {@code foodBook} if it is already a snapshot, or else a snapshot of its current contents.
+     */
+    static FoodBookSnapshot of(ReadOnlyFoodBook foodBook) {
+        return foodBook instanceof FoodBookSnapshot snapshot ? snapshot : new FoodBookSnapshot(foodBook);
+    }
+
+    /**
+     * Returns the persons as the immutable list the snapshot was taken as, which is cheaper to walk than
+     * {@link #getPersonList()}.
+     */
+    List<Person> getPersonListSnapshot() {
+        return personList;
+    }
+
+    /**
+     * Returns the deliveries as the immutable list the snapshot was taken as, which is cheaper to walk than
+     * {@link #getDeliveryList()}.
+     */
+    List<Delivery> getDeliveryListSnapshot() {
+        return deliveryList;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Delivery> getDeliveryList() {
+        return deliveries;
+    }
+
+    @Override
+    public DeliveryArchive getDeliveryArchive() {
+        return deliveryArchive;
+    }
+
+    @Override
+    public Optional<Person> getPersonByName(Name name) {
+        if (personsByName == null) {
+            personsByName = new HashMap<>();
+            personList.forEach(person -> personsByName.put(person.getName(), person));
+        }
+        return Optional.ofNullable(personsByName.get(name));
+    }
+
+    @Override
+    public Optional<Delivery> getDeliveryById(Integer id) {
+        if (deliveriesById == null) {
+            deliveriesById = new HashMap<>();
+            deliveryList.forEach(delivery -> deliveriesById.put(delivery.getId(), delivery));
+        }
+        return Optional.ofNullable(deliveriesById.get(id));
+    }
+
+    @Override
+    public int getNextDeliveryId() {
+        return nextDeliveryId;
+    }
+
+    @Override
+    public OptionalLong getGeneration() {
+        return generation;
+    }
+}
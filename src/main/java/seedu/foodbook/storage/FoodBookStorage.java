@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
 
+import seedu.foodbook.commons.core.DataFileFormat;
 import seedu.foodbook.commons.exceptions.DataLoadingException;
 import seedu.foodbook.model.ReadOnlyFoodBook;
 
@@ -17,6 +18,13 @@ public interface FoodBookStorage {
      */
     Path getFoodBookFilePath();
 
+    /**
+     * Returns the format the data file is saved in.
+     */
+    default DataFileFormat getFoodBookFormat() {
+        return DataFileFormat.JSON;
+    }
+
     /**
      * Returns FoodBook data as a {@link ReadOnlyFoodBook}.
      * Returns {@code Optional.empty()} if storage file is not found.
@@ -42,4 +50,11 @@ public interface FoodBookStorage {
      */
     void saveFoodBook(ReadOnlyFoodBook foodBook, Path filePath) throws IOException;
 
+    /**
+     * Folds any saved changes kept apart from the data file into it, so that the data file alone holds all saved
+     * data, e.g. before the app exits. Does nothing for storages that always write the whole data file.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void compactFoodBook() throws IOException {}
+
 }
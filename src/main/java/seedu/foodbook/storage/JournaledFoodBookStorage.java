@@ -0,0 +1,406 @@
+package seedu.foodbook.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import seedu.foodbook.commons.core.DataFileFormat;
+import seedu.foodbook.commons.core.LogsCenter;
+import seedu.foodbook.commons.exceptions.DataLoadingException;
+import seedu.foodbook.commons.exceptions.IllegalValueException;
+import seedu.foodbook.commons.util.FileUtil;
+import seedu.foodbook.commons.util.JsonUtil;
+import seedu.foodbook.model.FoodBook;
+import seedu.foodbook.model.ReadOnlyFoodBook;
+import seedu.foodbook.model.delivery.Delivery;
+import seedu.foodbook.model.person.Person;
+
+/**
+ * A class to access FoodBook data stored as a json snapshot plus an append-only journal of the changes made
+ * since the snapshot was written.
+ * <p>
+ * The snapshot is an ordinary FoodBook json data file. Each save appends only the persons and deliveries that
+ * changed to the journal, with a single write and sync, instead of rewriting the whole file. Once the journal
+ * grows large compared to the food book, the snapshot is rewritten and the journal started afresh. The journal
+ * begins with the checksum of its snapshot, so a journal left over from an older snapshot, e.g. because the data
+ * file was edited by hand, is ignored.
+ */
+public class JournaledFoodBookStorage extends JsonFoodBookStorage {
+
+    /** The journal is never compacted while it has fewer entries than this. */
+    public static final int MIN_ENTRIES_BEFORE_COMPACTION = 1_000;
+
+    /** Beyond the minimum, the journal is compacted once it has more entries than the food book has records. */
+    public static final int RECORDS_PER_JOURNAL_ENTRY = 4;
+
+    private static final int WRITE_BUFFER_SIZE = 1 << 16;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledFoodBookStorage.class);
+
+    private final Path journalFilePath;
+
+    /** The food book as it stands in the snapshot and journal, or null if it is not known. */
+    private FoodBookSnapshot saved;
+
+    private int journalEntryCount;
+
+    /**
+     * Creates a storage with its snapshot at {@code filePath} and its journal beside it.
+     */
+    public JournaledFoodBookStorage(Path filePath) {
+        super(filePath);
+        this.journalFilePath = DataFileFormat.journalPathFor(filePath);
+    }
+
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    /**
+     * Similar to {@link #readFoodBook()}.
+     * Reading the data file of this storage also replays its journal; other files are read as plain json.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyFoodBook> readFoodBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!filePath.equals(getFoodBookFilePath())) {
+            return super.readFoodBook(filePath);
+        }
+
+        forgetSavedState();
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            byte[] journal = Files.exists(journalFilePath) ? Files.readAllBytes(journalFilePath) : new byte[0];
+            List<String> lines = new String(journal, StandardCharsets.UTF_8).lines().toList();
+            Replay replay = replayJournal(filePath, journal, lines);
+
+            // Unless the journal can be carried on from, the next save starts a new one by compacting
+            if (replay.isAppendable()) {
+                rememberSavedState(replay.foodBook());
+            }
+            return Optional.of(replay.foodBook());
+        } catch (IOException e) {
+            logger.warning("Error reading from data file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Similar to {@link #saveFoodBook(ReadOnlyFoodBook)}.
+     * Saving to the data file of this storage appends the changes since the last save to its journal; other
+     * files are written in full as plain json.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveFoodBook(ReadOnlyFoodBook foodBook, Path filePath) throws IOException {
+        requireNonNull(foodBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(getFoodBookFilePath())) {
+            super.saveFoodBook(foodBook, filePath);
+            return;
+        }
+
+        FoodBookSnapshot snapshot = FoodBookSnapshot.of(foodBook);
+        if (saved == null) {
+            compact(snapshot);
+            return;
+        }
+
+        List<JsonJournalEntry> entries = changesSinceSaved(snapshot);
+        if (entries.isEmpty()) {
+            return;
+        }
+        int recordCount = snapshot.getPersonList().size() + snapshot.getDeliveryList().size();
+        int newEntryCount = journalEntryCount + entries.size();
+        if (newEntryCount > Math.max(MIN_ENTRIES_BEFORE_COMPACTION, recordCount / RECORDS_PER_JOURNAL_ENTRY)) {
+            compact(snapshot);
+            return;
+        }
+
+        appendToJournal(entries);
+        saved = snapshot;
+        journalEntryCount = newEntryCount;
+    }
+
+    /**
+     * Folds the journal into the snapshot, so that the data file alone holds everything saved.
+     * Does nothing if the journal is empty, or if nothing has been read or saved, so a data file that could not
+     * be read is left as it is.
+     */
+    @Override
+    public void compactFoodBook() throws IOException {
+        if (saved == null || journalEntryCount == 0) {
+            return;
+        }
+        writeSnapshot(saved);
+    }
+
+    /**
+     * Rewrites the snapshot with the contents of {@code foodBook} and starts an empty journal for it.
+     */
+    private void compact(FoodBookSnapshot foodBook) throws IOException {
+        forgetSavedState();
+        writeSnapshot(foodBook);
+        saved = foodBook;
+    }
+
+    /**
+     * Replaces the snapshot with {@code foodBook} and starts an empty journal for it.
+     * The snapshot is streamed to a temporary file and checksummed as it is written, then replaced in one step;
+     * the old journal no longer matches it, so a failure part way leaves either the old or the new data readable.
+     */
+    private void writeSnapshot(FoodBookSnapshot foodBook) throws IOException {
+        CRC32 checksum = new CRC32();
+        FileUtil.createParentDirsOfFile(getFoodBookFilePath());
+        replaceFile(getFoodBookFilePath(), out -> {
+            try (JsonGenerator generator = JsonUtil.createPrettyGenerator(new CheckedOutputStream(out, checksum))) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                JsonSerializableFoodBook.write(foodBook.getPersonListSnapshot(), foodBook.getDeliveryListSnapshot(),
+                        foodBook.getNextDeliveryId(), generator);
+            }
+        });
+        byte[] header = toLines(List.of(JsonJournalEntry.header(checksum.getValue())));
+        replaceFile(journalFilePath, out -> out.write(header));
+
+        journalEntryCount = 0;
+        logger.fine("Compacted journal into data file " + getFoodBookFilePath());
+    }
+
+    /**
+     * The result of reading the snapshot and its journal.
+     *
+     * @param foodBook The snapshot with the journal applied.
+     * @param isAppendable Whether later saves can be appended to the journal as it stands.
+     */
+    private record Replay(FoodBook foodBook, boolean isAppendable) {}
+
+    /**
+     * Streams the snapshot at {@code filePath} into a food book and applies the journal {@code lines} to it, if the
+     * journal was started for that snapshot.
+     * The snapshot is checksummed as it is read, to tell whether the journal was started for it. Each entry is then
+     * applied to the food book itself, which finds the persons and deliveries it changes through its own indexes.
+     * An incomplete last line is taken to be a save cut short, and ignored.
+     */
+    private Replay replayJournal(Path filePath, byte[] journal, List<String> lines)
+            throws IOException, IllegalValueException {
+        CRC32 checksum = new CRC32();
+        FoodBook foodBook;
+        try (InputStream in = new CheckedInputStream(Files.newInputStream(filePath), checksum);
+                JsonParser parser = JsonUtil.createParser(in)) {
+            foodBook = JsonSerializableFoodBook.read(parser);
+            // Anything after the food book still counts towards the checksum
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+
+        journalEntryCount = 0;
+        if (lines.isEmpty()) {
+            return new Replay(foodBook, false);
+        }
+        if (!isHeaderFor(lines.get(0), checksum.getValue())) {
+            logger.info("Ignoring journal " + journalFilePath + " as it was not started for the current data file");
+            return new Replay(foodBook, false);
+        }
+
+        boolean isComplete = journal[journal.length - 1] == '\n';
+        for (int i = 1; i < lines.size(); i++) {
+            JsonJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(lines.get(i), JsonJournalEntry.class);
+            } catch (IOException e) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Ignoring incomplete last entry of journal " + journalFilePath);
+                    isComplete = false;
+                    break;
+                }
+                throw e;
+            }
+            entry.applyTo(foodBook);
+            journalEntryCount++;
+        }
+        return new Replay(foodBook, isComplete);
+    }
+
+    private static boolean isHeaderFor(String line, long snapshotChecksum) {
+        try {
+            Long checksum = JsonUtil.fromJsonString(line, JsonJournalEntry.class).getSnapshotChecksum();
+            return checksum != null && checksum == snapshotChecksum;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the journal entries that turn the saved food book into {@code foodBook}.
+     */
+    private List<JsonJournalEntry> changesSinceSaved(FoodBookSnapshot foodBook) {
+        List<JsonJournalEntry> entries = new ArrayList<>();
+        diff(saved.getPersonListSnapshot(), foodBook.getPersonListSnapshot(), Person::getName,
+                name -> saved.getPersonByName(name).isPresent(), name -> foodBook.getPersonByName(name).isPresent(),
+                JsonJournalEntry::insertPerson, JsonJournalEntry::setPerson, JsonJournalEntry::removePerson, entries);
+        diff(saved.getDeliveryListSnapshot(), foodBook.getDeliveryListSnapshot(), Delivery::getId,
+                id -> saved.getDeliveryById(id).isPresent(), id -> foodBook.getDeliveryById(id).isPresent(),
+                JsonJournalEntry::insertDelivery, JsonJournalEntry::setDelivery, JsonJournalEntry::removeDelivery,
+                entries);
+        if (foodBook.getNextDeliveryId() != saved.getNextDeliveryId()) {
+            entries.add(JsonJournalEntry.setNextDeliveryId(foodBook.getNextDeliveryId()));
+        }
+        return entries;
+    }
+
+    /**
+     * Adds to {@code entries} the changes that turn {@code saved} into {@code current} when replayed in order.
+     * Both lists are walked together with their iterators; items are immutable, so an item still held by reference
+     * is unchanged and needs no entry, and a single edit, addition or removal needs a single entry. An item that
+     * comes later in {@code current} than items saved after it is removed and inserted again, so that no key is
+     * ever held twice during replay.
+     *
+     * @param key The name or id a record is looked up by, which all versions of it share.
+     * @param isInSaved Whether a record with the given key is in {@code saved}.
+     * @param isInCurrent Whether a record with the given key is in {@code current}.
+     */
+    private static <T, K> void diff(List<T> saved, List<T> current, Function<T, K> key, Predicate<K> isInSaved,
+            Predicate<K> isInCurrent, BiFunction<Integer, T, JsonJournalEntry> insert,
+            Function<T, JsonJournalEntry> set, Function<T, JsonJournalEntry> remove, List<JsonJournalEntry> entries) {
+        Iterator<T> savedItems = saved.iterator();
+        Iterator<T> currentItems = current.iterator();
+        Set<K> movedKeys = new HashSet<>();
+        T before = nextOrNull(savedItems);
+        T after = nextOrNull(currentItems);
+        // Items before index j of the replayed list already match current
+        int j = 0;
+        while (before != null && after != null) {
+            K beforeKey = key.apply(before);
+            K afterKey = key.apply(after);
+            if (before == after || beforeKey.equals(afterKey)) {
+                if (before != after) {
+                    entries.add(set.apply(after));
+                }
+                before = nextOrNull(savedItems);
+                after = nextOrNull(currentItems);
+                j++;
+            } else if (!isInCurrent.test(beforeKey)) {
+                entries.add(remove.apply(before));
+                before = nextOrNull(savedItems);
+            } else if (!isInSaved.test(afterKey) || movedKeys.contains(afterKey)) {
+                entries.add(insert.apply(j, after));
+                after = nextOrNull(currentItems);
+                j++;
+            } else {
+                // Both are kept but in a different order, so the saved one is put back when current reaches it
+                entries.add(remove.apply(before));
+                movedKeys.add(beforeKey);
+                before = nextOrNull(savedItems);
+            }
+        }
+        for (; before != null; before = nextOrNull(savedItems)) {
+            entries.add(remove.apply(before));
+        }
+        for (; after != null; after = nextOrNull(currentItems)) {
+            entries.add(insert.apply(j++, after));
+        }
+    }
+
+    private static <T> T nextOrNull(Iterator<T> items) {
+        return items.hasNext() ? items.next() : null;
+    }
+
+    /**
+     * Appends {@code entries} to the journal with a single write, and waits for them to reach the disk.
+     */
+    private void appendToJournal(List<JsonJournalEntry> entries) throws IOException {
+        try (FileChannel channel = FileChannel.open(journalFilePath, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            writeFully(channel, toLines(entries));
+            channel.force(false);
+        }
+    }
+
+    private static byte[] toLines(List<JsonJournalEntry> entries) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonJournalEntry entry : entries) {
+            lines.append(JsonUtil.toJsonLine(entry)).append('\n');
+        }
+        return lines.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes the contents of a file to a stream.
+     */
+    @FunctionalInterface
+    private interface Contents {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Replaces the contents of {@code file} with {@code contents} in one step, by writing and syncing a temporary
+     * file beside it and moving that over it.
+     */
+    private static void replaceFile(Path file, Contents contents) throws IOException {
+        Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), WRITE_BUFFER_SIZE);
+            contents.writeTo(out);
+            out.flush();
+            channel.force(true);
+        }
+        try {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void writeFully(FileChannel channel, byte[] content) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(content);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private void rememberSavedState(ReadOnlyFoodBook foodBook) {
+        saved = FoodBookSnapshot.of(foodBook);
+    }
+
+    private void forgetSavedState() {
+        saved = null;
+    }
+}
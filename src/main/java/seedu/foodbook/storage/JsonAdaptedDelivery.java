@@ -1,15 +1,23 @@
 package seedu.foodbook.storage;
 
+import static seedu.foodbook.model.util.ValidationUtil.createValid;
+
+import java.io.IOException;
+import java.math.BigDecimal;
 import java.time.format.DateTimeParseException;
 import java.util.Optional;
+import java.util.function.Function;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import seedu.foodbook.commons.exceptions.IllegalValueException;
 import seedu.foodbook.model.ReadOnlyFoodBook;
 import seedu.foodbook.model.delivery.DateTime;
 import seedu.foodbook.model.delivery.Delivery;
+import seedu.foodbook.model.delivery.Money;
+import seedu.foodbook.model.person.Name;
 import seedu.foodbook.model.person.Person;
 import seedu.foodbook.model.tag.DeliveryTag;
 
@@ -19,13 +27,14 @@ import seedu.foodbook.model.tag.DeliveryTag;
  */
 public class JsonAdaptedDelivery {
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Delivery's %s field is missing!";
+    public static final String MESSAGE_INVALID_COST = "Delivery's cost must be a non-negative amount.";
 
     private final Integer id;
     private final String clientName;
     private final String date;
     private final String time;
     private final String remarks;
-    private final Double cost;
+    private final BigDecimal cost;
     private final Boolean isDelivered;
     private final String tag;
 
@@ -48,7 +57,7 @@ public class JsonAdaptedDelivery {
             @JsonProperty("date") String date,
             @JsonProperty("time") String time,
             @JsonProperty("remarks") String remarks,
-            @JsonProperty("cost") Double cost,
+            @JsonProperty("cost") BigDecimal cost,
             @JsonProperty("isDelivered") Boolean isDelivered,
             @JsonProperty("tag") String tag) {
         this.id = id;
@@ -72,11 +81,33 @@ public class JsonAdaptedDelivery {
         date = source.getDeliveryDate().getDateString();
         time = source.getDeliveryDate().getTimeString();
         remarks = source.getRemarks();
-        cost = source.getCost();
+        cost = source.getCost().toBigDecimal();
         tag = source.getTag().map(DeliveryTag::getName).orElse(null);
         isDelivered = source.getStatus();
     }
 
+    /**
+     * Writes {@code source} to {@code generator} as a {@code JsonAdaptedDelivery} of it would be serialized,
+     * without creating one.
+     */
+    static void write(Delivery source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", source.getId());
+        generator.writeStringField("clientName", source.getClient().getName().fullName);
+        generator.writeStringField("date", source.getDeliveryDate().getDateString());
+        generator.writeStringField("time", source.getDeliveryDate().getTimeString());
+        generator.writeStringField("remarks", source.getRemarks());
+        generator.writeNumberField("cost", source.getCost().toBigDecimal());
+        generator.writeBooleanField("isDelivered", source.getStatus());
+        Optional<DeliveryTag> tag = source.getTag();
+        if (tag.isPresent()) {
+            generator.writeStringField("tag", tag.get().getName());
+        } else {
+            generator.writeNullField("tag");
+        }
+        generator.writeEndObject();
+    }
+
     /**
      * Converts this Jackson-friendly adapted delivery object into the model's {@code Delivery} object.
      *
@@ -85,15 +116,26 @@ public class JsonAdaptedDelivery {
      * @throws IllegalValueException If any field is missing or invalid.
      */
     public Delivery toModelType(ReadOnlyFoodBook foodBook) throws IllegalValueException {
+        return toModelType(fullName -> Name.isValidName(fullName)
+                ? foodBook.getPersonByName(new Name(fullName)).filter(p -> p.getName().fullName.equals(fullName))
+                : Optional.empty());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted delivery object into the model's {@code Delivery} object.
+     *
+     * @param clientByFullName Returns the client whose full name is exactly the given string, if there is one.
+     * @return The model Delivery object.
+     * @throws IllegalValueException If any field is missing or invalid.
+     */
+    public Delivery toModelType(Function<String, Optional<Person>> clientByFullName) throws IllegalValueException {
         if (id == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "id"));
         }
         if (clientName == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "clientName"));
         }
-        Person client = foodBook.getPersonList().stream()
-                .filter(p -> p.getName().fullName.equals(clientName))
-                .findFirst()
+        Person client = clientByFullName.apply(clientName)
                 .orElseThrow(() -> new IllegalValueException("Client not found: " + clientName));
 
         if (date == null) {
@@ -115,6 +157,16 @@ public class JsonAdaptedDelivery {
         if (cost == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "cost"));
         }
+        // Older saves stored the cost as a double, which may carry binary noise past the cents digit
+        Money modelCost;
+        try {
+            modelCost = Money.ofRounded(cost);
+        } catch (ArithmeticException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_COST);
+        }
+        if (modelCost.isNegative()) {
+            throw new IllegalValueException(MESSAGE_INVALID_COST);
+        }
         if (isDelivered == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "isDelivered"));
         }
@@ -123,10 +175,10 @@ public class JsonAdaptedDelivery {
         if (tag == null || tag.isBlank()) {
             modelTag = Optional.empty();
         } else {
-            modelTag = Optional.of(new DeliveryTag(tag.trim()));
+            modelTag = Optional.of(createValid(tag.trim(), DeliveryTag::new, IllegalValueException::new));
         }
 
-        Delivery delivery = new Delivery(id, client, dateTime, remarks, cost, modelTag, isDelivered);
+        Delivery delivery = new Delivery(id, client, dateTime, remarks, modelCost, modelTag, isDelivered);
 
         return delivery;
     }
@@ -1,5 +1,8 @@
 package seedu.foodbook.storage;
 
+import static seedu.foodbook.model.util.ValidationUtil.createValid;
+
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -8,6 +11,7 @@ import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import seedu.foodbook.commons.exceptions.IllegalValueException;
 import seedu.foodbook.model.person.Address;
@@ -59,6 +63,24 @@ class JsonAdaptedPerson {
                 .collect(Collectors.toList()));
     }
 
+    /**
+     * Writes {@code source} to {@code generator} as a {@code JsonAdaptedPerson} of it would be serialized, without
+     * creating one.
+     */
+    static void write(Person source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("name", source.getName().fullName);
+        generator.writeStringField("phone", source.getPhone().value);
+        generator.writeStringField("email", source.getEmail().value);
+        generator.writeStringField("address", source.getAddress().value);
+        generator.writeArrayFieldStart("tags");
+        for (Tag tag : source.getTags()) {
+            generator.writeString(tag.tagName);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
      *
@@ -73,34 +95,22 @@ class JsonAdaptedPerson {
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
-        if (!Name.isValidName(name)) {
-            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
-        }
-        final Name modelName = new Name(name);
+        final Name modelName = createValid(name, Name::new, IllegalValueException::new);
 
         if (phone == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
         }
-        if (!Phone.isValidPhone(phone)) {
-            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
-        }
-        final Phone modelPhone = new Phone(phone);
+        final Phone modelPhone = createValid(phone, Phone::new, IllegalValueException::new);
 
         if (email == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName()));
         }
-        if (!Email.isValidEmail(email)) {
-            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
-        }
-        final Email modelEmail = new Email(email);
+        final Email modelEmail = createValid(email, Email::new, IllegalValueException::new);
 
         if (address == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName()));
         }
-        if (!Address.isValidAddress(address)) {
-            throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
-        }
-        final Address modelAddress = new Address(address);
+        final Address modelAddress = createValid(address, Address::new, IllegalValueException::new);
 
         final Set<Tag> modelTags = new HashSet<>(personTags);
         return new Person(modelName, modelPhone, modelEmail, modelAddress, modelTags);
@@ -1,5 +1,7 @@
 package seedu.foodbook.storage;
 
+import static seedu.foodbook.model.util.ValidationUtil.createValid;
+
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 
@@ -39,10 +41,7 @@ class JsonAdaptedTag {
      * @throws IllegalValueException if there were any data constraints violated in the adapted tag.
      */
     public Tag toModelType() throws IllegalValueException {
-        if (!Tag.isValidTagName(tagName)) {
-            throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
-        }
-        return new Tag(tagName);
+        return createValid(tagName, Tag::new, IllegalValueException::new);
     }
 
 }
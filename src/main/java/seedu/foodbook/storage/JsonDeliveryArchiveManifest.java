@@ -0,0 +1,157 @@
+package seedu.foodbook.storage;
+
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.foodbook.commons.exceptions.IllegalValueException;
+import seedu.foodbook.model.person.Name;
+import seedu.foodbook.storage.DeliveryArchiveStorage.Partition;
+
+/**
+ * Jackson-friendly manifest of a delivery archive: its partitions, one per month, with the number and total cost of
+ * the deliveries in each, and the number of archived deliveries of each client.
+ */
+class JsonDeliveryArchiveManifest {
+
+    private final Integer version;
+    private final List<JsonAdaptedPartition> partitions = new ArrayList<>();
+    private final Map<String, Integer> clients = new TreeMap<>();
+
+    /**
+     * Constructs a {@code JsonDeliveryArchiveManifest} with the given details.
+     */
+    @JsonCreator
+    public JsonDeliveryArchiveManifest(@JsonProperty("version") Integer version,
+            @JsonProperty("partitions") List<JsonAdaptedPartition> partitions,
+            @JsonProperty("clients") Map<String, Integer> clients) {
+        this.version = version;
+        if (partitions != null) {
+            this.partitions.addAll(partitions);
+        }
+        if (clients != null) {
+            this.clients.putAll(clients);
+        }
+    }
+
+    /**
+     * Converts the given partitions and archived delivery counts by client into this class for Jackson use.
+     */
+    public JsonDeliveryArchiveManifest(List<Partition> partitions, Map<Name, Integer> clientCounts) {
+        this.version = (int) DeliveryArchiveStorage.VERSION;
+        partitions.forEach(partition -> this.partitions.add(new JsonAdaptedPartition(partition)));
+        clientCounts.forEach((name, count) -> this.clients.put(name.fullName, count));
+    }
+
+    /**
+     * Converts this manifest's partitions, whose files are in {@code directoryPath}, into the storage's
+     * {@code Partition} objects, in month order.
+     *
+     * @throws IllegalValueException if the manifest is of another version, or any partition is invalid.
+     */
+    public List<Partition> toPartitions(Path directoryPath) throws IllegalValueException {
+        if (version == null || version != DeliveryArchiveStorage.VERSION) {
+            throw new IllegalValueException(String.format(DeliveryArchiveStorage.MESSAGE_UNSUPPORTED_VERSION,
+                    version));
+        }
+        List<Partition> modelPartitions = new ArrayList<>();
+        for (JsonAdaptedPartition partition : partitions) {
+            Partition modelPartition = partition.toModelType(directoryPath);
+            if (!modelPartitions.isEmpty()
+                    && !modelPartitions.get(modelPartitions.size() - 1).month.isBefore(modelPartition.month)) {
+                throw new IllegalValueException(DeliveryArchiveStorage.MESSAGE_CORRUPTED);
+            }
+            modelPartitions.add(modelPartition);
+        }
+        return modelPartitions;
+    }
+
+    /**
+     * Returns the number of archived deliveries of each client.
+     *
+     * @throws IllegalValueException if a client name or count is invalid.
+     */
+    public Map<Name, Integer> toClientCounts() throws IllegalValueException {
+        Map<Name, Integer> clientCounts = new HashMap<>();
+        for (Map.Entry<String, Integer> client : clients.entrySet()) {
+            if (!Name.isValidName(client.getKey()) || client.getValue() == null || client.getValue() <= 0) {
+                throw new IllegalValueException(DeliveryArchiveStorage.MESSAGE_CORRUPTED);
+            }
+            clientCounts.put(new Name(client.getKey()), client.getValue());
+        }
+        return clientCounts;
+    }
+
+    /**
+     * Jackson-friendly version of a {@link Partition}.
+     */
+    static class JsonAdaptedPartition {
+
+        private final String month;
+        private final String file;
+        private final Integer deliveryCount;
+        private final Long revenueCents;
+        private final Integer minId;
+        private final Integer maxId;
+        private final Long fileSize;
+
+        /**
+         * Constructs a {@code JsonAdaptedPartition} with the given partition details.
+         */
+        @JsonCreator
+        public JsonAdaptedPartition(@JsonProperty("month") String month, @JsonProperty("file") String file,
+                @JsonProperty("deliveryCount") Integer deliveryCount,
+                @JsonProperty("revenueCents") Long revenueCents, @JsonProperty("minId") Integer minId,
+                @JsonProperty("maxId") Integer maxId, @JsonProperty("fileSize") Long fileSize) {
+            this.month = month;
+            this.file = file;
+            this.deliveryCount = deliveryCount;
+            this.revenueCents = revenueCents;
+            this.minId = minId;
+            this.maxId = maxId;
+            this.fileSize = fileSize;
+        }
+
+        /**
+         * Converts a given {@code Partition} into this class for Jackson use.
+         */
+        public JsonAdaptedPartition(Partition source) {
+            this(source.month.toString(), source.fileName, source.deliveryCount, source.revenueCents, source.minId,
+                    source.maxId, source.fileSize);
+        }
+
+        /**
+         * Converts this Jackson-friendly partition into the storage's {@code Partition} object.
+         *
+         * @throws IllegalValueException if there were any data constraints violated in the adapted partition.
+         */
+        public Partition toModelType(Path directoryPath) throws IllegalValueException {
+            if (month == null || file == null || deliveryCount == null || revenueCents == null || minId == null
+                    || maxId == null || fileSize == null) {
+                throw new IllegalValueException(DeliveryArchiveStorage.MESSAGE_CORRUPTED);
+            }
+            YearMonth modelMonth;
+            try {
+                modelMonth = YearMonth.parse(month);
+            } catch (DateTimeParseException e) {
+                throw new IllegalValueException(DeliveryArchiveStorage.MESSAGE_CORRUPTED);
+            }
+            // The file name is checked to be one the storage would give the month, so it cannot lead out of the
+            // archive directory
+            if (!DeliveryArchiveStorage.isPartitionFileName(file) || !file.startsWith(month + ".")
+                    || deliveryCount <= 0 || revenueCents < 0 || minId > maxId || fileSize <= 0) {
+                throw new IllegalValueException(DeliveryArchiveStorage.MESSAGE_CORRUPTED);
+            }
+            return new Partition(modelMonth, file, directoryPath.resolve(file), deliveryCount, revenueCents, minId,
+                    maxId, fileSize);
+        }
+    }
+}
@@ -3,10 +3,14 @@ package seedu.foodbook.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.foodbook.commons.core.LogsCenter;
 import seedu.foodbook.commons.exceptions.DataLoadingException;
 import seedu.foodbook.commons.exceptions.IllegalValueException;
@@ -45,14 +49,17 @@ public class JsonFoodBookStorage implements FoodBookStorage {
     public Optional<ReadOnlyFoodBook> readFoodBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableFoodBook> jsonFoodBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableFoodBook.class);
-        if (!jsonFoodBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
-
-        try {
-            return Optional.of(jsonFoodBook.get().toModelType());
+        logger.info("JSON file " + filePath + " found.");
+
+        // Streamed a record at a time, so that loading never holds the file or its records as a whole
+        try (JsonParser parser = JsonUtil.createParser(Files.newInputStream(filePath))) {
+            return Optional.of(JsonSerializableFoodBook.read(parser));
+        } catch (IOException e) {
+            logger.warning("Error reading from data file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -74,7 +81,10 @@ public class JsonFoodBookStorage implements FoodBookStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableFoodBook(foodBook), filePath);
+        // Streamed a record at a time, so that saving never holds a second copy of the whole food book
+        try (JsonGenerator generator = JsonUtil.createPrettyGenerator(Files.newOutputStream(filePath))) {
+            JsonSerializableFoodBook.write(foodBook, generator);
+        }
     }
 
 }
@@ -0,0 +1,194 @@
+package seedu.foodbook.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.foodbook.commons.exceptions.IllegalValueException;
+import seedu.foodbook.model.FoodBook;
+import seedu.foodbook.model.delivery.Delivery;
+import seedu.foodbook.model.delivery.exceptions.DuplicateDeliveryException;
+import seedu.foodbook.model.person.Name;
+import seedu.foodbook.model.person.Person;
+import seedu.foodbook.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * Jackson-friendly line of a FoodBook journal: either the header naming the snapshot the journal applies to,
+ * or a single change to the person list, the delivery list or the delivery id sequence.
+ * Insertions give the position to insert at; edits and removals name the person or delivery they change, by the
+ * same name or id the food book looks it up by.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonJournalEntry {
+
+    public static final String MESSAGE_INVALID_ENTRY = "Journal entry \"%s\" is invalid.";
+
+    /**
+     * Kinds of journal entry.
+     */
+    enum Op {
+        HEADER,
+        INSERT_PERSON,
+        SET_PERSON,
+        REMOVE_PERSON,
+        INSERT_DELIVERY,
+        SET_DELIVERY,
+        REMOVE_DELIVERY,
+        SET_NEXT_DELIVERY_ID
+    }
+
+    private final Op op;
+    private final Long snapshotChecksum;
+    private final Integer index;
+    private final String name;
+    private final Integer id;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedDelivery delivery;
+    private final Integer nextDeliveryId;
+
+    /**
+     * Constructs a {@code JsonJournalEntry} with the given details; only those used by {@code op} are set.
+     */
+    @JsonCreator
+    public JsonJournalEntry(@JsonProperty("op") Op op, @JsonProperty("snapshotChecksum") Long snapshotChecksum,
+            @JsonProperty("index") Integer index, @JsonProperty("name") String name, @JsonProperty("id") Integer id,
+            @JsonProperty("person") JsonAdaptedPerson person, @JsonProperty("delivery") JsonAdaptedDelivery delivery,
+            @JsonProperty("nextDeliveryId") Integer nextDeliveryId) {
+        this.op = op;
+        this.snapshotChecksum = snapshotChecksum;
+        this.index = index;
+        this.name = name;
+        this.id = id;
+        this.person = person;
+        this.delivery = delivery;
+        this.nextDeliveryId = nextDeliveryId;
+    }
+
+    static JsonJournalEntry header(long snapshotChecksum) {
+        return new JsonJournalEntry(Op.HEADER, snapshotChecksum, null, null, null, null, null, null);
+    }
+
+    static JsonJournalEntry insertPerson(int index, Person person) {
+        return new JsonJournalEntry(Op.INSERT_PERSON, null, index, null, null, new JsonAdaptedPerson(person), null,
+                null);
+    }
+
+    static JsonJournalEntry setPerson(Person person) {
+        return new JsonJournalEntry(Op.SET_PERSON, null, null, null, null, new JsonAdaptedPerson(person), null, null);
+    }
+
+    static JsonJournalEntry removePerson(Person person) {
+        return new JsonJournalEntry(Op.REMOVE_PERSON, null, null, person.getName().fullName, null, null, null, null);
+    }
+
+    static JsonJournalEntry insertDelivery(int index, Delivery delivery) {
+        return new JsonJournalEntry(Op.INSERT_DELIVERY, null, index, null, null, null,
+                new JsonAdaptedDelivery(delivery), null);
+    }
+
+    static JsonJournalEntry setDelivery(Delivery delivery) {
+        return new JsonJournalEntry(Op.SET_DELIVERY, null, null, null, null, null, new JsonAdaptedDelivery(delivery),
+                null);
+    }
+
+    static JsonJournalEntry removeDelivery(Delivery delivery) {
+        return new JsonJournalEntry(Op.REMOVE_DELIVERY, null, null, null, delivery.getId(), null, null, null);
+    }
+
+    static JsonJournalEntry setNextDeliveryId(int nextDeliveryId) {
+        return new JsonJournalEntry(Op.SET_NEXT_DELIVERY_ID, null, null, null, null, null, null, nextDeliveryId);
+    }
+
+    /**
+     * Returns the checksum of the snapshot this journal applies to, if this is a header.
+     */
+    Long getSnapshotChecksum() {
+        return op == Op.HEADER ? snapshotChecksum : null;
+    }
+
+    /**
+     * Applies this change to a food book read from its snapshot. Persons are found by name and deliveries by id,
+     * through the food book's own indexes, and the client of a delivery is the person of that name in it.
+     *
+     * @throws IllegalValueException if this entry is incomplete or does not fit the food book.
+     */
+    void applyTo(FoodBook foodBook) throws IllegalValueException {
+        if (op == null) {
+            throw invalid();
+        }
+        try {
+            switch (op) {
+            case INSERT_PERSON:
+                checkInsertIndex(foodBook.getPersonList().size());
+                foodBook.addPerson(index, toPerson());
+                break;
+            case SET_PERSON:
+                Person editedPerson = toPerson();
+                foodBook.setPerson(findPerson(foodBook, editedPerson.getName()), editedPerson);
+                break;
+            case REMOVE_PERSON:
+                if (name == null || !Name.isValidName(name)) {
+                    throw invalid();
+                }
+                foodBook.removePerson(findPerson(foodBook, new Name(name)));
+                break;
+            case INSERT_DELIVERY:
+                checkInsertIndex(foodBook.getDeliveryList().size());
+                foodBook.addDelivery(index, toDelivery(foodBook));
+                break;
+            case SET_DELIVERY:
+                Delivery editedDelivery = toDelivery(foodBook);
+                foodBook.setDelivery(findDelivery(foodBook, editedDelivery.getId()), editedDelivery);
+                break;
+            case REMOVE_DELIVERY:
+                foodBook.removeDelivery(findDelivery(foodBook, id));
+                break;
+            case SET_NEXT_DELIVERY_ID:
+                if (nextDeliveryId == null || nextDeliveryId < FoodBook.FIRST_DELIVERY_ID) {
+                    throw invalid();
+                }
+                foodBook.resetNextDeliveryId(nextDeliveryId);
+                break;
+            default:
+                throw invalid();
+            }
+        } catch (DuplicatePersonException | DuplicateDeliveryException e) {
+            throw invalid();
+        }
+    }
+
+    private void checkInsertIndex(int size) throws IllegalValueException {
+        if (index == null || index < 0 || index > size) {
+            throw invalid();
+        }
+    }
+
+    private Person toPerson() throws IllegalValueException {
+        if (person == null) {
+            throw invalid();
+        }
+        return person.toModelType();
+    }
+
+    private Delivery toDelivery(FoodBook foodBook) throws IllegalValueException {
+        if (delivery == null) {
+            throw invalid();
+        }
+        return delivery.toModelType(foodBook);
+    }
+
+    private Person findPerson(FoodBook foodBook, Name personName) throws IllegalValueException {
+        return foodBook.getPersonByName(personName).orElseThrow(this::invalid);
+    }
+
+    private Delivery findDelivery(FoodBook foodBook, Integer deliveryId) throws IllegalValueException {
+        if (deliveryId == null) {
+            throw invalid();
+        }
+        return foodBook.getDeliveryById(deliveryId).orElseThrow(this::invalid);
+    }
+
+    private IllegalValueException invalid() {
+        return new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, op));
+    }
+}
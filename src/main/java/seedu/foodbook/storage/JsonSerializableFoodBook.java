@@ -1,18 +1,33 @@
 package seedu.foodbook.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.foodbook.commons.exceptions.IllegalValueException;
 import seedu.foodbook.model.FoodBook;
 import seedu.foodbook.model.ReadOnlyFoodBook;
 import seedu.foodbook.model.delivery.Delivery;
+import seedu.foodbook.model.delivery.UniqueDeliveryList;
+import seedu.foodbook.model.delivery.exceptions.DuplicateDeliveryException;
 import seedu.foodbook.model.person.Person;
+import seedu.foodbook.model.person.UniquePersonList;
 import seedu.foodbook.model.person.exceptions.DuplicatePersonException;
 
 /**
@@ -23,26 +38,37 @@ class JsonSerializableFoodBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
     public static final String MESSAGE_DUPLICATE_DELIVERY = "Deliveries list contains duplicate delivery(s).";
+    public static final String MESSAGE_NOT_A_FOOD_BOOK = "Data file does not hold a food book.";
+
+    /** The number of records read from a file before they are converted together. */
+    private static final int BATCH_SIZE = 16_384;
+
+    /** The number of records a conversion task converts itself rather than splitting among subtasks. */
+    private static final int CONVERSION_GRAIN = 1_024;
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     private final List<JsonAdaptedDelivery> deliveries = new ArrayList<>();
+    private final Integer nextDeliveryId;
 
     /**
      * Constructs a {@code JsonSerializableFoodBook} with the given persons and deliveries.
      *
      * @param persons    List of adapted persons.
      * @param deliveries List of adapted deliveries.
+     * @param nextDeliveryId The id to give to the next delivery added, or null if the file predates it.
      */
     @JsonCreator
     public JsonSerializableFoodBook(
             @JsonProperty("persons") List<JsonAdaptedPerson> persons,
-            @JsonProperty("deliveries") List<JsonAdaptedDelivery> deliveries) {
+            @JsonProperty("deliveries") List<JsonAdaptedDelivery> deliveries,
+            @JsonProperty("nextDeliveryId") Integer nextDeliveryId) {
         if (persons != null) {
             this.persons.addAll(persons);
         }
         if (deliveries != null) {
             this.deliveries.addAll(deliveries);
         }
+        this.nextDeliveryId = nextDeliveryId;
     }
 
     /**
@@ -53,39 +79,280 @@ class JsonSerializableFoodBook {
     public JsonSerializableFoodBook(ReadOnlyFoodBook source) {
         persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
         deliveries.addAll(source.getDeliveryList().stream().map(JsonAdaptedDelivery::new).collect(Collectors.toList()));
+        nextDeliveryId = source.getNextDeliveryId();
+    }
+
+    /**
+     * Writes {@code source} to {@code generator} as a {@code JsonSerializableFoodBook} of it would be serialized,
+     * one record at a time, without creating adapted copies of its persons and deliveries.
+     */
+    static void write(ReadOnlyFoodBook source, JsonGenerator generator) throws IOException {
+        write(source.getPersonList(), source.getDeliveryList(), source.getNextDeliveryId(), generator);
+    }
+
+    /**
+     * Writes a food book with the given contents to {@code generator}, as {@link #write(ReadOnlyFoodBook,
+     * JsonGenerator)} does.
+     */
+    static void write(List<Person> persons, List<Delivery> deliveries, int nextDeliveryId, JsonGenerator generator)
+            throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("persons");
+        for (Person person : persons) {
+            JsonAdaptedPerson.write(person, generator);
+        }
+        generator.writeEndArray();
+        generator.writeArrayFieldStart("deliveries");
+        for (Delivery delivery : deliveries) {
+            JsonAdaptedDelivery.write(delivery, generator);
+        }
+        generator.writeEndArray();
+        generator.writeNumberField("nextDeliveryId", nextDeliveryId);
+        generator.writeEndObject();
     }
 
     /** Creates an empty {@code JsonSerializableFoodBook}. */
     public JsonSerializableFoodBook() {
         // persons and deliveries are already initialized to empty lists
+        nextDeliveryId = null;
     }
 
     /**
      * Converts this JSON-friendly food book into the model's {@code FoodBook} object.
+     * Runs in time linear in the number of persons and deliveries: duplicates are caught by the lists' hash
+     * indexes as they are built, clients are resolved through a map from full name, and the finished lists are
+     * handed to the {@code FoodBook} in one step. The records are converted in parallel on the common fork-join
+     * pool, but checked in order, so the first error is the one converting them one at a time would find.
      *
      * @return The populated FoodBook.
      * @throws IllegalValueException If there are duplicate persons or deliveries,
      *                               or any data constraints are violated.
      */
     public FoodBook toModelType() throws IllegalValueException {
-        FoodBook foodBook = new FoodBook();
-        for (JsonAdaptedPerson jsonPerson : persons) {
-            Person person = jsonPerson.toModelType();
+        return toModelType(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Converts this JSON-friendly food book into the model's {@code FoodBook} object, as {@link #toModelType()}
+     * does, converting the records on {@code pool}.
+     */
+    FoodBook toModelType(ForkJoinPool pool) throws IllegalValueException {
+        ModelBuilder builder = new ModelBuilder(pool);
+        builder.addPersons(persons);
+        builder.addDeliveries(deliveries);
+        return builder.build(nextDeliveryId);
+    }
+
+    /**
+     * Reads a food book serialized as this class from {@code parser}, converting its persons and deliveries into
+     * the model a batch at a time as they are read, so that at most {@code BATCH_SIZE} records are ever held in
+     * their JSON-friendly form. Checks the data as {@link #toModelType()} does, with the same messages.
+     *
+     * @throws IOException If the JSON is malformed or not shaped like this class.
+     * @throws IllegalValueException If there are duplicate persons or deliveries,
+     *                               or any data constraints are violated.
+     */
+    static FoodBook read(JsonParser parser) throws IOException, IllegalValueException {
+        return read(parser, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Reads a food book from {@code parser} as {@link #read(JsonParser)} does, converting the records on
+     * {@code pool}.
+     */
+    static FoodBook read(JsonParser parser, ForkJoinPool pool) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, MESSAGE_NOT_A_FOOD_BOOK);
+        }
+
+        ModelBuilder builder = new ModelBuilder(pool);
+        boolean hasReadPersons = false;
+        // Deliveries can only be resolved once their clients are known, so any before the persons wait for them
+        List<JsonAdaptedDelivery> deliveriesBeforePersons = new ArrayList<>();
+        Integer nextDeliveryId = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+            case "persons":
+                readEach(parser, JsonAdaptedPerson.class, builder::addPersons);
+                hasReadPersons = true;
+                break;
+            case "deliveries":
+                readEach(parser, JsonAdaptedDelivery.class, hasReadPersons
+                        ? builder::addDeliveries
+                        : deliveriesBeforePersons::addAll);
+                break;
+            case "nextDeliveryId":
+                nextDeliveryId = parser.readValueAs(Integer.class);
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+
+        builder.addDeliveries(deliveriesBeforePersons);
+        return builder.build(nextDeliveryId);
+    }
+
+    /**
+     * Reads the elements of the array at the current token of {@code parser} as {@code type}, and passes them to
+     * {@code consumer} in batches of up to {@code BATCH_SIZE}, in order. A null array has no elements.
+     * If an element cannot be read, the ones before it are passed on first, so that an error in them is reported
+     * ahead of it, as it would be if each were converted as soon as it was read.
+     */
+    private static <T> void readEach(JsonParser parser, Class<T> type, BatchConsumer<T> consumer)
+            throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return;
+        }
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, MESSAGE_NOT_A_FOOD_BOOK);
+        }
+
+        List<T> batch = new ArrayList<>();
+        try {
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                batch.add(parser.readValueAs(type));
+                if (batch.size() == BATCH_SIZE) {
+                    consumer.accept(batch);
+                    batch = new ArrayList<>();
+                }
+            }
+        } catch (IOException e) {
+            consumer.accept(batch);
+            throw e;
+        }
+        consumer.accept(batch);
+    }
+
+    /**
+     * Takes a batch of records as they are read.
+     */
+    @FunctionalInterface
+    private interface BatchConsumer<T> {
+        void accept(List<T> batch) throws IllegalValueException;
+    }
+
+    /**
+     * Converts a JSON-friendly record into the model.
+     */
+    @FunctionalInterface
+    private interface RecordConverter<T, R> {
+        R convert(T record) throws IllegalValueException;
+    }
+
+    /**
+     * The outcome of converting one record: its model object, or the exception converting it threw.
+     */
+    private record Conversion<R>(R result, IllegalValueException exception) {
+        static <T, R> Conversion<R> of(T record, RecordConverter<T, R> converter) {
             try {
-                foodBook.addPerson(person);
-            } catch (DuplicatePersonException e) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+                return new Conversion<>(converter.convert(record), null);
+            } catch (IllegalValueException e) {
+                return new Conversion<>(null, e);
+            }
+        }
+
+        R get() throws IllegalValueException {
+            if (exception != null) {
+                throw exception;
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Converts the records in positions {@code from} to {@code to} into the same positions of
+     * {@code conversions}, halving the range into subtasks until it is small enough to convert directly.
+     */
+    private static class ConversionTask<T, R> extends RecursiveAction {
+        private final List<T> records;
+        private final RecordConverter<T, R> converter;
+        private final List<Conversion<R>> conversions;
+        private final int from;
+        private final int to;
+
+        ConversionTask(List<T> records, RecordConverter<T, R> converter, List<Conversion<R>> conversions,
+                int from, int to) {
+            this.records = records;
+            this.converter = converter;
+            this.conversions = conversions;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CONVERSION_GRAIN) {
+                for (int i = from; i < to; i++) {
+                    conversions.set(i, Conversion.of(records.get(i), converter));
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ConversionTask<>(records, converter, conversions, from, middle),
+                    new ConversionTask<>(records, converter, conversions, middle, to));
+        }
+    }
+
+    /**
+     * Builds a {@code FoodBook} from JSON-friendly persons and deliveries given a batch at a time. Each batch is
+     * converted on the builder's fork-join pool, then checked and added in order. The client of a delivery must be
+     * added in an earlier batch than the delivery.
+     */
+    private static class ModelBuilder {
+        private final ForkJoinPool pool;
+        private final UniquePersonList personList = new UniquePersonList();
+        private final Map<String, Person> clientsByFullName = new HashMap<>();
+        private final Function<String, Optional<Person>> clientByFullName = fullName ->
+                Optional.ofNullable(clientsByFullName.get(fullName));
+        private final UniqueDeliveryList deliveryList = new UniqueDeliveryList();
+
+        ModelBuilder(ForkJoinPool pool) {
+            this.pool = pool;
+        }
+
+        void addPersons(List<JsonAdaptedPerson> jsonPersons) throws IllegalValueException {
+            for (Conversion<Person> conversion : convertAll(jsonPersons, JsonAdaptedPerson::toModelType)) {
+                Person person = conversion.get();
+                try {
+                    personList.add(person);
+                } catch (DuplicatePersonException e) {
+                    throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+                }
+                clientsByFullName.put(person.getName().fullName, person);
+            }
+        }
+
+        void addDeliveries(List<JsonAdaptedDelivery> jsonDeliveries) throws IllegalValueException {
+            // Clients are only looked up while the batch converts, so the map is not changed under the pool's threads
+            for (Conversion<Delivery> conversion : convertAll(jsonDeliveries,
+                    jsonDelivery -> jsonDelivery.toModelType(clientByFullName))) {
+                try {
+                    deliveryList.add(conversion.get());
+                } catch (DuplicateDeliveryException e) {
+                    throw new IllegalValueException(MESSAGE_DUPLICATE_DELIVERY);
+                }
+            }
+        }
+
+        private <T, R> List<Conversion<R>> convertAll(List<T> records, RecordConverter<T, R> converter) {
+            List<Conversion<R>> conversions = new ArrayList<>(Collections.nCopies(records.size(), null));
+            if (!records.isEmpty()) {
+                pool.invoke(new ConversionTask<>(records, converter, conversions, 0, records.size()));
             }
+            return conversions;
         }
 
-        for (JsonAdaptedDelivery jsonDelivery : deliveries) {
-            Delivery delivery = jsonDelivery.toModelType(foodBook);
-            if (foodBook.hasDelivery(delivery)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_DELIVERY);
+        FoodBook build(Integer nextDeliveryId) {
+            FoodBook foodBook = new FoodBook(personList, deliveryList);
+            // Files saved before the sequence was persisted fall back to one past the largest id loaded
+            if (nextDeliveryId != null) {
+                foodBook.setNextDeliveryId(nextDeliveryId);
             }
-            foodBook.addDelivery(delivery);
+            return foodBook;
         }
-        return foodBook;
     }
 
 }
@@ -0,0 +1,328 @@
+package seedu.foodbook.storage;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import seedu.foodbook.commons.exceptions.IllegalValueException;
+import seedu.foodbook.model.ReadOnlyFoodBook;
+import seedu.foodbook.model.delivery.Delivery;
+import seedu.foodbook.model.delivery.DeliveryArchive;
+import seedu.foodbook.model.delivery.DeliveryPredicate;
+import seedu.foodbook.model.delivery.RevenueSummary;
+import seedu.foodbook.model.person.Name;
+import seedu.foodbook.model.person.Person;
+import seedu.foodbook.storage.DeliveryArchiveStorage.Partition;
+import seedu.foodbook.storage.DeliveryArchiveStorage.Segment;
+
+/**
+ * The deliveries in a {@link DeliveryArchiveStorage}, less those removed from it, read straight from the memory
+ * maps of its partitions. Queries only map the partitions of the months in their date range, binary search those,
+ * and test each record's client and tag by string index, so only the deliveries returned are built; revenue over
+ * whole months, by date alone, is summed from the manifest without mapping any partition.
+ */
+final class MappedDeliveryArchive implements DeliveryArchive {
+
+    private final DeliveryArchiveStorage storage;
+
+    /** The partitions, in month order, so that records read partition by partition are in date-time order. */
+    private final List<Partition> partitions;
+
+    /** The ids of the deliveries removed from the archive but still in its partitions. */
+    private final Set<Integer> removedIds;
+
+    /** The number of deliveries of each client in the partitions, removed or not. */
+    private final Map<Name, Integer> clientCounts;
+    private final int size;
+
+    MappedDeliveryArchive(DeliveryArchiveStorage storage, List<Partition> partitions, Set<Integer> removedIds,
+            Map<Name, Integer> clientCounts) {
+        this.storage = storage;
+        this.partitions = List.copyOf(partitions);
+        this.removedIds = Set.copyOf(removedIds);
+        this.clientCounts = Map.copyOf(clientCounts);
+        this.size = partitions.stream().mapToInt(partition -> partition.deliveryCount).sum() - removedIds.size();
+    }
+
+    /**
+     * Returns true if this archive was read from {@code storage}.
+     */
+    boolean isStoredIn(DeliveryArchiveStorage storage) {
+        return this.storage == storage;
+    }
+
+    List<Partition> getPartitions() {
+        return partitions;
+    }
+
+    Set<Integer> getRemovedIds() {
+        return removedIds;
+    }
+
+    Map<Name, Integer> getClientCounts() {
+        return clientCounts;
+    }
+
+    /**
+     * Returns the ids of the deliveries removed from the archive that are in {@code partition}.
+     */
+    Set<Integer> getRemovedIdsIn(Partition partition) {
+        if (!mayHaveRemoved(partition)) {
+            return Set.of();
+        }
+        Segment segment = partition.segment();
+        Set<Integer> removedInPartition = new HashSet<>();
+        for (int id : removedIds) {
+            if (partition.minId <= id && id <= partition.maxId && segment.recordWithId(id) >= 0) {
+                removedInPartition.add(id);
+            }
+        }
+        return removedInPartition;
+    }
+
+    /**
+     * Checks that the client of every delivery in the archive is in {@code foodBook}, from the client counts in the
+     * manifest, without mapping any partition.
+     */
+    void checkClients(ReadOnlyFoodBook foodBook) throws IllegalValueException {
+        for (Name clientName : clientCounts.keySet()) {
+            if (foodBook.getPersonByName(clientName).isEmpty()) {
+                throw new IllegalValueException(String.format(DeliveryArchiveStorage.MESSAGE_MISSING_CLIENT,
+                        clientName));
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public OptionalInt getMaxId() {
+        return partitions.stream().mapToInt(partition -> partition.maxId).max();
+    }
+
+    @Override
+    public boolean contains(int id) {
+        for (Partition partition : partitions) {
+            if (indexOf(partition, id) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Optional<Delivery> getDeliveryById(int id, Function<Name, Optional<Person>> clients) {
+        for (Partition partition : partitions) {
+            int record = indexOf(partition, id);
+            if (record >= 0) {
+                Segment segment = partition.segment();
+                return Optional.of(segment.decode(record, clientOf(segment, record, clients)));
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public List<Delivery> getDeliveriesByClientName(Name clientName, Function<Name, Optional<Person>> clients) {
+        if (!clientCounts.containsKey(clientName)) {
+            return List.of();
+        }
+
+        List<Delivery> clientDeliveries = new ArrayList<>();
+        for (Partition partition : partitions) {
+            Segment segment = partition.segment();
+            Name[] clientNames = clientNames(segment);
+            boolean[] isClientMatched = new boolean[clientNames.length];
+            boolean hasClient = false;
+            for (int client = 0; client < clientNames.length; client++) {
+                isClientMatched[client] = clientNames[client].equals(clientName);
+                hasClient |= isClientMatched[client];
+            }
+            if (!hasClient) {
+                continue;
+            }
+            boolean mayHaveRemoved = mayHaveRemoved(partition);
+            for (int record = 0; record < segment.recordCount; record++) {
+                if (isClientMatched[segment.client(record)] && !isRemoved(segment, record, mayHaveRemoved)) {
+                    clientDeliveries.add(segment.decode(record, clientOf(segment, record, clients)));
+                }
+            }
+        }
+        return Collections.unmodifiableList(clientDeliveries);
+    }
+
+    @Override
+    public List<Delivery> getDeliveriesMatching(DeliveryPredicate predicate,
+            Function<Name, Optional<Person>> clients) {
+        List<Delivery> matching = new ArrayList<>();
+        forEachMatching(predicate, clients, matching::add);
+        return Collections.unmodifiableList(matching);
+    }
+
+    @Override
+    public void forEachMatching(DeliveryPredicate predicate, Function<Name, Optional<Person>> clients,
+            Consumer<Delivery> action) {
+        if (!predicate.acceptsStatus(true)) {
+            return;
+        }
+        for (Partition partition : getPartitionsIn(predicate)) {
+            forEachMatching(partition, predicate, (segment, record) ->
+                    action.accept(segment.decode(record, clientOf(segment, record, clients))));
+        }
+    }
+
+    @Override
+    public RevenueSummary getRevenue(DeliveryPredicate predicate) {
+        if (!predicate.acceptsStatus(true)) {
+            return new RevenueSummary(0, 0);
+        }
+
+        boolean isByDateOnly = predicate.getClientName().isEmpty() && predicate.getTag().isEmpty();
+        long[] countAndCents = new long[2];
+        for (Partition partition : getPartitionsIn(predicate)) {
+            if (isByDateOnly && predicate.acceptsTime(partition.startEpochMinute)
+                    && predicate.acceptsTime(partition.endEpochMinute) && !mayHaveRemoved(partition)) {
+                countAndCents[0] += partition.deliveryCount;
+                countAndCents[1] = Math.addExact(countAndCents[1], partition.revenueCents);
+                continue;
+            }
+            forEachMatching(partition, predicate, (segment, record) -> {
+                countAndCents[0]++;
+                countAndCents[1] = Math.addExact(countAndCents[1], segment.cents(record));
+            });
+        }
+        return new RevenueSummary(countAndCents[0], countAndCents[1]);
+    }
+
+    @Override
+    public DeliveryArchive without(Collection<Integer> ids) {
+        Set<Integer> newRemovedIds = new HashSet<>(removedIds);
+        for (Partition partition : partitions) {
+            for (Integer id : ids) {
+                if (indexOf(partition, id) >= 0) {
+                    newRemovedIds.add(id);
+                }
+            }
+        }
+        return newRemovedIds.size() == removedIds.size()
+                ? this
+                : new MappedDeliveryArchive(storage, partitions, newRemovedIds, clientCounts);
+    }
+
+    @Override
+    public DeliveryArchive append(List<Delivery> deliveries) throws IOException {
+        return storage.append(this, deliveries);
+    }
+
+    @Override
+    public String toString() {
+        return size + " deliveries archived in " + storage.getDirectoryPath();
+    }
+
+    /**
+     * Returns the partitions of the months that overlap {@code predicate}'s date range.
+     */
+    private List<Partition> getPartitionsIn(DeliveryPredicate predicate) {
+        if (!predicate.hasDateRange()) {
+            return partitions;
+        }
+        long start = predicate.getStartEpochMinute();
+        long end = predicate.getEndEpochMinute();
+        return partitions.stream()
+                .filter(partition -> partition.endEpochMinute >= start && partition.startEpochMinute <= end)
+                .toList();
+    }
+
+    /**
+     * Visits the records of {@code partition} that are in the archive and satisfy {@code predicate}, in date-time
+     * order.
+     */
+    private void forEachMatching(Partition partition, DeliveryPredicate predicate, RecordVisitor visitor) {
+        Segment segment = partition.segment();
+        long start = predicate.getStartEpochMinute();
+        long end = predicate.getEndEpochMinute();
+        boolean mayHaveRemoved = mayHaveRemoved(partition);
+
+        // Clients and tags are tested once per string rather than once per record
+        Name[] clientNames = clientNames(segment);
+        boolean[] isClientAccepted = new boolean[clientNames.length];
+        for (int client = 0; client < clientNames.length; client++) {
+            isClientAccepted[client] = predicate.acceptsClientName(clientNames[client]);
+        }
+        int lastTag = Integer.MIN_VALUE;
+        boolean isLastTagAccepted = false;
+
+        for (int record = segment.firstAtOrAfter(start);
+                record < segment.recordCount && segment.epochMinute(record) <= end; record++) {
+            if (isRemoved(segment, record, mayHaveRemoved) || !isClientAccepted[segment.client(record)]) {
+                continue;
+            }
+            int tag = segment.tag(record);
+            if (tag != lastTag) {
+                lastTag = tag;
+                isLastTagAccepted = predicate.acceptsTag(segment.tagAt(tag));
+            }
+            if (isLastTagAccepted) {
+                visitor.visit(segment, record);
+            }
+        }
+    }
+
+    /**
+     * Returns the position in {@code partition} of the record with id {@code id} still in the archive, or -1.
+     */
+    private int indexOf(Partition partition, int id) {
+        if (id < partition.minId || id > partition.maxId || removedIds.contains(id)) {
+            return -1;
+        }
+        return partition.segment().recordWithId(id);
+    }
+
+    /**
+     * Returns true if any delivery removed from the archive may be in {@code partition}, going by its id range.
+     */
+    private boolean mayHaveRemoved(Partition partition) {
+        for (int id : removedIds) {
+            if (partition.minId <= id && id <= partition.maxId) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isRemoved(Segment segment, int record, boolean mayHaveRemoved) {
+        return mayHaveRemoved && removedIds.contains(segment.id(record));
+    }
+
+    private static Person clientOf(Segment segment, int record, Function<Name, Optional<Person>> clients) {
+        Name clientName = clientNames(segment)[segment.client(record)];
+        return clients.apply(clientName).orElseThrow(() ->
+                new IllegalStateException("Archived delivery's client " + clientName + " is not in the food book"));
+    }
+
+    private static Name[] clientNames(Segment segment) {
+        try {
+            return segment.clientNames();
+        } catch (IllegalValueException ive) {
+            // Partitions are only written from valid names, so an invalid one means the file was changed since
+            throw new IllegalStateException(ive);
+        }
+    }
+
+    @FunctionalInterface
+    private interface RecordVisitor {
+        void visit(Segment segment, int record);
+    }
+}
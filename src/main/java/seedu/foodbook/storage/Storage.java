@@ -3,7 +3,9 @@ package seedu.foodbook.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
+import seedu.foodbook.commons.core.DataFileFormat;
 import seedu.foodbook.commons.exceptions.DataLoadingException;
 import seedu.foodbook.model.ReadOnlyFoodBook;
 import seedu.foodbook.model.ReadOnlyUserPrefs;
@@ -23,10 +25,56 @@ public interface Storage extends FoodBookStorage, UserPrefsStorage {
     @Override
     Path getFoodBookFilePath();
 
+    @Override
+    DataFileFormat getFoodBookFormat();
+
+    /**
+     * Saves to the data file at {@code filePath}, in {@code format}, from now on, once every save requested so far
+     * has been written to the current one. The next save is written even if nothing has changed, so that the new
+     * data file is created.
+     */
+    void setFoodBookFile(Path filePath, DataFileFormat format);
+
     @Override
     Optional<ReadOnlyFoodBook> readFoodBook() throws DataLoadingException;
 
+    /**
+     * Saves {@code foodBook} to the data file, unless it is unchanged since it was last saved or read, and waits
+     * for every save requested so far to be written.
+     * @see #markFoodBookSaved(ReadOnlyFoodBook)
+     */
     @Override
     void saveFoodBook(ReadOnlyFoodBook foodBook) throws IOException;
 
+    /**
+     * Saves {@code foodBook} like {@link #saveFoodBook(ReadOnlyFoodBook)}, but returns once it has taken a snapshot
+     * of it, leaving the write to a background thread. Saves requested while another is being written are
+     * coalesced into a single write of the latest.
+     * Failed writes are passed to the handler set with {@link #setFoodBookSaveFailureHandler(Consumer)}.
+     */
+    void saveFoodBookInBackground(ReadOnlyFoodBook foodBook);
+
+    /**
+     * Waits for every save requested so far to be written.
+     *
+     * @throws IOException if the last of them failed.
+     */
+    void flushFoodBook() throws IOException;
+
+    /**
+     * Sets the handler told of each background save that fails. It is called on the background thread.
+     */
+    void setFoodBookSaveFailureHandler(Consumer<IOException> handler);
+
+    /**
+     * Records that the data file already holds the current contents of {@code foodBook}, e.g. because they were
+     * just read from it, so saving it is skipped until it changes.
+     */
+    void markFoodBookSaved(ReadOnlyFoodBook foodBook);
+
+    /**
+     * Returns the number of calls to {@link #saveFoodBook(ReadOnlyFoodBook)} skipped because nothing had changed.
+     */
+    long getSkippedSaveCount();
+
 }
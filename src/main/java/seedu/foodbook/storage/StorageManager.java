@@ -3,16 +3,22 @@ package seedu.foodbook.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+import seedu.foodbook.commons.core.DataFileFormat;
 import seedu.foodbook.commons.core.LogsCenter;
 import seedu.foodbook.commons.exceptions.DataLoadingException;
+import seedu.foodbook.model.FoodBook;
 import seedu.foodbook.model.ReadOnlyFoodBook;
 import seedu.foodbook.model.ReadOnlyUserPrefs;
 import seedu.foodbook.model.UserPrefs;
 
 /**
  * Manages storage of FoodBook data in local storage.
+ * The data file is written by a background thread, from snapshots of the food book taken when it is saved.
+ * Archived deliveries are kept in a {@link DeliveryArchiveStorage} beside the data file.
  */
 public class StorageManager implements Storage {
 
@@ -20,6 +26,21 @@ public class StorageManager implements Storage {
     private FoodBookStorage foodBookStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    /** Held while using {@code foodBookStorage}, so that no one sees a background write half done. */
+    private final Object foodBookLock = new Object();
+
+    /** The archive beside the current data file, once read or saved; guarded by {@code foodBookLock}. */
+    private DeliveryArchiveStorage deliveryArchiveStorage;
+
+    /** The food book last written to the data file, and its generation at the time. */
+    private ReadOnlyFoodBook savedFoodBook;
+    private OptionalLong savedGeneration = OptionalLong.empty();
+    private long skippedSaveCount;
+
+    /** Started by the first save, so that storages never saved to do not hold an idle thread. */
+    private WriteBehindSaver saver;
+    private volatile Consumer<IOException> saveFailureHandler = e -> {};
+
     /**
      * Creates a {@code StorageManager} with the given {@code FoodBookStorage} and {@code UserPrefStorage}.
      */
@@ -28,6 +49,19 @@ public class StorageManager implements Storage {
         this.userPrefsStorage = userPrefsStorage;
     }
 
+    /**
+     * Returns a {@code FoodBookStorage} for a data file at {@code filePath} saved in {@code format}.
+     */
+    public static FoodBookStorage createFoodBookStorage(DataFileFormat format, Path filePath) {
+        switch (format) {
+        case BINARY:
+            return new BinaryFoodBookStorage(filePath);
+        case JSON:
+        default:
+            return new JournaledFoodBookStorage(filePath);
+        }
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -50,29 +84,165 @@ public class StorageManager implements Storage {
 
     @Override
     public Path getFoodBookFilePath() {
-        return foodBookStorage.getFoodBookFilePath();
+        synchronized (foodBookLock) {
+            return foodBookStorage.getFoodBookFilePath();
+        }
+    }
+
+    @Override
+    public DataFileFormat getFoodBookFormat() {
+        synchronized (foodBookLock) {
+            return foodBookStorage.getFoodBookFormat();
+        }
+    }
+
+    @Override
+    public void setFoodBookFile(Path filePath, DataFileFormat format) {
+        FoodBookStorage newFoodBookStorage = createFoodBookStorage(format, filePath);
+        try {
+            // Leaves the old data file whole on its own, as a backup of the data as it was before the switch
+            compactFoodBook();
+        } catch (IOException e) {
+            logger.warning("Switching data file after a failed save: " + e.getMessage());
+        }
+        synchronized (foodBookLock) {
+            logger.info("Switching data file to " + filePath + " in " + format + " format");
+            foodBookStorage = newFoodBookStorage;
+        }
+        synchronized (this) {
+            savedFoodBook = null;
+            savedGeneration = OptionalLong.empty();
+        }
     }
 
     @Override
     public Optional<ReadOnlyFoodBook> readFoodBook() throws DataLoadingException {
-        return readFoodBook(foodBookStorage.getFoodBookFilePath());
+        return readFoodBook(getFoodBookFilePath());
     }
 
     @Override
     public Optional<ReadOnlyFoodBook> readFoodBook(Path filePath) throws DataLoadingException {
         logger.fine("Attempting to read data from file: " + filePath);
-        return foodBookStorage.readFoodBook(filePath);
+        synchronized (foodBookLock) {
+            Optional<ReadOnlyFoodBook> foodBookOptional = foodBookStorage.readFoodBook(filePath);
+            if (foodBookOptional.isEmpty()) {
+                return foodBookOptional;
+            }
+            FoodBook foodBook = foodBookOptional.get() instanceof FoodBook readFoodBook
+                    ? readFoodBook
+                    : new FoodBook(foodBookOptional.get());
+            foodBook.setDeliveryArchive(getDeliveryArchiveStorage(filePath).open(foodBook));
+            return Optional.of(foodBook);
+        }
     }
 
     @Override
     public void saveFoodBook(ReadOnlyFoodBook foodBook) throws IOException {
-        saveFoodBook(foodBook, foodBookStorage.getFoodBookFilePath());
+        saveFoodBookInBackground(foodBook);
+        flushFoodBook();
+    }
+
+    @Override
+    public synchronized void saveFoodBookInBackground(ReadOnlyFoodBook foodBook) {
+        if (isSaved(foodBook)) {
+            skippedSaveCount++;
+            logger.fine("Data file is up to date, skipping save");
+            return;
+        }
+        if (saver == null) {
+            saver = new WriteBehindSaver(this::writeFoodBook, this::handleSaveFailure);
+        }
+        saver.submit(new FoodBookSnapshot(foodBook));
+        markFoodBookSaved(foodBook);
+    }
+
+    @Override
+    public void flushFoodBook() throws IOException {
+        WriteBehindSaver currentSaver;
+        synchronized (this) {
+            currentSaver = saver;
+        }
+        if (currentSaver != null) {
+            currentSaver.flush();
+        }
+    }
+
+    @Override
+    public void setFoodBookSaveFailureHandler(Consumer<IOException> handler) {
+        saveFailureHandler = handler;
+    }
+
+    @Override
+    public void compactFoodBook() throws IOException {
+        flushFoodBook();
+        synchronized (foodBookLock) {
+            logger.fine("Attempting to compact data file: " + foodBookStorage.getFoodBookFilePath());
+            foodBookStorage.compactFoodBook();
+        }
+    }
+
+    @Override
+    public synchronized void markFoodBookSaved(ReadOnlyFoodBook foodBook) {
+        savedFoodBook = foodBook;
+        savedGeneration = foodBook.getGeneration();
+    }
+
+    @Override
+    public synchronized long getSkippedSaveCount() {
+        return skippedSaveCount;
+    }
+
+    /**
+     * Writes {@code snapshot} to the current data file. Called on the saver thread.
+     */
+    private void writeFoodBook(ReadOnlyFoodBook snapshot) throws IOException {
+        synchronized (foodBookLock) {
+            foodBookStorage.saveFoodBook(snapshot);
+            getDeliveryArchiveStorage(foodBookStorage.getFoodBookFilePath()).save(snapshot);
+        }
+    }
+
+    /**
+     * Returns the archive beside the data file at {@code dataFilePath}. The archive beside the current data file is
+     * kept, as it knows which of its partitions were rewritten at the last save. Must hold {@code foodBookLock}.
+     */
+    private DeliveryArchiveStorage getDeliveryArchiveStorage(Path dataFilePath) {
+        Path archivePath = DeliveryArchiveStorage.pathFor(dataFilePath);
+        if (!archivePath.equals(DeliveryArchiveStorage.pathFor(foodBookStorage.getFoodBookFilePath()))) {
+            return new DeliveryArchiveStorage(archivePath);
+        }
+        if (deliveryArchiveStorage == null || !deliveryArchiveStorage.getDirectoryPath().equals(archivePath)) {
+            deliveryArchiveStorage = new DeliveryArchiveStorage(archivePath);
+        }
+        return deliveryArchiveStorage;
+    }
+
+    /**
+     * Forgets which food book was saved, so that the next save is written even if nothing has changed, then passes
+     * {@code e} on to the handler.
+     */
+    private void handleSaveFailure(IOException e) {
+        synchronized (this) {
+            savedFoodBook = null;
+            savedGeneration = OptionalLong.empty();
+        }
+        saveFailureHandler.accept(e);
+    }
+
+    /**
+     * Returns true if {@code foodBook} is the food book last saved, and tracks its changes, and has not changed since.
+     */
+    private boolean isSaved(ReadOnlyFoodBook foodBook) {
+        OptionalLong generation = foodBook.getGeneration();
+        return foodBook == savedFoodBook && generation.isPresent() && generation.equals(savedGeneration);
     }
 
     @Override
     public void saveFoodBook(ReadOnlyFoodBook foodBook, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
-        foodBookStorage.saveFoodBook(foodBook, filePath);
+        synchronized (foodBookLock) {
+            foodBookStorage.saveFoodBook(foodBook, filePath);
+        }
     }
 
 }
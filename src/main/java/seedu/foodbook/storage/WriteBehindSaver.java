@@ -0,0 +1,125 @@
+package seedu.foodbook.storage;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.foodbook.commons.core.LogsCenter;
+import seedu.foodbook.commons.util.StringUtil;
+import seedu.foodbook.model.ReadOnlyFoodBook;
+
+/**
+ * Writes food book snapshots with a {@code Writer} on a background thread.
+ * <p>
+ * Only the latest snapshot submitted is kept waiting, so snapshots submitted while another is being written are
+ * coalesced into a single write of the newest one.
+ */
+class WriteBehindSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindSaver.class);
+
+    private final Writer writer;
+    private final Consumer<IOException> onFailure;
+
+    /** The snapshot waiting to be written, or null if there is none. */
+    private ReadOnlyFoodBook pending;
+    private long submittedCount;
+    private long writtenCount;
+
+    /** The failure of the last write, or null if it succeeded. */
+    private IOException lastFailure;
+
+    /**
+     * Creates a saver writing with {@code writer}, and starts its thread.
+     *
+     * @param onFailure Told, on the saver thread, of each write that fails.
+     */
+    WriteBehindSaver(Writer writer, Consumer<IOException> onFailure) {
+        this.writer = writer;
+        this.onFailure = onFailure;
+        Thread thread = new Thread(this::run, "FoodBook saver");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Queues {@code snapshot} to be written, replacing any snapshot still waiting.
+     * {@code snapshot} must not change after it is submitted.
+     */
+    synchronized void submit(ReadOnlyFoodBook snapshot) {
+        pending = snapshot;
+        submittedCount++;
+        notifyAll();
+    }
+
+    /**
+     * Waits until every snapshot submitted so far has been written.
+     *
+     * @throws IOException if writing the last of them failed.
+     */
+    synchronized void flush() throws IOException {
+        long target = submittedCount;
+        try {
+            while (writtenCount < target) {
+                wait();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the data file to be saved");
+        }
+        if (lastFailure != null) {
+            throw lastFailure;
+        }
+    }
+
+    private void run() {
+        while (true) {
+            ReadOnlyFoodBook snapshot;
+            long target;
+            synchronized (this) {
+                while (pending == null) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                snapshot = pending;
+                target = submittedCount;
+                pending = null;
+            }
+
+            IOException failure = write(snapshot);
+            if (failure != null) {
+                onFailure.accept(failure);
+            }
+            synchronized (this) {
+                lastFailure = failure;
+                writtenCount = target;
+                notifyAll();
+            }
+        }
+    }
+
+    private IOException write(ReadOnlyFoodBook snapshot) {
+        try {
+            writer.write(snapshot);
+            return null;
+        } catch (IOException e) {
+            logger.warning("Failed to save data file " + StringUtil.getDetails(e));
+            return e;
+        } catch (RuntimeException e) {
+            logger.severe("Unexpected error saving data file " + StringUtil.getDetails(e));
+            return new IOException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Writes a snapshot to the data file. Called on the saver thread.
+     */
+    @FunctionalInterface
+    interface Writer {
+        void write(ReadOnlyFoodBook snapshot) throws IOException;
+    }
+}
@@ -69,7 +69,7 @@ public class DeliveryCard extends UiPart<Region> {
         remarks.getChildren().addAll(remarksHeader, new Text(delivery.getRemarks()));
 
         // Cost
-        cost.setText("Cost: $" + String.format("%.2f", delivery.getCost()));
+        cost.setText("Cost: $" + delivery.getCost());
 
         // Delivery Status
         deliveredCheckBox.setSelected(delivery.getStatus());
@@ -2,6 +2,7 @@ package seedu.foodbook.ui;
 
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -36,6 +37,7 @@ public class MainWindow extends UiPart<Stage> {
     private PersonListPanel personListPanel;
     private DeliveryListPanel deliveryListPanel;
     private ResultDisplay resultDisplay;
+    private StatusBarFooter statusBarFooter;
     private HelpWindow helpWindow;
 
     @FXML
@@ -128,14 +130,18 @@ public class MainWindow extends UiPart<Stage> {
         personListPanel = new PersonListPanel(logic.getFilteredPersonList());
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
-        deliveryListPanel = new DeliveryListPanel(logic.getFilteredDeliveryList());
+        deliveryListPanel = new DeliveryListPanel(logic.getDisplayedDeliveryList());
         deliveryListPanelPlaceholder.getChildren().add(deliveryListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
+        logic.setBackgroundTaskHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getFoodBookFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getFoodBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
+        logic.setLoadProgressHandler(statusBarFooter::setLoadStatus);
+        logic.setQueuedCommandHandler(this::executeQueuedCommand);
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
@@ -216,6 +222,8 @@ public class MainWindow extends UiPart<Stage> {
             CommandResult commandResult = logic.execute(commandText);
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+            // The data file changes on convert
+            statusBarFooter.setSaveLocation(logic.getFoodBookFilePath());
 
             if (commandResult.getPanelToShow() == CommandResult.UiPanel.PERSONS) {
                 showPersons();
@@ -240,4 +248,16 @@ public class MainWindow extends UiPart<Stage> {
             throw e;
         }
     }
+
+    /**
+     * Executes a command that was queued while the data file was loading, showing its result as if it had just been
+     * entered.
+     */
+    private void executeQueuedCommand(String commandText) {
+        try {
+            executeCommand(commandText);
+        } catch (CommandException | ParseException e) {
+            // Already shown to the user by executeCommand
+        }
+    }
 }
@@ -17,12 +17,29 @@ public class StatusBarFooter extends UiPart<Region> {
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private Label loadStatus;
+
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
      */
     public StatusBarFooter(Path saveLocation) {
         super(FXML);
+        setSaveLocation(saveLocation);
+    }
+
+    /**
+     * Shows {@code saveLocation}, the data file saved to.
+     */
+    public void setSaveLocation(Path saveLocation) {
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
 
+    /**
+     * Shows {@code status}, the progress of loading the data file.
+     */
+    public void setLoadStatus(String status) {
+        loadStatus.setText(status);
+    }
+
 }
@@ -0,0 +1,45 @@
+package seedu.foodbook.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.foodbook.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class ConcatenatedObservableListTest {
+
+    private final ObservableList<String> first = FXCollections.observableArrayList("a", "b");
+    private final ObservableList<String> second = FXCollections.observableArrayList("c");
+    private final ConcatenatedObservableList<String> concatenated = new ConcatenatedObservableList<>(first, second);
+
+    @Test
+    public void get_elementsOfBothLists_inOrder() {
+        assertEquals(List.of("a", "b", "c"), concatenated);
+        assertEquals("c", concatenated.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> concatenated.get(3));
+    }
+
+    @Test
+    public void changeToEitherList_viewFollowsAndListenersNotified() {
+        int[] changeCount = new int[1];
+        concatenated.addListener((ListChangeListener<String>) change -> changeCount[0]++);
+
+        first.add("x");
+        second.remove("c");
+        second.add("y");
+
+        assertEquals(List.of("a", "b", "x", "y"), concatenated);
+        assertEquals(3, changeCount[0]);
+    }
+
+    @Test
+    public void add_modifyView_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> concatenated.add("d"));
+        assertThrows(UnsupportedOperationException.class, () -> concatenated.remove(0));
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.foodbook.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.foodbook.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvReaderTest {
+
+    @Test
+    public void readRecord_plainFields_splitOnCommas() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("a,b,c\n1,,3\n"));
+        assertEquals(List.of("a", "b", "c"), reader.readRecord());
+        assertEquals(List.of("1", "", "3"), reader.readRecord());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    public void readRecord_quotedFields_commasQuotesAndLineBreaksKept() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("\"Blk 30, #06-40\",\"say \"\"hi\"\"\"\n"
+                + "\"two\nlines\",x\n"
+                + "last"));
+        assertEquals(List.of("Blk 30, #06-40", "say \"hi\""), reader.readRecord());
+        assertEquals(1, reader.getRecordLineNumber());
+        assertEquals(List.of("two\nlines", "x"), reader.readRecord());
+        assertEquals(2, reader.getRecordLineNumber());
+        assertEquals(List.of("last"), reader.readRecord());
+        assertEquals(4, reader.getRecordLineNumber());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    public void readRecord_crlfAndCrLineEndings_countedAsOneLineEach() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("a\r\nb\rc\r\n\r\nd"));
+        assertEquals(List.of("a"), reader.readRecord());
+        assertEquals(List.of("b"), reader.readRecord());
+        assertEquals(List.of("c"), reader.readRecord());
+        assertEquals(3, reader.getRecordLineNumber());
+        assertEquals(List.of(""), reader.readRecord());
+        assertEquals(List.of("d"), reader.readRecord());
+        assertEquals(5, reader.getRecordLineNumber());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    public void readRecord_byteOrderMark_skipped() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("\uFEFFtype,name"));
+        assertEquals(List.of("type", "name"), reader.readRecord());
+    }
+
+    @Test
+    public void readRecord_recordsLongerThanBuffer_readWhole() throws Exception {
+        String longField = "x".repeat(20_000);
+        CsvReader reader = new CsvReader(new StringReader(longField + ",\"" + longField + "\"\nend"));
+        assertEquals(List.of(longField, longField), reader.readRecord());
+        assertEquals(List.of("end"), reader.readRecord());
+    }
+
+    @Test
+    public void readRecord_unclosedQuote_throwsIoException() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("ok\n\"never\nclosed"));
+        reader.readRecord();
+        assertThrows(IOException.class, String.format(CsvReader.MESSAGE_UNCLOSED_QUOTE, 2), reader::readRecord);
+    }
+}
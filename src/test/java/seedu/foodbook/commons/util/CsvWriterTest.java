@@ -0,0 +1,54 @@
+package seedu.foodbook.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvWriterTest {
+
+    @Test
+    public void writeRecord_plainFields_writtenAsTheyAre() throws Exception {
+        StringWriter out = new StringWriter();
+        CsvWriter writer = new CsvWriter(out);
+        writer.writeRecord("a", "b", "c");
+        writer.writeRecord("1", "", "3");
+        assertEquals("a,b,c\r\n1,,3\r\n", out.toString());
+    }
+
+    @Test
+    public void writeField_specialCharacters_quoted() throws Exception {
+        StringWriter out = new StringWriter();
+        CsvWriter writer = new CsvWriter(out);
+        writer.writeField("Blk 30, #06-40");
+        writer.writeField("say \"hi\"");
+        writer.writeField("two\nlines");
+        writer.writeField("\"");
+        writer.endRecord();
+        assertEquals("\"Blk 30, #06-40\",\"say \"\"hi\"\"\",\"two\nlines\",\"\"\"\"\r\n", out.toString());
+    }
+
+    @Test
+    public void writeRecord_readBackByCsvReader_sameFields() throws Exception {
+        List<List<String>> records = List.of(
+                List.of("id", "remarks"),
+                List.of("1", "Lunch, 40 pax, \"no nuts\""),
+                List.of("2", "line one\r\nline two\rline three"),
+                List.of(""));
+        StringWriter out = new StringWriter();
+        CsvWriter writer = new CsvWriter(out);
+        for (List<String> record : records) {
+            writer.writeRecord(record.toArray(String[]::new));
+        }
+
+        CsvReader reader = new CsvReader(new StringReader(out.toString()));
+        for (List<String> record : records) {
+            assertEquals(record, reader.readRecord());
+        }
+        assertNull(reader.readRecord());
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.foodbook.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.foodbook.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void copyOf_items_sameItemsInOrder() {
+        assertEquals(List.of(), PersistentList.copyOf(List.of()));
+        assertEquals(List.of(1, 2, 3, 4, 5), PersistentList.copyOf(List.of(1, 2, 3, 4, 5)));
+    }
+
+    @Test
+    public void plus_minus_with_originalUnchanged() {
+        PersistentList<String> original = PersistentList.copyOf(List.of("a", "b", "c"));
+        assertEquals(List.of("a", "x", "b", "c"), original.plus(1, "x"));
+        assertEquals(List.of("a", "c"), original.minus(1));
+        assertEquals(List.of("a", "b", "x"), original.with(2, "x"));
+        assertEquals(List.of("a", "b", "c", "d", "e"), original.plusAll(List.of("d", "e")));
+        assertEquals(List.of("a", "b", "c"), original);
+    }
+
+    @Test
+    public void plus_nullItem_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersistentList.empty().plus(0, null));
+    }
+
+    @Test
+    public void get_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        PersistentList<String> list = PersistentList.copyOf(List.of("a"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.minus(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.plus(2, "b"));
+    }
+
+    @Test
+    public void add_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> PersistentList.empty().add("a"));
+    }
+
+    @Test
+    public void randomChanges_sameAsArrayList() {
+        Random random = new Random(15);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+        for (int i = 0; i < 20_000; i++) {
+            int operation = random.nextInt(3);
+            if (expected.isEmpty() || operation == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.plus(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.minus(index);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                actual = actual.with(index, i);
+            }
+        }
+        assertEquals(expected, actual);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i));
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package seedu.foodbook.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.foodbook.logic.commands.MarkCommand;
+import seedu.foodbook.logic.commands.UnmarkCommand;
+import seedu.foodbook.model.FoodBook;
+import seedu.foodbook.model.ModelManager;
+import seedu.foodbook.model.UserPrefs;
+import seedu.foodbook.model.delivery.DateTime;
+import seedu.foodbook.model.delivery.Delivery;
+import seedu.foodbook.model.delivery.Money;
+import seedu.foodbook.model.person.Person;
+import seedu.foodbook.storage.JournaledFoodBookStorage;
+import seedu.foodbook.storage.JsonUserPrefsStorage;
+import seedu.foodbook.storage.StorageManager;
+import seedu.foodbook.testutil.Benchmark;
+import seedu.foodbook.testutil.PersonBuilder;
+
+/**
+ * Measures how long typed commands take on a large food book, saved to a plain json data file that takes far
+ * longer than a frame to write.
+ */
+public class LogicManagerBenchmark extends Benchmark {
+
+    private static final int DELIVERIES = 100_000;
+    private static final int DELIVERIES_PER_CLIENT = 10;
+    private static final int COMMANDS = 200;
+    private static final double FRAME_MILLIS = 16.0;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void execute_markAndUnmark_underOneFrame() throws Exception {
+        ModelManager model = new ModelManager(buildFoodBook(), new UserPrefs());
+        StorageManager storage = new StorageManager(new JournaledFoodBookStorage(testFolder.resolve("foodbook.json")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")));
+        Logic logic = new LogicManager(model, storage);
+        storage.saveFoodBook(model.getFoodBook());
+
+        double[] millis = new double[COMMANDS];
+        for (int i = 0; i < COMMANDS; i++) {
+            int id = i / 2 * 499 % DELIVERIES + FoodBook.FIRST_DELIVERY_ID;
+            String command = (i % 2 == 0 ? MarkCommand.COMMAND_WORD : UnmarkCommand.COMMAND_WORD) + " " + id;
+            long start = System.nanoTime();
+            logic.execute(command);
+            millis[i] = (System.nanoTime() - start) / 1e6;
+        }
+        long flushStart = System.nanoTime();
+        storage.flushFoodBook();
+        double flushMillis = (System.nanoTime() - flushStart) / 1e6;
+
+        Arrays.sort(millis);
+        double median = millis[COMMANDS / 2];
+        double p95 = millis[COMMANDS * 95 / 100];
+        System.out.printf("%d commands on %,d deliveries: median %.2f ms, p95 %.2f ms, max %.2f ms; "
+                + "final flush %.1f ms%n", COMMANDS, DELIVERIES, median, p95, millis[COMMANDS - 1], flushMillis);
+        assertEquals(model.getFoodBook(), new FoodBook(storage.readFoodBook().get()));
+        assertTrue(p95 < FRAME_MILLIS, String.format("95th percentile command took %.2f ms", p95));
+    }
+
+    private static FoodBook buildFoodBook() {
+        FoodBook foodBook = new FoodBook();
+        List<Person> clients = new ArrayList<>();
+        for (int i = 0; i < DELIVERIES / DELIVERIES_PER_CLIENT; i++) {
+            Person client = new PersonBuilder().withName("Client " + i).build();
+            clients.add(client);
+            foodBook.addPerson(client);
+        }
+
+        DateTime dateTime = new DateTime("1/1/2024", "1200");
+        for (int i = 0; i < DELIVERIES; i++) {
+            foodBook.addDelivery(new Delivery(i + FoodBook.FIRST_DELIVERY_ID, clients.get(i % clients.size()),
+                    dateTime, "NIL", Money.ofCents(1000), Optional.empty()));
+        }
+        return foodBook;
+    }
+}
@@ -1,7 +1,10 @@
 package seedu.foodbook.logic;
 
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.foodbook.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.foodbook.logic.commands.AddDeliveryCommand.MESSAGE_CLIENT_NOT_FOUND;
 import static seedu.foodbook.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -9,27 +12,43 @@ import static seedu.foodbook.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
 import static seedu.foodbook.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.foodbook.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.foodbook.testutil.Assert.assertThrows;
+import static seedu.foodbook.testutil.TypicalDeliveries.AMY_DELIVERY;
+import static seedu.foodbook.testutil.TypicalFoodBook.getTypicalFoodBook;
 import static seedu.foodbook.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import javafx.collections.ListChangeListener;
+import seedu.foodbook.commons.core.DataFileFormat;
 import seedu.foodbook.commons.core.GuiSettings;
 import seedu.foodbook.logic.commands.AddClientCommand;
 import seedu.foodbook.logic.commands.CommandResult;
+import seedu.foodbook.logic.commands.ConvertCommand;
+import seedu.foodbook.logic.commands.ExportCommand;
+import seedu.foodbook.logic.commands.HelpCommand;
 import seedu.foodbook.logic.commands.ListClientCommand;
 import seedu.foodbook.logic.commands.exceptions.CommandException;
 import seedu.foodbook.logic.parser.exceptions.ParseException;
+import seedu.foodbook.model.FoodBook;
 import seedu.foodbook.model.Model;
 import seedu.foodbook.model.ModelManager;
 import seedu.foodbook.model.ReadOnlyFoodBook;
+import seedu.foodbook.model.ReadOnlyUserPrefs;
 import seedu.foodbook.model.UserPrefs;
 import seedu.foodbook.model.person.Person;
+import seedu.foodbook.storage.BinaryFoodBookStorage;
 import seedu.foodbook.storage.JsonFoodBookStorage;
 import seedu.foodbook.storage.JsonUserPrefsStorage;
 import seedu.foodbook.storage.StorageManager;
@@ -43,6 +62,7 @@ public class LogicManagerTest {
     public Path temporaryFolder;
 
     private Model model = new ModelManager();
+    private StorageManager storage;
     private Logic logic;
 
     @BeforeEach
@@ -50,7 +70,7 @@ public class LogicManagerTest {
         JsonFoodBookStorage foodBookStorage =
                 new JsonFoodBookStorage(temporaryFolder.resolve("foodBook.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
-        StorageManager storage = new StorageManager(foodBookStorage, userPrefsStorage);
+        storage = new StorageManager(foodBookStorage, userPrefsStorage);
         logic = new LogicManager(model, storage);
     }
 
@@ -73,14 +93,213 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
+    public void execute_readOnlyCommands_saveSkipped() throws Exception {
+        storage.markFoodBookSaved(model.getFoodBook());
+
+        logic.execute(ListClientCommand.COMMAND_WORD);
+        logic.execute(ListClientCommand.COMMAND_WORD);
+
+        assertFalse(Files.exists(storage.getFoodBookFilePath()));
+        assertEquals(2, storage.getSkippedSaveCount());
+    }
+
+    @Test
+    public void execute_mutatingCommand_saved() throws Exception {
+        storage.markFoodBookSaved(model.getFoodBook());
+
+        logic.execute(AddClientCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY);
+        storage.flushFoodBook();
+
+        assertTrue(Files.exists(storage.getFoodBookFilePath()));
+        assertEquals(0, storage.getSkippedSaveCount());
+    }
+
+    @Test
+    public void execute_whileLoading_dataCommandsQueuedUntilLoaded() throws Exception {
+        List<String> queuedCommands = new ArrayList<>();
+        logic.setQueuedCommandHandler(queuedCommands::add);
+        logic.startLoading();
+
+        CommandResult result = logic.execute(ListClientCommand.COMMAND_WORD);
+        assertEquals(String.format(LogicManager.MESSAGE_COMMAND_QUEUED, ListClientCommand.COMMAND_WORD),
+                result.getFeedbackToUser());
+        assertEquals(HelpCommand.SHOWING_HELP_MESSAGE, logic.execute(HelpCommand.COMMAND_WORD).getFeedbackToUser());
+        assertTrue(queuedCommands.isEmpty());
+        assertFalse(Files.exists(storage.getFoodBookFilePath()));
+
+        logic.publishLoadedFoodBook(getTypicalFoodBook(), Runnable::run, () -> {});
+
+        assertFalse(logic.isLoading());
+        assertEquals(List.of(ListClientCommand.COMMAND_WORD), queuedCommands);
+    }
+
+    @Test
+    public void publishLoadedFoodBook_publishThrows_loadingAbandoned() throws Exception {
+        IllegalStateException failure = new IllegalStateException("dummy publish failure");
+        Model failingModel = new ModelManager() {
+            @Override
+            public void completeLoadedData(ReadOnlyFoodBook loaded) {
+                throw failure;
+            }
+        };
+        logic = new LogicManager(failingModel, storage);
+        List<String> queuedCommands = new ArrayList<>();
+        logic.setQueuedCommandHandler(queuedCommands::add);
+        List<String> progress = new ArrayList<>();
+        logic.setLoadProgressHandler(progress::add);
+        logic.startLoading();
+        logic.execute(ListClientCommand.COMMAND_WORD);
+
+        assertThrows(CompletionException.class, () ->
+                logic.publishLoadedFoodBook(getTypicalFoodBook(), Runnable::run, () -> {}));
+
+        assertFalse(logic.isLoading());
+        assertTrue(queuedCommands.isEmpty());
+        assertEquals(String.format(LogicManager.MESSAGE_LOAD_FAILED, failure.getMessage(), 1),
+                progress.get(progress.size() - 1));
+        assertEquals(new FoodBook(), failingModel.getFoodBook());
+
+        // Commands run straight away once loading has been abandoned
+        assertEquals(ListClientCommand.MESSAGE_SUCCESS,
+                logic.execute(ListClientCommand.COMMAND_WORD).getFeedbackToUser());
+    }
+
+    @Test
+    public void publishLoadedFoodBook_largeFoodBook_publishedInChunks() {
+        FoodBook loaded = getTypicalFoodBook();
+        for (int i = 0; i < 2 * LogicManager.LOAD_CHUNK_SIZE; i++) {
+            loaded.addPerson(new PersonBuilder().withName("Client " + i).build());
+        }
+        List<Integer> listSizes = new ArrayList<>();
+        model.getFilteredPersonList().addListener((ListChangeListener<Person>) change ->
+                listSizes.add(change.getList().size()));
+        List<String> progress = new ArrayList<>();
+        logic.setLoadProgressHandler(progress::add);
+        int[] tasks = new int[1];
+        boolean[] isLoadedRun = new boolean[1];
+        logic.startLoading();
+
+        logic.publishLoadedFoodBook(loaded, task -> {
+            tasks[0]++;
+            task.run();
+        }, () -> isLoadedRun[0] = true);
+
+        int total = loaded.getPersonList().size() + loaded.getDeliveryList().size();
+        assertEquals(List.of(LogicManager.LOAD_CHUNK_SIZE, 2 * LogicManager.LOAD_CHUNK_SIZE,
+                loaded.getPersonList().size()), listSizes);
+        assertEquals(4, tasks[0]);
+        assertTrue(isLoadedRun[0]);
+        assertEquals(loaded, model.getFoodBook());
+        assertEquals(loaded.getNextDeliveryId(), model.getFoodBook().getNextDeliveryId());
+        assertEquals(String.format(LogicManager.MESSAGE_LOADING_PROGRESS, total, total), progress.get(3));
+        assertEquals(String.format(LogicManager.MESSAGE_LOADED, loaded.getPersonList().size(),
+                loaded.getDeliveryList().size()), progress.get(4));
+    }
+
+    @Test
+    public void execute_convert_savesInNewFormat() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setFoodBookFilePath(storage.getFoodBookFilePath());
+        model.setUserPrefs(userPrefs);
+        model.addPerson(AMY);
+        storage.saveFoodBook(model.getFoodBook());
+
+        logic.execute(ConvertCommand.COMMAND_WORD + " binary");
+        storage.flushFoodBook();
+
+        Path binaryFilePath = temporaryFolder.resolve("foodBook.bin");
+        assertEquals(binaryFilePath, storage.getFoodBookFilePath());
+        assertEquals(DataFileFormat.BINARY, storage.getFoodBookFormat());
+        assertEquals(model.getFoodBook(), new FoodBook(new BinaryFoodBookStorage(binaryFilePath).readFoodBook().get()));
+        assertEquals(0, storage.getSkippedSaveCount());
+
+        // the next launch reads the new data file
+        UserPrefs savedPrefs = storage.readUserPrefs().get();
+        assertEquals(binaryFilePath, savedPrefs.getFoodBookFilePath());
+        assertEquals(DataFileFormat.BINARY, savedPrefs.getFoodBookFormat());
+    }
+
+    @Test
+    public void execute_convertPrefsNotSaved_keepsDataFile() throws Exception {
+        IOException failure = new IOException("Disk full");
+        storage = new StorageManager(new JsonFoodBookStorage(temporaryFolder.resolve("foodBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")) {
+                    @Override
+                    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+                        throw failure;
+                    }
+                });
+        logic = new LogicManager(model, storage);
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setFoodBookFilePath(storage.getFoodBookFilePath());
+        model.setUserPrefs(userPrefs);
+
+        String expectedMessage = String.format(LogicManager.FILE_OPS_ERROR_FORMAT, failure.getMessage());
+        assertThrows(CommandException.class, expectedMessage, () ->
+                logic.execute(ConvertCommand.COMMAND_WORD + " binary"));
+
+        assertEquals(userPrefs, model.getUserPrefs());
+        assertEquals(temporaryFolder.resolve("foodBook.json"), storage.getFoodBookFilePath());
+        assertEquals(DataFileFormat.JSON, storage.getFoodBookFormat());
+    }
+
+    @Test
+    public void execute_mutatingCommand_returnsBeforeSaveFinishes() throws Exception {
+        CountDownLatch saveStarted = new CountDownLatch(1);
+        CountDownLatch releaseSave = new CountDownLatch(1);
+        JsonFoodBookStorage foodBookStorage = new JsonFoodBookStorage(temporaryFolder.resolve("slow.json")) {
+            @Override
+            public void saveFoodBook(ReadOnlyFoodBook foodBook, Path filePath) throws IOException {
+                saveStarted.countDown();
+                try {
+                    releaseSave.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+                super.saveFoodBook(foodBook, filePath);
+            }
+        };
+        storage = new StorageManager(foodBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage);
+
+        logic.execute(AddClientCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY);
+        saveStarted.await();
+        assertFalse(Files.exists(foodBookStorage.getFoodBookFilePath()));
+
+        releaseSave.countDown();
+        storage.flushFoodBook();
+        assertEquals(model.getFoodBook(), new FoodBook(storage.readFoodBook().get()));
+    }
+
+    @Test
+    public void execute_export_writtenInBackgroundAndReported() throws Exception {
+        model.addPerson(AMY);
+        model.addDelivery(AMY_DELIVERY);
+        List<String> messages = new CopyOnWriteArrayList<>();
+        logic.setBackgroundTaskHandler(messages::add);
+        Path exportFilePath = temporaryFolder.resolve("deliveries.csv");
+
+        CommandResult result = logic.execute(ExportCommand.COMMAND_WORD + " " + exportFilePath);
+        assertEquals(String.format(ExportCommand.MESSAGE_EXPORTING, exportFilePath), result.getFeedbackToUser());
+
+        logic.finishBackgroundTasks();
+        assertEquals(List.of(String.format(ExportCommand.MESSAGE_SUCCESS, 1, AMY_DELIVERY.getCost(), exportFilePath)),
+                messages);
+        assertTrue(Files.readString(exportFilePath).contains(AMY_DELIVERY.getRemarks()));
+    }
+
+    @Test
+    public void execute_storageThrowsIoException_reportsFailure() {
+        assertFailureReportedForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
     }
 
     @Test
-    public void execute_storageThrowsAdException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
+    public void execute_storageThrowsAdException_reportsFailure() {
+        assertFailureReportedForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
@@ -144,11 +363,12 @@ public class LogicManagerTest {
 
     /**
      * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
+     * The command itself succeeds, and the failure is reported once the save is attempted in the background.
      *
      * @param e the exception to be thrown by the Storage component
-     * @param expectedMessage the message expected inside exception thrown by the Logic component
+     * @param expectedMessage the message expected to be reported by the Logic component
      */
-    private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+    private void assertFailureReportedForExceptionFromStorage(IOException e, String expectedMessage) {
         Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
 
         // Inject LogicManager with an FoodBookStorage that throws the IOException e when saving
@@ -165,6 +385,8 @@ public class LogicManagerTest {
         StorageManager storage = new StorageManager(foodBookStorage, userPrefsStorage);
 
         logic = new LogicManager(model, storage);
+        List<String> reportedMessages = new CopyOnWriteArrayList<>();
+        logic.setSaveFailureHandler(reportedMessages::add);
 
         // Triggers the saveFoodBook method by executing an add command
         String addCommand = AddClientCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
@@ -172,7 +394,11 @@ public class LogicManagerTest {
         Person expectedPerson = new PersonBuilder(AMY).withTags().build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addPerson(expectedPerson);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        assertDoesNotThrow(() -> logic.execute(addCommand));
+        assertEquals(expectedModel, model);
+
+        assertThrows(IOException.class, e.getMessage(), storage::flushFoodBook);
+        assertEquals(List.of(expectedMessage), reportedMessages);
     }
 
     /**
@@ -205,7 +431,7 @@ public class LogicManagerTest {
     }
 
     /**
-     * Verifies that the delivery list returned by {@link LogicManager#getFilteredDeliveryList()}
+     * Verifies that the delivery list returned by {@link LogicManager#getDisplayedDeliveryList()}
      * is unmodifiable. Attempting to mutate it (e.g., {@code remove(0)}) must throw
      * {@link UnsupportedOperationException}.
      *
@@ -215,8 +441,8 @@ public class LogicManagerTest {
      * @see LogicManagerTest#getFilteredPersonList_modifyList_throwsUnsupportedOperationException()
      */
     @Test
-    public void getFilteredDeliveryList_modifyList_throwsUnsupportedOperationException() {
-        assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredDeliveryList().remove(0));
+    public void getDisplayedDeliveryList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> logic.getDisplayedDeliveryList().remove(0));
     }
 
     /**
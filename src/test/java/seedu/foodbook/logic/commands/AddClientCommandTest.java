@@ -21,13 +21,17 @@ import seedu.foodbook.commons.core.GuiSettings;
 import seedu.foodbook.logic.Messages;
 import seedu.foodbook.logic.commands.exceptions.CommandException;
 import seedu.foodbook.model.FoodBook;
+import seedu.foodbook.model.MatchingDeliveries;
 import seedu.foodbook.model.Model;
 import seedu.foodbook.model.ReadOnlyFoodBook;
 import seedu.foodbook.model.ReadOnlyUserPrefs;
 import seedu.foodbook.model.delivery.Delivery;
+import seedu.foodbook.model.delivery.DeliveryPredicate;
+import seedu.foodbook.model.delivery.RevenueSummary;
 import seedu.foodbook.model.person.Name;
 import seedu.foodbook.model.person.Person;
 import seedu.foodbook.model.undo.ModelRecord;
+import seedu.foodbook.model.undo.exceptions.NoMoreRedoException;
 import seedu.foodbook.model.undo.exceptions.NoMoreUndoException;
 import seedu.foodbook.testutil.PersonBuilder;
 
@@ -161,6 +165,16 @@ public class AddClientCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void deletePersonWithDeliveries(Person target) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setPersonWithDeliveries(Person target, Person editedPerson) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -186,11 +200,56 @@ public class AddClientCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public int getNextDeliveryId() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public List<Delivery> getDeliveriesByClientName(Name clientName) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Delivery> getDeliveriesMatching(DeliveryPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public RevenueSummary getRevenue(DeliveryPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void showArchivedDeliveriesMatching(DeliveryPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public MatchingDeliveries snapshotDeliveriesMatching(DeliveryPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int archiveDeliveriesBefore(long horizonEpochMinute) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void appendLoadedData(List<Person> persons, List<Delivery> deliveries) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addPersonsAndDeliveries(List<Person> persons, List<Delivery> deliveries) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void completeLoadedData(ReadOnlyFoodBook loaded) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteDelivery(Delivery target) {
             throw new AssertionError("This method should not be called.");
@@ -206,6 +265,11 @@ public class AddClientCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ObservableList<Delivery> getDisplayedDeliveryList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredDeliveryList(Predicate<Delivery> predicate) {
             throw new AssertionError("This method should not be called.");
@@ -220,6 +284,11 @@ public class AddClientCommandTest {
         public ModelRecord undo() throws NoMoreUndoException {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public ModelRecord redo() throws NoMoreRedoException {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
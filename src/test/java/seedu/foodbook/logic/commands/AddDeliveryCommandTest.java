@@ -23,15 +23,20 @@ import seedu.foodbook.commons.core.GuiSettings;
 import seedu.foodbook.logic.Messages;
 import seedu.foodbook.logic.commands.exceptions.CommandException;
 import seedu.foodbook.model.FoodBook;
+import seedu.foodbook.model.MatchingDeliveries;
 import seedu.foodbook.model.Model;
 import seedu.foodbook.model.ReadOnlyFoodBook;
 import seedu.foodbook.model.ReadOnlyUserPrefs;
 import seedu.foodbook.model.delivery.DateTime;
 import seedu.foodbook.model.delivery.Delivery;
+import seedu.foodbook.model.delivery.DeliveryPredicate;
+import seedu.foodbook.model.delivery.Money;
+import seedu.foodbook.model.delivery.RevenueSummary;
 import seedu.foodbook.model.person.Name;
 import seedu.foodbook.model.person.Person;
 import seedu.foodbook.model.tag.DeliveryTag;
 import seedu.foodbook.model.undo.ModelRecord;
+import seedu.foodbook.model.undo.exceptions.NoMoreRedoException;
 import seedu.foodbook.model.undo.exceptions.NoMoreUndoException;
 import seedu.foodbook.testutil.DeliveryBuilder;
 
@@ -67,7 +72,7 @@ public class AddDeliveryCommandTest {
     @Test
     public void equals() {
         Delivery delivery1 = new DeliveryBuilder().withId(1).build();
-        Delivery delivery2 = new DeliveryBuilder().withId(2).withCost(10340.00).build();
+        Delivery delivery2 = new DeliveryBuilder().withId(2).withCost("10340.00").build();
         AddDeliveryCommand addCommand1 = new AddDeliveryCommand(delivery1);
         AddDeliveryCommand addCommand2 = new AddDeliveryCommand(delivery2);
 
@@ -93,7 +98,7 @@ public class AddDeliveryCommandTest {
         Name clientName = new Name("Alice Yeoh");
         DateTime dateTime = new DateTime("01/01/2025", "1000");
         String remarks = "Pizza delivery";
-        Double cost = 25.50;
+        Money cost = Money.ofCents(2550);
 
         AddDeliveryCommand command = new AddDeliveryCommand(clientName, dateTime, remarks, cost);
         // Constructor should not throw exception
@@ -103,7 +108,7 @@ public class AddDeliveryCommandTest {
     public void constructor_nullClientName_throwsNullPointerException() {
         DateTime dateTime = new DateTime("01/01/2025", "1000");
         String remarks = "Pizza delivery";
-        Double cost = 25.50;
+        Money cost = Money.ofCents(2550);
 
         assertThrows(NullPointerException.class, () ->
                 new AddDeliveryCommand(null, dateTime, remarks, cost));
@@ -113,7 +118,7 @@ public class AddDeliveryCommandTest {
     public void constructor_nullDateTime_throwsNullPointerException() {
         Name clientName = new Name("Alice Yeoh");
         String remarks = "Pizza delivery";
-        Double cost = 25.50;
+        Money cost = Money.ofCents(2550);
 
         assertThrows(NullPointerException.class, () ->
                 new AddDeliveryCommand(clientName, null, remarks, cost));
@@ -123,7 +128,7 @@ public class AddDeliveryCommandTest {
     public void constructor_nullRemarks_throwsNullPointerException() {
         Name clientName = new Name("Alice Yeoh");
         DateTime dateTime = new DateTime("01/01/2025", "1000");
-        Double cost = 25.50;
+        Money cost = Money.ofCents(2550);
 
         assertThrows(NullPointerException.class, () ->
                 new AddDeliveryCommand(clientName, dateTime, null, cost));
@@ -144,7 +149,7 @@ public class AddDeliveryCommandTest {
         Name clientName = new Name("Alice Yeoh");
         DateTime dateTime = new DateTime("01/01/2025", "1000");
         String remarks = "Pizza delivery";
-        Double cost = 25.50;
+        Money cost = Money.ofCents(2550);
         Optional<DeliveryTag> tag = Optional.of(new DeliveryTag("Personal"));
 
         AddDeliveryCommand command = new AddDeliveryCommand(clientName, dateTime, remarks, cost, tag);
@@ -156,7 +161,7 @@ public class AddDeliveryCommandTest {
         Name clientName = new Name("Alice Yeoh");
         DateTime dateTime = new DateTime("01/01/2025", "1000");
         String remarks = "Pizza delivery";
-        Double cost = -25.50;
+        Money cost = Money.ofCents(-2550);
         Optional<DeliveryTag> tag = Optional.of(new DeliveryTag("Personal"));
 
         assertThrows(IllegalArgumentException.class, () ->
@@ -168,7 +173,7 @@ public class AddDeliveryCommandTest {
         Name clientName = new Name("Alice Yeoh");
         DateTime dateTime = new DateTime("01/01/2025", "1000");
         String remarks = "Pizza delivery";
-        Double cost = 25.50;
+        Money cost = Money.ofCents(2550);
 
         AddDeliveryCommand command = new AddDeliveryCommand(clientName, dateTime, remarks, cost, null);
         // Constructor should not throw exception
@@ -181,7 +186,7 @@ public class AddDeliveryCommandTest {
         Name clientName = new Name("Alice Yeoh");
         DateTime dateTime = new DateTime("01/01/2025", "1000");
         String remarks = "Pizza delivery";
-        Double cost = 25.50;
+        Money cost = Money.ofCents(2550);
 
         AddDeliveryCommand command = new AddDeliveryCommand(clientName, dateTime, remarks, cost,
                 Optional.empty());
@@ -193,7 +198,7 @@ public class AddDeliveryCommandTest {
         Name nonExistentClient = new Name("NonExistent Client");
         DateTime dateTime = new DateTime("01/01/2025", "1000");
         String remarks = "Test delivery";
-        Double cost = 25.50;
+        Money cost = Money.ofCents(2550);
 
         AddDeliveryCommand addCommand = new AddDeliveryCommand(nonExistentClient, dateTime, remarks, cost);
         ModelStubWithoutClient modelStub = new ModelStubWithoutClient();
@@ -209,7 +214,7 @@ public class AddDeliveryCommandTest {
         Name clientName = ALICE.getName();
         DateTime dateTime = new DateTime("01/01/2025", "1000");
         String remarks = "Test delivery";
-        Double cost = 25.50;
+        Money cost = Money.ofCents(2550);
 
         AddDeliveryCommand addCommand = new AddDeliveryCommand(clientName, dateTime, remarks, cost);
         CommandResult commandResult = addCommand.execute(modelStub);
@@ -301,6 +306,16 @@ public class AddDeliveryCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void deletePersonWithDeliveries(Person target) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setPersonWithDeliveries(Person target, Person editedPerson) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -336,6 +351,11 @@ public class AddDeliveryCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ObservableList<Delivery> getDisplayedDeliveryList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredDeliveryList(Predicate<Delivery> predicate) {
             throw new AssertionError("This method should not be called.");
@@ -351,6 +371,11 @@ public class AddDeliveryCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ModelRecord redo() throws NoMoreRedoException {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Optional<Person> getPersonByName(Name clientName) {
             throw new AssertionError("This method should not be called.");
@@ -361,10 +386,55 @@ public class AddDeliveryCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public int getNextDeliveryId() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public List<Delivery> getDeliveriesByClientName(Name clientName) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public List<Delivery> getDeliveriesMatching(DeliveryPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public RevenueSummary getRevenue(DeliveryPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void showArchivedDeliveriesMatching(DeliveryPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public MatchingDeliveries snapshotDeliveriesMatching(DeliveryPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int archiveDeliveriesBefore(long horizonEpochMinute) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void appendLoadedData(List<Person> persons, List<Delivery> deliveries) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addPersonsAndDeliveries(List<Person> persons, List<Delivery> deliveries) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void completeLoadedData(ReadOnlyFoodBook loaded) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -449,8 +519,8 @@ public class AddDeliveryCommandTest {
         }
 
         @Override
-        public ObservableList<Delivery> getFilteredDeliveryList() {
-            return javafx.collections.FXCollections.observableArrayList(deliveriesAdded);
+        public int getNextDeliveryId() {
+            return deliveriesAdded.size() + 1;
         }
 
         @Override
@@ -0,0 +1,84 @@
+package seedu.foodbook.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.foodbook.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.foodbook.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.foodbook.testutil.TypicalFoodBook.getTypicalFoodBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.foodbook.commons.core.DataFileFormat;
+import seedu.foodbook.model.Model;
+import seedu.foodbook.model.ModelManager;
+import seedu.foodbook.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for ConvertCommand.
+ */
+public class ConvertCommandTest {
+
+    private Model model = new ModelManager(getTypicalFoodBook(), new UserPrefs());
+
+    @Test
+    public void execute_toBinary_switchesFormatAndExtension() {
+        Path binaryFilePath = Paths.get("data", "foodbook.bin");
+        UserPrefs expectedUserPrefs = new UserPrefs();
+        expectedUserPrefs.setFoodBookFormat(DataFileFormat.BINARY);
+        expectedUserPrefs.setFoodBookFilePath(binaryFilePath);
+        Model expectedModel = new ModelManager(getTypicalFoodBook(), expectedUserPrefs);
+
+        String expectedMessage = String.format(ConvertCommand.MESSAGE_SUCCESS, DataFileFormat.BINARY, binaryFilePath);
+        assertCommandSuccess(new ConvertCommand(DataFileFormat.BINARY), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_backToJson_restoresJsonFile() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setFoodBookFormat(DataFileFormat.BINARY);
+        userPrefs.setFoodBookFilePath(Paths.get("data", "foodbook.bin"));
+        model = new ModelManager(getTypicalFoodBook(), userPrefs);
+        Model expectedModel = new ModelManager(getTypicalFoodBook(), new UserPrefs());
+
+        String expectedMessage = String.format(ConvertCommand.MESSAGE_SUCCESS, DataFileFormat.JSON,
+                new UserPrefs().getFoodBookFilePath());
+        assertCommandSuccess(new ConvertCommand(DataFileFormat.JSON), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_sameFormat_throwsCommandException() {
+        assertCommandFailure(new ConvertCommand(DataFileFormat.JSON), model,
+                String.format(ConvertCommand.MESSAGE_ALREADY_IN_FORMAT, DataFileFormat.JSON));
+    }
+
+    @Test
+    public void equals() {
+        ConvertCommand toBinaryCommand = new ConvertCommand(DataFileFormat.BINARY);
+        ConvertCommand toJsonCommand = new ConvertCommand(DataFileFormat.JSON);
+
+        // same object -> returns true
+        assertTrue(toBinaryCommand.equals(toBinaryCommand));
+
+        // same values -> returns true
+        assertTrue(toBinaryCommand.equals(new ConvertCommand(DataFileFormat.BINARY)));
+
+        // different types -> returns false
+        assertFalse(toBinaryCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(toBinaryCommand.equals(null));
+
+        // different format -> returns false
+        assertFalse(toBinaryCommand.equals(toJsonCommand));
+    }
+
+    @Test
+    public void toString_binary_correctStringRepresentation() {
+        String expected = ConvertCommand.class.getCanonicalName() + "{format=binary}";
+        assertEquals(expected, new ConvertCommand(DataFileFormat.BINARY).toString());
+    }
+}
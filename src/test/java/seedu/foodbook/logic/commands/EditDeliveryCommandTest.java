@@ -20,6 +20,7 @@ import seedu.foodbook.model.ModelManager;
 import seedu.foodbook.model.UserPrefs;
 import seedu.foodbook.model.delivery.DateTime;
 import seedu.foodbook.model.delivery.Delivery;
+import seedu.foodbook.model.delivery.Money;
 import seedu.foodbook.model.person.Person;
 import seedu.foodbook.model.tag.DeliveryTag;
 
@@ -42,7 +43,7 @@ public class EditDeliveryCommandTest {
         descriptor.setClientName(replacementClient.getName().fullName);
         descriptor.setDateTime(new DateTime("21/10/2029", "1830"));
         descriptor.setRemarks("Updated remarks");
-        descriptor.setCost(88.80);
+        descriptor.setCost(Money.ofCents(8880));
         descriptor.setTag(new DeliveryTag("Personal"));
 
         EditDeliveryCommand command = new EditDeliveryCommand(target.getId(), descriptor);
@@ -65,7 +66,7 @@ public class EditDeliveryCommandTest {
                 expectedReplacement,
                 new DateTime("21/10/2029", "1830"),
                 "Updated remarks",
-                88.80,
+                Money.ofCents(8880),
                 base.getTag(),
                 base.getStatus()
         );
@@ -89,7 +90,7 @@ public class EditDeliveryCommandTest {
 
         EditDeliveryDescriptor descriptor = new EditDeliveryDescriptor();
         descriptor.setRemarks("Leave with guard");
-        descriptor.setCost(12.34);
+        descriptor.setCost(Money.ofCents(1234));
 
         EditDeliveryCommand command = new EditDeliveryCommand(target.getId(), descriptor);
 
@@ -107,7 +108,7 @@ public class EditDeliveryCommandTest {
                 base.getClient(),
                 base.getDeliveryDate(),
                 "Leave with guard",
-                12.34,
+                Money.ofCents(1234),
                 base.getTag(),
                 base.getStatus()
         );
@@ -213,7 +214,7 @@ public class EditDeliveryCommandTest {
         Delivery target = model.getFilteredDeliveryList().get(0);
 
         EditDeliveryCommand.EditDeliveryDescriptor desc = new EditDeliveryCommand.EditDeliveryDescriptor();
-        desc.setCost(-10.0);
+        desc.setCost(Money.ofCents(-1000));
 
         EditDeliveryCommand cmd = new EditDeliveryCommand(target.getId(), desc);
 
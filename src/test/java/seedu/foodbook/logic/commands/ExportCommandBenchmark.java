@@ -0,0 +1,147 @@
+package seedu.foodbook.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.foodbook.model.FoodBook;
+import seedu.foodbook.model.Model;
+import seedu.foodbook.model.ModelManager;
+import seedu.foodbook.model.UserPrefs;
+import seedu.foodbook.model.delivery.DateTime;
+import seedu.foodbook.model.delivery.Delivery;
+import seedu.foodbook.model.delivery.DeliveryArchive;
+import seedu.foodbook.model.delivery.DeliveryPredicate;
+import seedu.foodbook.model.delivery.Money;
+import seedu.foodbook.model.person.Person;
+import seedu.foodbook.model.tag.DeliveryTag;
+import seedu.foodbook.storage.DeliveryArchiveStorage;
+import seedu.foodbook.testutil.Benchmark;
+import seedu.foodbook.testutil.PersonBuilder;
+
+/**
+ * Measures exporting two million deliveries, nearly all of them archived, with their revenue by day, and the heap
+ * held while the export runs.
+ */
+public class ExportCommandBenchmark extends Benchmark {
+
+    private static final int CLIENTS = 1_000;
+    private static final int ARCHIVED_DELIVERIES = 2_000_000;
+    private static final int LISTED_DELIVERIES = 50_000;
+    private static final int DELIVERIES_PER_DAY = 1_000;
+    private static final int ARCHIVE_CHUNK = 100_000;
+
+    // Every row is built, formatted and written on its own, so the export is bound by formatting dates and costs
+    private static final double MIN_ROWS_PER_SECOND = 200_000.0;
+
+    // Only the daily totals, about two thousand of them, are kept; a list of the exported deliveries would take
+    // hundreds of megabytes
+    private static final long MAX_HEAP_GROWTH_BYTES = 32L << 20;
+
+    private static final DeliveryPredicate ALL = new DeliveryPredicate(Optional.empty(), Optional.empty(),
+            Optional.empty(), Optional.empty(), Optional.empty());
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void execute_twoMillionDeliveries_boundedHeap() throws Exception {
+        Model model = new ModelManager(buildFoodBook(), new UserPrefs());
+        int deliveries = ARCHIVED_DELIVERIES + LISTED_DELIVERIES;
+        Path file = testFolder.resolve("deliveries.csv");
+        Path revenueFile = testFolder.resolve("revenue.csv");
+        ExportCommand exportCommand = new ExportCommand(file, ALL, Optional.of(revenueFile));
+
+        // Warm up so that class loading and compilation are not measured
+        DeliveryPredicate firstMonth = new DeliveryPredicate(Optional.of("1/1/2019"), Optional.of("31/1/2019"),
+                Optional.empty(), Optional.empty(), Optional.empty());
+        for (int i = 0; i < 3; i++) {
+            new ExportCommand(file, firstMonth, Optional.of(revenueFile)).execute(model).getBackgroundTask().get()
+                    .get();
+        }
+
+        long start = System.nanoTime();
+        String message = exportCommand.execute(model).getBackgroundTask().get().get();
+        double exportMillis = (System.nanoTime() - start) / 1e6;
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, deliveries, model.getRevenue(ALL).getTotal(), file)
+                + String.format(ExportCommand.MESSAGE_REVENUE_SUCCESS, deliveries / DELIVERIES_PER_DAY, revenueFile),
+                message);
+        try (Stream<String> lines = Files.lines(file)) {
+            assertEquals(deliveries + 1, lines.count());
+        }
+
+        // Exported again while the live heap is sampled, as sampling slows the export down
+        long baseline = usedHeapAfterGc();
+        AtomicLong peak = new AtomicLong(baseline);
+        AtomicBoolean isExporting = new AtomicBoolean(true);
+        Thread sampler = new Thread(() -> {
+            while (isExporting.get()) {
+                System.gc();
+                Runtime runtime = Runtime.getRuntime();
+                peak.accumulateAndGet(runtime.totalMemory() - runtime.freeMemory(), Math::max);
+                sleep(100);
+            }
+        });
+        sampler.start();
+        exportCommand.execute(model).getBackgroundTask().get().get();
+        isExporting.set(false);
+        sampler.join();
+        long heapGrowth = peak.get() - baseline;
+
+        System.out.printf("Exported %,d deliveries, %,d archived, in %,.1f ms (%,.0f rows per second, %,d bytes); "
+                + "live heap grew by at most %,d bytes%n", deliveries, ARCHIVED_DELIVERIES, exportMillis,
+                deliveries / exportMillis * 1000, Files.size(file), heapGrowth);
+        assertTrue(deliveries / exportMillis * 1000 > MIN_ROWS_PER_SECOND,
+                String.format("Export took %.1f ms", exportMillis));
+        assertTrue(heapGrowth < MAX_HEAP_GROWTH_BYTES, String.format("Heap grew by %,d bytes", heapGrowth));
+    }
+
+    /**
+     * Returns a food book whose archive holds {@code ARCHIVED_DELIVERIES} delivered deliveries, appended a chunk at
+     * a time so that they are never all in memory, followed by {@code LISTED_DELIVERIES} listed ones.
+     */
+    private FoodBook buildFoodBook() throws Exception {
+        FoodBook foodBook = new FoodBook();
+        List<Person> clients = new ArrayList<>();
+        for (int i = 0; i < CLIENTS; i++) {
+            Person client = new PersonBuilder().withName("Client " + i).build();
+            clients.add(client);
+            foodBook.addPerson(client);
+        }
+
+        DeliveryArchive archive = new DeliveryArchiveStorage(testFolder.resolve("foodbook.archive")).open(foodBook);
+        for (int chunkStart = 0; chunkStart < ARCHIVED_DELIVERIES; chunkStart += ARCHIVE_CHUNK) {
+            List<Delivery> chunk = new ArrayList<>(ARCHIVE_CHUNK);
+            for (int i = chunkStart; i < chunkStart + ARCHIVE_CHUNK; i++) {
+                chunk.add(buildDelivery(i, clients, true));
+            }
+            archive = archive.append(chunk);
+        }
+        foodBook.setDeliveryArchive(archive);
+        for (int i = ARCHIVED_DELIVERIES; i < ARCHIVED_DELIVERIES + LISTED_DELIVERIES; i++) {
+            foodBook.addDelivery(buildDelivery(i, clients, false));
+        }
+        return foodBook;
+    }
+
+    private static Delivery buildDelivery(int i, List<Person> clients, boolean isDelivered) {
+        // Deliveries are spread evenly over the days from 1/1/2019, a minute apart within each day
+        long epochMinute = new DateTime("1/1/2019", "0000").toEpochMinute()
+                + i / DELIVERIES_PER_DAY * 24L * 60 + i % DELIVERIES_PER_DAY;
+        Optional<DeliveryTag> tag = i % 2 == 0 ? Optional.of(new DeliveryTag("Corporate")) : Optional.empty();
+        return new Delivery(i + FoodBook.FIRST_DELIVERY_ID, clients.get(i % CLIENTS),
+                DateTime.ofEpochMinute(epochMinute), "Order " + i + ", no nuts", Money.ofCents(1000 + i % 500), tag,
+                isDelivered);
+    }
+}
@@ -0,0 +1,219 @@
+package seedu.foodbook.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.foodbook.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.foodbook.testutil.TypicalDeliveries.ALICE_DELIVERY;
+import static seedu.foodbook.testutil.TypicalDeliveries.BENSON_DELIVERY;
+import static seedu.foodbook.testutil.TypicalFoodBook.getTypicalFoodBook;
+import static seedu.foodbook.testutil.TypicalPersons.BENSON;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.foodbook.commons.core.DataFileFormat;
+import seedu.foodbook.commons.util.CsvReader;
+import seedu.foodbook.model.Model;
+import seedu.foodbook.model.ModelManager;
+import seedu.foodbook.model.UserPrefs;
+import seedu.foodbook.model.delivery.Delivery;
+import seedu.foodbook.model.delivery.DeliveryPredicate;
+import seedu.foodbook.model.delivery.Money;
+import seedu.foodbook.model.tag.DeliveryTag;
+import seedu.foodbook.testutil.DeliveryBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for ExportCommand.
+ */
+public class ExportCommandTest {
+
+    private static final DeliveryPredicate ALL = new DeliveryPredicate(Optional.empty(), Optional.empty(),
+            Optional.empty(), Optional.empty(), Optional.empty());
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(getTypicalFoodBook(), new UserPrefs());
+
+    @Test
+    public void execute_allDeliveries_writtenByBackgroundTask() throws Exception {
+        Path file = testFolder.resolve("deliveries.csv");
+
+        CommandResult result = new ExportCommand(file, ALL, Optional.empty()).execute(model);
+
+        assertEquals(new CommandResult(String.format(ExportCommand.MESSAGE_EXPORTING, file),
+                CommandResult.UiPanel.DELIVERIES), result);
+        assertFalse(Files.exists(file));
+        List<Delivery> deliveries = model.getFoodBook().getDeliveryList();
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, deliveries.size(), model.getRevenue(ALL).getTotal(),
+                file), result.getBackgroundTask().get().get());
+        List<List<String>> expected = new ArrayList<>();
+        expected.add(List.of(ExportCommand.DELIVERY_HEADER));
+        deliveries.forEach(delivery -> expected.add(toRow(delivery)));
+        assertEquals(expected, read(file));
+    }
+
+    @Test
+    public void execute_deliveriesChangedBeforeWritten_deliveriesAsExecutedWritten() throws Exception {
+        Path file = testFolder.resolve("deliveries.csv");
+        CommandResult result = new ExportCommand(file, ALL, Optional.empty()).execute(model);
+        List<Delivery> deliveries = List.copyOf(model.getFoodBook().getDeliveryList());
+
+        model.deleteDelivery(ALICE_DELIVERY);
+        model.setDelivery(BENSON_DELIVERY, BENSON_DELIVERY.copyAsDelivered());
+        result.getBackgroundTask().get().get();
+
+        assertEquals(deliveries.size() + 1, read(file).size());
+        assertEquals(toRow(ALICE_DELIVERY), read(file).get(1));
+        assertEquals(toRow(BENSON_DELIVERY), read(file).get(2));
+    }
+
+    @Test
+    public void execute_filtersAndRevenueFile_matchingDeliveriesAndDailyRevenueWritten() throws Exception {
+        Delivery dinner = new DeliveryBuilder().withId(model.getNextDeliveryId()).withClient(BENSON)
+                .withDateTime("12/12/2023", "1800").withRemarks("Dinner, for \"two\"").withCost("15.50").asDelivered()
+                .build();
+        model.addDelivery(dinner);
+        Path file = testFolder.resolve("exports/deliveries.csv");
+        Path revenueFile = testFolder.resolve("exports/revenue.csv");
+        DeliveryPredicate twoDays = new DeliveryPredicate(Optional.of("12/12/2023"), Optional.of("13/12/2023"),
+                Optional.empty(), Optional.empty(), Optional.empty());
+
+        String message = new ExportCommand(file, twoDays, Optional.of(revenueFile)).execute(model)
+                .getBackgroundTask().get().get();
+
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, 3, Money.ofCents(4550), file)
+                + String.format(ExportCommand.MESSAGE_REVENUE_SUCCESS, 2, revenueFile), message);
+        assertEquals(List.of(List.of(ExportCommand.DELIVERY_HEADER), toRow(ALICE_DELIVERY), toRow(dinner),
+                toRow(BENSON_DELIVERY)), read(file));
+        assertEquals(List.of(List.of(ExportCommand.REVENUE_HEADER), List.of("12/12/2023", "2", "25.50"),
+                List.of("13/12/2023", "1", "20.00")), read(revenueFile));
+    }
+
+    @Test
+    public void execute_nothingMatches_headerOnlyWritten() throws Exception {
+        Path file = testFolder.resolve("none.csv");
+        DeliveryPredicate nobody = new DeliveryPredicate(Optional.empty(), Optional.empty(),
+                Optional.of("nobody"), Optional.empty(), Optional.empty());
+
+        String message = new ExportCommand(file, nobody, Optional.empty()).execute(model)
+                .getBackgroundTask().get().get();
+
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, 0, Money.ZERO, file), message);
+        assertEquals(List.of(List.of(ExportCommand.DELIVERY_HEADER)), read(file));
+    }
+
+    @Test
+    public void execute_unwritableFile_failureReported() throws Exception {
+        Path directory = Files.createDirectory(testFolder.resolve("directory.csv"));
+
+        String message = new ExportCommand(directory, ALL, Optional.empty()).execute(model)
+                .getBackgroundTask().get().get();
+
+        assertTrue(message.startsWith(String.format(ExportCommand.MESSAGE_WRITE_ERROR, directory, "")), message);
+    }
+
+    @Test
+    public void execute_dataFileJournalOrArchive_throwsCommandException() {
+        Path dataFile = model.getFoodBookFilePath();
+        Path journal = dataFile.resolveSibling(dataFile.getFileName() + ".journal");
+        Path inArchive = DataFileFormat.archivePathFor(dataFile).resolve("2023-12.deliveries");
+
+        for (Path path : List.of(dataFile, journal, inArchive)) {
+            assertCommandFailure(new ExportCommand(path, ALL, Optional.empty()), model,
+                    String.format(ExportCommand.MESSAGE_DATA_FILE, path));
+        }
+        assertCommandFailure(new ExportCommand(testFolder.resolve("deliveries.csv"), ALL, Optional.of(dataFile)),
+                model, String.format(ExportCommand.MESSAGE_DATA_FILE, dataFile));
+    }
+
+    @Test
+    public void execute_fieldsStartingLikeFormulas_neutralised() throws Exception {
+        Delivery formula = new DeliveryBuilder().withId(model.getNextDeliveryId()).withClient(BENSON)
+                .withRemarks("=HYPERLINK(\"http://example.com\")").build();
+        model.addDelivery(formula);
+        Path file = testFolder.resolve("deliveries.csv");
+        DeliveryPredicate bensons = new DeliveryPredicate(Optional.empty(), Optional.empty(),
+                Optional.of(BENSON.getName().fullName), Optional.empty(), Optional.empty());
+
+        new ExportCommand(file, bensons, Optional.empty()).execute(model).getBackgroundTask().get().get();
+
+        List<List<String>> rows = read(file);
+        assertEquals("'=HYPERLINK(\"http://example.com\")", rows.get(rows.size() - 1).get(4));
+    }
+
+    @Test
+    public void neutraliseFormula() {
+        assertEquals("'=1+1", ExportCommand.neutraliseFormula("=1+1"));
+        assertEquals("'+1", ExportCommand.neutraliseFormula("+1"));
+        assertEquals("'-1", ExportCommand.neutraliseFormula("-1"));
+        assertEquals("'@SUM(A1)", ExportCommand.neutraliseFormula("@SUM(A1)"));
+        assertEquals("Leave at the door", ExportCommand.neutraliseFormula("Leave at the door"));
+        assertEquals("", ExportCommand.neutraliseFormula(""));
+    }
+
+    @Test
+    public void equals() {
+        DeliveryPredicate delivered = new DeliveryPredicate(Optional.empty(), Optional.empty(), Optional.empty(),
+                Optional.empty(), Optional.of(true));
+        ExportCommand exportCommand = new ExportCommand(Path.of("first.csv"), ALL, Optional.empty());
+
+        // same object -> returns true
+        assertTrue(exportCommand.equals(exportCommand));
+
+        // same values -> returns true
+        assertTrue(exportCommand.equals(new ExportCommand(Path.of("first.csv"), ALL, Optional.empty())));
+
+        // different types -> returns false
+        assertFalse(exportCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(exportCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(exportCommand.equals(new ExportCommand(Path.of("second.csv"), ALL, Optional.empty())));
+
+        // different filters -> returns false
+        assertFalse(exportCommand.equals(new ExportCommand(Path.of("first.csv"), delivered, Optional.empty())));
+
+        // different revenue file -> returns false
+        assertFalse(exportCommand.equals(new ExportCommand(Path.of("first.csv"), ALL,
+                Optional.of(Path.of("revenue.csv")))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Path filePath = Path.of("deliveries.csv");
+        Path revenueFilePath = Path.of("revenue.csv");
+        String expected = ExportCommand.class.getCanonicalName() + "{filePath=" + filePath + ", predicate=" + ALL
+                + ", revenueFilePath=" + revenueFilePath + "}";
+        assertEquals(expected, new ExportCommand(filePath, ALL, Optional.of(revenueFilePath)).toString());
+    }
+
+    private static List<String> toRow(Delivery delivery) {
+        return List.of(delivery.getId().toString(), delivery.getClient().getName().fullName,
+                delivery.getDeliveryDate().getDateString(), delivery.getDeliveryDate().getTimeString(),
+                delivery.getRemarks(), delivery.getCost().toString(),
+                delivery.getTag().map(DeliveryTag::getName).orElse(""),
+                delivery.getStatus() ? "delivered" : "not_delivered");
+    }
+
+    private static List<List<String>> read(Path file) throws Exception {
+        List<List<String>> rows = new ArrayList<>();
+        try (CsvReader reader = new CsvReader(Files.newBufferedReader(file, StandardCharsets.UTF_8))) {
+            List<String> row;
+            while ((row = reader.readRecord()) != null) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+}
@@ -5,16 +5,25 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.foodbook.logic.Messages.MESSAGE_DELIVERIES_LISTED_OVERVIEW;
 import static seedu.foodbook.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.foodbook.testutil.TypicalDeliveries.getTypicalDeliveries;
 import static seedu.foodbook.testutil.TypicalFoodBook.getTypicalFoodBook;
+import static seedu.foodbook.testutil.TypicalPersons.getTypicalPersons;
 
+import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import seedu.foodbook.model.FoodBook;
 import seedu.foodbook.model.Model;
 import seedu.foodbook.model.ModelManager;
 import seedu.foodbook.model.UserPrefs;
+import seedu.foodbook.model.delivery.DateTime;
+import seedu.foodbook.model.delivery.Delivery;
 import seedu.foodbook.model.delivery.DeliveryPredicate;
+import seedu.foodbook.storage.DeliveryArchiveStorage;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindDeliveryCommand}.
@@ -24,6 +33,9 @@ public class FindDeliveryCommandTest {
     private Model model = new ModelManager(getTypicalFoodBook(), new UserPrefs());
     private Model expectedModel = new ModelManager(getTypicalFoodBook(), new UserPrefs());
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void equals() {
         String date1 = "25/12/2024";
@@ -65,6 +77,37 @@ public class FindDeliveryCommandTest {
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_archivedDeliveriesMatch_listedAfterTheOthers() throws Exception {
+        FoodBook foodBook = new FoodBook();
+        getTypicalPersons().forEach(foodBook::addPerson);
+        getTypicalDeliveries().forEach(delivery -> foodBook.addDelivery(delivery.copyAsDelivered()));
+        foodBook.setDeliveryArchive(new DeliveryArchiveStorage(testFolder.resolve("foodbook.archive")).open(foodBook));
+        foodBook.archiveDeliveriesBefore(new DateTime("15/12/2023", "0000").toEpochMinute());
+        Model archivedModel = new ModelManager(foodBook, new UserPrefs());
+        DeliveryPredicate predicate = new DeliveryPredicate(Optional.of("12/12/2023"), Optional.of("16/12/2023"),
+                Optional.empty(), Optional.empty(), Optional.empty());
+
+        CommandResult result = new FindDeliveryCommand(predicate).execute(archivedModel);
+
+        assertEquals(String.format(MESSAGE_DELIVERIES_LISTED_OVERVIEW, 5) + "\n"
+                + String.format(FindDeliveryCommand.MESSAGE_ARCHIVED_LISTED, 3), result.getFeedbackToUser());
+        assertEquals(2, archivedModel.getFilteredDeliveryList().size());
+        List<Delivery> displayed = archivedModel.getDisplayedDeliveryList();
+        assertEquals(archivedModel.getFilteredDeliveryList(), displayed.subList(0, 2));
+        assertEquals(archivedModel.getFoodBook().getDeliveryArchive().getDeliveriesMatching(predicate,
+                archivedModel::getPersonByName), displayed.subList(2, 5));
+
+        // changing the deliveries hides the archived ones, which may have changed too
+        archivedModel.deleteDelivery(displayed.get(0));
+        assertEquals(archivedModel.getFilteredDeliveryList(), archivedModel.getDisplayedDeliveryList());
+
+        // as does listing the deliveries again
+        new FindDeliveryCommand(predicate).execute(archivedModel);
+        archivedModel.updateFilteredDeliveryList(Model.PREDICATE_SHOW_ALL_DELIVERIES);
+        assertEquals(archivedModel.getFilteredDeliveryList(), archivedModel.getDisplayedDeliveryList());
+    }
+
     @Test
     public void execute_dateFilter_deliveriesFound() {
         String date = "25/12/2024";
@@ -0,0 +1,73 @@
+package seedu.foodbook.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.foodbook.model.FoodBook;
+import seedu.foodbook.model.Model;
+import seedu.foodbook.model.ModelManager;
+import seedu.foodbook.model.UserPrefs;
+import seedu.foodbook.testutil.Benchmark;
+
+/**
+ * Measures importing a CSV file of 100,000 rows, and undoing the import.
+ */
+public class ImportCommandBenchmark extends Benchmark {
+
+    private static final int CLIENTS = 5_000;
+    private static final int DELIVERIES = 95_000;
+
+    // Every row is parsed and validated, but the rows are added, and undone, in one step per list
+    private static final double MAX_IMPORT_MILLIS = 5_000.0;
+    private static final double MAX_UNDO_MILLIS = 500.0;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void execute_hundredThousandRows_withinSeconds() throws Exception {
+        Path file = testFolder.resolve("import.csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            writer.write("type,name,phone,email,address,tags\n");
+            for (int i = 0; i < CLIENTS; i++) {
+                writer.write("client,Client " + i + "," + (80_000_000 + i) + ",client" + i + "@example.com,"
+                        + "\"Blk " + i + ", Clementi Ave 3\",corporate\n");
+            }
+            for (int i = 0; i < DELIVERIES; i++) {
+                writer.write("delivery,Client " + i % CLIENTS + "," + (i % 28 + 1) + "/" + (i % 12 + 1)
+                        + "/2025,1" + i % 10 + "30,\"Order " + i + ", no nuts\"," + (10 + i % 90) + ".50,"
+                        + (i % 2 == 0 ? "Corporate" : "") + "\n");
+            }
+        }
+
+        // Warm up on a separate model so that class loading and compilation are not measured
+        Model warmUpModel = new ModelManager();
+        new ImportCommand(file).execute(warmUpModel);
+        warmUpModel.undo();
+
+        Model model = new ModelManager(new FoodBook(), new UserPrefs());
+        long start = System.nanoTime();
+        new ImportCommand(file).execute(model);
+        double importMillis = (System.nanoTime() - start) / 1e6;
+        assertEquals(CLIENTS, model.getFoodBook().getPersonList().size());
+        assertEquals(DELIVERIES, model.getFoodBook().getDeliveryList().size());
+
+        start = System.nanoTime();
+        model.undo();
+        double undoMillis = (System.nanoTime() - start) / 1e6;
+
+        System.out.printf("Imported %,d clients and %,d deliveries in %,.1f ms (%,.0f rows per second); "
+                + "undone in %,.1f ms%n", CLIENTS, DELIVERIES, importMillis,
+                (CLIENTS + DELIVERIES) / importMillis * 1000, undoMillis);
+        assertTrue(model.getFoodBook().getDeliveryList().isEmpty());
+        assertTrue(importMillis < MAX_IMPORT_MILLIS, String.format("Import took %.1f ms", importMillis));
+        assertTrue(undoMillis < MAX_UNDO_MILLIS, String.format("Undo took %.1f ms", undoMillis));
+    }
+}
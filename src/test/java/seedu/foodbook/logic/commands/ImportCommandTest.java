@@ -0,0 +1,189 @@
+package seedu.foodbook.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.foodbook.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.foodbook.testutil.TypicalFoodBook.getTypicalFoodBook;
+import static seedu.foodbook.testutil.TypicalPersons.ALICE;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ListChangeListener;
+import seedu.foodbook.commons.util.CsvReader;
+import seedu.foodbook.logic.parser.ParserUtil;
+import seedu.foodbook.model.Model;
+import seedu.foodbook.model.ModelManager;
+import seedu.foodbook.model.UserPrefs;
+import seedu.foodbook.model.delivery.DateTime;
+import seedu.foodbook.model.delivery.Delivery;
+import seedu.foodbook.model.delivery.Money;
+import seedu.foodbook.model.person.Name;
+import seedu.foodbook.model.person.Person;
+import seedu.foodbook.model.person.Phone;
+import seedu.foodbook.model.tag.DeliveryTag;
+import seedu.foodbook.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for ImportCommand.
+ */
+public class ImportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(getTypicalFoodBook(), new UserPrefs());
+
+    @Test
+    public void execute_validFile_allRowsAddedAsOneChange() throws Exception {
+        Path file = write("import.csv",
+                "type,name,phone,email,address,tags",
+                "client,Acme Corp,61234567,orders@acme.com,\"10 Anson Road, #20-01\",corporate vip",
+                "delivery,Acme Corp,1/12/2025,1200,\"Lunch, 40 pax\",480.50,Corporate",
+                "",
+                "delivery,alice pauline,2/12/2025,0930,Breakfast,12,",
+                "client,Bee Cafe,91234567,bee@cafe.com,Blk 1 Bee Street");
+        int firstId = model.getNextDeliveryId();
+        List<Integer> personChanges = new ArrayList<>();
+        List<Integer> deliveryChanges = new ArrayList<>();
+        model.getFoodBook().getPersonList().addListener((ListChangeListener<Person>) change ->
+                personChanges.add(change.getList().size()));
+        model.getFoodBook().getDeliveryList().addListener((ListChangeListener<Delivery>) change ->
+                deliveryChanges.add(change.getList().size()));
+
+        CommandResult result = new ImportCommand(file).execute(model);
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 2, 2, file), result.getFeedbackToUser());
+        Person acme = new PersonBuilder().withName("Acme Corp").withPhone("61234567").withEmail("orders@acme.com")
+                .withAddress("10 Anson Road, #20-01").withTags("corporate", "vip").build();
+        assertEquals(Optional.of(acme), model.getPersonByName(new Name("Acme Corp")));
+        assertTrue(model.getPersonByName(new Name("Bee Cafe")).isPresent());
+        assertEquals(Optional.of(new Delivery(firstId, acme, new DateTime("1/12/2025", "1200"), "Lunch, 40 pax",
+                Money.ofCents(48050), Optional.of(new DeliveryTag("Corporate")))), model.getDeliveryById(firstId));
+        assertEquals(Optional.of(new Delivery(firstId + 1, ALICE, new DateTime("2/12/2025", "0930"), "Breakfast",
+                Money.ofCents(1200), Optional.empty())), model.getDeliveryById(firstId + 1));
+        assertEquals(firstId + 2, model.getNextDeliveryId());
+        assertEquals(1, personChanges.size());
+        assertEquals(1, deliveryChanges.size());
+
+        model.undo();
+        assertEquals(getTypicalFoodBook(), model.getFoodBook());
+        assertFalse(model.getPersonByName(new Name("Acme Corp")).isPresent());
+    }
+
+    @Test
+    public void execute_invalidRows_nothingImportedAndEachRowReported() throws Exception {
+        Path file = write("invalid.csv",
+                "client,Acme Corp,12,orders@acme.com,10 Anson Road",
+                "client,Alice Pauline,91234567,alice@example.com,Somewhere",
+                "delivery,Nobody,1/12/2025,1200,Lunch,10",
+                "delivery,Alice Pauline,1/12/2025,1200,Lunch",
+                "refund,Alice Pauline",
+                "type,name",
+                "client,Bee Cafe,91234567,bee@cafe.com,Blk 1 Bee Street");
+
+        String expectedErrors = String.join("\n",
+                String.format(ImportCommand.MESSAGE_ROW_ERROR, 1, Phone.MESSAGE_CONSTRAINTS),
+                String.format(ImportCommand.MESSAGE_ROW_ERROR, 2, AddClientCommand.MESSAGE_DUPLICATE_PERSON),
+                String.format(ImportCommand.MESSAGE_ROW_ERROR, 3,
+                        String.format(AddDeliveryCommand.MESSAGE_CLIENT_NOT_FOUND, "Nobody")),
+                String.format(ImportCommand.MESSAGE_ROW_ERROR, 4, ImportCommand.MESSAGE_DELIVERY_ROW_FORMAT),
+                String.format(ImportCommand.MESSAGE_ROW_ERROR, 5, ImportCommand.MESSAGE_UNKNOWN_ROW_TYPE),
+                String.format(ImportCommand.MESSAGE_ROW_ERROR, 6, ImportCommand.MESSAGE_UNKNOWN_ROW_TYPE));
+        assertCommandFailure(new ImportCommand(file), model,
+                String.format(ImportCommand.MESSAGE_INVALID_ROWS, 6, expectedErrors));
+    }
+
+    @Test
+    public void execute_manyInvalidRows_onlyFirstReported() throws Exception {
+        String[] lines = new String[ImportCommand.MAX_REPORTED_ROWS + 5];
+        for (int i = 0; i < lines.length; i++) {
+            lines[i] = "delivery,Alice Pauline,1/12/2025,1200,Lunch,-" + i;
+        }
+        Path file = write("many.csv", lines);
+
+        List<String> expectedErrors = new ArrayList<>();
+        for (int i = 1; i <= ImportCommand.MAX_REPORTED_ROWS; i++) {
+            expectedErrors.add(String.format(ImportCommand.MESSAGE_ROW_ERROR, i, ParserUtil.MESSAGE_INVALID_COST));
+        }
+        expectedErrors.add(String.format(ImportCommand.MESSAGE_MORE_INVALID_ROWS, 5));
+        assertCommandFailure(new ImportCommand(file), model,
+                String.format(ImportCommand.MESSAGE_INVALID_ROWS, lines.length, String.join("\n", expectedErrors)));
+    }
+
+    @Test
+    public void execute_deliveryBeforeItsClient_clientNotFound() throws Exception {
+        Path file = write("order.csv",
+                "delivery,Acme Corp,1/12/2025,1200,Lunch,10",
+                "client,Acme Corp,61234567,orders@acme.com,10 Anson Road");
+        String expectedError = String.format(ImportCommand.MESSAGE_ROW_ERROR, 1,
+                String.format(AddDeliveryCommand.MESSAGE_CLIENT_NOT_FOUND, "Acme Corp"));
+        assertCommandFailure(new ImportCommand(file), model,
+                String.format(ImportCommand.MESSAGE_INVALID_ROWS, 1, expectedError));
+    }
+
+    @Test
+    public void execute_unreadableFile_throwsCommandException() throws Exception {
+        Path missing = testFolder.resolve("missing.csv");
+        assertCommandFailure(new ImportCommand(missing), model,
+                String.format(ImportCommand.MESSAGE_FILE_NOT_FOUND, missing));
+
+        Path unclosed = write("unclosed.csv", "client,\"Acme Corp,61234567");
+        assertCommandFailure(new ImportCommand(unclosed), model, String.format(ImportCommand.MESSAGE_READ_ERROR,
+                unclosed, String.format(CsvReader.MESSAGE_UNCLOSED_QUOTE, 1)));
+
+        Path headerOnly = write("empty.csv", "type,name,phone");
+        assertCommandFailure(new ImportCommand(headerOnly), model,
+                String.format(ImportCommand.MESSAGE_NOTHING_TO_IMPORT, headerOnly));
+    }
+
+    @Test
+    public void execute_clientsOnly_showsClients() throws Exception {
+        Path file = write("clients.csv", "client,Acme Corp,61234567,orders@acme.com,10 Anson Road");
+        CommandResult result = new ImportCommand(file).execute(model);
+        assertEquals(new CommandResult(String.format(ImportCommand.MESSAGE_SUCCESS, 1, 0, file),
+                CommandResult.UiPanel.PERSONS), result);
+        assertEquals(getTypicalFoodBook().getDeliveryList(), model.getFoodBook().getDeliveryList());
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importFirstCommand = new ImportCommand(Path.of("first.csv"));
+        ImportCommand importSecondCommand = new ImportCommand(Path.of("second.csv"));
+
+        // same object -> returns true
+        assertTrue(importFirstCommand.equals(importFirstCommand));
+
+        // same values -> returns true
+        assertTrue(importFirstCommand.equals(new ImportCommand(Path.of("first.csv"))));
+
+        // different types -> returns false
+        assertFalse(importFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(importFirstCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(importFirstCommand.equals(importSecondCommand));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Path filePath = Path.of("clients.csv");
+        String expected = ImportCommand.class.getCanonicalName() + "{filePath=" + filePath + "}";
+        assertEquals(expected, new ImportCommand(filePath).toString());
+    }
+
+    private Path write(String fileName, String... lines) throws Exception {
+        Path file = testFolder.resolve(fileName);
+        Files.writeString(file, String.join("\n", lines) + "\n");
+        return file;
+    }
+}
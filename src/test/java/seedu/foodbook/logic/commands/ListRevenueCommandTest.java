@@ -15,6 +15,7 @@ import seedu.foodbook.model.ModelManager;
 import seedu.foodbook.model.UserPrefs;
 import seedu.foodbook.model.delivery.Delivery;
 import seedu.foodbook.model.delivery.DeliveryPredicate;
+import seedu.foodbook.model.delivery.Money;
 import seedu.foodbook.testutil.DeliveryBuilder;
 import seedu.foodbook.testutil.PersonBuilder;
 import seedu.foodbook.testutil.TypicalFoodBook;
@@ -42,9 +43,9 @@ public class ListRevenueCommandTest {
         ListRevenueCommand command = new ListRevenueCommand(predicate);
 
         // Calculate expected revenue from all deliveries
-        double expectedRevenue = 0.0;
+        Money expectedRevenue = Money.ZERO;
         for (Delivery delivery : model.getFilteredDeliveryList()) {
-            expectedRevenue += delivery.getCost();
+            expectedRevenue = expectedRevenue.plus(delivery.getCost());
         }
 
         int expectedCount = model.getFilteredDeliveryList().size();
@@ -62,17 +63,17 @@ public class ListRevenueCommandTest {
         // Add some test deliveries
         Delivery deliveredDelivery1 = new DeliveryBuilder()
                 .withId(100)
-                .withCost(50.0)
+                .withCost("50.00")
                 .asDelivered()
                 .build();
         Delivery deliveredDelivery2 = new DeliveryBuilder()
                 .withId(101)
-                .withCost(30.0)
+                .withCost("30.00")
                 .asDelivered()
                 .build();
         Delivery pendingDelivery = new DeliveryBuilder()
                 .withId(102)
-                .withCost(20.0)
+                .withCost("20.00")
                 .build();
 
         model.addDelivery(deliveredDelivery1);
@@ -112,15 +113,15 @@ public class ListRevenueCommandTest {
         // Add test deliveries
         Delivery pendingDelivery1 = new DeliveryBuilder()
                 .withId(200)
-                .withCost(25.0)
+                .withCost("25.00")
                 .build();
         Delivery pendingDelivery2 = new DeliveryBuilder()
                 .withId(201)
-                .withCost(15.0)
+                .withCost("15.00")
                 .build();
         Delivery deliveredDelivery = new DeliveryBuilder()
                 .withId(202)
-                .withCost(50.0)
+                .withCost("50.00")
                 .asDelivered()
                 .build();
 
@@ -162,12 +163,12 @@ public class ListRevenueCommandTest {
         Delivery aliceDelivery = new DeliveryBuilder()
                 .withId(300)
                 .withClient(new PersonBuilder().withName("Alice Pauline").build())
-                .withCost(40.0)
+                .withCost("40.00")
                 .build();
         Delivery bobDelivery = new DeliveryBuilder()
                 .withId(301)
                 .withClient(new PersonBuilder().withName("Bob Builder").build())
-                .withCost(30.0)
+                .withCost("30.00")
                 .build();
 
         model.addDelivery(aliceDelivery);
@@ -206,17 +207,17 @@ public class ListRevenueCommandTest {
         Delivery jan2024 = new DeliveryBuilder()
                 .withId(400)
                 .withDateTime("15/1/2024", "1400")
-                .withCost(100.0)
+                .withCost("100.00")
                 .build();
         Delivery jun2024 = new DeliveryBuilder()
                 .withId(401)
                 .withDateTime("15/6/2024", "1500")
-                .withCost(200.0)
+                .withCost("200.00")
                 .build();
         Delivery dec2025 = new DeliveryBuilder()
                 .withId(402)
                 .withDateTime("15/12/2025", "1600")
-                .withCost(300.0)
+                .withCost("300.00")
                 .build();
 
         model.addDelivery(jan2024);
@@ -257,13 +258,13 @@ public class ListRevenueCommandTest {
         Delivery urgentDelivery = new DeliveryBuilder()
                 .withId(350)
                 .withClient(new PersonBuilder().withName("Charlie Brown").build())
-                .withCost(60.0)
+                .withCost("60.00")
                 .withTag("urgent")
                 .build();
         Delivery normalDelivery = new DeliveryBuilder()
                 .withId(351)
                 .withClient(new PersonBuilder().withName("David Lee").build())
-                .withCost(40.0)
+                .withCost("40.00")
                 .withTag("normal")
                 .build();
 
@@ -306,7 +307,7 @@ public class ListRevenueCommandTest {
                 .withId(500)
                 .withClient(new PersonBuilder().withName("Charlie Brown").build())
                 .withDateTime("15/6/2024", "1400")
-                .withCost(150.0)
+                .withCost("150.00")
                 .asDelivered()
                 .build();
 
@@ -314,14 +315,14 @@ public class ListRevenueCommandTest {
                 .withId(501)
                 .withClient(new PersonBuilder().withName("Charlie Brown").build())
                 .withDateTime("15/6/2024", "1500")
-                .withCost(100.0)
+                .withCost("100.00")
                 .build(); // Not delivered
 
         Delivery wrongClient = new DeliveryBuilder()
                 .withId(502)
                 .withClient(new PersonBuilder().withName("David Lee").build())
                 .withDateTime("15/6/2024", "1600")
-                .withCost(120.0)
+                .withCost("120.00")
                 .asDelivered()
                 .build();
 
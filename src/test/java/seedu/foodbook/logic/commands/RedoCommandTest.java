@@ -0,0 +1,128 @@
+package seedu.foodbook.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.foodbook.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.foodbook.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.foodbook.model.Model.PREDICATE_SHOW_ALL_DELIVERIES;
+import static seedu.foodbook.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+import static seedu.foodbook.testutil.TypicalFoodBook.getTypicalFoodBook;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.foodbook.logic.Messages;
+import seedu.foodbook.model.FoodBook;
+import seedu.foodbook.model.Model;
+import seedu.foodbook.model.ModelManager;
+import seedu.foodbook.model.UserPrefs;
+import seedu.foodbook.model.delivery.Delivery;
+import seedu.foodbook.model.person.Person;
+import seedu.foodbook.testutil.PersonBuilder;
+
+/**
+ * Integration tests for RedoCommand with real commands and a real Model.
+ */
+public class RedoCommandTest {
+
+    private Model model;
+
+    @BeforeEach
+    public void setup() {
+        model = new ModelManager(getTypicalFoodBook(), new UserPrefs());
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        model.updateFilteredDeliveryList(PREDICATE_SHOW_ALL_DELIVERIES);
+    }
+
+    @Test
+    public void execute_nothingUndone_throwsCommandException() {
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_NO_MORE_REDO);
+    }
+
+    @Test
+    public void execute_afterUndoAddClient_reappliesAddAndReports() throws Exception {
+        Person toAdd = new PersonBuilder().withName("Zelda Zoom").build();
+        new AddClientCommand(toAdd).execute(model);
+        Model expectedAfterAdd = snapshotOf(model);
+        new UndoCommand().execute(model);
+
+        String redoMsg = String.format(RedoCommand.MESSAGE_SUCCESS, "add_client");
+        assertCommandSuccess(new RedoCommand(), model, redoMsg, expectedAfterAdd);
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_NO_MORE_REDO);
+    }
+
+    @Test
+    public void execute_afterUndoDeleteClient_removesClientAndDeliveriesAgain() throws Exception {
+        Person target = model.getFilteredPersonList().get(0);
+        new DeleteClientCommand(target.getName()).execute(model);
+        Model expectedAfterDelete = snapshotOf(model);
+        new UndoCommand().execute(model);
+        assertTrue(model.hasPerson(target));
+
+        String redoMsg = String.format(RedoCommand.MESSAGE_SUCCESS, "delete_client");
+        assertCommandSuccess(new RedoCommand(), model, redoMsg, expectedAfterDelete);
+        assertTrue(model.getDeliveriesByClientName(target.getName()).isEmpty());
+    }
+
+    @Test
+    public void execute_afterUndoClear_clearsAgain() throws Exception {
+        new ClearCommand().execute(model);
+        new UndoCommand().execute(model);
+
+        String redoMsg = String.format(RedoCommand.MESSAGE_SUCCESS, "clear");
+        assertCommandSuccess(new RedoCommand(), model, redoMsg, new ModelManager(new FoodBook(), new UserPrefs()));
+    }
+
+    @Test
+    public void execute_undoRedoUndo_restoresOriginalState() throws Exception {
+        Model expectedBefore = snapshotOf(model);
+        Delivery target = model.getFilteredDeliveryList().get(0);
+        new MarkCommand(target.getId()).execute(model);
+        new UndoCommand().execute(model);
+        new RedoCommand().execute(model);
+
+        String undoMsg = String.format(UndoCommand.MESSAGE_SUCCESS, "mark");
+        assertCommandSuccess(new UndoCommand(), model, undoMsg, expectedBefore);
+    }
+
+    @Test
+    public void execute_newCommandAfterUndo_discardsRedo() throws Exception {
+        new AddClientCommand(new PersonBuilder().withName("Zelda Zoom").build()).execute(model);
+        new UndoCommand().execute(model);
+
+        Person other = new PersonBuilder().withName("Yusuf Yeo").build();
+        String addMsg = String.format(AddClientCommand.MESSAGE_SUCCESS, Messages.format(other));
+        Model expectedAfterAdd = snapshotOf(model);
+        expectedAfterAdd.addPerson(other);
+        assertCommandSuccess(new AddClientCommand(other), model, addMsg, expectedAfterAdd);
+
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_NO_MORE_REDO);
+    }
+
+    @Test
+    public void execute_afterUndo_restoresFiltersFromBeforeUndo() throws Exception {
+        Person toAdd = new PersonBuilder().withName("Zelda Zoom").build();
+        new AddClientCommand(toAdd).execute(model);
+        model.updateFilteredPersonList(person -> person.equals(toAdd));
+        new UndoCommand().execute(model);
+        assertFalse(model.getFilteredPersonList().contains(toAdd));
+
+        new RedoCommand().execute(model);
+        assertEquals(1, model.getFilteredPersonList().size());
+        assertEquals(toAdd, model.getFilteredPersonList().get(0));
+    }
+
+    @Test
+    public void equals() {
+        RedoCommand redoCommand = new RedoCommand();
+        assertTrue(redoCommand.equals(redoCommand));
+        assertTrue(redoCommand.equals(new RedoCommand()));
+        assertFalse(redoCommand.equals(null));
+        assertFalse(redoCommand.equals(new UndoCommand()));
+    }
+
+    private static Model snapshotOf(Model src) {
+        return new ModelManager(new FoodBook(src.getFoodBook()), new UserPrefs());
+    }
+}
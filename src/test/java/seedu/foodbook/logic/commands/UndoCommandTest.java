@@ -17,13 +17,17 @@ import seedu.foodbook.commons.core.GuiSettings;
 import seedu.foodbook.logic.commands.CommandResult.UiPanel;
 import seedu.foodbook.logic.commands.exceptions.CommandException;
 import seedu.foodbook.model.FoodBook;
+import seedu.foodbook.model.MatchingDeliveries;
 import seedu.foodbook.model.Model;
 import seedu.foodbook.model.ReadOnlyFoodBook;
 import seedu.foodbook.model.ReadOnlyUserPrefs;
 import seedu.foodbook.model.delivery.Delivery;
+import seedu.foodbook.model.delivery.DeliveryPredicate;
+import seedu.foodbook.model.delivery.RevenueSummary;
 import seedu.foodbook.model.person.Name;
 import seedu.foodbook.model.person.Person;
 import seedu.foodbook.model.undo.ModelRecord;
+import seedu.foodbook.model.undo.exceptions.NoMoreRedoException;
 import seedu.foodbook.model.undo.exceptions.NoMoreUndoException;
 
 /**
@@ -189,6 +193,10 @@ public class UndoCommandTest {
             return stack.pop();
         }
 
+        @Override public ModelRecord redo() {
+            throw new NoMoreRedoException();
+        }
+
         // ---- The rest are unused in these tests; keep them minimal ----
         @Override public void setUserPrefs(ReadOnlyUserPrefs userPrefs) { }
         @Override public ReadOnlyUserPrefs getUserPrefs() {
@@ -215,6 +223,8 @@ public class UndoCommandTest {
         @Override public void deletePerson(Person target) { }
         @Override public void addPerson(Person person) { }
         @Override public void setPerson(Person target, Person editedPerson) { }
+        @Override public void deletePersonWithDeliveries(Person target) { }
+        @Override public void setPersonWithDeliveries(Person target, Person editedPerson) { }
         @Override public ObservableList<Person> getFilteredPersonList() {
             return null;
         }
@@ -225,15 +235,37 @@ public class UndoCommandTest {
         @Override public Optional<Delivery> getDeliveryById(Integer deliveryId) {
             return Optional.empty();
         }
+        @Override public int getNextDeliveryId() {
+            return FoodBook.FIRST_DELIVERY_ID;
+        }
         @Override public List<Delivery> getDeliveriesByClientName(Name clientName) {
             return List.of();
         }
+        @Override public List<Delivery> getDeliveriesMatching(DeliveryPredicate predicate) {
+            return List.of();
+        }
+        @Override public RevenueSummary getRevenue(DeliveryPredicate predicate) {
+            return new RevenueSummary(0, 0);
+        }
+        @Override public void showArchivedDeliveriesMatching(DeliveryPredicate predicate) { }
+        @Override public MatchingDeliveries snapshotDeliveriesMatching(DeliveryPredicate predicate) {
+            return new FoodBook().snapshotDeliveriesMatching(predicate);
+        }
+        @Override public int archiveDeliveriesBefore(long horizonEpochMinute) {
+            return 0;
+        }
+        @Override public void appendLoadedData(List<Person> persons, List<Delivery> deliveries) { }
+        @Override public void completeLoadedData(ReadOnlyFoodBook loaded) { }
         @Override public void deleteDelivery(Delivery target) { }
         @Override public void addDelivery(Delivery delivery) { }
+        @Override public void addPersonsAndDeliveries(List<Person> persons, List<Delivery> deliveries) { }
         @Override public void setDelivery(Delivery target, Delivery editedDelivery) { }
         @Override public ObservableList<Delivery> getFilteredDeliveryList() {
             return null;
         }
+        @Override public ObservableList<Delivery> getDisplayedDeliveryList() {
+            return null;
+        }
         @Override public void updateFilteredDeliveryList(Predicate<Delivery> predicate) { }
     }
 }
@@ -0,0 +1,129 @@
+package seedu.foodbook.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.foodbook.model.person.Address;
+import seedu.foodbook.model.person.Email;
+import seedu.foodbook.model.person.Name;
+import seedu.foodbook.model.person.Phone;
+import seedu.foodbook.model.tag.DeliveryTag;
+import seedu.foodbook.testutil.Benchmark;
+
+/**
+ * Measures the throughput of parsing {@code add_client} and {@code add_delivery} arguments into commands, and
+ * compares validating their fields once with precompiled and hand-written validators against validating each twice
+ * with {@link String#matches}, as the parser and then the constructor each used to.
+ */
+public class AddCommandParserBenchmark extends Benchmark {
+
+    private static final int INPUTS = 10_000;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int ROUNDS = 20;
+
+    // Client tags, named in full as they share their simple name with the benchmark annotation
+    private static final String TAG_REGEX = seedu.foodbook.model.tag.Tag.VALIDATION_REGEX;
+
+    // String.matches compiles its regex on every call, which costs far more than matching these short fields
+    private static final double MIN_VALIDATION_SPEEDUP = 3.0;
+
+    @Test
+    public void parse_addClient_fieldsValidatedFaster() throws Exception {
+        List<String> inputs = new ArrayList<>();
+        List<String[]> fields = new ArrayList<>();
+        for (int i = 0; i < INPUTS; i++) {
+            String[] clientFields = {"Client " + i, "9" + (1_000_000 + i), "client" + i + "@example.com",
+                "Blk " + i + " Clementi Ave 3, #0" + i % 10 + "-11"};
+            inputs.add(" n/" + clientFields[0] + " p/" + clientFields[1] + " e/" + clientFields[2]
+                    + " a/" + clientFields[3] + " t/friends t/vip");
+            fields.add(clientFields);
+        }
+        AddClientCommandParser parser = new AddClientCommandParser();
+
+        double parseNanos = measure(() -> {
+            for (String input : inputs) {
+                parser.parse(input);
+            }
+        });
+        double matchesNanos = measure(() -> {
+            for (String[] clientFields : fields) {
+                for (int check = 0; check < 2; check++) {
+                    assertTrue(clientFields[0].matches(Name.VALIDATION_REGEX)
+                            && clientFields[1].matches(Phone.VALIDATION_REGEX)
+                            && clientFields[2].matches(Email.VALIDATION_REGEX)
+                            && clientFields[3].matches(Address.VALIDATION_REGEX)
+                            && "friends".matches(TAG_REGEX)
+                            && "vip".matches(TAG_REGEX));
+                }
+            }
+        });
+        double validatorNanos = measure(() -> {
+            for (String[] clientFields : fields) {
+                ParserUtil.parseName(clientFields[0]);
+                ParserUtil.parsePhone(clientFields[1]);
+                ParserUtil.parseEmail(clientFields[2]);
+                ParserUtil.parseAddress(clientFields[3]);
+                ParserUtil.parseTag("friends");
+                ParserUtil.parseTag("vip");
+            }
+        });
+
+        report("add_client", parseNanos, matchesNanos, validatorNanos);
+    }
+
+    @Test
+    public void parse_addDelivery_fieldsValidatedFaster() throws Exception {
+        List<String> inputs = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < INPUTS; i++) {
+            String name = "Client " + i;
+            inputs.add(" n/" + name + " d/" + (i % 28 + 1) + "/" + (i % 12 + 1) + "/2025 tm/1" + i % 10 + "30"
+                    + " r/Order " + i + " c/" + (10 + i % 90) + ".50 t/corporate");
+            names.add(name);
+        }
+        AddDeliveryCommandParser parser = new AddDeliveryCommandParser();
+        List<String> tags = List.of("corporate");
+
+        double parseNanos = measure(() -> {
+            for (String input : inputs) {
+                parser.parse(input);
+            }
+        });
+        double matchesNanos = measure(() -> {
+            for (String name : names) {
+                for (int check = 0; check < 2; check++) {
+                    assertTrue(name.matches(Name.VALIDATION_REGEX)
+                            && "corporate".trim().matches(DeliveryTag.VALIDATION_REGEX));
+                }
+            }
+        });
+        double validatorNanos = measure(() -> {
+            for (String name : names) {
+                ParserUtil.parseName(name);
+                ParserUtil.parseOptionalDeliveryTag(tags);
+            }
+        });
+
+        report("add_delivery", parseNanos, matchesNanos, validatorNanos);
+    }
+
+    private static void report(String command, double parseNanos, double matchesNanos, double validatorNanos) {
+        double speedup = matchesNanos / validatorNanos;
+        System.out.printf("%s: parsed in %,.0f ns (%,.0f per second); fields validated in %,.0f ns, against "
+                + "%,.0f ns checked twice with String.matches (%.1fx)%n", command, parseNanos / INPUTS,
+                INPUTS / parseNanos * 1e9, validatorNanos / INPUTS, matchesNanos / INPUTS, speedup);
+        assertFaster("Validators", matchesNanos, validatorNanos, MIN_VALIDATION_SPEEDUP);
+    }
+
+    /**
+     * Returns the mean nanoseconds {@code round} takes, after warming it up.
+     */
+    private static double measure(Round round) throws Exception {
+        meanNanos(WARMUP_ROUNDS, round);
+        return meanNanos(ROUNDS, round);
+    }
+}
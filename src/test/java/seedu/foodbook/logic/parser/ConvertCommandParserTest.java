@@ -0,0 +1,35 @@
+package seedu.foodbook.logic.parser;
+
+import static seedu.foodbook.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.foodbook.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.foodbook.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.foodbook.commons.core.DataFileFormat;
+import seedu.foodbook.logic.commands.ConvertCommand;
+
+public class ConvertCommandParserTest {
+
+    private ConvertCommandParser parser = new ConvertCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsConvertCommand() {
+        assertParseSuccess(parser, "binary", new ConvertCommand(DataFileFormat.BINARY));
+        assertParseSuccess(parser, " JSON ", new ConvertCommand(DataFileFormat.JSON));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ConvertCommand.MESSAGE_USAGE);
+
+        // empty string
+        assertParseFailure(parser, "", expectedMessage);
+
+        // unknown format
+        assertParseFailure(parser, "csv", expectedMessage);
+
+        // more than one format
+        assertParseFailure(parser, "json binary", expectedMessage);
+    }
+}
@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import seedu.foodbook.logic.commands.EditDeliveryCommand;
 import seedu.foodbook.logic.commands.EditDeliveryCommand.EditDeliveryDescriptor;
 import seedu.foodbook.model.delivery.DateTime;
+import seedu.foodbook.model.delivery.Money;
 import seedu.foodbook.model.tag.DeliveryTag;
 
 public class EditDeliveryCommandParserTest {
@@ -107,7 +108,7 @@ public class EditDeliveryCommandParserTest {
         descriptor.setClientName("Client A");
         descriptor.setDateTime(new DateTime("21/10/2024", "1430"));
         descriptor.setRemarks("Fragile");
-        descriptor.setCost(15.50);
+        descriptor.setCost(Money.ofCents(1550));
         descriptor.setTag(new DeliveryTag("Personal"));
 
         EditDeliveryCommand expectedCommand = new EditDeliveryCommand(1, descriptor);
@@ -131,7 +132,7 @@ public class EditDeliveryCommandParserTest {
 
         EditDeliveryDescriptor descriptor = new EditDeliveryDescriptor();
         descriptor.setRemarks("Handle with care");
-        descriptor.setCost(8.90);
+        descriptor.setCost(Money.ofCents(890));
 
         EditDeliveryCommand expectedCommand = new EditDeliveryCommand(2, descriptor);
         assertParseSuccess(parser, userInput, expectedCommand);
@@ -147,7 +148,7 @@ public class EditDeliveryCommandParserTest {
         descriptor.setClientName("Alice Tan");
         descriptor.setDateTime(new DateTime("21/10/2024", "1000"));
         descriptor.setRemarks("Morning delivery");
-        descriptor.setCost(10.00);
+        descriptor.setCost(Money.ofCents(1000));
 
         EditDeliveryCommand expectedCommand = new EditDeliveryCommand(3, descriptor);
         assertParseSuccess(parser, userInput, expectedCommand);
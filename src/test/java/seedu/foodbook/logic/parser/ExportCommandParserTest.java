@@ -0,0 +1,71 @@
+package seedu.foodbook.logic.parser;
+
+import static seedu.foodbook.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.foodbook.logic.parser.CliSyntax.PREFIX_REVENUE_FILE;
+import static seedu.foodbook.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.foodbook.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.foodbook.logic.Messages;
+import seedu.foodbook.logic.commands.ExportCommand;
+import seedu.foodbook.model.delivery.DeliveryPredicate;
+
+public class ExportCommandParserTest {
+
+    private static final DeliveryPredicate ALL = new DeliveryPredicate(Optional.empty(), Optional.empty(),
+            Optional.empty(), Optional.empty(), Optional.empty());
+
+    private ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_filePathOnly_returnsExportCommandOfAllDeliveries() {
+        assertParseSuccess(parser, "deliveries.csv",
+                new ExportCommand(Paths.get("deliveries.csv"), ALL, Optional.empty()));
+        assertParseSuccess(parser, "  data/all deliveries.csv ",
+                new ExportCommand(Paths.get("data/all deliveries.csv"), ALL, Optional.empty()));
+    }
+
+    @Test
+    public void parse_filtersAndRevenueFile_returnsExportCommand() {
+        DeliveryPredicate predicate = new DeliveryPredicate(Optional.of("1/1/2025"), Optional.of("31/12/2025"),
+                Optional.of("Alice"), Optional.of("corporate"), Optional.of(true));
+        assertParseSuccess(parser, "deliveries.csv sd/1/1/2025 ed/31/12/2025 n/Alice t/corporate s/delivered "
+                + "rf/revenue.csv",
+                new ExportCommand(Paths.get("deliveries.csv"), predicate, Optional.of(Paths.get("revenue.csv"))));
+
+        // only a start date -> that date only, as for list_revenue
+        DeliveryPredicate oneDay = new DeliveryPredicate(Optional.of("1/1/2025"), Optional.of("1/1/2025"),
+                Optional.empty(), Optional.empty(), Optional.empty());
+        assertParseSuccess(parser, "deliveries.csv sd/1/1/2025",
+                new ExportCommand(Paths.get("deliveries.csv"), oneDay, Optional.empty()));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE);
+
+        // no file path
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " s/delivered", expectedMessage);
+
+        // not a path
+        assertParseFailure(parser, "bad\0path.csv", expectedMessage);
+        assertParseFailure(parser, "deliveries.csv rf/", expectedMessage);
+
+        // revenue file is the export file
+        assertParseFailure(parser, "deliveries.csv rf/./deliveries.csv", ExportCommand.MESSAGE_SAME_FILE);
+
+        // repeated revenue file
+        assertParseFailure(parser, "deliveries.csv rf/a.csv rf/b.csv",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_REVENUE_FILE));
+
+        // invalid filters, as for list_revenue
+        assertParseFailure(parser, "deliveries.csv s/pending", "Invalid status. Use 'delivered' or 'not_delivered'.");
+        assertParseFailure(parser, "deliveries.csv sd/2/1/2025 ed/1/1/2025",
+                "Start date cannot be later than end date.");
+    }
+}
@@ -9,25 +9,34 @@ import static seedu.foodbook.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
 import static seedu.foodbook.testutil.Assert.assertThrows;
 import static seedu.foodbook.testutil.TypicalPersons.BOB;
 
+import java.nio.file.Paths;
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.foodbook.commons.core.DataFileFormat;
 import seedu.foodbook.logic.commands.AddClientCommand;
 import seedu.foodbook.logic.commands.AddDeliveryCommand;
 import seedu.foodbook.logic.commands.ClearCommand;
+import seedu.foodbook.logic.commands.ConvertCommand;
 import seedu.foodbook.logic.commands.DeleteClientCommand;
 import seedu.foodbook.logic.commands.DeleteDeliveryCommand;
 import seedu.foodbook.logic.commands.EditClientCommand;
 import seedu.foodbook.logic.commands.ExitCommand;
+import seedu.foodbook.logic.commands.ExportCommand;
 import seedu.foodbook.logic.commands.FindClientCommand;
 import seedu.foodbook.logic.commands.FindDeliveryCommand;
 import seedu.foodbook.logic.commands.HelpCommand;
+import seedu.foodbook.logic.commands.ImportCommand;
 import seedu.foodbook.logic.commands.ListClientCommand;
 import seedu.foodbook.logic.commands.ListRevenueCommand;
 import seedu.foodbook.logic.commands.MarkCommand;
+import seedu.foodbook.logic.commands.RedoCommand;
 import seedu.foodbook.logic.commands.UndoCommand;
 import seedu.foodbook.logic.commands.UnmarkCommand;
 import seedu.foodbook.logic.parser.exceptions.ParseException;
 import seedu.foodbook.model.delivery.Delivery;
+import seedu.foodbook.model.delivery.DeliveryPredicate;
 import seedu.foodbook.model.person.Person;
 import seedu.foodbook.testutil.DeliveryBuilder;
 import seedu.foodbook.testutil.DeliveryUtil;
@@ -65,6 +74,26 @@ public class FoodBookParserTest {
         assertEquals(new UnmarkCommand(1), command);
     }
 
+    @Test
+    public void parseCommand_convert() throws Exception {
+        ConvertCommand command = (ConvertCommand) parser.parseCommand(ConvertCommand.COMMAND_WORD + " binary");
+        assertEquals(new ConvertCommand(DataFileFormat.BINARY), command);
+    }
+
+    @Test
+    public void parseCommand_import() throws Exception {
+        ImportCommand command = (ImportCommand) parser.parseCommand(ImportCommand.COMMAND_WORD + " clients.csv");
+        assertEquals(new ImportCommand(Paths.get("clients.csv")), command);
+    }
+
+    @Test
+    public void parseCommand_export() throws Exception {
+        ExportCommand command = (ExportCommand) parser.parseCommand(ExportCommand.COMMAND_WORD
+                + " deliveries.csv s/delivered");
+        assertEquals(new ExportCommand(Paths.get("deliveries.csv"), new DeliveryPredicate(Optional.empty(),
+                Optional.empty(), Optional.empty(), Optional.empty(), Optional.of(true)), Optional.empty()), command);
+    }
+
     @Test
     public void parseCommand_clear() throws Exception {
         assertTrue(parser.parseCommand(ClearCommand.COMMAND_WORD) instanceof ClearCommand);
@@ -144,6 +173,11 @@ public class FoodBookParserTest {
         assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
     }
 
+    @Test
+    public void parseCommand_redo() throws Exception {
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+    }
+
     @Test
     public void parseCommand_listRevenue() throws Exception {
         // Test with no parameters
@@ -0,0 +1,36 @@
+package seedu.foodbook.logic.parser;
+
+import static seedu.foodbook.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.foodbook.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.foodbook.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.foodbook.logic.commands.ImportCommand;
+
+public class ImportCommandParserTest {
+
+    private ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsImportCommand() {
+        assertParseSuccess(parser, "clients.csv", new ImportCommand(Paths.get("clients.csv")));
+        assertParseSuccess(parser, "  data/new clients.csv ", new ImportCommand(Paths.get("data/new clients.csv")));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE);
+
+        // empty string
+        assertParseFailure(parser, "", expectedMessage);
+
+        // whitespace only
+        assertParseFailure(parser, "   ", expectedMessage);
+
+        // not a path
+        assertParseFailure(parser, "bad\0path.csv", expectedMessage);
+    }
+}
@@ -7,6 +7,7 @@ import static seedu.foodbook.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
 import static seedu.foodbook.testutil.Assert.assertThrows;
 import static seedu.foodbook.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -16,8 +17,10 @@ import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.foodbook.commons.core.DataFileFormat;
 import seedu.foodbook.logic.parser.exceptions.ParseException;
 import seedu.foodbook.model.delivery.DateTime;
+import seedu.foodbook.model.delivery.Money;
 import seedu.foodbook.model.person.Address;
 import seedu.foodbook.model.person.Email;
 import seedu.foodbook.model.person.Name;
@@ -206,40 +209,40 @@ public class ParserUtilTest {
     }
 
     @Test
-    public void parseCost_leadingZerosAccepted_returnsDouble() throws Exception {
-        assertEquals(5.0, ParserUtil.parseCost("05"));
-        assertEquals(12.34, ParserUtil.parseCost("00012.34"));
-        assertEquals(0.5, ParserUtil.parseCost("00.50"));
-        assertEquals(0.0, ParserUtil.parseCost("000"));
-        assertEquals(0.0, ParserUtil.parseCost("000.00"));
-        assertEquals(0.1, ParserUtil.parseCost("000.10"));
+    public void parseCost_leadingZerosAccepted_returnsMoney() throws Exception {
+        assertEquals(Money.ofCents(500), ParserUtil.parseCost("05"));
+        assertEquals(Money.ofCents(1234), ParserUtil.parseCost("00012.34"));
+        assertEquals(Money.ofCents(50), ParserUtil.parseCost("00.50"));
+        assertEquals(Money.ofCents(0), ParserUtil.parseCost("000"));
+        assertEquals(Money.ofCents(0), ParserUtil.parseCost("000.00"));
+        assertEquals(Money.ofCents(10), ParserUtil.parseCost("000.10"));
     }
 
     @Test
     public void parseCost_zeroVariants_accepted() throws Exception {
-        assertEquals(0.0, ParserUtil.parseCost("0"));
-        assertEquals(0.0, ParserUtil.parseCost("0.0"));
-        assertEquals(0.0, ParserUtil.parseCost("0.00"));
+        assertEquals(Money.ofCents(0), ParserUtil.parseCost("0"));
+        assertEquals(Money.ofCents(0), ParserUtil.parseCost("0.0"));
+        assertEquals(Money.ofCents(0), ParserUtil.parseCost("0.00"));
     }
 
     @Test
     public void parseCost_upToTwoDecimalPlaces_accepted() throws Exception {
-        assertEquals(1.0, ParserUtil.parseCost("1"));
-        assertEquals(1.2, ParserUtil.parseCost("1.2"));
-        assertEquals(1.23, ParserUtil.parseCost("1.23"));
-        assertEquals(99.99, ParserUtil.parseCost("99.99"));
+        assertEquals(Money.ofCents(100), ParserUtil.parseCost("1"));
+        assertEquals(Money.ofCents(120), ParserUtil.parseCost("1.2"));
+        assertEquals(Money.ofCents(123), ParserUtil.parseCost("1.23"));
+        assertEquals(Money.ofCents(9999), ParserUtil.parseCost("99.99"));
     }
 
     @Test
     public void parseCost_trimmingWhitespace_stillAccepted() throws Exception {
-        assertEquals(7.0, ParserUtil.parseCost(" \t\n7.00\r "));
-        assertEquals(12.3, ParserUtil.parseCost("  12.3  "));
+        assertEquals(Money.ofCents(700), ParserUtil.parseCost(" \t\n7.00\r "));
+        assertEquals(Money.ofCents(1230), ParserUtil.parseCost("  12.3  "));
     }
 
     @Test
     public void parseCost_largeButValidNumbers_accepted() throws Exception {
-        assertEquals(1234567890.0, ParserUtil.parseCost("1234567890"));
-        assertEquals(1234567890.12, ParserUtil.parseCost("1234567890.12"));
+        assertEquals(Money.ofCents(123_456_789_000L), ParserUtil.parseCost("1234567890"));
+        assertEquals(Money.ofCents(123_456_789_012L), ParserUtil.parseCost("1234567890.12"));
     }
 
     @Test
@@ -250,13 +253,13 @@ public class ParserUtilTest {
     @Test
     public void parseCost_leadingZeroThenDecimalsAccepted_onlyWhenZero() throws Exception {
         // "0.xx" is fine, but "00.xx" already covered as reject
-        assertEquals(0.75, ParserUtil.parseCost("0.75"));
+        assertEquals(Money.ofCents(75), ParserUtil.parseCost("0.75"));
     }
 
     @Test
     public void parseCost_validInput_success() throws Exception {
-        assertEquals(10.0, ParserUtil.parseCost("10"));
-        assertEquals(10.5, ParserUtil.parseCost(" 10.5 "));
+        assertEquals(Money.ofCents(1000), ParserUtil.parseCost("10"));
+        assertEquals(Money.ofCents(1050), ParserUtil.parseCost(" 10.5 "));
     }
 
     @Test
@@ -302,15 +305,15 @@ public class ParserUtilTest {
     }
 
     @Test
-    public void parseCost_intValue_returnsDouble() throws Exception {
-        assertEquals(0.0, ParserUtil.parseCost("0"));
-        assertEquals(42.0, ParserUtil.parseCost("42"));
+    public void parseCost_intValue_returnsMoney() throws Exception {
+        assertEquals(Money.ofCents(0), ParserUtil.parseCost("0"));
+        assertEquals(Money.ofCents(4200), ParserUtil.parseCost("42"));
     }
 
     @Test
-    public void parseCost_decimalValue_returnsDouble() throws Exception {
-        assertEquals(3.14, ParserUtil.parseCost("3.14"));
-        assertEquals(2.5, ParserUtil.parseCost(" 2.50 "));
+    public void parseCost_decimalValue_returnsMoney() throws Exception {
+        assertEquals(Money.ofCents(314), ParserUtil.parseCost("3.14"));
+        assertEquals(Money.ofCents(250), ParserUtil.parseCost(" 2.50 "));
     }
 
     // parseRemarks tests
@@ -609,4 +612,32 @@ public class ParserUtilTest {
                 -> ParserUtil.parseDateTime("31/11/2021", "1200"));
     }
 
+    @Test
+    public void parseDataFileFormat_validValue_returnsFormat() throws Exception {
+        assertEquals(DataFileFormat.JSON, ParserUtil.parseDataFileFormat("json"));
+        assertEquals(DataFileFormat.BINARY, ParserUtil.parseDataFileFormat("  BINARY  "));
+    }
+
+    @Test
+    public void parseDataFileFormat_invalidValue_throwsParseException() {
+        assertThrows(NullPointerException.class, () -> ParserUtil.parseDataFileFormat(null));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_FORMAT, ()
+                -> ParserUtil.parseDataFileFormat(""));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_FORMAT, ()
+                -> ParserUtil.parseDataFileFormat("bin"));
+    }
+
+    @Test
+    public void parseFilePath_validValue_returnsTrimmedPath() throws Exception {
+        assertEquals(Paths.get("data", "clients.csv"), ParserUtil.parseFilePath("  data/clients.csv "));
+    }
+
+    @Test
+    public void parseFilePath_invalidValue_throwsParseException() {
+        assertThrows(NullPointerException.class, () -> ParserUtil.parseFilePath(null));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_FILE_PATH, () -> ParserUtil.parseFilePath(" "));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_FILE_PATH, ()
+                -> ParserUtil.parseFilePath("bad\0path.csv"));
+    }
+
 }
@@ -0,0 +1,66 @@
+package seedu.foodbook.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.foodbook.model.delivery.DateTime;
+import seedu.foodbook.model.delivery.Delivery;
+import seedu.foodbook.model.delivery.Money;
+import seedu.foodbook.model.person.Person;
+import seedu.foodbook.testutil.Benchmark;
+import seedu.foodbook.testutil.PersonBuilder;
+
+/**
+ * Measures how the cost of checkpointing and undoing a change to a {@code FoodBook} grows with the number of
+ * deliveries.
+ */
+public class FoodBookBenchmark extends Benchmark {
+
+    private static final int[] DELIVERY_COUNTS = {20_000, 200_000};
+    private static final int DELIVERIES_PER_CLIENT = 10;
+    private static final int ROUNDS = 1_000;
+
+    // Copying or revalidating the lists would take ~10x longer at 200k than at 20k deliveries.
+    private static final double MAX_SLOWDOWN = 3.0;
+
+    @Test
+    public void undo_twentyThousandToTwoHundredThousandDeliveries_latencyStaysFlat() throws Exception {
+        assertStaysFlat("FoodBook checkpoint, mark and undo", "undo", DELIVERY_COUNTS, MAX_SLOWDOWN,
+                this::measureUndo);
+    }
+
+    private double measureUndo(int deliveryCount) throws Exception {
+        FoodBook foodBook = buildFoodBook(deliveryCount);
+        Delivery middle = foodBook.getDeliveryList().get(deliveryCount / 2);
+
+        double nanosPerUndo = meanNanos(ROUNDS, () -> {
+            foodBook.checkpoint();
+            foodBook.setDelivery(middle, middle.copyAsDelivered());
+            foodBook.undo();
+        });
+        assertEquals(middle, foodBook.getDeliveryList().get(deliveryCount / 2));
+        return nanosPerUndo;
+    }
+
+    private static FoodBook buildFoodBook(int deliveryCount) {
+        FoodBook foodBook = new FoodBook();
+        List<Person> clients = new ArrayList<>();
+        for (int i = 0; i < deliveryCount / DELIVERIES_PER_CLIENT; i++) {
+            Person client = new PersonBuilder().withName("Client " + i).build();
+            clients.add(client);
+            foodBook.addPerson(client);
+        }
+
+        DateTime dateTime = new DateTime("1/1/2024", "1200");
+        for (int id = 0; id < deliveryCount; id++) {
+            foodBook.addDelivery(new Delivery(id, clients.get(id % clients.size()), dateTime, "NIL",
+                    Money.ofCents(1000), Optional.empty()));
+        }
+        return foodBook;
+    }
+}
@@ -7,30 +7,55 @@ import static seedu.foodbook.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.foodbook.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.foodbook.testutil.Assert.assertThrows;
 import static seedu.foodbook.testutil.TypicalDeliveries.ALICE_DELIVERY;
+import static seedu.foodbook.testutil.TypicalDeliveries.BENSON_DELIVERY;
+import static seedu.foodbook.testutil.TypicalDeliveries.CARL_DELIVERY;
+import static seedu.foodbook.testutil.TypicalDeliveries.getTypicalDeliveries;
 import static seedu.foodbook.testutil.TypicalFoodBook.getTypicalFoodBook;
 import static seedu.foodbook.testutil.TypicalPersons.ALICE;
+import static seedu.foodbook.testutil.TypicalPersons.BENSON;
+import static seedu.foodbook.testutil.TypicalPersons.getTypicalPersons;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.foodbook.model.delivery.DateTime;
 import seedu.foodbook.model.delivery.Delivery;
+import seedu.foodbook.model.delivery.DeliveryPredicate;
+import seedu.foodbook.model.delivery.RevenueSummary;
 import seedu.foodbook.model.delivery.exceptions.DuplicateDeliveryException;
 import seedu.foodbook.model.person.Person;
 import seedu.foodbook.model.person.exceptions.DuplicatePersonException;
+import seedu.foodbook.model.person.exceptions.PersonNotFoundException;
+import seedu.foodbook.model.undo.exceptions.NoMoreRedoException;
 import seedu.foodbook.model.undo.exceptions.NoMoreUndoException;
+import seedu.foodbook.storage.DeliveryArchiveStorage;
 import seedu.foodbook.testutil.DeliveryBuilder;
 import seedu.foodbook.testutil.PersonBuilder;
 
 public class FoodBookTest {
 
+    /** Deliveries dated before this are archived by {@link #getArchivedFoodBook()}, if delivered. */
+    private static final long HORIZON = new DateTime("15/12/2023", "0000").toEpochMinute();
+
     private final FoodBook foodBook = new FoodBook();
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void constructor() {
         assertEquals(Collections.emptyList(), foodBook.getPersonList());
@@ -130,6 +155,163 @@ public class FoodBookTest {
         assertThrows(UnsupportedOperationException.class, () -> foodBook.getDeliveryList().remove(0));
     }
 
+    @Test
+    public void appendLoaded_chunksOfFoodBook_sameAsFoodBookAndNotUndoable() {
+        FoodBook loaded = getTypicalFoodBook();
+        List<Person> persons = loaded.getPersonList();
+        List<Delivery> deliveries = loaded.getDeliveryList();
+        foodBook.appendLoaded(persons.subList(0, 2), List.of());
+        foodBook.appendLoaded(persons.subList(2, persons.size()), deliveries.subList(0, 1));
+        foodBook.appendLoaded(List.of(), deliveries.subList(1, deliveries.size()));
+
+        assertEquals(loaded, foodBook);
+        assertEquals(loaded.getDeliveriesByClientName(ALICE.getName()),
+                foodBook.getDeliveriesByClientName(ALICE.getName()));
+        assertThrows(NoMoreUndoException.class, foodBook::undo);
+    }
+
+    @Test
+    public void addPersonsAndDeliveries_batch_undoneAndRedoneAsOneChange() {
+        foodBook.resetData(getTypicalFoodBook());
+        FoodBook original = new FoodBook(foodBook);
+        Person newClient = new PersonBuilder().withName("New Client").build();
+        Delivery forNewClient = new DeliveryBuilder().withId(foodBook.getNextDeliveryId()).withClient(newClient)
+                .build();
+        Delivery forAlice = new DeliveryBuilder().withId(foodBook.getNextDeliveryId() + 1).withClient(ALICE).build();
+
+        foodBook.checkpoint();
+        foodBook.addPersonsAndDeliveries(List.of(newClient), List.of(forNewClient, forAlice));
+        FoodBook added = new FoodBook(foodBook);
+        assertEquals(List.of(forNewClient), foodBook.getDeliveriesByClientName(newClient.getName()));
+        assertTrue(foodBook.getDeliveriesByClientName(ALICE.getName()).contains(forAlice));
+
+        foodBook.undo();
+        assertEquals(original, foodBook);
+        assertEquals(added.getNextDeliveryId(), foodBook.getNextDeliveryId());
+        assertTrue(foodBook.getDeliveriesByClientName(newClient.getName()).isEmpty());
+        assertFalse(foodBook.getDeliveriesByClientName(ALICE.getName()).contains(forAlice));
+
+        foodBook.redo();
+        assertEquals(added, foodBook);
+        assertEquals(List.of(forNewClient), foodBook.getDeliveriesByClientName(newClient.getName()));
+    }
+
+    @Test
+    public void getDeliveriesByClientName_typicalFoodBook_matchesScan() {
+        foodBook.resetData(getTypicalFoodBook());
+        for (Person person : foodBook.getPersonList()) {
+            List<Delivery> expected = foodBook.getDeliveryList().stream()
+                    .filter(delivery -> delivery.getClient().getName().equals(person.getName()))
+                    .toList();
+            assertEquals(expected, foodBook.getDeliveriesByClientName(person.getName()));
+        }
+        assertTrue(foodBook.getDeliveriesByClientName(null).isEmpty());
+    }
+
+    @Test
+    public void getDeliveriesMatching_variousPredicates_sameDeliveriesAsScan() {
+        foodBook.resetData(getTypicalFoodBook());
+        List<DeliveryPredicate> predicates = List.of(
+                new DeliveryPredicate(Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(),
+                        Optional.empty()),
+                new DeliveryPredicate(Optional.of("13/12/2023"), Optional.of("13/12/2023"), Optional.empty(),
+                        Optional.empty(), Optional.empty()),
+                new DeliveryPredicate(Optional.of("13/12/2023"), Optional.empty(), Optional.empty(),
+                        Optional.of("personal"), Optional.empty()),
+                new DeliveryPredicate(Optional.empty(), Optional.of("15/12/2023"), Optional.of("a"),
+                        Optional.empty(), Optional.of(false)),
+                new DeliveryPredicate(Optional.of("1/1/2030"), Optional.empty(), Optional.empty(),
+                        Optional.empty(), Optional.empty()));
+        for (DeliveryPredicate predicate : predicates) {
+            Set<Delivery> expected = foodBook.getDeliveryList().stream().filter(predicate)
+                    .collect(Collectors.toSet());
+            List<Delivery> actual = foodBook.getDeliveriesMatching(predicate);
+            assertEquals(expected.size(), actual.size());
+            assertEquals(expected, new HashSet<>(actual));
+        }
+    }
+
+    @Test
+    public void getRevenue_afterMutations_matchesScan() {
+        foodBook.resetData(getTypicalFoodBook());
+        foodBook.setDelivery(ALICE_DELIVERY, ALICE_DELIVERY.copyAsDelivered());
+        foodBook.removeDelivery(BENSON_DELIVERY);
+        foodBook.setPersonWithDeliveries(ALICE, new PersonBuilder(ALICE).withName("Alicia").build());
+        List<DeliveryPredicate> predicates = List.of(
+                new DeliveryPredicate(Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(),
+                        Optional.of(true)),
+                new DeliveryPredicate(Optional.empty(), Optional.empty(), Optional.of("alicia"), Optional.empty(),
+                        Optional.empty()),
+                new DeliveryPredicate(Optional.of("12/12/2023"), Optional.of("15/12/2023"), Optional.of("a"),
+                        Optional.of("personal"), Optional.empty()));
+        for (DeliveryPredicate predicate : predicates) {
+            List<Delivery> expected = foodBook.getDeliveryList().stream().filter(predicate).toList();
+            assertEquals(RevenueSummary.of(expected), foodBook.getRevenue(predicate));
+        }
+    }
+
+    @Test
+    public void setDelivery_differentClient_movesDeliveryBetweenClients() {
+        foodBook.addPerson(ALICE);
+        foodBook.addPerson(BENSON);
+        foodBook.addDelivery(ALICE_DELIVERY);
+        Delivery movedDelivery = ALICE_DELIVERY.copyWithNewClient(BENSON);
+        foodBook.setDelivery(ALICE_DELIVERY, movedDelivery);
+        assertTrue(foodBook.getDeliveriesByClientName(ALICE.getName()).isEmpty());
+        assertEquals(List.of(movedDelivery), foodBook.getDeliveriesByClientName(BENSON.getName()));
+
+        foodBook.removeDelivery(movedDelivery);
+        assertTrue(foodBook.getDeliveriesByClientName(BENSON.getName()).isEmpty());
+    }
+
+    @Test
+    public void setPersonWithDeliveries_renamedClient_updatesOnlyTheirDeliveries() {
+        Delivery secondAliceDelivery = new DeliveryBuilder(ALICE_DELIVERY).withId(20).build();
+        foodBook.addPerson(ALICE);
+        foodBook.addPerson(BENSON);
+        foodBook.addDelivery(ALICE_DELIVERY);
+        foodBook.addDelivery(BENSON_DELIVERY);
+        foodBook.addDelivery(secondAliceDelivery);
+
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alice Renamed").build();
+        foodBook.setPersonWithDeliveries(ALICE, renamedAlice);
+
+        List<Delivery> expectedDeliveries = List.of(ALICE_DELIVERY.copyWithNewClient(renamedAlice),
+                BENSON_DELIVERY, secondAliceDelivery.copyWithNewClient(renamedAlice));
+        assertEquals(expectedDeliveries, foodBook.getDeliveryList());
+        assertEquals(List.of(renamedAlice, BENSON), foodBook.getPersonList());
+        assertTrue(foodBook.getDeliveriesByClientName(ALICE.getName()).isEmpty());
+        assertEquals(List.of(expectedDeliveries.get(0), expectedDeliveries.get(2)),
+                foodBook.getDeliveriesByClientName(renamedAlice.getName()));
+    }
+
+    @Test
+    public void setPersonWithDeliveries_duplicateClient_leavesDeliveriesUnchanged() {
+        foodBook.addPerson(ALICE);
+        foodBook.addPerson(BENSON);
+        foodBook.addDelivery(ALICE_DELIVERY);
+        assertThrows(DuplicatePersonException.class, () -> foodBook.setPersonWithDeliveries(ALICE, BENSON));
+        assertEquals(List.of(ALICE_DELIVERY), foodBook.getDeliveriesByClientName(ALICE.getName()));
+    }
+
+    @Test
+    public void removePersonWithDeliveries_existingClient_removesOnlyTheirDeliveries() {
+        Delivery secondAliceDelivery = new DeliveryBuilder(ALICE_DELIVERY).withId(20).build();
+        foodBook.addPerson(ALICE);
+        foodBook.addPerson(BENSON);
+        foodBook.addDelivery(ALICE_DELIVERY);
+        foodBook.addDelivery(BENSON_DELIVERY);
+        foodBook.addDelivery(secondAliceDelivery);
+
+        foodBook.removePersonWithDeliveries(ALICE);
+
+        assertEquals(List.of(BENSON), foodBook.getPersonList());
+        assertEquals(List.of(BENSON_DELIVERY), foodBook.getDeliveryList());
+        assertTrue(foodBook.getDeliveriesByClientName(ALICE.getName()).isEmpty());
+        assertEquals(BENSON_DELIVERY, foodBook.getDeliveryById(BENSON_DELIVERY.getId()).get());
+        assertThrows(PersonNotFoundException.class, () -> foodBook.removePersonWithDeliveries(ALICE));
+    }
+
     @Test
     public void toStringMethod() {
         String expected = FoodBook.class.getCanonicalName()
@@ -217,6 +399,429 @@ public class FoodBookTest {
         assertThrows(NoMoreUndoException.class, () -> foodBook.undo());
     }
 
+    @Test
+    public void undo_afterRemovingFromMiddle_restoresOriginalOrder() throws Exception {
+        foodBook.resetData(getTypicalFoodBook());
+        FoodBook snapshot = new FoodBook(foodBook);
+        foodBook.checkpoint();
+
+        foodBook.removeDelivery(foodBook.getDeliveryList().get(2));
+        foodBook.removePerson(foodBook.getPersonList().get(1));
+        foodBook.undo();
+
+        DeliveryPredicate allDeliveries = new DeliveryPredicate(Optional.empty(), Optional.empty(), Optional.empty(),
+                Optional.empty(), Optional.empty());
+        assertEquals(snapshot, foodBook);
+        assertEquals(snapshot.getRevenue(allDeliveries), foodBook.getRevenue(allDeliveries));
+    }
+
+    @Test
+    public void undo_afterRemovePersonWithDeliveries_restoresPersonAndDeliveries() throws Exception {
+        foodBook.resetData(getTypicalFoodBook());
+        FoodBook snapshot = new FoodBook(foodBook);
+        foodBook.checkpoint();
+
+        foodBook.removePersonWithDeliveries(ALICE);
+        foodBook.undo();
+
+        assertEquals(snapshot, foodBook);
+        assertEquals(snapshot.getDeliveriesByClientName(ALICE.getName()),
+                foodBook.getDeliveriesByClientName(ALICE.getName()));
+    }
+
+    @Test
+    public void undo_afterSetPersonWithDeliveries_restoresClientOfDeliveries() throws Exception {
+        foodBook.resetData(getTypicalFoodBook());
+        FoodBook snapshot = new FoodBook(foodBook);
+        foodBook.checkpoint();
+
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alicia Pauline").build();
+        foodBook.setPersonWithDeliveries(ALICE, renamedAlice);
+        foodBook.undo();
+
+        assertEquals(snapshot, foodBook);
+        assertTrue(foodBook.getDeliveriesByClientName(renamedAlice.getName()).isEmpty());
+        assertFalse(foodBook.getDeliveriesByClientName(ALICE.getName()).isEmpty());
+    }
+
+    @Test
+    public void undo_afterResetData_restoresPreviousData() throws Exception {
+        foodBook.resetData(getTypicalFoodBook());
+        FoodBook snapshot = new FoodBook(foodBook);
+        foodBook.checkpoint();
+
+        foodBook.resetData(new FoodBook());
+        foodBook.undo();
+
+        assertEquals(snapshot, foodBook);
+        assertEquals(snapshot.getNextDeliveryId(), foodBook.getNextDeliveryId());
+    }
+
+    @Test
+    public void undo_changesWithoutNewCheckpoint_notRevertedWithEarlierRecord() throws Exception {
+        foodBook.addPerson(ALICE);
+        foodBook.addPerson(BENSON);
+        foodBook.checkpoint();
+        foodBook.addDelivery(ALICE_DELIVERY);
+        foodBook.checkpoint();
+        foodBook.removeDelivery(ALICE_DELIVERY);
+        foodBook.undo();
+
+        // Not preceded by a checkpoint of its own, so it is not recorded, least of all with the earlier change
+        foodBook.addDelivery(BENSON_DELIVERY);
+        foodBook.undo();
+
+        FoodBook expected = new FoodBook();
+        expected.addPerson(ALICE);
+        expected.addPerson(BENSON);
+        expected.addDelivery(BENSON_DELIVERY);
+        assertEquals(expected, foodBook);
+    }
+
+    @Test
+    public void redo_nothingUndone_throwsNoMoreRedoException() {
+        assertThrows(NoMoreRedoException.class, () -> foodBook.redo());
+    }
+
+    @Test
+    public void redo_afterUndo_reappliesChanges() throws Exception {
+        foodBook.resetData(getTypicalFoodBook());
+        foodBook.checkpoint();
+        foodBook.removePersonWithDeliveries(ALICE);
+        foodBook.setDelivery(BENSON_DELIVERY, BENSON_DELIVERY.copyAsDelivered());
+        FoodBook edited = new FoodBook(foodBook);
+
+        foodBook.undo();
+        foodBook.redo();
+
+        assertEquals(edited, foodBook);
+        assertTrue(foodBook.getDeliveriesByClientName(ALICE.getName()).isEmpty());
+        assertThrows(NoMoreRedoException.class, () -> foodBook.redo());
+    }
+
+    @Test
+    public void redo_thenUndo_restoresStateBeforeChanges() throws Exception {
+        foodBook.resetData(getTypicalFoodBook());
+        FoodBook snapshot = new FoodBook(foodBook);
+        foodBook.checkpoint();
+        foodBook.resetData(new FoodBook());
+
+        foodBook.undo();
+        foodBook.redo();
+        assertEquals(new FoodBook(), foodBook);
+
+        foodBook.undo();
+        assertEquals(snapshot, foodBook);
+        assertEquals(snapshot.getNextDeliveryId(), foodBook.getNextDeliveryId());
+    }
+
+    @Test
+    public void redo_multipleUndos_reappliesInOrder() throws Exception {
+        foodBook.checkpoint();
+        foodBook.addPerson(ALICE);
+        FoodBook s1 = new FoodBook(foodBook);
+        foodBook.checkpoint();
+        foodBook.addDelivery(new DeliveryBuilder(ALICE_DELIVERY).withId(foodBook.getNextDeliveryId()).build());
+        FoodBook s2 = new FoodBook(foodBook);
+        int nextIdAtS2 = foodBook.getNextDeliveryId();
+
+        foodBook.undo();
+        foodBook.undo();
+        foodBook.redo();
+        assertEquals(s1, foodBook);
+        foodBook.redo();
+        assertEquals(s2, foodBook);
+        assertEquals(nextIdAtS2, foodBook.getNextDeliveryId());
+    }
+
+    @Test
+    public void checkpoint_afterUndo_discardsRedo() throws Exception {
+        foodBook.checkpoint();
+        foodBook.addPerson(ALICE);
+        foodBook.undo();
+
+        foodBook.checkpoint();
+        foodBook.addPerson(BENSON);
+
+        assertThrows(NoMoreRedoException.class, () -> foodBook.redo());
+    }
+
+    @Test
+    public void getGeneration_changedByEachEdit() throws Exception {
+        long generation = foodBook.getGeneration().getAsLong();
+        foodBook.addPerson(ALICE);
+        assertTrue(foodBook.getGeneration().getAsLong() > generation);
+
+        generation = foodBook.getGeneration().getAsLong();
+        foodBook.checkpoint();
+        foodBook.addDelivery(ALICE_DELIVERY);
+        assertTrue(foodBook.getGeneration().getAsLong() > generation);
+
+        generation = foodBook.getGeneration().getAsLong();
+        foodBook.undo();
+        assertTrue(foodBook.getGeneration().getAsLong() > generation);
+
+        generation = foodBook.getGeneration().getAsLong();
+        foodBook.resetData(getTypicalFoodBook());
+        assertTrue(foodBook.getGeneration().getAsLong() > generation);
+    }
+
+    @Test
+    public void getGeneration_unchangedByQueriesAndCheckpoints() {
+        foodBook.resetData(getTypicalFoodBook());
+        long generation = foodBook.getGeneration().getAsLong();
+
+        foodBook.checkpoint();
+        foodBook.hasPerson(ALICE);
+        foodBook.getDeliveriesByClientName(ALICE.getName());
+        foodBook.setNextDeliveryId(FoodBook.FIRST_DELIVERY_ID);
+
+        assertEquals(generation, foodBook.getGeneration().getAsLong());
+    }
+
+    @Test
+    public void getNextDeliveryId_emptyFoodBook_returnsFirstId() {
+        assertEquals(FoodBook.FIRST_DELIVERY_ID, foodBook.getNextDeliveryId());
+    }
+
+    @Test
+    public void getNextDeliveryId_afterRemovingLatestDelivery_notReused() {
+        foodBook.resetData(getTypicalFoodBook());
+        int nextId = foodBook.getNextDeliveryId();
+        Delivery latest = foodBook.getDeliveryById(nextId - 1).get();
+
+        foodBook.removeDelivery(latest);
+
+        assertEquals(nextId, foodBook.getNextDeliveryId());
+    }
+
+    @Test
+    public void setNextDeliveryId_neverLowered() {
+        foodBook.addPerson(ALICE);
+        foodBook.addDelivery(ALICE_DELIVERY);
+        foodBook.setNextDeliveryId(50);
+        assertEquals(50, foodBook.getNextDeliveryId());
+
+        foodBook.setNextDeliveryId(ALICE_DELIVERY.getId());
+        assertEquals(50, foodBook.getNextDeliveryId());
+    }
+
+    @Test
+    public void resetNextDeliveryId_lowered() {
+        foodBook.setNextDeliveryId(50);
+
+        foodBook.resetNextDeliveryId(FoodBook.FIRST_DELIVERY_ID);
+
+        assertEquals(FoodBook.FIRST_DELIVERY_ID, foodBook.getNextDeliveryId());
+        assertThrows(IllegalArgumentException.class, () -> foodBook.resetNextDeliveryId(0));
+    }
+
+    @Test
+    public void addPersonAndAddDeliveryAtIndex_insertedAtIndex() {
+        foodBook.addPerson(ALICE);
+        foodBook.addPerson(0, BENSON);
+        foodBook.addDelivery(ALICE_DELIVERY);
+        foodBook.addDelivery(0, BENSON_DELIVERY);
+
+        assertEquals(List.of(BENSON, ALICE), foodBook.getPersonList());
+        assertEquals(List.of(BENSON_DELIVERY, ALICE_DELIVERY), foodBook.getDeliveryList());
+        assertEquals(List.of(BENSON_DELIVERY), foodBook.getDeliveriesByClientName(BENSON.getName()));
+    }
+
+    @Test
+    public void undoAndRedo_nextDeliveryIdNotLowered() throws Exception {
+        foodBook.addPerson(ALICE);
+        foodBook.checkpoint();
+        foodBook.addDelivery(new DeliveryBuilder(ALICE_DELIVERY).withId(foodBook.getNextDeliveryId()).build());
+
+        foodBook.undo();
+        assertEquals(FoodBook.FIRST_DELIVERY_ID + 1, foodBook.getNextDeliveryId());
+
+        foodBook.redo();
+        foodBook.undo();
+        assertEquals(FoodBook.FIRST_DELIVERY_ID + 1, foodBook.getNextDeliveryId());
+    }
+
+    @Test
+    public void resetData_takesNextDeliveryIdOfNewData() {
+        FoodBook newData = getTypicalFoodBook();
+        newData.setNextDeliveryId(100);
+
+        foodBook.resetData(newData);
+
+        assertEquals(100, foodBook.getNextDeliveryId());
+    }
+
+    @Test
+    public void archiveDeliveriesBefore_oldDeliveredDeliveries_onlyInArchive() throws Exception {
+        FoodBook archived = getArchivedFoodBook();
+
+        // Carl's delivery is as old, but not delivered
+        assertEquals(2, archived.getDeliveryArchive().size());
+        assertFalse(archived.getDeliveryList().contains(ALICE_DELIVERY.copyAsDelivered()));
+        assertTrue(archived.getDeliveryList().contains(CARL_DELIVERY));
+        assertTrue(archived.hasDelivery(ALICE_DELIVERY));
+        assertEquals(Optional.of(BENSON_DELIVERY.copyAsDelivered()), archived.getDeliveryById(BENSON_DELIVERY.getId()));
+        assertEquals(List.of(ALICE_DELIVERY.copyAsDelivered()), archived.getDeliveriesByClientName(ALICE.getName()));
+        assertEquals(getArchivableFoodBook().getNextDeliveryId(), archived.getNextDeliveryId());
+        assertEquals(0, archived.archiveDeliveriesBefore(HORIZON));
+    }
+
+    @Test
+    public void archiveDeliveriesBefore_noArchiveFile_throwsIOExceptionAndKeepsDeliveries() {
+        FoodBook archivable = getArchivableFoodBook();
+        List<Delivery> deliveries = List.copyOf(archivable.getDeliveryList());
+
+        assertThrows(IOException.class, () -> archivable.archiveDeliveriesBefore(HORIZON));
+        assertEquals(deliveries, archivable.getDeliveryList());
+        assertTrue(archivable.getDeliveryArchive().isEmpty());
+    }
+
+    @Test
+    public void getDeliveriesMatchingAndGetRevenue_archivedDeliveries_sameAsUnarchived() throws Exception {
+        FoodBook unarchived = getArchivableFoodBook();
+        FoodBook archived = getArchivedFoodBook();
+        List<DeliveryPredicate> predicates = List.of(
+                new DeliveryPredicate(Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(),
+                        Optional.empty()),
+                new DeliveryPredicate(Optional.of("12/12/2023"), Optional.of("16/12/2023"), Optional.empty(),
+                        Optional.empty(), Optional.empty()),
+                new DeliveryPredicate(Optional.empty(), Optional.empty(), Optional.of("a"), Optional.of("personal"),
+                        Optional.of(true)),
+                new DeliveryPredicate(Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(),
+                        Optional.of(false)));
+        for (DeliveryPredicate predicate : predicates) {
+            List<Delivery> expected = unarchived.getDeliveriesMatching(predicate);
+            List<Delivery> actual = archived.getDeliveriesMatching(predicate);
+            assertEquals(new HashSet<>(expected), new HashSet<>(actual));
+            if (predicate.hasDateRange()) {
+                assertEquals(expected, actual);
+            }
+            assertEquals(unarchived.getRevenue(predicate), archived.getRevenue(predicate));
+            assertEquals(0, unarchived.countArchivedDeliveriesMatching(predicate));
+            assertEquals(actual.stream().filter(delivery -> !archived.getDeliveryList().contains(delivery)).count(),
+                    archived.countArchivedDeliveriesMatching(predicate));
+        }
+    }
+
+    @Test
+    public void setDeliveryAndRemoveDelivery_archivedDelivery_movedBackToList() throws Exception {
+        FoodBook archived = getArchivedFoodBook();
+        archived.checkpoint();
+        Delivery undelivered = ALICE_DELIVERY.copyAsUndelivered();
+
+        archived.setDelivery(ALICE_DELIVERY.copyAsDelivered(), undelivered);
+        archived.removeDelivery(BENSON_DELIVERY.copyAsDelivered());
+
+        assertTrue(archived.getDeliveryArchive().isEmpty());
+        assertEquals(Optional.of(undelivered), archived.getDeliveryById(ALICE_DELIVERY.getId()));
+        assertFalse(archived.hasDelivery(BENSON_DELIVERY));
+
+        // Undone into the list, where they now stay
+        archived.undo();
+        assertEquals(Optional.of(ALICE_DELIVERY.copyAsDelivered()), archived.getDeliveryById(ALICE_DELIVERY.getId()));
+        assertTrue(archived.getDeliveryList().contains(BENSON_DELIVERY.copyAsDelivered()));
+    }
+
+    @Test
+    public void setPersonWithDeliveriesAndRemovePersonWithDeliveries_archivedDeliveries_updated() throws Exception {
+        FoodBook archived = getArchivedFoodBook();
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alicia").build();
+
+        archived.setPersonWithDeliveries(ALICE, renamedAlice);
+        archived.removePersonWithDeliveries(BENSON);
+
+        assertTrue(archived.getDeliveryArchive().isEmpty());
+        assertEquals(List.of(ALICE_DELIVERY.copyAsDelivered().copyWithNewClient(renamedAlice)),
+                archived.getDeliveriesByClientName(renamedAlice.getName()));
+        assertTrue(archived.getDeliveryById(BENSON_DELIVERY.getId()).isEmpty());
+    }
+
+    @Test
+    public void undo_afterResetData_restoresArchive() throws Exception {
+        FoodBook archived = getArchivedFoodBook();
+        archived.checkpoint();
+
+        archived.resetData(new FoodBook());
+        assertTrue(archived.getDeliveryArchive().isEmpty());
+
+        archived.undo();
+        assertEquals(2, archived.getDeliveryArchive().size());
+        assertTrue(archived.hasDelivery(ALICE_DELIVERY));
+    }
+
+    @Test
+    public void snapshotDeliveriesMatching_archivedDeliveries_sameAsGetDeliveriesMatching() throws Exception {
+        FoodBook archived = getArchivedFoodBook();
+        List<DeliveryPredicate> predicates = List.of(
+                new DeliveryPredicate(Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(),
+                        Optional.empty()),
+                new DeliveryPredicate(Optional.of("12/12/2023"), Optional.of("16/12/2023"), Optional.empty(),
+                        Optional.empty(), Optional.empty()),
+                new DeliveryPredicate(Optional.empty(), Optional.empty(), Optional.of("a"), Optional.of("personal"),
+                        Optional.of(true)),
+                new DeliveryPredicate(Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(),
+                        Optional.of(false)));
+        for (DeliveryPredicate predicate : predicates) {
+            List<Delivery> visited = new ArrayList<>();
+            archived.snapshotDeliveriesMatching(predicate).forEach(visited::add);
+            List<Delivery> expected = archived.getDeliveriesMatching(predicate);
+            assertEquals(new HashSet<>(expected), new HashSet<>(visited));
+            assertEquals(expected.size(), visited.size());
+        }
+    }
+
+    @Test
+    public void snapshotDeliveriesMatching_foodBookChangedAfterwards_deliveriesAsTaken() throws Exception {
+        FoodBook archived = getArchivedFoodBook();
+        DeliveryPredicate all = new DeliveryPredicate(Optional.empty(), Optional.empty(), Optional.empty(),
+                Optional.empty(), Optional.empty());
+        List<Delivery> expected = archived.getDeliveriesMatching(all);
+        MatchingDeliveries snapshot = archived.snapshotDeliveriesMatching(all);
+
+        archived.removeDelivery(CARL_DELIVERY);
+        archived.removeDelivery(ALICE_DELIVERY.copyAsDelivered());
+        archived.addDelivery(new DeliveryBuilder(CARL_DELIVERY).withId(archived.getNextDeliveryId()).build());
+
+        List<Delivery> visited = new ArrayList<>();
+        snapshot.forEach(visited::add);
+        assertEquals(expected, visited);
+    }
+
+    @Test
+    public void setDeliveryArchive_deliveriesAlsoListed_listedCopyKept() throws Exception {
+        FoodBook archived = getArchivedFoodBook();
+        DeliveryArchiveStorage storage = new DeliveryArchiveStorage(testFolder.resolve("foodbook.archive"));
+
+        // As if the food book was saved with its deliveries still listed
+        FoodBook unarchived = getArchivableFoodBook();
+        unarchived.setDeliveryArchive(archived.getDeliveryArchive());
+
+        assertTrue(unarchived.getDeliveryArchive().isEmpty());
+        assertEquals(getArchivableFoodBook().getDeliveryList(), unarchived.getDeliveryList());
+        assertTrue(storage.open(unarchived).contains(ALICE_DELIVERY.getId()));
+    }
+
+    /**
+     * Returns the typical food book with every delivery but Carl's delivered, and with the delivered ones dated
+     * before {@link #HORIZON} archived.
+     */
+    private FoodBook getArchivedFoodBook() throws Exception {
+        FoodBook archived = getArchivableFoodBook();
+        archived.setDeliveryArchive(new DeliveryArchiveStorage(testFolder.resolve("foodbook.archive")).open(archived));
+        assertEquals(2, archived.archiveDeliveriesBefore(HORIZON));
+        return archived;
+    }
+
+    private static FoodBook getArchivableFoodBook() {
+        FoodBook archivable = new FoodBook();
+        getTypicalPersons().forEach(archivable::addPerson);
+        for (Delivery delivery : getTypicalDeliveries()) {
+            archivable.addDelivery(delivery.equals(CARL_DELIVERY) ? delivery : delivery.copyAsDelivered());
+        }
+        return archivable;
+    }
+
     /**
      * A stub ReadOnlyFoodBook whose persons list can violate interface constraints.
      */
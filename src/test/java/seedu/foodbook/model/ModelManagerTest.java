@@ -25,6 +25,8 @@ import seedu.foodbook.model.delivery.Delivery;
 import seedu.foodbook.model.delivery.DeliveryPredicate;
 import seedu.foodbook.model.person.ClientMatchesPredicate;
 import seedu.foodbook.model.person.Person;
+import seedu.foodbook.model.undo.ModelRecord;
+import seedu.foodbook.model.undo.exceptions.NoMoreRedoException;
 import seedu.foodbook.model.undo.exceptions.NoMoreUndoException;
 import seedu.foodbook.testutil.FoodBookBuilder;
 
@@ -283,6 +285,41 @@ public class ModelManagerTest {
         assertThrows(NoMoreUndoException.class, () -> modelManager.undo());
     }
 
+    @Test
+    public void redo_nothingUndone_throwsNoMoreRedoException() {
+        assertThrows(NoMoreRedoException.class, () -> modelManager.redo());
+    }
+
+    @Test
+    public void redo_afterUndo_returnsSameCommandAndReappliesChange() throws Exception {
+        modelManager.checkpoint("add_client", UiPanel.PERSONS);
+        modelManager.addPerson(ALICE);
+        modelManager.undo();
+
+        ModelRecord record = modelManager.redo();
+
+        assertEquals("add_client", record.commandString());
+        assertEquals(UiPanel.PERSONS, record.uiPanel());
+        assertTrue(modelManager.hasPerson(ALICE));
+    }
+
+    @Test
+    public void undo_undoHistorySizeSet_onlyThatManyCommandsUndone() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistorySize(1);
+        modelManager.setUserPrefs(userPrefs);
+        modelManager.checkpoint("add_client", UiPanel.PERSONS);
+        modelManager.addPerson(ALICE);
+        modelManager.checkpoint("add_client", UiPanel.PERSONS);
+        modelManager.addPerson(BENSON);
+
+        modelManager.undo();
+
+        assertFalse(modelManager.hasPerson(BENSON));
+        assertTrue(modelManager.hasPerson(ALICE));
+        assertThrows(NoMoreUndoException.class, () -> modelManager.undo());
+    }
+
     @Test
     public void checkpoint_thenUndo_restoresFoodBookStateAndFilters() throws Exception {
         // Start with populated model
@@ -1,9 +1,13 @@
 package seedu.foodbook.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.foodbook.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.foodbook.commons.core.DataFileFormat;
+
 public class UserPrefsTest {
 
     @Test
@@ -18,4 +22,50 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setFoodBookFilePath(null));
     }
 
+    @Test
+    public void setFoodBookFormat_nullFormat_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setFoodBookFormat(null));
+    }
+
+    @Test
+    public void getArchiveAfterDays_default_archivingOff() {
+        assertEquals(0, new UserPrefs().getArchiveAfterDays());
+    }
+
+    @Test
+    public void forNewInstall_archivesAfterAYear() {
+        UserPrefs expected = new UserPrefs();
+        expected.setArchiveAfterDays(UserPrefs.NEW_INSTALL_ARCHIVE_AFTER_DAYS);
+        assertEquals(expected, UserPrefs.forNewInstall());
+        assertEquals(365, UserPrefs.forNewInstall().getArchiveAfterDays());
+    }
+
+    @Test
+    public void setArchiveAfterDays_negativeDays_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setArchiveAfterDays(-1));
+        userPrefs.setArchiveAfterDays(0);
+        assertEquals(0, userPrefs.getArchiveAfterDays());
+    }
+
+    @Test
+    public void setUndoHistorySize_nonPositiveSize_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setUndoHistorySize(0));
+        userPrefs.setUndoHistorySize(1);
+        assertEquals(1, userPrefs.getUndoHistorySize());
+        assertNotEquals(new UserPrefs(), userPrefs);
+    }
+
+    @Test
+    public void copyConstructor_binaryFormat_copiesFormat() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setFoodBookFormat(DataFileFormat.BINARY);
+        UserPrefs copy = new UserPrefs(userPrefs);
+        assertEquals(DataFileFormat.BINARY, copy.getFoodBookFormat());
+        assertEquals(userPrefs, copy);
+        assertNotEquals(new UserPrefs(), copy);
+    }
+
 }
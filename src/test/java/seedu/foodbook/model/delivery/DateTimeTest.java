@@ -134,4 +134,25 @@ class DateTimeTest {
 
 
 
+
+    @Test
+    void toEpochMinute_ordersLikeIsBefore() {
+        DateTime epoch = new DateTime("1/1/1970", "0000");
+        DateTime beforeEpoch = new DateTime("31/12/1969", "2359");
+        DateTime later = new DateTime("2/1/1970", "0001");
+        assertEquals(0, epoch.toEpochMinute());
+        assertEquals(-1, beforeEpoch.toEpochMinute());
+        assertEquals(24 * 60 + 1, later.toEpochMinute());
+        assertTrue(beforeEpoch.isBefore(later) && beforeEpoch.toEpochMinute() < later.toEpochMinute());
+    }
+
+    @Test
+    void ofEpochMinute_roundTripsToEpochMinute() {
+        DateTime dateTime = new DateTime("29/2/2024", "1830");
+        DateTime copy = DateTime.ofEpochMinute(dateTime.toEpochMinute());
+        assertEquals(dateTime, copy);
+        assertEquals(dateTime.toEpochMinute(), copy.toEpochMinute());
+        assertEquals("29/2/2024", copy.getDateString());
+        assertEquals(new DateTime("31/12/1969", "2359"), DateTime.ofEpochMinute(-1));
+    }
 }
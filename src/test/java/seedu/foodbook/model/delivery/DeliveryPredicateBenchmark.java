@@ -0,0 +1,86 @@
+package seedu.foodbook.model.delivery;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.foodbook.model.person.Person;
+import seedu.foodbook.model.tag.DeliveryTag;
+import seedu.foodbook.testutil.Benchmark;
+import seedu.foodbook.testutil.PersonBuilder;
+
+/**
+ * Measures the time and heap allocation of {@link DeliveryPredicate#test(Delivery)}.
+ */
+public class DeliveryPredicateBenchmark extends Benchmark {
+
+    private static final int DELIVERIES = 100_000;
+    private static final int CLIENTS = 200;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int ROUNDS = 20;
+
+    // Slack for allocations made by the measurement itself, far below one byte per test
+    private static final long MAX_ALLOCATED_BYTES = 64 * 1024;
+
+    @Test
+    public void test_allFiltersSet_allocatesNothingPerDelivery() {
+        List<Delivery> deliveries = buildDeliveries();
+        DeliveryPredicate predicate = new DeliveryPredicate(Optional.of("1/3/2024"), Optional.of("30/9/2024"),
+                Optional.of("client 1"), Optional.of("CORP"), Optional.of(false));
+
+        int matches = 0;
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            matches += countMatches(predicate, deliveries);
+        }
+
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            matches += countMatches(predicate, deliveries);
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = allocatedBytes() - allocatedBefore;
+
+        long tests = (long) ROUNDS * DELIVERIES;
+        System.out.printf("DeliveryPredicate.test: %.1f ns/test, %.4f bytes/test (%d matches)%n",
+                (double) elapsed / tests, (double) allocated / tests, matches);
+        assertTrue(matches > 0);
+        assertTrue(allocated < MAX_ALLOCATED_BYTES, "Allocated " + allocated + " bytes over " + tests + " tests");
+    }
+
+    private static int countMatches(DeliveryPredicate predicate, List<Delivery> deliveries) {
+        int count = 0;
+        for (int i = 0; i < deliveries.size(); i++) {
+            if (predicate.test(deliveries.get(i))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static List<Delivery> buildDeliveries() {
+        List<Person> clients = new ArrayList<>();
+        for (int i = 0; i < CLIENTS; i++) {
+            clients.add(new PersonBuilder().withName("Client " + i).build());
+        }
+        List<DateTime> dates = new ArrayList<>();
+        for (int month = 1; month <= 12; month++) {
+            for (int day = 1; day <= 28; day++) {
+                dates.add(new DateTime(day + "/" + month + "/2024", "1200"));
+            }
+        }
+        List<Optional<DeliveryTag>> tags = List.of(Optional.empty(), Optional.of(new DeliveryTag("Corporate")),
+                Optional.of(new DeliveryTag("personal")));
+
+        List<Delivery> deliveries = new ArrayList<>(DELIVERIES);
+        for (int id = 0; id < DELIVERIES; id++) {
+            deliveries.add(new Delivery(id, clients.get(id % CLIENTS), dates.get(id % dates.size()), "NIL",
+                    Money.ofCents(1000), tags.get(id % tags.size()), id % 2 == 0));
+        }
+        return deliveries;
+    }
+}
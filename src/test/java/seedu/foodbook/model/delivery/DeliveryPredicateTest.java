@@ -1,5 +1,6 @@
 package seedu.foodbook.model.delivery;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.foodbook.testutil.TypicalDeliveries.ALICE_DELIVERY;
@@ -10,6 +11,8 @@ import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.foodbook.testutil.DeliveryBuilder;
+
 /**
  * Contains unit tests for {@code DeliveryPredicate}.
  */
@@ -43,6 +46,25 @@ public class DeliveryPredicateTest {
         assertFalse(firstPredicate.equals(secondPredicate));
     }
 
+    @Test
+    public void acceptsEachAttribute_eachFilter_testedSeparately() {
+        DeliveryPredicate predicate = new DeliveryPredicate(Optional.of("12/12/2023"), Optional.of("12/12/2023"),
+                Optional.of("alice"), Optional.of("pers"), Optional.of(true));
+
+        assertTrue(predicate.acceptsTime(ALICE_DELIVERY.getDeliveryDate().toEpochMinute()));
+        assertFalse(predicate.acceptsTime(CARL_DELIVERY.getDeliveryDate().toEpochMinute()));
+        assertTrue(predicate.acceptsStatus(true));
+        assertFalse(predicate.acceptsStatus(false));
+        assertTrue(predicate.acceptsClientName(ALICE_DELIVERY.getClient().getName()));
+        assertFalse(predicate.acceptsClientName(CARL_DELIVERY.getClient().getName()));
+        assertTrue(predicate.acceptsTag(ALICE_DELIVERY.getTag()));
+        assertFalse(predicate.acceptsTag(Optional.empty()));
+
+        // All of them together are the predicate
+        assertFalse(predicate.test(ALICE_DELIVERY));
+        assertTrue(predicate.test(ALICE_DELIVERY.copyAsDelivered()));
+    }
+
     @Test
     public void test_noFiltersProvided_returnsTrue() {
         // No filters -> return true
@@ -209,4 +231,39 @@ public class DeliveryPredicateTest {
         assertTrue(result.contains("endDate"));
         assertTrue(result.contains("tag"));
     }
+
+    @Test
+    public void dateBounds() {
+        DeliveryPredicate unbounded = new DeliveryPredicate(Optional.empty(), Optional.empty(),
+                Optional.of("Alice"), Optional.empty(), Optional.empty());
+        assertFalse(unbounded.hasDateRange());
+        assertEquals(Long.MIN_VALUE, unbounded.getStartEpochMinute());
+        assertEquals(Long.MAX_VALUE, unbounded.getEndEpochMinute());
+
+        DeliveryPredicate singleDay = new DeliveryPredicate(Optional.of("12/12/2023"), Optional.of("12/12/2023"),
+                Optional.empty(), Optional.empty(), Optional.empty());
+        assertTrue(singleDay.hasDateRange());
+        assertEquals(new DateTime("12/12/2023", "0000").toEpochMinute(), singleDay.getStartEpochMinute());
+        assertEquals(new DateTime("12/12/2023", "2359").toEpochMinute(), singleDay.getEndEpochMinute());
+    }
+
+    @Test
+    public void test_statusAndDateBounds_inclusiveAndCompiledOnce() {
+        // ALICE_DELIVERY is undelivered, on 12/12/2023 1200
+        DeliveryPredicate undeliveredOnDay = new DeliveryPredicate(Optional.of("12/12/2023"),
+                Optional.of("12/12/2023"), Optional.of("ALICE"), Optional.of("PERS"), Optional.of(false));
+        assertTrue(undeliveredOnDay.test(ALICE_DELIVERY));
+        assertFalse(undeliveredOnDay.test(ALICE_DELIVERY.copyAsDelivered()));
+
+        Delivery atMidnight = new DeliveryBuilder(ALICE_DELIVERY).withDateTime("12/12/2023", "0000").build();
+        Delivery lastMinute = new DeliveryBuilder(ALICE_DELIVERY).withDateTime("12/12/2023", "2359").build();
+        Delivery nextDay = new DeliveryBuilder(ALICE_DELIVERY).withDateTime("13/12/2023", "0000").build();
+        assertTrue(undeliveredOnDay.test(atMidnight));
+        assertTrue(undeliveredOnDay.test(lastMinute));
+        assertFalse(undeliveredOnDay.test(nextDay));
+
+        // tag filter never matches an untagged delivery
+        Delivery untagged = new DeliveryBuilder(ALICE_DELIVERY).withTag(null).build();
+        assertFalse(undeliveredOnDay.test(untagged));
+    }
 }
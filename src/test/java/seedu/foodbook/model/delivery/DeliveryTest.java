@@ -32,7 +32,7 @@ public class DeliveryTest {
 
         // same name, all other attributes different -> returns true
         Delivery editedAliceDelivery = new DeliveryBuilder(ALICE_DELIVERY)
-                .withClient(BOB).withCost(50d)
+                .withClient(BOB).withCost("50.00")
                 .withRemarks("abc").asDelivered()
                 .build();
         assertTrue(ALICE_DELIVERY.isSameDelivery(editedAliceDelivery));
@@ -69,7 +69,7 @@ public class DeliveryTest {
         assertFalse(ALICE_DELIVERY.equals(editedAliceDelivery));
 
         // different cost -> returns false
-        editedAliceDelivery = new DeliveryBuilder(ALICE_DELIVERY).withCost(40d).build();
+        editedAliceDelivery = new DeliveryBuilder(ALICE_DELIVERY).withCost("40.00").build();
         assertFalse(ALICE_DELIVERY.equals(editedAliceDelivery));
 
         // different remarks -> returns false
@@ -106,7 +106,7 @@ public class DeliveryTest {
         assertEquals(0, ALICE_DELIVERY.getId());
         assertEquals(ALICE, ALICE_DELIVERY.getClient());
         assertEquals("NIL", ALICE_DELIVERY.getRemarks());
-        assertEquals(10.0, ALICE_DELIVERY.getCost());
+        assertEquals(Money.ofCents(1000), ALICE_DELIVERY.getCost());
         assertEquals(PERSONAL, ALICE_DELIVERY.getTag().get().getTagKind());
     }
 
@@ -115,7 +115,7 @@ public class DeliveryTest {
         assertEquals(2, CARL_DELIVERY.getId());
         assertEquals(CARL, CARL_DELIVERY.getClient());
         assertEquals("NIL", CARL_DELIVERY.getRemarks());
-        assertEquals(30.00, CARL_DELIVERY.getCost());
+        assertEquals(Money.ofCents(3000), CARL_DELIVERY.getCost());
         // Test default tag behavior if applicable
     }
 
@@ -126,7 +126,7 @@ public class DeliveryTest {
                 ALICE,
                 new DateTime("01/01/2025", "1000"),
                 "Test order",
-                10.0, null);
+                Money.ofCents(1000), null);
 
         // Initially not delivered
         assertFalse(testDelivery.getStatus());
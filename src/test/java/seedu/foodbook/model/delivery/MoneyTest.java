@@ -0,0 +1,82 @@
+package seedu.foodbook.model.delivery;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+
+class MoneyTest {
+
+    @Test
+    void of_twoDecimalPlaces_exactCents() {
+        assertEquals(1234, Money.of(new BigDecimal("12.34")).getCents());
+        assertEquals(1230, Money.of(new BigDecimal("12.3")).getCents());
+        assertEquals(1200, Money.of(new BigDecimal("12")).getCents());
+        assertEquals(Money.ZERO, Money.of(new BigDecimal("0.00")));
+    }
+
+    @Test
+    void of_moreThanTwoDecimalPlaces_throwsArithmeticException() {
+        assertThrows(ArithmeticException.class, () -> Money.of(new BigDecimal("1.234")));
+    }
+
+    @Test
+    void ofRounded_extraPrecision_roundsHalfUp() {
+        assertEquals(Money.ofCents(30), Money.ofRounded(new BigDecimal("0.30000000000000004")));
+        assertEquals(Money.ofCents(1235), Money.ofRounded(new BigDecimal("12.345")));
+    }
+
+    @Test
+    void parse_invalidNumber_throwsNumberFormatException() {
+        assertThrows(NumberFormatException.class, () -> Money.parse("ten"));
+    }
+
+    @Test
+    void plus_manySmallAmounts_noRoundingError() {
+        // 0.1 added a thousand times drifts away from 100 as a double
+        Money total = Money.ZERO;
+        for (int i = 0; i < 1000; i++) {
+            total = total.plus(Money.parse("0.10"));
+        }
+        assertEquals(Money.ofCents(10000), total);
+    }
+
+    @Test
+    void plus_overflow_throwsArithmeticException() {
+        assertThrows(ArithmeticException.class, () -> Money.ofCents(Long.MAX_VALUE).plus(Money.ofCents(1)));
+    }
+
+    @Test
+    void toString_alwaysTwoDecimalPlaces() {
+        assertEquals("10.00", Money.ofCents(1000).toString());
+        assertEquals("0.05", Money.ofCents(5).toString());
+        assertEquals("1234567890.12", Money.parse("1234567890.12").toString());
+    }
+
+    @Test
+    void toBigDecimal_roundTrips() {
+        Money money = Money.ofCents(4550);
+        assertEquals(new BigDecimal("45.50"), money.toBigDecimal());
+        assertEquals(money, Money.of(money.toBigDecimal()));
+    }
+
+    @Test
+    void isNegative() {
+        assertTrue(Money.ofCents(-1).isNegative());
+        assertFalse(Money.ZERO.isNegative());
+    }
+
+    @Test
+    void equalsAndCompareTo() {
+        assertEquals(Money.parse("5"), Money.parse("5.00"));
+        assertEquals(Money.parse("5").hashCode(), Money.parse("5.00").hashCode());
+        assertNotEquals(Money.ofCents(500), Money.ofCents(501));
+        assertNotEquals(Money.ofCents(500), null);
+        assertTrue(Money.ofCents(500).compareTo(Money.ofCents(501)) < 0);
+    }
+}
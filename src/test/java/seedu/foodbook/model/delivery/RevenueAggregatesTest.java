@@ -0,0 +1,86 @@
+package seedu.foodbook.model.delivery;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.foodbook.testutil.Assert.assertThrows;
+import static seedu.foodbook.testutil.TypicalDeliveries.ALICE_DELIVERY;
+import static seedu.foodbook.testutil.TypicalDeliveries.BENSON_DELIVERY;
+import static seedu.foodbook.testutil.TypicalDeliveries.getTypicalDeliveries;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.foodbook.testutil.DeliveryBuilder;
+
+public class RevenueAggregatesTest {
+
+    private static final List<DeliveryPredicate> SINGLE_FILTER_PREDICATES = List.of(
+            predicate(null, null, null, null, null),
+            predicate(null, null, null, null, true),
+            predicate(null, null, null, null, false),
+            predicate("13/12/2023", "13/12/2023", null, null, null),
+            predicate("13/12/2023", null, null, null, false),
+            predicate(null, "14/12/2023", null, null, true),
+            predicate("1/1/2030", "2/1/2030", null, null, null),
+            predicate(null, null, "e", null, null),
+            predicate(null, null, "ALICE", null, false),
+            predicate(null, null, null, "pers", null),
+            predicate(null, null, null, "CORPORATE", true));
+
+    private final RevenueAggregates aggregates = new RevenueAggregates();
+
+    @Test
+    public void query_singleFilter_matchesScan() {
+        List<Delivery> deliveries = new ArrayList<>(getTypicalDeliveries());
+        deliveries.add(BENSON_DELIVERY.copyAsDelivered().copyWithNewClient(ALICE_DELIVERY.getClient()));
+        deliveries.remove(BENSON_DELIVERY);
+        deliveries.forEach(aggregates::add);
+
+        for (DeliveryPredicate predicate : SINGLE_FILTER_PREDICATES) {
+            assertEquals(scan(deliveries, predicate), aggregates.query(predicate).get(), predicate.toString());
+        }
+    }
+
+    @Test
+    public void query_afterRemoveAndClear_matchesScan() {
+        List<Delivery> deliveries = new ArrayList<>(getTypicalDeliveries());
+        deliveries.forEach(aggregates::add);
+        aggregates.remove(ALICE_DELIVERY);
+        deliveries.remove(ALICE_DELIVERY);
+
+        for (DeliveryPredicate predicate : SINGLE_FILTER_PREDICATES) {
+            assertEquals(scan(deliveries, predicate), aggregates.query(predicate).get(), predicate.toString());
+        }
+
+        aggregates.clear();
+        assertEquals(new RevenueSummary(0, 0), aggregates.query(SINGLE_FILTER_PREDICATES.get(0)).get());
+    }
+
+    @Test
+    public void add_totalOverflows_throwsArithmeticException() {
+        Delivery expensive = new DeliveryBuilder().withCost("50000000000000000").build();
+        aggregates.add(expensive);
+        assertThrows(ArithmeticException.class, () -> aggregates.add(expensive));
+        assertThrows(ArithmeticException.class, () -> RevenueSummary.of(List.of(expensive, expensive)));
+    }
+
+    @Test
+    public void query_combinedFilters_returnsEmpty() {
+        assertTrue(aggregates.query(predicate("13/12/2023", null, "alice", null, null)).isEmpty());
+        assertTrue(aggregates.query(predicate(null, null, "alice", "personal", true)).isEmpty());
+        assertTrue(aggregates.query(predicate(null, "13/12/2023", null, "personal", null)).isEmpty());
+    }
+
+    private static RevenueSummary scan(List<Delivery> deliveries, DeliveryPredicate predicate) {
+        return RevenueSummary.of(deliveries.stream().filter(predicate).toList());
+    }
+
+    private static DeliveryPredicate predicate(String startDate, String endDate, String clientName, String tag,
+                                               Boolean isDelivered) {
+        return new DeliveryPredicate(Optional.ofNullable(startDate), Optional.ofNullable(endDate),
+                Optional.ofNullable(clientName), Optional.ofNullable(tag), Optional.ofNullable(isDelivered));
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.foodbook.model.delivery;
+
+import java.util.Optional;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.foodbook.model.person.Person;
+import seedu.foodbook.testutil.Benchmark;
+import seedu.foodbook.testutil.PersonBuilder;
+
+/**
+ * Measures the cost of looking up and changing the status of a delivery by id as the list grows.
+ */
+public class UniqueDeliveryListBenchmark extends Benchmark {
+
+    private static final int[] SIZES = {1_000, 10_000, 100_000, 1_000_000};
+    private static final int OPERATIONS = 200_000;
+    private static final int ROUNDS = 5;
+
+    // A linear scan would be ~1000x slower at 1M than at 1k; leave generous headroom for cache effects.
+    private static final double MAX_SLOWDOWN = 25.0;
+
+    private final Person client = new PersonBuilder().build();
+    private final DateTime dateTime = new DateTime("1/1/2024", "1200");
+
+    @Test
+    public void markById_oneThousandToOneMillionDeliveries_latencyStaysFlat() throws Exception {
+        assertStaysFlat("UniqueDeliveryList mark by id", "op", SIZES, MAX_SLOWDOWN, this::measureMarkById);
+    }
+
+    private double measureMarkById(int size) throws Exception {
+        UniqueDeliveryList deliveries = new UniqueDeliveryList();
+        for (int id = 0; id < size; id++) {
+            deliveries.add(new Delivery(id, client, dateTime, "NIL", Money.ZERO, Optional.empty()));
+        }
+
+        Random random = new Random(size);
+        int[] ids = new int[OPERATIONS];
+        for (int i = 0; i < OPERATIONS; i++) {
+            ids[i] = random.nextInt(size);
+        }
+
+        long best = bestNanos(ROUNDS, () -> {
+            for (int id : ids) {
+                Delivery target = deliveries.getDeliveryById(id).get();
+                Delivery toggled = target.getStatus() ? target.copyAsUndelivered() : target.copyAsDelivered();
+                deliveries.setDelivery(target, toggled);
+            }
+        });
+        return (double) best / OPERATIONS;
+    }
+}
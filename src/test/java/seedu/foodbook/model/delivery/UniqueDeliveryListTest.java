@@ -6,13 +6,18 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.foodbook.testutil.Assert.assertThrows;
 import static seedu.foodbook.testutil.TypicalDeliveries.ALICE_DELIVERY;
 import static seedu.foodbook.testutil.TypicalDeliveries.BENSON_DELIVERY;
+import static seedu.foodbook.testutil.TypicalDeliveries.CARL_DELIVERY;
+import static seedu.foodbook.testutil.TypicalDeliveries.DELIVERY_SAME_ID_AS_ALICE;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+
 import seedu.foodbook.model.delivery.exceptions.DeliveryNotFoundException;
 import seedu.foodbook.model.delivery.exceptions.DuplicateDeliveryException;
 import seedu.foodbook.testutil.DeliveryBuilder;
@@ -161,6 +166,228 @@ public class UniqueDeliveryListTest {
                 uniqueDeliveryList.setDeliveries(listWithDuplicateDeliveries));
     }
 
+    @Test
+    public void setDeliveries_listWithSameIdDifferentFields_throwsDuplicateDeliveryException() {
+        List<Delivery> listWithDuplicateDeliveries = Arrays.asList(ALICE_DELIVERY, BENSON_DELIVERY,
+                DELIVERY_SAME_ID_AS_ALICE);
+        assertThrows(DuplicateDeliveryException.class, () ->
+                uniqueDeliveryList.setDeliveries(listWithDuplicateDeliveries));
+        assertTrue(uniqueDeliveryList.asUnmodifiableObservableList().isEmpty());
+    }
+
+    @Test
+    public void getDeliveryById_deliveryNotInList_returnsEmpty() {
+        assertTrue(uniqueDeliveryList.getDeliveryById(ALICE_DELIVERY.getId()).isEmpty());
+        assertTrue(uniqueDeliveryList.getDeliveryById(null).isEmpty());
+    }
+
+    @Test
+    public void getDeliveryById_afterAdd_returnsDelivery() {
+        uniqueDeliveryList.add(ALICE_DELIVERY);
+        uniqueDeliveryList.add(BENSON_DELIVERY);
+        assertEquals(ALICE_DELIVERY, uniqueDeliveryList.getDeliveryById(ALICE_DELIVERY.getId()).get());
+        assertEquals(BENSON_DELIVERY, uniqueDeliveryList.getDeliveryById(BENSON_DELIVERY.getId()).get());
+    }
+
+    @Test
+    public void getDeliveryById_afterSetDeliveryWithNewId_indexUpdated() {
+        uniqueDeliveryList.add(ALICE_DELIVERY);
+        uniqueDeliveryList.add(BENSON_DELIVERY);
+        Delivery editedAlice = new DeliveryBuilder(ALICE_DELIVERY).withId(42).build();
+        uniqueDeliveryList.setDelivery(ALICE_DELIVERY, editedAlice);
+        assertTrue(uniqueDeliveryList.getDeliveryById(ALICE_DELIVERY.getId()).isEmpty());
+        assertEquals(editedAlice, uniqueDeliveryList.getDeliveryById(42).get());
+        assertEquals(editedAlice, uniqueDeliveryList.asUnmodifiableObservableList().get(0));
+
+        // the old id is free again
+        uniqueDeliveryList.add(ALICE_DELIVERY);
+        assertEquals(ALICE_DELIVERY, uniqueDeliveryList.asUnmodifiableObservableList().get(2));
+    }
+
+    @Test
+    public void remove_deliveryWithSameIdButDifferentFields_throwsDeliveryNotFoundException() {
+        uniqueDeliveryList.add(ALICE_DELIVERY);
+        Delivery editedAlice = new DeliveryBuilder(ALICE_DELIVERY).withRemarks("Changed").build();
+        assertThrows(DeliveryNotFoundException.class, () -> uniqueDeliveryList.remove(editedAlice));
+        assertThrows(DeliveryNotFoundException.class, () -> uniqueDeliveryList.setDelivery(editedAlice,
+                ALICE_DELIVERY));
+    }
+
+    @Test
+    public void remove_middleDelivery_laterPositionsStayInSync() {
+        uniqueDeliveryList.add(ALICE_DELIVERY);
+        uniqueDeliveryList.add(BENSON_DELIVERY);
+        uniqueDeliveryList.add(CARL_DELIVERY);
+        uniqueDeliveryList.remove(BENSON_DELIVERY);
+        assertTrue(uniqueDeliveryList.getDeliveryById(BENSON_DELIVERY.getId()).isEmpty());
+
+        Delivery editedCarl = new DeliveryBuilder(CARL_DELIVERY).withRemarks("Changed").build();
+        uniqueDeliveryList.setDelivery(CARL_DELIVERY, editedCarl);
+        assertEquals(Arrays.asList(ALICE_DELIVERY, editedCarl), uniqueDeliveryList.asUnmodifiableObservableList());
+        uniqueDeliveryList.remove(editedCarl);
+        assertEquals(Collections.singletonList(ALICE_DELIVERY), uniqueDeliveryList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void getDeliveryById_afterSetDeliveries_indexRebuilt() {
+        uniqueDeliveryList.add(ALICE_DELIVERY);
+        uniqueDeliveryList.setDeliveries(Arrays.asList(BENSON_DELIVERY, CARL_DELIVERY));
+        assertTrue(uniqueDeliveryList.getDeliveryById(ALICE_DELIVERY.getId()).isEmpty());
+        assertEquals(CARL_DELIVERY, uniqueDeliveryList.getDeliveryById(CARL_DELIVERY.getId()).get());
+
+        UniqueDeliveryList replacement = new UniqueDeliveryList();
+        replacement.add(ALICE_DELIVERY);
+        uniqueDeliveryList.setDeliveries(replacement);
+        assertTrue(uniqueDeliveryList.getDeliveryById(CARL_DELIVERY.getId()).isEmpty());
+        uniqueDeliveryList.remove(ALICE_DELIVERY);
+        assertTrue(uniqueDeliveryList.asUnmodifiableObservableList().isEmpty());
+    }
+
+    @Test
+    public void removeAll_someDeliveries_removesThemAndKeepsOrder() {
+        uniqueDeliveryList.add(ALICE_DELIVERY);
+        uniqueDeliveryList.add(BENSON_DELIVERY);
+        uniqueDeliveryList.add(CARL_DELIVERY);
+        uniqueDeliveryList.removeAll(List.of(ALICE_DELIVERY, CARL_DELIVERY));
+        assertEquals(Collections.singletonList(BENSON_DELIVERY), uniqueDeliveryList.asUnmodifiableObservableList());
+        assertTrue(uniqueDeliveryList.getDeliveryById(ALICE_DELIVERY.getId()).isEmpty());
+
+        // positions of the remaining deliveries are still correct
+        uniqueDeliveryList.remove(BENSON_DELIVERY);
+        assertTrue(uniqueDeliveryList.asUnmodifiableObservableList().isEmpty());
+    }
+
+    @Test
+    public void removeAll_severalRuns_oneRemovalPerRun() {
+        List<Delivery> deliveries = new ArrayList<>();
+        for (int id = 1; id <= 7; id++) {
+            deliveries.add(new DeliveryBuilder().withId(id).build());
+        }
+        uniqueDeliveryList.addAll(deliveries);
+        int[] changeCount = new int[1];
+        uniqueDeliveryList.asUnmodifiableObservableList().addListener((ListChangeListener<Delivery>) change ->
+                changeCount[0]++);
+
+        // Runs {1, 2}, {4} and {6, 7}, given out of order and with a repeat
+        uniqueDeliveryList.removeAll(List.of(deliveries.get(6), deliveries.get(1), deliveries.get(3),
+                deliveries.get(0), deliveries.get(5), deliveries.get(1)));
+
+        List<Delivery> remaining = List.of(deliveries.get(2), deliveries.get(4));
+        assertEquals(3, changeCount[0]);
+        assertEquals(remaining, uniqueDeliveryList.asUnmodifiableObservableList());
+        assertEquals(remaining, uniqueDeliveryList.snapshot());
+        assertEquals(1, uniqueDeliveryList.indexOf(deliveries.get(4)));
+        assertTrue(uniqueDeliveryList.getDeliveryById(7).isEmpty());
+    }
+
+    @Test
+    public void removeAll_deliveryNotInList_throwsDeliveryNotFoundException() {
+        uniqueDeliveryList.add(ALICE_DELIVERY);
+        assertThrows(DeliveryNotFoundException.class, () ->
+                uniqueDeliveryList.removeAll(List.of(ALICE_DELIVERY, BENSON_DELIVERY)));
+        assertEquals(Collections.singletonList(ALICE_DELIVERY), uniqueDeliveryList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAll_newDeliveries_appendedAndIndexed() {
+        uniqueDeliveryList.add(CARL_DELIVERY);
+        uniqueDeliveryList.addAll(List.of(ALICE_DELIVERY, BENSON_DELIVERY));
+        assertEquals(List.of(CARL_DELIVERY, ALICE_DELIVERY, BENSON_DELIVERY),
+                uniqueDeliveryList.asUnmodifiableObservableList());
+        assertEquals(List.of(CARL_DELIVERY, ALICE_DELIVERY, BENSON_DELIVERY), uniqueDeliveryList.snapshot());
+        assertEquals(BENSON_DELIVERY, uniqueDeliveryList.getDeliveryById(BENSON_DELIVERY.getId()).get());
+        assertEquals(List.of(ALICE_DELIVERY, BENSON_DELIVERY, CARL_DELIVERY),
+                uniqueDeliveryList.getDeliveriesBetween(Long.MIN_VALUE, Long.MAX_VALUE));
+
+        // positions of the appended deliveries are correct
+        uniqueDeliveryList.remove(ALICE_DELIVERY);
+        assertEquals(1, uniqueDeliveryList.indexOf(BENSON_DELIVERY));
+    }
+
+    @Test
+    public void addAll_deliveryAlreadyInList_throwsDuplicateDeliveryException() {
+        uniqueDeliveryList.add(ALICE_DELIVERY);
+        assertThrows(DuplicateDeliveryException.class, () ->
+                uniqueDeliveryList.addAll(List.of(BENSON_DELIVERY, DELIVERY_SAME_ID_AS_ALICE)));
+        assertEquals(Collections.singletonList(ALICE_DELIVERY), uniqueDeliveryList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAllAtIndexes_removedDeliveries_putBackInOneChangePerRun() {
+        List<Delivery> deliveries = new ArrayList<>();
+        for (int id = 1; id <= 7; id++) {
+            deliveries.add(new DeliveryBuilder().withId(id).build());
+        }
+        uniqueDeliveryList.addAll(List.of(deliveries.get(2), deliveries.get(4)));
+        int[] changeCount = new int[1];
+        uniqueDeliveryList.asUnmodifiableObservableList().addListener((ListChangeListener<Delivery>) change ->
+                changeCount[0]++);
+
+        uniqueDeliveryList.addAll(List.of(0, 1, 3, 5, 6), List.of(deliveries.get(0), deliveries.get(1),
+                deliveries.get(3), deliveries.get(5), deliveries.get(6)));
+
+        assertEquals(3, changeCount[0]);
+        assertEquals(deliveries, uniqueDeliveryList.asUnmodifiableObservableList());
+        assertEquals(deliveries, uniqueDeliveryList.snapshot());
+        for (int i = 0; i < deliveries.size(); i++) {
+            assertEquals(i, uniqueDeliveryList.indexOf(deliveries.get(i)));
+        }
+        assertEquals(deliveries.get(6), uniqueDeliveryList.getDeliveryById(7).get());
+    }
+
+    @Test
+    public void addAllAtIndexes_deliveryAlreadyInList_throwsDuplicateDeliveryException() {
+        uniqueDeliveryList.add(ALICE_DELIVERY);
+        assertThrows(DuplicateDeliveryException.class, () ->
+                uniqueDeliveryList.addAll(List.of(0), List.of(DELIVERY_SAME_ID_AS_ALICE)));
+        assertEquals(Collections.singletonList(ALICE_DELIVERY), uniqueDeliveryList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void getDeliveriesBetween_indexFollowsMutations_returnsDeliveriesInTimeOrder() {
+        // ALICE_DELIVERY is on 12/12/2023, BENSON_DELIVERY on 13/12/2023, CARL_DELIVERY on 14/12/2023
+        long startOf13th = new DateTime("13/12/2023", "0000").toEpochMinute();
+        long endOf14th = new DateTime("14/12/2023", "2359").toEpochMinute();
+        uniqueDeliveryList.add(CARL_DELIVERY);
+        uniqueDeliveryList.add(ALICE_DELIVERY);
+        uniqueDeliveryList.add(BENSON_DELIVERY);
+        assertEquals(Arrays.asList(BENSON_DELIVERY, CARL_DELIVERY),
+                uniqueDeliveryList.getDeliveriesBetween(startOf13th, endOf14th));
+        assertEquals(Arrays.asList(ALICE_DELIVERY, BENSON_DELIVERY, CARL_DELIVERY),
+                uniqueDeliveryList.getDeliveriesBetween(Long.MIN_VALUE, Long.MAX_VALUE));
+        assertTrue(uniqueDeliveryList.getDeliveriesBetween(endOf14th, startOf13th).isEmpty());
+
+        Delivery rescheduledAlice = new DeliveryBuilder(ALICE_DELIVERY).withDateTime("14/12/2023", "2359").build();
+        uniqueDeliveryList.setDelivery(ALICE_DELIVERY, rescheduledAlice);
+        assertEquals(Arrays.asList(BENSON_DELIVERY, CARL_DELIVERY, rescheduledAlice),
+                uniqueDeliveryList.getDeliveriesBetween(startOf13th, endOf14th));
+
+        uniqueDeliveryList.remove(BENSON_DELIVERY);
+        uniqueDeliveryList.removeAll(List.of(CARL_DELIVERY));
+        assertEquals(Collections.singletonList(rescheduledAlice),
+                uniqueDeliveryList.getDeliveriesBetween(Long.MIN_VALUE, Long.MAX_VALUE));
+
+        uniqueDeliveryList.setDeliveries(List.of(BENSON_DELIVERY));
+        assertEquals(Collections.singletonList(BENSON_DELIVERY),
+                uniqueDeliveryList.getDeliveriesBetween(Long.MIN_VALUE, Long.MAX_VALUE));
+    }
+
+    @Test
+    public void snapshot_listChangedAfterwards_snapshotUnchanged() {
+        uniqueDeliveryList.add(ALICE_DELIVERY);
+        uniqueDeliveryList.add(BENSON_DELIVERY);
+        List<Delivery> snapshot = uniqueDeliveryList.snapshot();
+
+        Delivery editedAlice = new DeliveryBuilder(ALICE_DELIVERY).withRemarks("No nuts").build();
+        uniqueDeliveryList.setDelivery(ALICE_DELIVERY, editedAlice);
+        uniqueDeliveryList.remove(BENSON_DELIVERY);
+        uniqueDeliveryList.add(0, CARL_DELIVERY);
+
+        assertEquals(List.of(ALICE_DELIVERY, BENSON_DELIVERY), snapshot);
+        assertEquals(List.of(CARL_DELIVERY, editedAlice), uniqueDeliveryList.snapshot());
+        assertEquals(uniqueDeliveryList.asUnmodifiableObservableList(), uniqueDeliveryList.snapshot());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
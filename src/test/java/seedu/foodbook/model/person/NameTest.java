@@ -1,5 +1,6 @@
 package seedu.foodbook.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.foodbook.testutil.Assert.assertThrows;
@@ -56,5 +57,18 @@ public class NameTest {
 
         // different values -> returns false
         assertFalse(name.equals(new Name("Other Valid Name")));
+
+        // different case -> returns true
+        assertTrue(name.equals(new Name("valid NAME")));
+    }
+
+    @Test
+    public void hashCode_differentCase_consistentWithEquals() {
+        Name name = new Name("Raj s/o Kumar Singh");
+        Name otherCase = new Name("RAJ S/O kumar singh");
+        assertEquals(name, otherCase);
+        assertEquals(name.hashCode(), otherCase.hashCode());
+        assertEquals(name.getNormalizedName(), otherCase.getNormalizedName());
+        assertEquals("raj s/o kumar singh", name.getNormalizedName());
     }
 }
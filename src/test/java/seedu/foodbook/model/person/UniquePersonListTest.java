@@ -7,7 +7,9 @@ import static seedu.foodbook.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.foodbook.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.foodbook.testutil.Assert.assertThrows;
 import static seedu.foodbook.testutil.TypicalPersons.ALICE;
+import static seedu.foodbook.testutil.TypicalPersons.BENSON;
 import static seedu.foodbook.testutil.TypicalPersons.BOB;
+import static seedu.foodbook.testutil.TypicalPersons.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -58,6 +60,39 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void addAll_newPersons_appendedInOrder() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.addAll(List.of(BENSON, CARL));
+        assertEquals(List.of(ALICE, BENSON, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(List.of(ALICE, BENSON, CARL), uniquePersonList.snapshot());
+        assertEquals(2, uniquePersonList.indexOf(CARL));
+    }
+
+    @Test
+    public void addAll_personAlreadyInList_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(List.of(BENSON, ALICE)));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(List.of(BENSON, BENSON)));
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeAll_personsInList_removedAndPositionsKept() {
+        uniquePersonList.addAll(List.of(ALICE, BENSON, CARL, BOB));
+        uniquePersonList.removeAll(List.of(CARL, BENSON));
+        assertEquals(List.of(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, uniquePersonList.indexOf(BOB));
+        assertFalse(uniquePersonList.contains(CARL));
+    }
+
+    @Test
+    public void removeAll_personNotInList_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.removeAll(List.of(ALICE, BENSON)));
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPerson(null, ALICE));
@@ -162,6 +197,84 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSameNameInDifferentCase_throwsDuplicatePersonException() {
+        Person aliceUpperCase = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase()).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, aliceUpperCase);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+    }
+
+    @Test
+    public void contains_personWithDifferentCaseNameInList_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person aliceUpperCase = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase()).build();
+        assertTrue(uniquePersonList.contains(aliceUpperCase));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(aliceUpperCase));
+    }
+
+    @Test
+    public void getPersonByName_caseInsensitive_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        assertEquals(ALICE, uniquePersonList.getPersonByName(new Name("alice PAULINE")).get());
+        assertTrue(uniquePersonList.getPersonByName(BOB.getName()).isEmpty());
+        assertTrue(uniquePersonList.getPersonByName(null).isEmpty());
+    }
+
+    @Test
+    public void getPersonByName_afterSetPersonWithNewName_indexUpdated() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertTrue(uniquePersonList.getPersonByName(ALICE.getName()).isEmpty());
+        assertEquals(BOB, uniquePersonList.getPersonByName(BOB.getName()).get());
+
+        // the old name is free again
+        uniquePersonList.add(ALICE);
+        assertEquals(Arrays.asList(BOB, BENSON, ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void remove_middlePerson_laterPositionsStayInSync() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(CARL);
+        uniquePersonList.remove(BENSON);
+        assertTrue(uniquePersonList.getPersonByName(BENSON.getName()).isEmpty());
+
+        Person editedCarl = new PersonBuilder(CARL).withPhone("99999999").build();
+        uniquePersonList.setPerson(CARL, editedCarl);
+        assertEquals(Arrays.asList(ALICE, editedCarl), uniquePersonList.asUnmodifiableObservableList());
+        uniquePersonList.remove(editedCarl);
+        assertEquals(Collections.singletonList(ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void remove_personWithSameNameButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+    }
+
+    @Test
+    public void getPersonByName_afterSetPersons_indexRebuilt() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Arrays.asList(BENSON, CARL));
+        assertTrue(uniquePersonList.getPersonByName(ALICE.getName()).isEmpty());
+        assertEquals(CARL, uniquePersonList.getPersonByName(CARL.getName()).get());
+    }
+
+    @Test
+    public void snapshot_listChangedAfterwards_snapshotUnchanged() {
+        uniquePersonList.add(ALICE);
+        List<Person> snapshot = uniquePersonList.snapshot();
+
+        uniquePersonList.add(BOB);
+        uniquePersonList.remove(ALICE);
+
+        assertEquals(List.of(ALICE), snapshot);
+        assertEquals(List.of(BOB), uniquePersonList.snapshot());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
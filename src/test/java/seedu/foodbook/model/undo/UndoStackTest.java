@@ -2,11 +2,13 @@ package seedu.foodbook.model.undo;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.foodbook.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import seedu.foodbook.model.undo.exceptions.NoMoreRedoException;
 import seedu.foodbook.model.undo.exceptions.NoMoreUndoException;
 
 class UndoStackTest {
@@ -44,7 +46,7 @@ class UndoStackTest {
     @Test
     @DisplayName("Capacity trimming (MAX=3): oldest is dropped when exceeding capacity")
     void capacityLimit_keepsMostRecentThree() throws Exception {
-        UndoStack<String> stack = new UndoStack<>();
+        UndoStack<String> stack = new UndoStack<>(5);
         // Push 6 snapshots; capacity is 5 → keep only the last five
         stack.checkpoint("A");
         stack.checkpoint("B");
@@ -84,7 +86,7 @@ class UndoStackTest {
     @Test
     @DisplayName("Pushing far beyond capacity still yields the last three only")
     void manyCheckpoints_onlyLastThreeRemain() throws Exception {
-        UndoStack<Integer> stack = new UndoStack<>();
+        UndoStack<Integer> stack = new UndoStack<>(5);
         for (int i = 0; i < 100; i++) {
             stack.checkpoint(i);
         }
@@ -97,6 +99,109 @@ class UndoStackTest {
         assertThrows(NoMoreUndoException.class, stack::undo);
     }
 
+    @Test
+    @DisplayName("Default capacity keeps DEFAULT_CAPACITY records")
+    void defaultCapacity_keepsDefaultCapacityRecords() throws Exception {
+        UndoStack<Integer> stack = new UndoStack<>();
+        for (int i = 0; i <= UndoStack.DEFAULT_CAPACITY; i++) {
+            stack.checkpoint(i);
+        }
+        for (int i = UndoStack.DEFAULT_CAPACITY; i > 0; i--) {
+            assertEquals(i, stack.undo());
+        }
+        assertThrows(NoMoreUndoException.class, stack::undo);
+    }
+
+    @Test
+    @DisplayName("Lowering the capacity drops the oldest undo and redo records")
+    void setCapacity_lowered_dropsOldestRecords() throws Exception {
+        UndoStack<Integer> stack = new UndoStack<>();
+        for (int i = 1; i <= 5; i++) {
+            stack.checkpoint(i);
+        }
+        stack.keepForRedo(stack.undo());
+        stack.keepForRedo(stack.undo());
+        stack.keepForRedo(stack.undo());
+
+        stack.setCapacity(1);
+
+        assertEquals(2, stack.undo());
+        assertThrows(NoMoreUndoException.class, stack::undo);
+        assertEquals(3, stack.redo());
+        assertThrows(NoMoreRedoException.class, stack::redo);
+        assertThrows(IllegalArgumentException.class, () -> stack.setCapacity(0));
+    }
+
+    @Test
+    @DisplayName("Non-positive capacity is rejected")
+    void constructor_nonPositiveCapacity_throws() {
+        assertThrows(IllegalArgumentException.class, () -> new UndoStack<Integer>(0));
+    }
+
+    @Test
+    @DisplayName("latest returns the most recent record without removing it")
+    void latest_returnsMostRecentWithoutRemoving() throws Exception {
+        UndoStack<String> stack = new UndoStack<>();
+        assertTrue(stack.latest().isEmpty());
+        stack.checkpoint("S1");
+        stack.checkpoint("S2");
+        assertEquals("S2", stack.latest().get());
+        assertEquals("S2", stack.undo());
+        assertEquals("S1", stack.latest().get());
+    }
+
+    @Test
+    @DisplayName("Redo with nothing kept for redo throws NoMoreRedoException")
+    void redo_empty_throws() {
+        UndoStack<Integer> stack = new UndoStack<>();
+        stack.checkpoint(1);
+        assertThrows(NoMoreRedoException.class, stack::redo);
+    }
+
+    @Test
+    @DisplayName("Records kept for redo come back latest first, and can be undone again")
+    void keepForRedo_thenRedo_lifoOrdering() throws Exception {
+        UndoStack<String> stack = new UndoStack<>();
+        stack.keepForRedo("A");
+        stack.keepForRedo("B");
+        assertEquals("B", stack.redo());
+
+        stack.keepForUndo("B'");
+        assertEquals("A", stack.redo());
+        assertEquals("B'", stack.undo());
+        assertThrows(NoMoreRedoException.class, stack::redo);
+    }
+
+    @Test
+    @DisplayName("A new checkpoint discards the records kept for redo")
+    void checkpoint_discardsRedo() {
+        UndoStack<String> stack = new UndoStack<>();
+        stack.keepForRedo("A");
+        stack.checkpoint("B");
+        assertThrows(NoMoreRedoException.class, stack::redo);
+    }
+
+    @Test
+    @DisplayName("keepForUndo does not discard the records kept for redo")
+    void keepForUndo_keepsRedo() throws Exception {
+        UndoStack<String> stack = new UndoStack<>();
+        stack.keepForRedo("A");
+        stack.keepForUndo("B");
+        assertEquals("A", stack.redo());
+    }
+
+    @Test
+    @DisplayName("Redo keeps at most the capacity of the stack")
+    void keepForRedo_capacityLimit_dropsOldest() throws Exception {
+        UndoStack<Integer> stack = new UndoStack<>(2);
+        stack.keepForRedo(1);
+        stack.keepForRedo(2);
+        stack.keepForRedo(3);
+        assertEquals(3, stack.redo());
+        assertEquals(2, stack.redo());
+        assertThrows(NoMoreRedoException.class, stack::redo);
+    }
+
     // Optional: show it works with complex/generic types (reference identity preserved)
     static final class Snapshot {
         final int id;
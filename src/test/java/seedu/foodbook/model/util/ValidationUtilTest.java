@@ -0,0 +1,76 @@
+package seedu.foodbook.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.foodbook.model.util.ValidationUtil.createValid;
+import static seedu.foodbook.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.foodbook.commons.exceptions.IllegalValueException;
+import seedu.foodbook.logic.parser.exceptions.ParseException;
+import seedu.foodbook.model.person.Address;
+import seedu.foodbook.model.person.Name;
+import seedu.foodbook.model.person.Phone;
+import seedu.foodbook.model.tag.Tag;
+
+public class ValidationUtilTest {
+
+    private static final List<String> SAMPLES = List.of("", " ", "a", "1", "12", "123", "0042", "abc123", "Alex Yeoh",
+            " leading", "trailing ", "a-b", "a_b", "12 34", "+6591234567", "\t123", "123\n", "blk 30\nstreet",
+            "blk 30\rstreet", "blk\u0085 30", "blk\u2028 30", "\u2029blk", "\u000Bblk", "\u00A0blk", "caf\u00E9",
+            "\uFF11\uFF12\uFF13", "\u0661\u0662\u0663", "x\u0000y", "#08-111");
+
+    @Test
+    public void isDigits_sameAsRegex() {
+        for (String sample : SAMPLES) {
+            assertEquals(sample.matches(Phone.VALIDATION_REGEX), ValidationUtil.isDigits(sample, 3), sample);
+        }
+        assertTrue(ValidationUtil.isDigits("", 0));
+        assertFalse(ValidationUtil.isDigits("1", 2));
+    }
+
+    @Test
+    public void isAlphanumeric_sameAsRegex() {
+        for (String sample : SAMPLES) {
+            assertEquals(sample.matches(Tag.VALIDATION_REGEX), ValidationUtil.isAlphanumeric(sample), sample);
+        }
+    }
+
+    @Test
+    public void isNonBlankLine_sameAsRegex() {
+        for (String sample : SAMPLES) {
+            assertEquals(sample.matches(Address.VALIDATION_REGEX), ValidationUtil.isNonBlankLine(sample), sample);
+        }
+    }
+
+    @Test
+    public void isValidName_sameAsRegex() {
+        for (String sample : SAMPLES) {
+            assertEquals(sample.matches(Name.VALIDATION_REGEX), ValidationUtil.isValidName(sample), sample);
+        }
+        assertTrue(ValidationUtil.isValidName("Ravi s/o Kumar"));
+    }
+
+    @Test
+    public void createValid_validValue_returnsConstructed() throws Exception {
+        Name name = createValid("Alex Yeoh", Name::new, ParseException::new);
+        assertEquals(new Name("Alex Yeoh"), name);
+    }
+
+    @Test
+    public void createValid_invalidValue_throwsConstraintMessage() {
+        assertThrows(ParseException.class, Phone.MESSAGE_CONSTRAINTS, () ->
+                createValid("12", Phone::new, ParseException::new));
+        assertThrows(IllegalValueException.class, Tag.MESSAGE_CONSTRAINTS, () ->
+                createValid("a b", Tag::new, IllegalValueException::new));
+    }
+
+    @Test
+    public void createValid_otherException_propagates() {
+        assertThrows(NullPointerException.class, () -> createValid(null, Name::new, ParseException::new));
+    }
+}
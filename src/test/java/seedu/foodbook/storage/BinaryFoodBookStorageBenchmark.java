@@ -0,0 +1,101 @@
+package seedu.foodbook.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.foodbook.model.FoodBook;
+import seedu.foodbook.model.ReadOnlyFoodBook;
+import seedu.foodbook.model.delivery.DateTime;
+import seedu.foodbook.model.delivery.Delivery;
+import seedu.foodbook.model.delivery.Money;
+import seedu.foodbook.model.person.Person;
+import seedu.foodbook.model.tag.DeliveryTag;
+import seedu.foodbook.testutil.Benchmark;
+import seedu.foodbook.testutil.PersonBuilder;
+
+/**
+ * Measures the size of a large food book saved as a binary snapshot versus json, and the time to save and load it.
+ */
+public class BinaryFoodBookStorageBenchmark extends Benchmark {
+
+    private static final int DELIVERIES = 200_000;
+    private static final int DELIVERIES_PER_CLIENT = 10;
+    private static final int ROUNDS = 5;
+
+    // Each delivery is a fixed 32 bytes against well over 200 of pretty-printed json
+    private static final double MIN_SIZE_RATIO = 4.0;
+
+    // Decoding the file is a small part of loading it; most of the time goes to indexing the food book, which
+    // both formats share
+    private static final double MIN_LOAD_SPEEDUP = 1.5;
+    private static final double MIN_SAVE_SPEEDUP = 2.0;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveAndLoad_twoHundredThousandDeliveries_smallerAndFasterThanJson() throws Exception {
+        FoodBook foodBook = buildFoodBook();
+        BinaryFoodBookStorage binary = new BinaryFoodBookStorage(testFolder.resolve("foodbook.bin"));
+        JsonFoodBookStorage json = new JsonFoodBookStorage(testFolder.resolve("foodbook.json"));
+
+        // Warm up both paths so that class loading and compilation are not measured
+        for (int i = 0; i < 2; i++) {
+            binary.saveFoodBook(foodBook);
+            binary.readFoodBook();
+            json.saveFoodBook(foodBook);
+            json.readFoodBook();
+        }
+
+        double binarySaveNanos = measureSave(binary, foodBook);
+        double jsonSaveNanos = measureSave(json, foodBook);
+        double binaryLoadNanos = measureLoad(binary);
+        double jsonLoadNanos = measureLoad(json);
+        long binaryBytes = Files.size(binary.getFoodBookFilePath());
+        long jsonBytes = Files.size(json.getFoodBookFilePath());
+
+        System.out.printf("%,d deliveries: binary %,d bytes, saved in %,.1f ms, loaded in %,.1f ms; "
+                + "json %,d bytes, saved in %,.1f ms, loaded in %,.1f ms%n", DELIVERIES,
+                binaryBytes, binarySaveNanos / 1e6, binaryLoadNanos / 1e6,
+                jsonBytes, jsonSaveNanos / 1e6, jsonLoadNanos / 1e6);
+        assertEquals(foodBook, new FoodBook(binary.readFoodBook().get()));
+        assertSmaller("Binary file", jsonBytes, binaryBytes, MIN_SIZE_RATIO);
+        assertFaster("Binary load", jsonLoadNanos, binaryLoadNanos, MIN_LOAD_SPEEDUP);
+        assertFaster("Binary save", jsonSaveNanos, binarySaveNanos, MIN_SAVE_SPEEDUP);
+    }
+
+    private static double measureSave(FoodBookStorage storage, ReadOnlyFoodBook foodBook) throws Exception {
+        return meanNanos(ROUNDS, () -> storage.saveFoodBook(foodBook));
+    }
+
+    private static double measureLoad(FoodBookStorage storage) throws Exception {
+        return meanNanos(ROUNDS, storage::readFoodBook);
+    }
+
+    private static FoodBook buildFoodBook() {
+        FoodBook foodBook = new FoodBook();
+        List<Person> clients = new ArrayList<>();
+        for (int i = 0; i < DELIVERIES / DELIVERIES_PER_CLIENT; i++) {
+            Person client = new PersonBuilder().withName("Client " + i).build();
+            clients.add(client);
+            foodBook.addPerson(client);
+        }
+
+        DateTime dateTime = new DateTime("1/1/2024", "1200");
+        Optional<DeliveryTag> tag = Optional.of(new DeliveryTag("Corporate"));
+        for (int i = 0; i < DELIVERIES; i++) {
+            Delivery delivery = new Delivery(i + FoodBook.FIRST_DELIVERY_ID, clients.get(i % clients.size()),
+                    dateTime, "NIL", Money.ofCents(1000 + i % 500), i % 2 == 0 ? tag : Optional.empty());
+            foodBook.addDelivery(i % 3 == 0 ? delivery.copyAsDelivered() : delivery);
+        }
+        return foodBook;
+    }
+}
@@ -0,0 +1,145 @@
+package seedu.foodbook.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.foodbook.testutil.Assert.assertThrows;
+import static seedu.foodbook.testutil.TypicalDeliveries.HOON_DELIVERY;
+import static seedu.foodbook.testutil.TypicalFoodBook.getTypicalFoodBook;
+import static seedu.foodbook.testutil.TypicalPersons.HOON;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.foodbook.commons.core.DataFileFormat;
+import seedu.foodbook.commons.exceptions.DataLoadingException;
+import seedu.foodbook.commons.exceptions.IllegalValueException;
+import seedu.foodbook.model.FoodBook;
+import seedu.foodbook.model.ReadOnlyFoodBook;
+import seedu.foodbook.model.delivery.Delivery;
+import seedu.foodbook.testutil.DeliveryBuilder;
+
+public class BinaryFoodBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readFoodBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryFoodBookStorage(testFolder).readFoodBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryFoodBookStorage(testFolder.resolve("NonExistentFile.bin")).readFoodBook().isPresent());
+    }
+
+    @Test
+    public void getFoodBookFormat_binary() {
+        assertEquals(DataFileFormat.BINARY, new BinaryFoodBookStorage(testFolder).getFoodBookFormat());
+    }
+
+    @Test
+    public void readAndSaveFoodBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempFoodBook.bin");
+        FoodBook original = getTypicalFoodBook();
+        BinaryFoodBookStorage storage = new BinaryFoodBookStorage(filePath);
+
+        storage.saveFoodBook(original);
+        assertEquals(original, new FoodBook(storage.readFoodBook().get()));
+
+        // Statuses, tags and the next delivery id survive, including deliveries past the first status word
+        original.addPerson(HOON);
+        original.addDelivery(HOON_DELIVERY);
+        for (int i = 0; i < 70; i++) {
+            Delivery delivery = new DeliveryBuilder().withId(1000 + i).withClient(HOON).build();
+            original.addDelivery(i % 3 == 0 ? delivery.copyAsDelivered() : delivery);
+        }
+        original.setNextDeliveryId(5000);
+        storage.saveFoodBook(original);
+        ReadOnlyFoodBook readBack = storage.readFoodBook().get();
+        assertEquals(original, new FoodBook(readBack));
+        assertEquals(original.getDeliveryList(), readBack.getDeliveryList());
+        assertEquals(5000, readBack.getNextDeliveryId());
+    }
+
+    @Test
+    public void saveFoodBook_existingFile_replacedWithoutTempFileLeft() throws Exception {
+        Path filePath = testFolder.resolve("data").resolve("foodbook.bin");
+        BinaryFoodBookStorage storage = new BinaryFoodBookStorage(filePath);
+        storage.saveFoodBook(new FoodBook());
+        storage.saveFoodBook(getTypicalFoodBook());
+
+        assertEquals(getTypicalFoodBook(), new FoodBook(storage.readFoodBook().get()));
+        try (Stream<Path> files = Files.list(filePath.getParent())) {
+            assertEquals(List.of(filePath), files.toList());
+        }
+    }
+
+    @Test
+    public void saveFoodBook_typicalFoodBook_smallerThanJson() throws Exception {
+        Path binaryFile = testFolder.resolve("foodbook.bin");
+        Path jsonFile = testFolder.resolve("foodbook.json");
+        new BinaryFoodBookStorage(binaryFile).saveFoodBook(getTypicalFoodBook());
+        new JsonFoodBookStorage(jsonFile).saveFoodBook(getTypicalFoodBook());
+        assertTrue(Files.size(binaryFile) < Files.size(jsonFile));
+    }
+
+    @Test
+    public void readFoodBook_jsonFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("foodbook.json");
+        new JsonFoodBookStorage(filePath).saveFoodBook(getTypicalFoodBook());
+        assertReadFails(filePath, BinaryFoodBookStorage.MESSAGE_NOT_A_BINARY_FOOD_BOOK);
+    }
+
+    @Test
+    public void readFoodBook_damagedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("foodbook.bin");
+        new BinaryFoodBookStorage(filePath).saveFoodBook(getTypicalFoodBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(filePath, bytes);
+        assertReadFails(filePath, BinaryFoodBookStorage.MESSAGE_CORRUPTED);
+    }
+
+    @Test
+    public void readFoodBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("foodbook.bin");
+        new BinaryFoodBookStorage(filePath).saveFoodBook(getTypicalFoodBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 3));
+        assertThrows(DataLoadingException.class, () -> new BinaryFoodBookStorage(filePath).readFoodBook());
+    }
+
+    @Test
+    public void readFoodBook_newerVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("foodbook.bin");
+        new BinaryFoodBookStorage(filePath).saveFoodBook(getTypicalFoodBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        ByteBuffer.wrap(bytes).putShort(Integer.BYTES, (short) (BinaryFoodBookStorage.VERSION + 1));
+        Files.write(filePath, bytes);
+        assertReadFails(filePath, String.format(BinaryFoodBookStorage.MESSAGE_UNSUPPORTED_VERSION,
+                BinaryFoodBookStorage.VERSION + 1));
+    }
+
+    @Test
+    public void saveFoodBook_nullFoodBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryFoodBookStorage(testFolder.resolve("foodbook.bin")).saveFoodBook(null));
+    }
+
+    /**
+     * Asserts that reading {@code filePath} fails because of an illegal value with {@code expectedMessage}.
+     */
+    private static void assertReadFails(Path filePath, String expectedMessage) {
+        assertThrows(DataLoadingException.class, new IllegalValueException(expectedMessage).toString(), () ->
+                new BinaryFoodBookStorage(filePath).readFoodBook());
+    }
+}
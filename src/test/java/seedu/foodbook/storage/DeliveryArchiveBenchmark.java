@@ -0,0 +1,195 @@
+package seedu.foodbook.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.foodbook.model.FoodBook;
+import seedu.foodbook.model.delivery.DateTime;
+import seedu.foodbook.model.delivery.Delivery;
+import seedu.foodbook.model.delivery.DeliveryArchive;
+import seedu.foodbook.model.delivery.DeliveryPredicate;
+import seedu.foodbook.model.delivery.Money;
+import seedu.foodbook.model.delivery.RevenueSummary;
+import seedu.foodbook.model.person.Person;
+import seedu.foodbook.model.tag.DeliveryTag;
+import seedu.foodbook.testutil.Benchmark;
+import seedu.foodbook.testutil.PersonBuilder;
+
+/**
+ * Measures loading a large food book whose old deliveries are archived, against loading it with every delivery in
+ * the data file, the cost of revenue queries that reach into the archive, and of saving an edit to an archived
+ * delivery.
+ */
+public class DeliveryArchiveBenchmark extends Benchmark {
+
+    private static final int DELIVERIES = 200_000;
+    private static final int DELIVERIES_PER_CLIENT = 10;
+    private static final int DAYS = 2000;
+    private static final int ARCHIVED_DAYS = 1800;
+    private static final int ROUNDS = 3;
+
+    // Nine in ten deliveries are archived, so only a tenth of them are parsed, built and indexed at startup; every
+    // client still is, which bounds the speedup well below tenfold
+    private static final double MIN_LOAD_SPEEDUP = 2.0;
+    private static final double MIN_HEAP_RATIO = 3.0;
+
+    // A revenue query over every archived delivery reads their records but builds none of them; one by date alone
+    // reads only the manifest's monthly totals
+    private static final double MAX_ARCHIVED_REVENUE_MILLIS = 100.0;
+    private static final double MAX_MONTHLY_REVENUE_MILLIS = 1.0;
+
+    // Only the edited delivery's month is rewritten, one of the archive's 60 or so partitions
+    private static final double MAX_REWRITTEN_FRACTION = 0.05;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readFoodBook_mostDeliveriesArchived_fasterAndSmaller() throws Exception {
+        FoodBook foodBook = buildFoodBook();
+        StorageManager unarchivedStorage = createStorage("unarchived.json");
+        unarchivedStorage.saveFoodBook(foodBook);
+        StorageManager archivedStorage = createStorage("archived.json");
+        archivedStorage.saveFoodBook(foodBook);
+        FoodBook archived = new FoodBook(archivedStorage.readFoodBook().get());
+        long horizon = DateTime.ofEpochMinute(startEpochMinute()).toEpochMinute() + ARCHIVED_DAYS * 24L * 60;
+        assertEquals(DELIVERIES / DAYS * ARCHIVED_DAYS, archived.archiveDeliveriesBefore(horizon));
+        archivedStorage.saveFoodBook(archived);
+        foodBook = null;
+        archived = null;
+
+        // Warm up both paths so that class loading and compilation are not measured
+        for (int i = 0; i < 2; i++) {
+            new FoodBook(unarchivedStorage.readFoodBook().get());
+            new FoodBook(archivedStorage.readFoodBook().get());
+        }
+
+        double unarchivedNanos = measureLoad(unarchivedStorage);
+        double archivedNanos = measureLoad(archivedStorage);
+        long unarchivedBytes = measureRetainedHeap(unarchivedStorage);
+        long archivedBytes = measureRetainedHeap(archivedStorage);
+
+        FoodBook unarchivedFoodBook = new FoodBook(unarchivedStorage.readFoodBook().get());
+        FoodBook archivedFoodBook = new FoodBook(archivedStorage.readFoodBook().get());
+        DeliveryPredicate oldCorporate = new DeliveryPredicate(Optional.empty(), Optional.of("1/1/2024"),
+                Optional.empty(), Optional.of("corporate"), Optional.empty());
+        DeliveryPredicate old = new DeliveryPredicate(Optional.empty(), Optional.of("31/12/2023"),
+                Optional.empty(), Optional.empty(), Optional.empty());
+        DeliveryArchive archive = archivedFoodBook.getDeliveryArchive();
+        archive.getRevenue(old);
+        long start = System.nanoTime();
+        RevenueSummary monthlyRevenue = archive.getRevenue(old);
+        double monthlyRevenueMillis = (System.nanoTime() - start) / 1e6;
+        archivedFoodBook.getRevenue(oldCorporate);
+        start = System.nanoTime();
+        RevenueSummary revenue = archivedFoodBook.getRevenue(oldCorporate);
+        double revenueMillis = (System.nanoTime() - start) / 1e6;
+
+        System.out.printf("%,d deliveries, %,d archived: loaded in %,.1f ms retaining %,d bytes; unarchived loaded "
+                + "in %,.1f ms retaining %,d bytes; revenue of %,d archived deliveries in %,.2f ms, of %,d by month "
+                + "in %,.3f ms%n", DELIVERIES, archivedFoodBook.getDeliveryArchive().size(), archivedNanos / 1e6,
+                archivedBytes, unarchivedNanos / 1e6, unarchivedBytes, revenue.deliveryCount(), revenueMillis,
+                monthlyRevenue.deliveryCount(), monthlyRevenueMillis);
+        assertEquals(unarchivedFoodBook.getRevenue(oldCorporate), revenue);
+        assertEquals(unarchivedFoodBook.getRevenue(old), archivedFoodBook.getRevenue(old));
+        assertFaster("Archived load", unarchivedNanos, archivedNanos, MIN_LOAD_SPEEDUP);
+        assertSmaller("Archived food book", unarchivedBytes, archivedBytes, MIN_HEAP_RATIO);
+        assertTrue(revenueMillis < MAX_ARCHIVED_REVENUE_MILLIS,
+                String.format("Revenue of archived deliveries took %.2f ms", revenueMillis));
+        assertTrue(monthlyRevenueMillis < MAX_MONTHLY_REVENUE_MILLIS,
+                String.format("Revenue of archived months took %.3f ms", monthlyRevenueMillis));
+    }
+
+    @Test
+    public void saveFoodBook_archivedDeliveryEdited_onlyItsPartitionRewritten() throws Exception {
+        StorageManager storage = createStorage("foodbook.json");
+        storage.saveFoodBook(buildFoodBook());
+        FoodBook foodBook = new FoodBook(storage.readFoodBook().get());
+        long horizon = startEpochMinute() + ARCHIVED_DAYS * 24L * 60;
+        foodBook.archiveDeliveriesBefore(horizon);
+        storage.saveFoodBook(foodBook);
+        Path archivePath = DeliveryArchiveStorage.pathFor(storage.getFoodBookFilePath());
+        long archiveBytes = directorySize(archivePath);
+
+        FoodBook archived = new FoodBook(storage.readFoodBook().get());
+        Delivery edited = archived.getDeliveryById(FoodBook.FIRST_DELIVERY_ID).get();
+        archived.setDelivery(edited, edited.copyAsUndelivered());
+        long start = System.nanoTime();
+        storage.saveFoodBook(archived);
+        double saveMillis = (System.nanoTime() - start) / 1e6;
+        long rewrittenBytes = directorySize(archivePath) - archiveBytes;
+
+        System.out.printf("Saved an edit to an archived delivery in %,.1f ms, rewriting %,d of %,d archive bytes%n",
+                saveMillis, rewrittenBytes, archiveBytes);
+        assertEquals(foodBook.getDeliveryArchive().size() - 1,
+                new FoodBook(createStorage("foodbook.json").readFoodBook().get()).getDeliveryArchive().size());
+        assertTrue((double) rewrittenBytes / archiveBytes < MAX_REWRITTEN_FRACTION,
+                String.format("Rewrote %,d of %,d archive bytes", rewrittenBytes, archiveBytes));
+    }
+
+    private static long directorySize(Path directory) throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            long size = 0;
+            for (Path file : files.toList()) {
+                size += Files.size(file);
+            }
+            return size;
+        }
+    }
+
+    private StorageManager createStorage(String fileName) {
+        return new StorageManager(new JournaledFoodBookStorage(testFolder.resolve(fileName)),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")));
+    }
+
+    private static double measureLoad(StorageManager storage) throws Exception {
+        return meanNanos(ROUNDS, () -> new FoodBook(storage.readFoodBook().get()));
+    }
+
+    /**
+     * Returns the heap held by a food book loaded from {@code storage}, as it would be by the model.
+     */
+    private static long measureRetainedHeap(StorageManager storage) throws Exception {
+        long before = usedHeapAfterGc();
+        FoodBook foodBook = new FoodBook(storage.readFoodBook().get());
+        long after = usedHeapAfterGc();
+        assertTrue(foodBook.getPersonList().size() > 0);
+        return after - before;
+    }
+
+    private static long startEpochMinute() {
+        return new DateTime("1/1/2019", "0000").toEpochMinute();
+    }
+
+    private static FoodBook buildFoodBook() {
+        FoodBook foodBook = new FoodBook();
+        List<Person> clients = new ArrayList<>();
+        for (int i = 0; i < DELIVERIES / DELIVERIES_PER_CLIENT; i++) {
+            Person client = new PersonBuilder().withName("Client " + i).build();
+            clients.add(client);
+            foodBook.addPerson(client);
+        }
+
+        Optional<DeliveryTag> tag = Optional.of(new DeliveryTag("Corporate"));
+        for (int i = 0; i < DELIVERIES; i++) {
+            // Deliveries are spread evenly over the days, ten minutes apart within each day
+            long epochMinute = startEpochMinute() + i / (DELIVERIES / DAYS) * 24L * 60
+                    + i % (DELIVERIES / DAYS) * 10;
+            Delivery delivery = new Delivery(i + FoodBook.FIRST_DELIVERY_ID, clients.get(i % clients.size()),
+                    DateTime.ofEpochMinute(epochMinute), "Order " + i, Money.ofCents(1000 + i % 500),
+                    i % 2 == 0 ? tag : Optional.empty(), true);
+            foodBook.addDelivery(delivery);
+        }
+        return foodBook;
+    }
+}
@@ -0,0 +1,270 @@
+package seedu.foodbook.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.foodbook.testutil.Assert.assertThrows;
+import static seedu.foodbook.testutil.TypicalDeliveries.ALICE_DELIVERY;
+import static seedu.foodbook.testutil.TypicalDeliveries.BENSON_DELIVERY;
+import static seedu.foodbook.testutil.TypicalDeliveries.getTypicalDeliveries;
+import static seedu.foodbook.testutil.TypicalPersons.ALICE;
+import static seedu.foodbook.testutil.TypicalPersons.CARL;
+import static seedu.foodbook.testutil.TypicalPersons.DANIEL;
+import static seedu.foodbook.testutil.TypicalPersons.getTypicalPersons;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.foodbook.commons.exceptions.DataLoadingException;
+import seedu.foodbook.commons.exceptions.IllegalValueException;
+import seedu.foodbook.model.FoodBook;
+import seedu.foodbook.model.delivery.Delivery;
+import seedu.foodbook.model.delivery.DeliveryArchive;
+import seedu.foodbook.model.delivery.DeliveryPredicate;
+import seedu.foodbook.model.delivery.RevenueSummary;
+import seedu.foodbook.storage.DeliveryArchiveStorage.Partition;
+import seedu.foodbook.testutil.DeliveryBuilder;
+
+public class DeliveryArchiveStorageTest {
+
+    private static final DeliveryPredicate ALL = new DeliveryPredicate(Optional.empty(), Optional.empty(),
+            Optional.empty(), Optional.empty(), Optional.empty());
+    private static final Delivery NOVEMBER_DELIVERY = new DeliveryBuilder().withId(20).withClient(CARL)
+            .withDateTime("30/11/2023", "2359").withRemarks("NOV").withCost("15.00").asDelivered().build();
+    private static final Delivery JANUARY_DELIVERY = new DeliveryBuilder().withId(21).withClient(DANIEL)
+            .withDateTime("1/1/2024", "0000").withRemarks("JAN").withCost("25.00").withTag("Personal")
+            .asDelivered().build();
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void pathFor_dataFileOfAnyFormat_sameArchive() {
+        Path archivePath = Paths.get("data", "foodbook.archive");
+        assertEquals(archivePath, DeliveryArchiveStorage.pathFor(Paths.get("data", "foodbook.json")));
+        assertEquals(archivePath, DeliveryArchiveStorage.pathFor(Paths.get("data", "foodbook.bin")));
+        assertEquals(archivePath, DeliveryArchiveStorage.pathFor(Paths.get("data", "foodbook")));
+    }
+
+    @Test
+    public void open_missingDirectory_emptyArchive() throws Exception {
+        DeliveryArchive archive = new DeliveryArchiveStorage(archivePath()).open(getDeliveredFoodBook());
+        assertTrue(archive.isEmpty());
+        assertFalse(archive.getMaxId().isPresent());
+        assertEquals(new RevenueSummary(0, 0), archive.getRevenue(ALL));
+        assertFalse(Files.exists(archivePath()));
+    }
+
+    @Test
+    public void append_thenReopen_sameDeliveries() throws Exception {
+        FoodBook foodBook = getDeliveredFoodBook();
+        List<Delivery> deliveries = List.copyOf(foodBook.getDeliveryList());
+
+        // The second batch adds to the first's December partition, which has to be rewritten with both
+        DeliveryArchive archive = new DeliveryArchiveStorage(archivePath()).open(foodBook)
+                .append(deliveries.subList(5, deliveries.size()))
+                .append(deliveries.subList(0, 5));
+        DeliveryArchive reopened = new DeliveryArchiveStorage(archivePath()).open(foodBook);
+
+        List<Delivery> byDate = deliveries.stream()
+                .sorted(Comparator.comparingLong(delivery -> delivery.getDeliveryDate().toEpochMinute()))
+                .toList();
+        for (DeliveryArchive read : List.of(archive, reopened)) {
+            assertEquals(deliveries.size(), read.size());
+            assertEquals(byDate, read.getDeliveriesMatching(ALL, foodBook::getPersonByName));
+            assertEquals(Optional.of(BENSON_DELIVERY.copyAsDelivered()),
+                    read.getDeliveryById(BENSON_DELIVERY.getId(), foodBook::getPersonByName));
+            assertFalse(read.contains(100));
+            assertEquals(List.of(ALICE_DELIVERY.copyAsDelivered()),
+                    read.getDeliveriesByClientName(ALICE.getName(), foodBook::getPersonByName));
+        }
+
+        List<DeliveryPredicate> predicates = List.of(ALL,
+                new DeliveryPredicate(Optional.of("1/12/2023"), Optional.of("31/12/2023"), Optional.empty(),
+                        Optional.empty(), Optional.empty()),
+                new DeliveryPredicate(Optional.of("13/12/2023"), Optional.of("17/1/2024"), Optional.empty(),
+                        Optional.of("personal"), Optional.empty()),
+                new DeliveryPredicate(Optional.empty(), Optional.empty(), Optional.of("a"), Optional.empty(),
+                        Optional.of(true)),
+                new DeliveryPredicate(Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(),
+                        Optional.of(false)));
+        for (DeliveryPredicate predicate : predicates) {
+            List<Delivery> expected = byDate.stream().filter(predicate).toList();
+            assertEquals(expected, reopened.getDeliveriesMatching(predicate, foodBook::getPersonByName));
+            assertEquals(RevenueSummary.of(expected), reopened.getRevenue(predicate));
+        }
+    }
+
+    @Test
+    public void getDeliveryById_idsNotInDateOrder_everyDeliveryFound() throws Exception {
+        FoodBook foodBook = getDeliveredFoodBook();
+        // Later deliveries get smaller ids, and every other id is left unused
+        List<Delivery> deliveries = new ArrayList<>();
+        for (int day = 1; day <= 28; day++) {
+            deliveries.add(new DeliveryBuilder().withId(200 - 2 * day).withClient(day % 2 == 0 ? ALICE : CARL)
+                    .withDateTime(day + "/2/2024", "1200").asDelivered().build());
+        }
+        DeliveryArchive archive = new DeliveryArchiveStorage(archivePath()).open(foodBook).append(deliveries);
+
+        for (Delivery delivery : deliveries) {
+            assertEquals(Optional.of(delivery), archive.getDeliveryById(delivery.getId(), foodBook::getPersonByName));
+            assertFalse(archive.contains(delivery.getId() + 1));
+        }
+        DeliveryArchive without = archive.without(List.of(deliveries.get(3).getId(), 1000));
+        assertEquals(deliveries.size() - 1, without.size());
+        assertFalse(without.contains(deliveries.get(3).getId()));
+        assertEquals(deliveries.stream().filter(delivery -> delivery.getClient().equals(ALICE))
+                .filter(delivery -> !delivery.equals(deliveries.get(3))).toList(),
+                without.getDeliveriesByClientName(ALICE.getName(), foodBook::getPersonByName));
+    }
+
+    @Test
+    public void append_deliveriesOfSeveralMonths_onePartitionPerMonth() throws Exception {
+        FoodBook foodBook = getDeliveredFoodBook();
+        new DeliveryArchiveStorage(archivePath()).open(foodBook).append(List.copyOf(foodBook.getDeliveryList()));
+
+        assertEquals(List.of("2023-11.1.deliveries", "2023-12.2.deliveries", "2024-01.3.deliveries",
+                DeliveryArchiveStorage.MANIFEST_FILE_NAME), listArchiveDirectory());
+    }
+
+    @Test
+    public void open_partitionsMappedOnlyWhenQueried() throws Exception {
+        FoodBook foodBook = getDeliveredFoodBook();
+        List<Delivery> deliveries = List.copyOf(foodBook.getDeliveryList());
+        new DeliveryArchiveStorage(archivePath()).open(foodBook).append(deliveries);
+        MappedDeliveryArchive archive = (MappedDeliveryArchive) new DeliveryArchiveStorage(archivePath())
+                .open(foodBook);
+        assertEquals(List.of(), getLoadedMonths(archive));
+
+        // Revenue over whole months, by date alone, is summed from the manifest
+        assertEquals(RevenueSummary.of(deliveries), archive.getRevenue(ALL));
+        assertEquals(RevenueSummary.of(List.of(NOVEMBER_DELIVERY)), archive.getRevenue(new DeliveryPredicate(
+                Optional.of("1/11/2023"), Optional.of("30/11/2023"), Optional.empty(), Optional.empty(),
+                Optional.empty())));
+        assertEquals(deliveries.size(), archive.size());
+        assertEquals(JANUARY_DELIVERY.getId(), archive.getMaxId().getAsInt());
+        assertEquals(List.of(), getLoadedMonths(archive));
+
+        // Queries only map the partitions of the months they reach
+        assertEquals(List.of(JANUARY_DELIVERY), archive.getDeliveriesMatching(new DeliveryPredicate(
+                Optional.of("31/12/2023"), Optional.of("1/1/2024"), Optional.empty(), Optional.of("personal"),
+                Optional.empty()), foodBook::getPersonByName));
+        assertEquals(List.of("2023-12", "2024-01"), getLoadedMonths(archive));
+    }
+
+    @Test
+    public void save_deliveriesRemoved_onlyTheirPartitionRewritten() throws Exception {
+        FoodBook foodBook = getDeliveredFoodBook();
+        DeliveryArchiveStorage storage = new DeliveryArchiveStorage(archivePath());
+        DeliveryArchive archive = storage.open(foodBook).append(List.copyOf(foodBook.getDeliveryList()));
+        foodBook.setDeliveries(List.of());
+        foodBook.setDeliveryArchive(archive.without(List.of(ALICE_DELIVERY.getId(), NOVEMBER_DELIVERY.getId(),
+                100)));
+
+        storage.save(foodBook);
+        storage.save(foodBook);
+
+        assertEquals(List.of("2023-11.1.deliveries", "2023-12.2.deliveries", "2023-12.4.deliveries",
+                "2024-01.3.deliveries", DeliveryArchiveStorage.MANIFEST_FILE_NAME), listArchiveDirectory());
+        DeliveryArchive reopened = new DeliveryArchiveStorage(archivePath()).open(foodBook);
+        assertEquals(archive.size() - 2, reopened.size());
+        assertFalse(reopened.contains(ALICE_DELIVERY.getId()));
+        assertFalse(reopened.contains(NOVEMBER_DELIVERY.getId()));
+        assertTrue(reopened.contains(BENSON_DELIVERY.getId()));
+
+        // Files no longer listed are deleted once the archive is opened afresh
+        assertEquals(List.of("2023-12.4.deliveries", "2024-01.3.deliveries",
+                DeliveryArchiveStorage.MANIFEST_FILE_NAME), listArchiveDirectory());
+    }
+
+    @Test
+    public void save_foodBookWithoutArchive_everyDeliveryRemoved() throws Exception {
+        FoodBook foodBook = getDeliveredFoodBook();
+        DeliveryArchiveStorage storage = new DeliveryArchiveStorage(archivePath());
+        storage.open(foodBook).append(List.copyOf(foodBook.getDeliveryList()));
+
+        storage.save(new FoodBook());
+
+        assertTrue(new DeliveryArchiveStorage(archivePath()).open(new FoodBook()).isEmpty());
+        assertEquals(List.of(DeliveryArchiveStorage.MANIFEST_FILE_NAME), listArchiveDirectory());
+    }
+
+    @Test
+    public void open_partitionMissing_throwsDataLoadingException() throws Exception {
+        FoodBook foodBook = getDeliveredFoodBook();
+        new DeliveryArchiveStorage(archivePath()).open(foodBook).append(List.copyOf(foodBook.getDeliveryList()));
+        Files.delete(archivePath().resolve("2023-11.1.deliveries"));
+
+        String expectedMessage = String.format(DeliveryArchiveStorage.MESSAGE_MISSING_PARTITION,
+                "2023-11.1.deliveries");
+        assertThrows(DataLoadingException.class, new IllegalValueException(expectedMessage).toString(), () ->
+                new DeliveryArchiveStorage(archivePath()).open(foodBook));
+    }
+
+    @Test
+    public void open_notAnArchive_throwsDataLoadingException() throws Exception {
+        Files.write(archivePath(), new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+        String expectedMessage = String.format(DeliveryArchiveStorage.MESSAGE_NOT_AN_ARCHIVE, archivePath());
+        assertThrows(DataLoadingException.class, new IllegalValueException(expectedMessage).toString(), () ->
+                new DeliveryArchiveStorage(archivePath()).open(new FoodBook()));
+    }
+
+    @Test
+    public void open_clientNotInFoodBook_throwsDataLoadingException() throws Exception {
+        FoodBook foodBook = getDeliveredFoodBook();
+        DeliveryArchiveStorage storage = new DeliveryArchiveStorage(archivePath());
+        storage.open(foodBook).append(List.of(ALICE_DELIVERY.copyAsDelivered(), BENSON_DELIVERY.copyAsDelivered()));
+        foodBook.setDeliveries(List.of());
+        foodBook.removePerson(ALICE);
+
+        String expectedMessage = String.format(DeliveryArchiveStorage.MESSAGE_MISSING_CLIENT, ALICE.getName());
+        assertThrows(DataLoadingException.class, new IllegalValueException(expectedMessage).toString(), () ->
+                new DeliveryArchiveStorage(archivePath()).open(foodBook));
+
+        // Once Alice's deliveries are removed from the archive, it no longer needs her
+        FoodBook withAlice = getDeliveredFoodBook();
+        withAlice.setDeliveries(List.of());
+        withAlice.setDeliveryArchive(storage.open(withAlice).without(List.of(ALICE_DELIVERY.getId())));
+        storage.save(withAlice);
+        assertEquals(1, new DeliveryArchiveStorage(archivePath()).open(foodBook).size());
+    }
+
+    private Path archivePath() {
+        return testFolder.resolve("foodbook.archive");
+    }
+
+    private List<String> listArchiveDirectory() throws Exception {
+        try (Stream<Path> files = Files.list(archivePath())) {
+            return files.map(file -> file.getFileName().toString()).sorted().toList();
+        }
+    }
+
+    private static List<String> getLoadedMonths(MappedDeliveryArchive archive) {
+        return archive.getPartitions().stream()
+                .filter(Partition::isLoaded)
+                .map(partition -> partition.month.toString())
+                .toList();
+    }
+
+    /**
+     * Returns a food book of the typical persons and the typical deliveries, with one more in the month before them
+     * and one in the month after, all delivered.
+     */
+    private static FoodBook getDeliveredFoodBook() {
+        FoodBook foodBook = new FoodBook();
+        getTypicalPersons().forEach(foodBook::addPerson);
+        getTypicalDeliveries().forEach(delivery -> foodBook.addDelivery(delivery.copyAsDelivered()));
+        foodBook.addDelivery(NOVEMBER_DELIVERY);
+        foodBook.addDelivery(JANUARY_DELIVERY);
+        return foodBook;
+    }
+}
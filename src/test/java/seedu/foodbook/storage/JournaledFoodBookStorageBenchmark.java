@@ -0,0 +1,84 @@
+package seedu.foodbook.storage;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.foodbook.model.FoodBook;
+import seedu.foodbook.model.delivery.DateTime;
+import seedu.foodbook.model.delivery.Delivery;
+import seedu.foodbook.model.delivery.Money;
+import seedu.foodbook.model.person.Person;
+import seedu.foodbook.testutil.Benchmark;
+import seedu.foodbook.testutil.PersonBuilder;
+
+/**
+ * Measures the time and bytes written to save a single mark of a delivery, journaled versus rewriting the whole
+ * json data file.
+ */
+public class JournaledFoodBookStorageBenchmark extends Benchmark {
+
+    private static final int DELIVERIES = 200_000;
+    private static final int DELIVERIES_PER_CLIENT = 10;
+    private static final int ROUNDS = 20;
+
+    // A journaled mark writes one delivery, so should beat rewriting 200k of them by far more than this
+    private static final double MIN_SPEEDUP = 10.0;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveFoodBook_markOneDelivery_journalFasterThanRewrite() throws Exception {
+        FoodBook foodBook = buildFoodBook();
+
+        JsonFoodBookStorage json = new JsonFoodBookStorage(testFolder.resolve("full.json"));
+        double jsonNanos = measureMarkAndSave(foodBook, json, ROUNDS / 4);
+        long jsonBytes = Files.size(json.getFoodBookFilePath());
+
+        JournaledFoodBookStorage journaled = new JournaledFoodBookStorage(testFolder.resolve("journaled.json"));
+        journaled.saveFoodBook(foodBook);
+        long journalSizeBefore = Files.size(journaled.getJournalFilePath());
+        double journaledNanos = measureMarkAndSave(foodBook, journaled, ROUNDS);
+        double journaledBytes = (double) (Files.size(journaled.getJournalFilePath()) - journalSizeBefore) / ROUNDS;
+
+        System.out.printf("Save after marking 1 of %,d deliveries: json %,.1f ms and %,d bytes, "
+                + "journaled %,.2f ms and %,.0f bytes%n",
+                DELIVERIES, jsonNanos / 1e6, jsonBytes, journaledNanos / 1e6, journaledBytes);
+        assertFaster("Journaled save", jsonNanos, journaledNanos, MIN_SPEEDUP);
+    }
+
+    private static double measureMarkAndSave(FoodBook foodBook, JsonFoodBookStorage storage, int rounds)
+            throws Exception {
+        long start = System.nanoTime();
+        for (int round = 0; round < rounds; round++) {
+            Delivery delivery = foodBook.getDeliveryList().get(round * 997 % DELIVERIES);
+            foodBook.setDelivery(delivery, delivery.getStatus()
+                    ? delivery.copyAsUndelivered() : delivery.copyAsDelivered());
+            storage.saveFoodBook(foodBook);
+        }
+        return (double) (System.nanoTime() - start) / rounds;
+    }
+
+    private static FoodBook buildFoodBook() {
+        FoodBook foodBook = new FoodBook();
+        List<Person> clients = new ArrayList<>();
+        for (int i = 0; i < DELIVERIES / DELIVERIES_PER_CLIENT; i++) {
+            Person client = new PersonBuilder().withName("Client " + i).build();
+            clients.add(client);
+            foodBook.addPerson(client);
+        }
+
+        DateTime dateTime = new DateTime("1/1/2024", "1200");
+        for (int id = 0; id < DELIVERIES; id++) {
+            foodBook.addDelivery(new Delivery(id, clients.get(id % clients.size()), dateTime, "NIL",
+                    Money.ofCents(1000), Optional.empty()));
+        }
+        return foodBook;
+    }
+}
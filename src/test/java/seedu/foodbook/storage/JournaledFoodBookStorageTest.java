@@ -0,0 +1,259 @@
+package seedu.foodbook.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.foodbook.testutil.Assert.assertThrows;
+import static seedu.foodbook.testutil.TypicalDeliveries.ALICE_DELIVERY;
+import static seedu.foodbook.testutil.TypicalDeliveries.HOON_DELIVERY;
+import static seedu.foodbook.testutil.TypicalFoodBook.getTypicalFoodBook;
+import static seedu.foodbook.testutil.TypicalPersons.ALICE;
+import static seedu.foodbook.testutil.TypicalPersons.BENSON;
+import static seedu.foodbook.testutil.TypicalPersons.HOON;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.foodbook.commons.exceptions.DataLoadingException;
+import seedu.foodbook.model.FoodBook;
+import seedu.foodbook.model.ReadOnlyFoodBook;
+import seedu.foodbook.model.delivery.Delivery;
+import seedu.foodbook.model.person.Person;
+import seedu.foodbook.testutil.DeliveryBuilder;
+import seedu.foodbook.testutil.PersonBuilder;
+
+public class JournaledFoodBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private JournaledFoodBookStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("foodbook.json");
+        storage = new JournaledFoodBookStorage(filePath);
+    }
+
+    @Test
+    public void readFoodBook_missingFile_emptyResult() throws Exception {
+        assertTrue(storage.readFoodBook().isEmpty());
+    }
+
+    @Test
+    public void saveFoodBook_firstSave_writesPlainJsonSnapshot() throws Exception {
+        FoodBook original = getTypicalFoodBook();
+        storage.saveFoodBook(original);
+
+        ReadOnlyFoodBook readAsJson = new JsonFoodBookStorage(filePath).readFoodBook().get();
+        assertEquals(original, new FoodBook(readAsJson));
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+    }
+
+    @Test
+    public void saveFoodBook_markDelivery_appendsOneSmallEntry() throws Exception {
+        FoodBook foodBook = getTypicalFoodBook();
+        storage.saveFoodBook(foodBook);
+        byte[] snapshot = Files.readAllBytes(filePath);
+        long journalSize = Files.size(storage.getJournalFilePath());
+
+        foodBook.setDelivery(ALICE_DELIVERY, ALICE_DELIVERY.copyAsDelivered());
+        storage.saveFoodBook(foodBook);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        long appended = Files.size(storage.getJournalFilePath()) - journalSize;
+        assertTrue(appended < 500, "Appended " + appended + " bytes");
+        assertEquals(2, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertReadBackEquals(foodBook);
+    }
+
+    @Test
+    public void saveFoodBook_unchanged_appendsNothing() throws Exception {
+        FoodBook foodBook = getTypicalFoodBook();
+        storage.saveFoodBook(foodBook);
+        long journalSize = Files.size(storage.getJournalFilePath());
+
+        storage.saveFoodBook(foodBook);
+
+        assertEquals(journalSize, Files.size(storage.getJournalFilePath()));
+    }
+
+    @Test
+    public void saveFoodBook_addsRemovesAndEdits_replayedInOrder() throws Exception {
+        FoodBook foodBook = getTypicalFoodBook();
+        storage.saveFoodBook(foodBook);
+
+        foodBook.addPerson(HOON);
+        storage.saveFoodBook(foodBook);
+        foodBook.addDelivery(new DeliveryBuilder(HOON_DELIVERY).withId(foodBook.getNextDeliveryId()).build());
+        storage.saveFoodBook(foodBook);
+        foodBook.removePersonWithDeliveries(BENSON);
+        storage.saveFoodBook(foodBook);
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alicia Pauline").build();
+        foodBook.setPersonWithDeliveries(ALICE, renamedAlice);
+        storage.saveFoodBook(foodBook);
+
+        assertReadBackEquals(foodBook);
+    }
+
+    @Test
+    public void saveFoodBook_undoOfRemovalFromMiddle_restoresPosition() throws Exception {
+        FoodBook foodBook = getTypicalFoodBook();
+        storage.saveFoodBook(foodBook);
+
+        foodBook.checkpoint();
+        Delivery middle = foodBook.getDeliveryList().get(2);
+        foodBook.removeDelivery(middle);
+        foodBook.removePerson(foodBook.getPersonList().get(4));
+        storage.saveFoodBook(foodBook);
+        foodBook.undo();
+        storage.saveFoodBook(foodBook);
+
+        assertReadBackEquals(foodBook);
+        assertEquals(middle, readBack().getDeliveryList().get(2));
+    }
+
+    @Test
+    public void saveFoodBook_deliveriesReordered_replayedInOrder() throws Exception {
+        FoodBook foodBook = getTypicalFoodBook();
+        storage.saveFoodBook(foodBook);
+
+        List<Delivery> reversed = new ArrayList<>(foodBook.getDeliveryList());
+        Collections.reverse(reversed);
+        foodBook.setDeliveries(reversed);
+        storage.saveFoodBook(foodBook);
+
+        assertReadBackEquals(foodBook);
+        assertEquals(reversed, readBack().getDeliveryList());
+    }
+
+    @Test
+    public void saveFoodBook_afterResetData_replayed() throws Exception {
+        FoodBook foodBook = getTypicalFoodBook();
+        storage.saveFoodBook(foodBook);
+
+        foodBook.resetData(new FoodBook());
+        storage.saveFoodBook(foodBook);
+
+        assertReadBackEquals(foodBook);
+    }
+
+    @Test
+    public void saveFoodBook_manyEntries_compacts() throws Exception {
+        FoodBook foodBook = getTypicalFoodBook();
+        storage.saveFoodBook(foodBook);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        for (int i = 0; i < JournaledFoodBookStorage.MIN_ENTRIES_BEFORE_COMPACTION; i++) {
+            Delivery delivery = foodBook.getDeliveryList().get(0);
+            foodBook.setDelivery(delivery, delivery.getStatus()
+                    ? delivery.copyAsUndelivered() : delivery.copyAsDelivered());
+            storage.saveFoodBook(foodBook);
+        }
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+
+        Delivery delivery = foodBook.getDeliveryList().get(0);
+        foodBook.setDelivery(delivery, delivery.copyAsDelivered());
+        storage.saveFoodBook(foodBook);
+
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(foodBook, new FoodBook(new JsonFoodBookStorage(filePath).readFoodBook().get()));
+    }
+
+    @Test
+    public void compactFoodBook_afterJournaledSaves_foldsJournalIntoDataFile() throws Exception {
+        FoodBook foodBook = getTypicalFoodBook();
+        storage.saveFoodBook(foodBook);
+        foodBook.addPerson(HOON);
+        storage.saveFoodBook(foodBook);
+
+        storage.compactFoodBook();
+
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+        ReadOnlyFoodBook readAsJson = new JsonFoodBookStorage(filePath).readFoodBook().get();
+        assertEquals(foodBook, new FoodBook(readAsJson));
+        assertEquals(foodBook.getNextDeliveryId(), readAsJson.getNextDeliveryId());
+        assertReadBackEquals(foodBook);
+    }
+
+    @Test
+    public void compactFoodBook_unreadableDataFile_leftAsItIs() throws Exception {
+        Files.writeString(filePath, "not json");
+        assertThrows(DataLoadingException.class, () -> storage.readFoodBook());
+
+        storage.compactFoodBook();
+
+        assertEquals("not json", Files.readString(filePath));
+    }
+
+    @Test
+    public void readFoodBook_dataFileEditedByHand_journalIgnored() throws Exception {
+        FoodBook foodBook = getTypicalFoodBook();
+        storage.saveFoodBook(foodBook);
+        foodBook.addPerson(HOON);
+        storage.saveFoodBook(foodBook);
+
+        FoodBook edited = new FoodBook();
+        edited.addPerson(BENSON);
+        new JsonFoodBookStorage(filePath).saveFoodBook(edited);
+
+        assertEquals(edited, readBack());
+    }
+
+    @Test
+    public void readFoodBook_incompleteLastEntry_ignoredAndJournalRestarted() throws Exception {
+        FoodBook foodBook = getTypicalFoodBook();
+        storage.saveFoodBook(foodBook);
+        foodBook.addPerson(HOON);
+        storage.saveFoodBook(foodBook);
+        Files.writeString(storage.getJournalFilePath(), "{\"op\":\"INSERT_PER", StandardOpenOption.APPEND);
+
+        JournaledFoodBookStorage restarted = new JournaledFoodBookStorage(filePath);
+        FoodBook readBack = new FoodBook(restarted.readFoodBook().get());
+        assertEquals(foodBook, readBack);
+
+        readBack.removePerson(HOON);
+        restarted.saveFoodBook(readBack);
+        assertReadBackEquals(readBack);
+    }
+
+    @Test
+    public void readFoodBook_invalidEntryBeforeLast_throwsDataLoadingException() throws Exception {
+        storage.saveFoodBook(getTypicalFoodBook());
+        Files.write(storage.getJournalFilePath(), List.of("{\"op\":\"REMOVE_PERSON\",\"name\":\"Nobody\"}", "{}"),
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        assertThrows(DataLoadingException.class, () -> new JournaledFoodBookStorage(filePath).readFoodBook());
+    }
+
+    @Test
+    public void saveFoodBook_otherFile_writesPlainJson() throws Exception {
+        Path otherFile = testFolder.resolve("other.json");
+        FoodBook foodBook = getTypicalFoodBook();
+
+        storage.saveFoodBook(foodBook, otherFile);
+
+        assertEquals(foodBook, new FoodBook(storage.readFoodBook(otherFile).get()));
+        assertTrue(Files.notExists(storage.getJournalFilePath()));
+    }
+
+    private FoodBook readBack() throws Exception {
+        return new FoodBook(new JournaledFoodBookStorage(filePath).readFoodBook().get());
+    }
+
+    private void assertReadBackEquals(FoodBook expected) throws Exception {
+        ReadOnlyFoodBook readBack = new JournaledFoodBookStorage(filePath).readFoodBook().get();
+        assertEquals(expected, new FoodBook(readBack));
+        assertEquals(expected.getNextDeliveryId(), readBack.getNextDeliveryId());
+    }
+}
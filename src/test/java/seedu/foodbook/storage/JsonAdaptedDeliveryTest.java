@@ -4,12 +4,15 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static seedu.foodbook.testutil.TypicalDeliveries.ALICE_DELIVERY;
 
+import java.math.BigDecimal;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.foodbook.commons.exceptions.IllegalValueException;
 import seedu.foodbook.model.FoodBook;
 import seedu.foodbook.model.delivery.DateTime;
 import seedu.foodbook.model.delivery.Delivery;
+import seedu.foodbook.model.delivery.Money;
 import seedu.foodbook.testutil.TypicalPersons;
 
 public class JsonAdaptedDeliveryTest {
@@ -22,6 +25,7 @@ public class JsonAdaptedDeliveryTest {
     private static final String VALID_FUTURE_DATE = "01/01/2027";
     private static final String VALID_FUTURE_TIME = "1200";
     private static final DateTime VALID_FUTURE_DATETIME = new DateTime(VALID_FUTURE_DATE, VALID_FUTURE_TIME);
+    private static final BigDecimal VALID_COST = new BigDecimal("10.00");
 
     @Test
     public void toModelType_validDeliveryDetails_returnsDelivery() throws Exception {
@@ -50,7 +54,7 @@ public class JsonAdaptedDeliveryTest {
     @Test
     public void toModelType_nullId_throwsIllegalValueException() {
         JsonAdaptedDelivery adapted = new JsonAdaptedDelivery(null, TypicalPersons.ALICE.getName().fullName,
-                VALID_FUTURE_DATE, VALID_FUTURE_TIME, "Remarks", 10.0, false, "Tag");
+                VALID_FUTURE_DATE, VALID_FUTURE_TIME, "Remarks", VALID_COST, false, "Tag");
         FoodBook foodBook = new FoodBook();
         foodBook.addPerson(TypicalPersons.ALICE);
         String expectedMessage = String.format(JsonAdaptedDelivery.MISSING_FIELD_MESSAGE_FORMAT, "id");
@@ -60,7 +64,7 @@ public class JsonAdaptedDeliveryTest {
     @Test
     public void toModelType_nullClientName_throwsIllegalValueException() {
         JsonAdaptedDelivery adapted = new JsonAdaptedDelivery(0, null,
-                VALID_FUTURE_DATE, VALID_FUTURE_TIME, "Remarks", 10.0, false, "Tag");
+                VALID_FUTURE_DATE, VALID_FUTURE_TIME, "Remarks", VALID_COST, false, "Tag");
         FoodBook foodBook = new FoodBook();
         String expectedMessage = String.format(JsonAdaptedDelivery.MISSING_FIELD_MESSAGE_FORMAT, "clientName");
         assertThrowsWithMessage(adapted, foodBook, expectedMessage);
@@ -69,7 +73,7 @@ public class JsonAdaptedDeliveryTest {
     @Test
     public void toModelType_nonExistentClient_throwsIllegalValueException() {
         JsonAdaptedDelivery adapted = new JsonAdaptedDelivery(0, INVALID_CLIENT_NAME,
-                VALID_FUTURE_DATE, VALID_FUTURE_TIME, "Remarks", 10.0, false, "Tag");
+                VALID_FUTURE_DATE, VALID_FUTURE_TIME, "Remarks", VALID_COST, false, "Tag");
         FoodBook foodBook = new FoodBook(); // Client does not exist in this foodbook
         String expectedMessage = "Client not found: " + INVALID_CLIENT_NAME;
         assertThrowsWithMessage(adapted, foodBook, expectedMessage);
@@ -78,7 +82,7 @@ public class JsonAdaptedDeliveryTest {
     @Test
     public void toModelType_nullDate_throwsIllegalValueException() {
         JsonAdaptedDelivery adapted = new JsonAdaptedDelivery(0, TypicalPersons.ALICE.getName().fullName,
-                null, VALID_FUTURE_TIME, "Remarks", 10.0, false, "Tag");
+                null, VALID_FUTURE_TIME, "Remarks", VALID_COST, false, "Tag");
         FoodBook foodBook = new FoodBook();
         foodBook.addPerson(TypicalPersons.ALICE);
         String expectedMessage = String.format(JsonAdaptedDelivery.MISSING_FIELD_MESSAGE_FORMAT, "date");
@@ -88,7 +92,7 @@ public class JsonAdaptedDeliveryTest {
     @Test
     public void toModelType_nullTime_throwsIllegalValueException() {
         JsonAdaptedDelivery adapted = new JsonAdaptedDelivery(0, TypicalPersons.ALICE.getName().fullName,
-                VALID_FUTURE_DATE, null, "Remarks", 10.0, false, "Tag");
+                VALID_FUTURE_DATE, null, "Remarks", VALID_COST, false, "Tag");
         FoodBook foodBook = new FoodBook();
         foodBook.addPerson(TypicalPersons.ALICE);
         String expectedMessage = String.format(JsonAdaptedDelivery.MISSING_FIELD_MESSAGE_FORMAT, "time");
@@ -98,7 +102,7 @@ public class JsonAdaptedDeliveryTest {
     @Test
     public void toModelType_invalidDateTimeFormat_throwsIllegalValueException() {
         JsonAdaptedDelivery adapted = new JsonAdaptedDelivery(0, TypicalPersons.ALICE.getName().fullName,
-                INVALID_DATE, INVALID_TIME, "Remarks", 10.0, false, "Tag");
+                INVALID_DATE, INVALID_TIME, "Remarks", VALID_COST, false, "Tag");
         FoodBook foodBook = new FoodBook();
         foodBook.addPerson(TypicalPersons.ALICE);
         String expectedMessage = DateTime.MESSAGE_CONSTRAINTS;
@@ -108,7 +112,7 @@ public class JsonAdaptedDeliveryTest {
     @Test
     public void toModelType_nullRemarks_throwsIllegalValueException() {
         JsonAdaptedDelivery adapted = new JsonAdaptedDelivery(0, TypicalPersons.ALICE.getName().fullName,
-                VALID_FUTURE_DATE, VALID_FUTURE_TIME, null, 10.0, false, "Tag");
+                VALID_FUTURE_DATE, VALID_FUTURE_TIME, null, VALID_COST, false, "Tag");
         FoodBook foodBook = new FoodBook();
         foodBook.addPerson(TypicalPersons.ALICE);
         String expectedMessage = String.format(JsonAdaptedDelivery.MISSING_FIELD_MESSAGE_FORMAT, "remarks");
@@ -125,6 +129,25 @@ public class JsonAdaptedDeliveryTest {
         assertThrowsWithMessage(adapted, foodBook, expectedMessage);
     }
 
+    @Test
+    public void toModelType_negativeCost_throwsIllegalValueException() {
+        JsonAdaptedDelivery adapted = new JsonAdaptedDelivery(0, TypicalPersons.ALICE.getName().fullName,
+                VALID_FUTURE_DATE, VALID_FUTURE_TIME, "Remarks", new BigDecimal("-0.01"), false, "Tag");
+        FoodBook foodBook = new FoodBook();
+        foodBook.addPerson(TypicalPersons.ALICE);
+        assertThrowsWithMessage(adapted, foodBook, JsonAdaptedDelivery.MESSAGE_INVALID_COST);
+    }
+
+    @Test
+    public void toModelType_legacyDoubleCost_roundedToCents() throws Exception {
+        // 0.1 + 0.2 as written by older versions that stored the cost as a double
+        JsonAdaptedDelivery adapted = new JsonAdaptedDelivery(0, TypicalPersons.ALICE.getName().fullName,
+                VALID_FUTURE_DATE, VALID_FUTURE_TIME, "Remarks", new BigDecimal("0.30000000000000004"), false, "Tag");
+        FoodBook foodBook = new FoodBook();
+        foodBook.addPerson(TypicalPersons.ALICE);
+        assertEquals(Money.ofCents(30), adapted.toModelType(foodBook).getCost());
+    }
+
     /**
      * Helper method to assert that the toModelType() method throws an IllegalValueException
      * with the correct message.
@@ -0,0 +1,117 @@
+package seedu.foodbook.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.foodbook.commons.util.FileUtil;
+import seedu.foodbook.commons.util.JsonUtil;
+import seedu.foodbook.model.FoodBook;
+import seedu.foodbook.model.ReadOnlyFoodBook;
+import seedu.foodbook.model.delivery.DateTime;
+import seedu.foodbook.model.delivery.Delivery;
+import seedu.foodbook.model.delivery.Money;
+import seedu.foodbook.model.person.Person;
+import seedu.foodbook.testutil.Benchmark;
+import seedu.foodbook.testutil.PersonBuilder;
+
+/**
+ * Measures the memory allocated to save and load a large food book, streamed versus handled as a whole document.
+ */
+public class JsonFoodBookStorageBenchmark extends Benchmark {
+
+    private static final int DELIVERIES = 200_000;
+    private static final int DELIVERIES_PER_CLIENT = 10;
+
+    // Building the document first also allocates adapted copies of every record, and the whole file as a string
+    // and again as bytes, all held at once; streaming only allocates short-lived field strings per record
+    private static final double MIN_ALLOCATION_RATIO = 3.0;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveFoodBook_twoHundredThousandDeliveries_allocatesFarLessThanWholeDocument() throws Exception {
+        FoodBook foodBook = buildFoodBook();
+        Path streamedFile = testFolder.resolve("streamed.json");
+        Path wholeFile = testFolder.resolve("whole.json");
+        JsonFoodBookStorage storage = new JsonFoodBookStorage(streamedFile);
+
+        // Warm up both paths so that class loading is not measured
+        storage.saveFoodBook(foodBook);
+        FileUtil.writeToFile(wholeFile, JsonUtil.toJsonString(new JsonSerializableFoodBook(foodBook)));
+
+        long start = allocatedBytes();
+        long startNanos = System.nanoTime();
+        storage.saveFoodBook(foodBook);
+        long streamedNanos = System.nanoTime() - startNanos;
+        long streamed = allocatedBytes() - start;
+
+        start = allocatedBytes();
+        startNanos = System.nanoTime();
+        FileUtil.writeToFile(wholeFile, JsonUtil.toJsonString(new JsonSerializableFoodBook(foodBook)));
+        long wholeNanos = System.nanoTime() - startNanos;
+        long whole = allocatedBytes() - start;
+
+        System.out.printf("Saving %,d deliveries (%,d bytes): streamed %,d bytes allocated in %,.0f ms, "
+                + "whole document %,d bytes allocated in %,.0f ms%n", DELIVERIES, Files.size(streamedFile),
+                streamed, streamedNanos / 1e6, whole, wholeNanos / 1e6);
+        assertEquals(Files.readString(wholeFile), Files.readString(streamedFile));
+        assertSmaller("Streamed allocation", whole, streamed, MIN_ALLOCATION_RATIO);
+    }
+
+    @Test
+    public void readFoodBook_twoHundredThousandDeliveries_fasterThanWholeDocument() throws Exception {
+        FoodBook foodBook = buildFoodBook();
+        Path file = testFolder.resolve("foodbook.json");
+        JsonFoodBookStorage storage = new JsonFoodBookStorage(file);
+        storage.saveFoodBook(foodBook);
+
+        // Warm up both paths so that class loading is not measured
+        storage.readFoodBook();
+        JsonUtil.readJsonFile(file, JsonSerializableFoodBook.class).get().toModelType();
+
+        long start = allocatedBytes();
+        long startNanos = System.nanoTime();
+        ReadOnlyFoodBook streamedFoodBook = storage.readFoodBook().get();
+        long streamedNanos = System.nanoTime() - startNanos;
+        long streamed = allocatedBytes() - start;
+
+        start = allocatedBytes();
+        startNanos = System.nanoTime();
+        FoodBook wholeFoodBook = JsonUtil.readJsonFile(file, JsonSerializableFoodBook.class).get().toModelType();
+        long wholeNanos = System.nanoTime() - startNanos;
+        long whole = allocatedBytes() - start;
+
+        System.out.printf("Loading %,d deliveries (%,d bytes): streamed %,d bytes allocated in %,.0f ms, "
+                + "whole document %,d bytes allocated in %,.0f ms%n", DELIVERIES, Files.size(file),
+                streamed, streamedNanos / 1e6, whole, wholeNanos / 1e6);
+        assertEquals(wholeFoodBook, streamedFoodBook);
+        assertTrue(streamed < whole, String.format("Streaming allocated %,d bytes against %,d", streamed, whole));
+    }
+
+    private static FoodBook buildFoodBook() {
+        FoodBook foodBook = new FoodBook();
+        List<Person> clients = new ArrayList<>();
+        for (int i = 0; i < DELIVERIES / DELIVERIES_PER_CLIENT; i++) {
+            Person client = new PersonBuilder().withName("Client " + i).build();
+            clients.add(client);
+            foodBook.addPerson(client);
+        }
+
+        DateTime dateTime = new DateTime("1/1/2024", "1200");
+        for (int id = 0; id < DELIVERIES; id++) {
+            foodBook.addDelivery(new Delivery(id, clients.get(id % clients.size()), dateTime, "NIL",
+                    Money.ofCents(1000), Optional.empty()));
+        }
+        return foodBook;
+    }
+}
@@ -0,0 +1,126 @@
+package seedu.foodbook.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import seedu.foodbook.commons.util.JsonUtil;
+import seedu.foodbook.model.delivery.DateTime;
+import seedu.foodbook.model.delivery.Delivery;
+import seedu.foodbook.model.delivery.Money;
+import seedu.foodbook.model.person.Person;
+import seedu.foodbook.testutil.Benchmark;
+import seedu.foodbook.testutil.PersonBuilder;
+
+/**
+ * Measures how the time taken to convert a loaded data file into a {@code FoodBook} grows with its size, and how
+ * reading a large data file speeds up with the number of cores converting its records.
+ */
+public class JsonSerializableFoodBookBenchmark extends Benchmark {
+
+    private static final int[] DELIVERY_COUNTS = {20_000, 200_000};
+    private static final int DELIVERIES_PER_CLIENT = 10;
+    private static final int ROUNDS = 3;
+
+    // A quadratic load would take ~10x longer per delivery at 200k than at 20k; linear stays near 1x.
+    private static final double MAX_SLOWDOWN_PER_DELIVERY = 3.0;
+
+    private static final int PARALLEL_DELIVERIES = 500_000;
+
+    // Parsing the JSON and adding each record to the lists stay on one thread, so converting on four cores is
+    // expected to cut the read by well under four times; with fewer cores the speedup is only reported
+    private static final int MIN_CORES_FOR_SPEEDUP = 4;
+    private static final double MIN_PARALLEL_SPEEDUP = 1.5;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void toModelType_twentyThousandToTwoHundredThousandDeliveries_nearLinear() throws Exception {
+        assertStaysFlat("JsonSerializableFoodBook#toModelType", "delivery", DELIVERY_COUNTS,
+                MAX_SLOWDOWN_PER_DELIVERY, this::measureLoad);
+    }
+
+    @Test
+    public void read_fiveHundredThousandDeliveries_fasterWithMoreCores() throws Exception {
+        Path filePath = testFolder.resolve("foodbook.json");
+        JsonSerializableFoodBook data = buildData(PARALLEL_DELIVERIES);
+        try (JsonGenerator generator = JsonUtil.createPrettyGenerator(Files.newOutputStream(filePath))) {
+            JsonSerializableFoodBook.write(data.toModelType(), generator);
+        }
+        data = null;
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        List<Integer> parallelisms = new ArrayList<>();
+        for (int parallelism = 1; parallelism < cores; parallelism *= 2) {
+            parallelisms.add(parallelism);
+        }
+        parallelisms.add(cores);
+
+        double serialMillis = 0;
+        double parallelMillis = 0;
+        for (int parallelism : parallelisms) {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                parallelMillis = measureRead(filePath, pool);
+            } finally {
+                pool.shutdown();
+            }
+            if (parallelism == 1) {
+                serialMillis = parallelMillis;
+            }
+            System.out.printf("JsonSerializableFoodBook#read, %,d deliveries on %2d threads: %,8.1f ms (%.2fx)%n",
+                    PARALLEL_DELIVERIES, parallelism, parallelMillis, serialMillis / parallelMillis);
+        }
+
+        if (cores >= MIN_CORES_FOR_SPEEDUP) {
+            assertFaster("Read on " + cores + " cores", serialMillis, parallelMillis, MIN_PARALLEL_SPEEDUP);
+        }
+    }
+
+    private static double measureRead(Path filePath, ForkJoinPool pool) throws Exception {
+        long best = bestNanos(ROUNDS, () -> {
+            try (JsonParser parser = JsonUtil.createParser(Files.newInputStream(filePath))) {
+                assertEquals(PARALLEL_DELIVERIES, JsonSerializableFoodBook.read(parser, pool).getDeliveryList().size());
+            }
+        });
+        return best / 1e6;
+    }
+
+    private double measureLoad(int deliveryCount) throws Exception {
+        JsonSerializableFoodBook data = buildData(deliveryCount);
+
+        long best = bestNanos(ROUNDS, () -> assertEquals(deliveryCount, data.toModelType().getDeliveryList().size()));
+        return (double) best / deliveryCount;
+    }
+
+    private static JsonSerializableFoodBook buildData(int deliveryCount) {
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        List<Person> clients = new ArrayList<>();
+        for (int i = 0; i < deliveryCount / DELIVERIES_PER_CLIENT; i++) {
+            Person client = new PersonBuilder().withName("Client " + i).build();
+            clients.add(client);
+            persons.add(new JsonAdaptedPerson(client));
+        }
+
+        DateTime dateTime = new DateTime("1/1/2024", "1200");
+        List<JsonAdaptedDelivery> deliveries = new ArrayList<>();
+        for (int id = 0; id < deliveryCount; id++) {
+            Delivery delivery = new Delivery(id, clients.get(id % clients.size()), dateTime, "NIL",
+                    Money.ofCents(1000), Optional.empty());
+            deliveries.add(new JsonAdaptedDelivery(delivery));
+        }
+        return new JsonSerializableFoodBook(persons, deliveries, null);
+    }
+}
@@ -1,14 +1,33 @@
 package seedu.foodbook.storage;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static seedu.foodbook.testutil.TypicalPersons.ALICE;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.foodbook.commons.exceptions.IllegalValueException;
 import seedu.foodbook.commons.util.JsonUtil;
+import seedu.foodbook.model.FoodBook;
+import seedu.foodbook.model.delivery.Delivery;
+import seedu.foodbook.model.person.Email;
+import seedu.foodbook.testutil.DeliveryBuilder;
+import seedu.foodbook.testutil.PersonBuilder;
+import seedu.foodbook.testutil.TypicalFoodBook;
 
 public class JsonSerializableFoodBookTest {
 
@@ -52,4 +71,137 @@ public class JsonSerializableFoodBookTest {
                 DUPLICATE_DELIVERY_FILE, JsonSerializableFoodBook.class).get();
         assertThrows(IllegalValueException.class, dataFromFile::toModelType);
     }
+
+    @Test
+    public void toModelType_fileWithoutNextDeliveryId_continuesAfterLargestId() throws Exception {
+        JsonSerializableFoodBook dataFromFile = JsonUtil.readJsonFile(
+                TYPICAL_FOODBOOK_FILE, JsonSerializableFoodBook.class).get();
+        FoodBook foodBook = dataFromFile.toModelType();
+        assertEquals(7, foodBook.getNextDeliveryId());
+    }
+
+    @Test
+    public void toModelType_savedNextDeliveryId_restored() throws Exception {
+        FoodBook original = TypicalFoodBook.getTypicalFoodBook();
+        original.setNextDeliveryId(42);
+
+        String json = JsonUtil.toJsonString(new JsonSerializableFoodBook(original));
+        FoodBook restored = JsonUtil.fromJsonString(json, JsonSerializableFoodBook.class).toModelType();
+
+        assertEquals(original, restored);
+        assertEquals(42, restored.getNextDeliveryId());
+    }
+
+    @Test
+    public void write_sameAsSerializedAdaptedFoodBook() throws Exception {
+        FoodBook foodBook = TypicalFoodBook.getTypicalFoodBook();
+        Delivery tagged = new DeliveryBuilder().withId(foodBook.getNextDeliveryId()).withClient(ALICE)
+                .withRemarks("Leave at \"door\" \u00e9").withCost("12.50").withTag("Urgent").build();
+        foodBook.addDelivery(tagged.copyAsDelivered());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator generator = JsonUtil.createPrettyGenerator(out)) {
+            JsonSerializableFoodBook.write(foodBook, generator);
+        }
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableFoodBook(foodBook)),
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void read_typicalFoodBookFile_sameAsToModelType() throws Exception {
+        JsonSerializableFoodBook dataFromFile = JsonUtil.readJsonFile(
+                TYPICAL_FOODBOOK_FILE, JsonSerializableFoodBook.class).get();
+        FoodBook expected = dataFromFile.toModelType();
+
+        FoodBook read = read(Files.readString(TYPICAL_FOODBOOK_FILE));
+
+        assertEquals(expected, read);
+        assertEquals(expected.getNextDeliveryId(), read.getNextDeliveryId());
+    }
+
+    @Test
+    public void read_invalidFiles_sameMessagesAsToModelType() throws Exception {
+        for (Path file : List.of(INVALID_PERSON_FILE, DUPLICATE_PERSON_FILE, INVALID_DELIVERY_FILE,
+                DUPLICATE_DELIVERY_FILE)) {
+            JsonSerializableFoodBook dataFromFile = JsonUtil.readJsonFile(file, JsonSerializableFoodBook.class).get();
+            String expectedMessage = assertThrows(IllegalValueException.class, dataFromFile::toModelType)
+                    .getMessage();
+
+            String json = Files.readString(file);
+            assertEquals(expectedMessage, assertThrows(IllegalValueException.class, () -> read(json)).getMessage());
+        }
+    }
+
+    @Test
+    public void read_deliveriesBeforePersons_clientsResolved() throws Exception {
+        FoodBook original = TypicalFoodBook.getTypicalFoodBook();
+        String json = JsonUtil.toJsonString(new JsonSerializableFoodBook(original));
+        int deliveriesStart = json.indexOf("\"deliveries\"");
+        int deliveriesEnd = json.indexOf("\"nextDeliveryId\"");
+        String reordered = "{ " + json.substring(deliveriesStart, deliveriesEnd)
+                + json.substring(1, deliveriesStart) + json.substring(deliveriesEnd);
+
+        assertEquals(original, read(reordered));
+    }
+
+    @Test
+    public void toModelType_errorsInDifferentConversionTasks_firstErrorReported() throws Exception {
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            persons.add(new JsonAdaptedPerson(new PersonBuilder().withName("Client " + i).build()));
+        }
+        JsonAdaptedPerson invalidPerson = new JsonAdaptedPerson("Invalid Client", "91234567", "example.com",
+                "Street", null);
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        List<JsonAdaptedPerson> invalidFirst = new ArrayList<>(persons);
+        invalidFirst.set(3_000, invalidPerson);
+        invalidFirst.set(4_500, persons.get(10));
+        assertEquals(Email.MESSAGE_CONSTRAINTS, assertThrows(IllegalValueException.class, () ->
+                new JsonSerializableFoodBook(invalidFirst, null, null).toModelType(pool)).getMessage());
+
+        List<JsonAdaptedPerson> duplicateFirst = new ArrayList<>(persons);
+        duplicateFirst.set(1_500, persons.get(10));
+        duplicateFirst.set(4_500, invalidPerson);
+        assertEquals(JsonSerializableFoodBook.MESSAGE_DUPLICATE_PERSON, assertThrows(IllegalValueException.class, () ->
+                new JsonSerializableFoodBook(duplicateFirst, null, null).toModelType(pool)).getMessage());
+        pool.shutdown();
+    }
+
+    @Test
+    public void read_moreRecordsThanOneBatch_sameAsToModelType() throws Exception {
+        FoodBook original = new FoodBook();
+        for (int i = 0; i < 20_000; i++) {
+            original.addPerson(new PersonBuilder().withName("Client " + i).build());
+        }
+        for (int i = 0; i < 20_000; i++) {
+            original.addDelivery(new DeliveryBuilder().withId(i).withClient(original.getPersonList().get(i))
+                    .build());
+        }
+
+        assertEquals(original, read(JsonUtil.toJsonString(new JsonSerializableFoodBook(original))));
+    }
+
+    @Test
+    public void read_invalidRecordBeforeMalformedOne_invalidRecordReported() throws Exception {
+        String json = "{ \"persons\" : [ " + JsonUtil.toJsonLine(new JsonAdaptedPerson(ALICE)).replace(
+                ALICE.getEmail().value, "example.com") + ", { \"name\" : ] }";
+        assertEquals(Email.MESSAGE_CONSTRAINTS,
+                assertThrows(IllegalValueException.class, () -> read(json)).getMessage());
+    }
+
+    @Test
+    public void read_notAFoodBook_throwsIoException() {
+        assertThrows(IOException.class, () -> read("[]"));
+        assertThrows(IOException.class, () -> read("{ \"persons\" : 3 }"));
+        assertThrows(IOException.class, () -> read(""));
+    }
+
+    private static FoodBook read(String json) throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)))) {
+            return JsonSerializableFoodBook.read(parser);
+        }
+    }
 }
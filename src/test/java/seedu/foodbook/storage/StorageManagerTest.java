@@ -1,19 +1,37 @@
 package seedu.foodbook.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.foodbook.testutil.Assert.assertThrows;
+import static seedu.foodbook.testutil.TypicalDeliveries.ALICE_DELIVERY;
+import static seedu.foodbook.testutil.TypicalDeliveries.getTypicalDeliveries;
 import static seedu.foodbook.testutil.TypicalFoodBook.getTypicalFoodBook;
+import static seedu.foodbook.testutil.TypicalPersons.HOON;
+import static seedu.foodbook.testutil.TypicalPersons.IDA;
+import static seedu.foodbook.testutil.TypicalPersons.getTypicalPersons;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import javafx.collections.ObservableList;
+import seedu.foodbook.commons.core.DataFileFormat;
 import seedu.foodbook.commons.core.GuiSettings;
 import seedu.foodbook.model.FoodBook;
 import seedu.foodbook.model.ReadOnlyFoodBook;
 import seedu.foodbook.model.UserPrefs;
+import seedu.foodbook.model.delivery.Delivery;
+import seedu.foodbook.model.person.Person;
 
 public class StorageManagerTest {
 
@@ -60,6 +78,198 @@ public class StorageManagerTest {
         assertEquals(original, new FoodBook(retrieved));
     }
 
+    @Test
+    public void saveFoodBook_unchangedSinceLastSave_skipped() throws Exception {
+        FoodBook foodBook = getTypicalFoodBook();
+        storageManager.saveFoodBook(foodBook);
+        Files.delete(storageManager.getFoodBookFilePath());
+
+        storageManager.saveFoodBook(foodBook);
+
+        assertFalse(Files.exists(storageManager.getFoodBookFilePath()));
+        assertEquals(1, storageManager.getSkippedSaveCount());
+    }
+
+    @Test
+    public void saveFoodBook_changedSinceLastSave_saved() throws Exception {
+        FoodBook foodBook = getTypicalFoodBook();
+        storageManager.saveFoodBook(foodBook);
+
+        foodBook.addPerson(HOON);
+        storageManager.saveFoodBook(foodBook);
+
+        assertEquals(foodBook, new FoodBook(storageManager.readFoodBook().get()));
+        assertEquals(0, storageManager.getSkippedSaveCount());
+    }
+
+    @Test
+    public void saveFoodBook_differentFoodBookAtSameGeneration_saved() throws Exception {
+        storageManager.saveFoodBook(new FoodBook());
+        FoodBook other = new FoodBook();
+        other.addPerson(HOON);
+        FoodBook otherCopy = new FoodBook(other);
+
+        storageManager.saveFoodBook(otherCopy);
+
+        assertEquals(otherCopy, new FoodBook(storageManager.readFoodBook().get()));
+        assertEquals(0, storageManager.getSkippedSaveCount());
+    }
+
+    @Test
+    public void saveFoodBook_afterMarkFoodBookSaved_skipped() throws Exception {
+        FoodBook foodBook = getTypicalFoodBook();
+        storageManager.markFoodBookSaved(foodBook);
+
+        storageManager.saveFoodBook(foodBook);
+
+        assertFalse(Files.exists(storageManager.getFoodBookFilePath()));
+        assertEquals(1, storageManager.getSkippedSaveCount());
+    }
+
+    @Test
+    public void saveFoodBook_untrackedFoodBook_alwaysSaved() throws Exception {
+        ReadOnlyFoodBook untracked = new ReadOnlyFoodBook() {
+            private final FoodBook foodBook = getTypicalFoodBook();
+
+            @Override
+            public ObservableList<Person> getPersonList() {
+                return foodBook.getPersonList();
+            }
+
+            @Override
+            public ObservableList<Delivery> getDeliveryList() {
+                return foodBook.getDeliveryList();
+            }
+        };
+        storageManager.saveFoodBook(untracked);
+        Files.delete(storageManager.getFoodBookFilePath());
+
+        storageManager.saveFoodBook(untracked);
+
+        assertTrue(Files.exists(storageManager.getFoodBookFilePath()));
+        assertEquals(0, storageManager.getSkippedSaveCount());
+    }
+
+    @Test
+    public void saveFoodBookInBackground_changedWhileWriting_savesSnapshotThenCoalescesLaterSaves() throws Exception {
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstWrite = new CountDownLatch(1);
+        List<ReadOnlyFoodBook> written = new CopyOnWriteArrayList<>();
+        JsonFoodBookStorage foodBookStorage = new JsonFoodBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveFoodBook(ReadOnlyFoodBook foodBook, Path filePath) throws IOException {
+                firstWriteStarted.countDown();
+                try {
+                    releaseFirstWrite.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+                written.add(new FoodBook(foodBook));
+                super.saveFoodBook(foodBook, filePath);
+            }
+        };
+        storageManager = new StorageManager(foodBookStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        FoodBook foodBook = getTypicalFoodBook();
+        FoodBook firstSaved = new FoodBook(foodBook);
+
+        storageManager.saveFoodBookInBackground(foodBook);
+        firstWriteStarted.await();
+        foodBook.addPerson(HOON);
+        storageManager.saveFoodBookInBackground(foodBook);
+        foodBook.removePerson(HOON);
+        storageManager.saveFoodBookInBackground(foodBook);
+        foodBook.addPerson(IDA);
+        storageManager.saveFoodBookInBackground(foodBook);
+        releaseFirstWrite.countDown();
+        storageManager.flushFoodBook();
+
+        assertEquals(List.of(firstSaved, foodBook), written);
+        assertEquals(foodBook, new FoodBook(storageManager.readFoodBook().get()));
+    }
+
+    @Test
+    public void saveFoodBookInBackground_writeFails_reportedAndRetriedOnNextSave() throws Exception {
+        IOException failure = new IOException("disk full");
+        AtomicBoolean isFailing = new AtomicBoolean(true);
+        JsonFoodBookStorage foodBookStorage = new JsonFoodBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveFoodBook(ReadOnlyFoodBook foodBook, Path filePath) throws IOException {
+                if (isFailing.get()) {
+                    throw failure;
+                }
+                super.saveFoodBook(foodBook, filePath);
+            }
+        };
+        storageManager = new StorageManager(foodBookStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        List<IOException> reported = new CopyOnWriteArrayList<>();
+        storageManager.setFoodBookSaveFailureHandler(reported::add);
+        FoodBook foodBook = getTypicalFoodBook();
+
+        storageManager.saveFoodBookInBackground(foodBook);
+        assertThrows(IOException.class, failure.getMessage(), storageManager::flushFoodBook);
+        assertEquals(List.of(failure), reported);
+
+        isFailing.set(false);
+        storageManager.saveFoodBookInBackground(foodBook);
+        storageManager.flushFoodBook();
+
+        assertEquals(foodBook, new FoodBook(storageManager.readFoodBook().get()));
+        assertEquals(0, storageManager.getSkippedSaveCount());
+    }
+
+    @Test
+    public void flushFoodBook_nothingSaved_returns() throws Exception {
+        storageManager.flushFoodBook();
+        assertFalse(Files.exists(storageManager.getFoodBookFilePath()));
+    }
+
+    @Test
+    public void setFoodBookFile_unchangedFoodBook_writtenToNewFileInNewFormat() throws Exception {
+        FoodBook foodBook = getTypicalFoodBook();
+        storageManager.saveFoodBook(foodBook);
+        Path binaryFilePath = getTempFilePath("ab.bin");
+
+        storageManager.setFoodBookFile(binaryFilePath, DataFileFormat.BINARY);
+        storageManager.saveFoodBook(foodBook);
+
+        assertEquals(binaryFilePath, storageManager.getFoodBookFilePath());
+        assertEquals(DataFileFormat.BINARY, storageManager.getFoodBookFormat());
+        assertEquals(foodBook, new FoodBook(storageManager.readFoodBook().get()));
+        assertEquals(0, storageManager.getSkippedSaveCount());
+    }
+
+    @Test
+    public void readFoodBook_deliveriesArchived_readFromArchiveBesideDataFile() throws Exception {
+        FoodBook original = new FoodBook();
+        getTypicalPersons().forEach(original::addPerson);
+        getTypicalDeliveries().forEach(delivery -> original.addDelivery(delivery.copyAsDelivered()));
+        storageManager.saveFoodBook(original);
+        FoodBook foodBook = new FoodBook(storageManager.readFoodBook().get());
+        assertEquals(original.getDeliveryList().size(), foodBook.archiveDeliveriesBefore(Long.MAX_VALUE));
+        storageManager.saveFoodBook(foodBook);
+
+        FoodBook archived = new FoodBook(storageManager.readFoodBook().get());
+        assertTrue(archived.getDeliveryList().isEmpty());
+        assertEquals(original.getDeliveryList().size(), archived.getDeliveryArchive().size());
+        assertEquals(original.getNextDeliveryId(), archived.getNextDeliveryId());
+
+        // Removing an archived delivery is saved to the archive
+        archived.removeDelivery(archived.getDeliveryById(ALICE_DELIVERY.getId()).get());
+        storageManager.saveFoodBook(archived);
+        FoodBook readBack = new FoodBook(storageManager.readFoodBook().get());
+        assertFalse(readBack.hasDelivery(ALICE_DELIVERY));
+        assertEquals(archived.getDeliveryArchive().size(), readBack.getDeliveryArchive().size());
+    }
+
+    @Test
+    public void createFoodBookStorage_eachFormat_matchingStorage() {
+        Path filePath = getTempFilePath("ab");
+        assertEquals(DataFileFormat.JSON,
+                StorageManager.createFoodBookStorage(DataFileFormat.JSON, filePath).getFoodBookFormat());
+        assertEquals(DataFileFormat.BINARY,
+                StorageManager.createFoodBookStorage(DataFileFormat.BINARY, filePath).getFoodBookFormat());
+    }
+
     @Test
     public void getFoodBookFilePath() {
         assertNotNull(storageManager.getFoodBookFilePath());
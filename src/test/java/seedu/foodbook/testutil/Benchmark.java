@@ -0,0 +1,125 @@
+package seedu.foodbook.testutil;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.jupiter.api.Tag;
+
+/**
+ * The base of the performance benchmarks, which measures and checks what they run; each benchmark only sets up and
+ * runs its own workload.
+ * Benchmarks are tagged {@code benchmark}, which excludes them from the regular test run. Run them with
+ * {@code gradlew benchmark}.
+ */
+@Tag("benchmark")
+public abstract class Benchmark {
+
+    /**
+     * Work whose running time is measured.
+     */
+    @FunctionalInterface
+    protected interface Round {
+        void run() throws Exception;
+    }
+
+    /**
+     * Work measured at a given size, which returns the nanoseconds it took per operation.
+     */
+    @FunctionalInterface
+    protected interface SizedMeasurement {
+        double nanosPerOperation(int size) throws Exception;
+    }
+
+    /**
+     * Returns the nanoseconds the fastest of {@code rounds} runs of {@code round} took.
+     */
+    protected static long bestNanos(int rounds, Round round) throws Exception {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < rounds; i++) {
+            long start = System.nanoTime();
+            round.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+    /**
+     * Returns the mean nanoseconds {@code rounds} runs of {@code round} took.
+     */
+    protected static double meanNanos(int rounds, Round round) throws Exception {
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            round.run();
+        }
+        return (double) (System.nanoTime() - start) / rounds;
+    }
+
+    /**
+     * Measures {@code measurement} at each of {@code deliveryCounts} in turn, printing each result, and asserts
+     * that the time per operation at the last count is less than {@code maxSlowdown} times that at the first.
+     *
+     * @param label What is measured, to print and report.
+     * @param unit The operation the time is per.
+     */
+    protected static void assertStaysFlat(String label, String unit, int[] deliveryCounts, double maxSlowdown,
+            SizedMeasurement measurement) throws Exception {
+        double[] nanos = new double[deliveryCounts.length];
+        for (int i = 0; i < deliveryCounts.length; i++) {
+            nanos[i] = measurement.nanosPerOperation(deliveryCounts[i]);
+            System.out.printf("%s, %,9d deliveries: %8.1f ns/%s%n", label, deliveryCounts[i], nanos[i], unit);
+        }
+
+        int last = deliveryCounts.length - 1;
+        double slowdown = nanos[last] / nanos[0];
+        assertTrue(slowdown < maxSlowdown, String.format("%s slowed down %.1fx from %,d to %,d deliveries",
+                label, slowdown, deliveryCounts[0], deliveryCounts[last]));
+    }
+
+    /**
+     * Asserts that {@code what} is more than {@code minSpeedup} times faster than the baseline it is compared to.
+     */
+    protected static void assertFaster(String what, double baselineNanos, double nanos, double minSpeedup) {
+        double speedup = baselineNanos / nanos;
+        assertTrue(speedup > minSpeedup, String.format("%s only %.1fx faster", what, speedup));
+    }
+
+    /**
+     * Asserts that {@code what} is more than {@code minRatio} times smaller than the baseline it is compared to.
+     */
+    protected static void assertSmaller(String what, long baselineBytes, long bytes, double minRatio) {
+        double ratio = (double) baselineBytes / bytes;
+        assertTrue(ratio > minRatio, String.format("%s only %.1fx smaller", what, ratio));
+    }
+
+    /**
+     * Returns the bytes allocated by the current thread so far.
+     */
+    protected static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * Returns the heap in use once garbage has been collected, as near as the collector allows.
+     */
+    protected static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            sleep(50);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Sleeps for {@code millis}, returning early with the interrupt flag set if interrupted.
+     */
+    protected static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
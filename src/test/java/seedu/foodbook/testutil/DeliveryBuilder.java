@@ -4,6 +4,7 @@ import java.util.Optional;
 
 import seedu.foodbook.model.delivery.DateTime;
 import seedu.foodbook.model.delivery.Delivery;
+import seedu.foodbook.model.delivery.Money;
 import seedu.foodbook.model.person.Person;
 import seedu.foodbook.model.tag.DeliveryTag;
 
@@ -21,14 +22,14 @@ public class DeliveryBuilder {
     public static final String DEFAULT_TIMESTRING = "2359";
 
     public static final String DEFAULT_REMARKS = "NIL";
-    public static final Double DEFAULT_COST = 0.00;
+    public static final Money DEFAULT_COST = Money.ZERO;
     public static final Optional<DeliveryTag> DEFAULT_TAG = Optional.empty();
 
     private int id;
     private Person client;
     private DateTime datetime;
     private String remarks;
-    private Double cost;
+    private Money cost;
     private Optional<DeliveryTag> tag;
 
     private boolean isDelivered;
@@ -96,8 +97,8 @@ public class DeliveryBuilder {
     /**
      * Sets the {@code cost} of the {@code Delivery} that we are building.
      */
-    public DeliveryBuilder withCost(Double cost) {
-        this.cost = cost;
+    public DeliveryBuilder withCost(String cost) {
+        this.cost = Money.parse(cost);
         return this;
     }
 